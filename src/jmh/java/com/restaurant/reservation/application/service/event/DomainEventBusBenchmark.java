@@ -0,0 +1,136 @@
+package com.restaurant.reservation.application.service.event;
+
+import com.restaurant.reservation.domain.event.DomainEvent;
+import com.restaurant.reservation.domain.event.ReservationConfirmedEvent;
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Custo de despacho do DomainEventBus, comparado à chamada direta que o
+ * NotificationService fazia antes do barramento.
+ * 
+ * direct chama o tratador de cada assinante na thread de quem publica.
+ * publishAndAwait publica um evento e espera os assinantes (duráveis)
+ * terminarem: a latência da passagem entre threads. publishBurst publica 1000
+ * eventos de reservas diferentes e espera todos, o que mede a vazão com as
+ * filas ocupadas. Os tratadores só contam os eventos, então o resultado é o
+ * custo do barramento em si.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DomainEventBusBenchmark {
+    
+    static final int BURST = 1000;
+    
+    @Param({"1", "3"})
+    public int subscribers;
+    
+    private final LongAdder handled = new LongAdder();
+    private final List<Consumer<ReservationConfirmedEvent>> handlers = new ArrayList<>();
+    private final DomainEvent[] events = new DomainEvent[BURST];
+    private DomainEventBus bus;
+    
+    @Setup
+    public void setUp() {
+        List<DomainEventSubscriber> eventSubscribers = new ArrayList<>();
+        for (int i = 0; i < subscribers; i++) {
+            Consumer<ReservationConfirmedEvent> handler = event -> handled.increment();
+            handlers.add(handler);
+            eventSubscribers.add(new CountingSubscriber("bench-" + i, handler));
+        }
+        bus = new DomainEventBus(eventSubscribers, new MockEnvironment(), new SimpleMeterRegistry(), 2, BURST);
+        
+        CustomerInfo customer = CustomerInfo.of("João Silva", "joao@email.com", "11999999999");
+        ReservationTime time = ReservationTime.of(LocalDate.now().plusDays(3).atTime(19, 30));
+        for (int i = 0; i < BURST; i++) {
+            events[i] = new ReservationConfirmedEvent(ReservationId.generate(), TableId.of("T012"), customer, time);
+        }
+    }
+    
+    @TearDown
+    public void tearDown() {
+        bus.close();
+    }
+    
+    @Benchmark
+    public long direct() {
+        ReservationConfirmedEvent event = (ReservationConfirmedEvent) events[0];
+        for (Consumer<ReservationConfirmedEvent> handler : handlers) {
+            handler.accept(event);
+        }
+        return handled.sum();
+    }
+    
+    @Benchmark
+    public void publishAndAwait() {
+        bus.publish(events[0]).join();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void publishBurst() {
+        CompletableFuture<?>[] results = new CompletableFuture<?>[BURST];
+        for (int i = 0; i < BURST; i++) {
+            results[i] = bus.publish(events[i]);
+        }
+        CompletableFuture.allOf(results).join();
+    }
+    
+    private static final class CountingSubscriber implements DomainEventSubscriber {
+        
+        private final String name;
+        private final Consumer<ReservationConfirmedEvent> handler;
+        
+        private CountingSubscriber(String name, Consumer<ReservationConfirmedEvent> handler) {
+            this.name = name;
+            this.handler = handler;
+        }
+        
+        @Override
+        public String getSubscriberName() {
+            return name;
+        }
+        
+        @Override
+        public void registerHandlers(DomainEventHandlers handlers) {
+            handlers.on(ReservationConfirmedEvent.class, handler);
+        }
+        
+        @Override
+        public boolean isDurable() {
+            return true;
+        }
+    }
+}
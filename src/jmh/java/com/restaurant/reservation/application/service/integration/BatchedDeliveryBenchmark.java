@@ -0,0 +1,159 @@
+package com.restaurant.reservation.application.service.integration;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mensagens por segundo entregues a um provedor de email local (stub), com
+ * envio em lote e com uma requisição por mensagem.
+ * 
+ * batched usa o EmailService (fila de envio, MessageBatcher e endpoint de
+ * lote). oneByOne reproduz o envio anterior: um POST por mensagem, com até
+ * 50 requisições em paralelo, o tamanho do pool de conexões compartilhado.
+ * O stub responde depois de latencyMs, por requisição, como um provedor real.
+ * Cada invocação envia 1000 mensagens e espera todas as respostas.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class BatchedDeliveryBenchmark {
+    
+    static final int MESSAGES = 1000;
+    private static final int MAX_CONNECTIONS = 50;
+    
+    @Param({"10", "50"})
+    public long latencyMs;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private DisposableServer provider;
+    private ProviderWebClientFactory webClientFactory;
+    private WebClient webClient;
+    private EmailService emailService;
+    
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        Duration latency = Duration.ofMillis(latencyMs);
+        provider = HttpServer.create()
+            .host("localhost")
+            .port(0)
+            .route(routes -> routes
+                .post("/send", (request, response) -> request.receive().aggregate().asString()
+                    .delayElement(latency)
+                    .flatMap(body -> response.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .sendString(Mono.just(accept(read(body)).toString())).then()))
+                .post("/send/batch", (request, response) -> request.receive().aggregate().asString()
+                    .delayElement(latency)
+                    .flatMap(body -> response.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .sendString(Mono.just(acceptBatch(read(body)).toString())).then())))
+            .bindNow();
+        String baseUrl = "http://localhost:" + provider.port();
+        
+        webClientFactory = new ProviderWebClientFactory(WebClient.builder(), MAX_CONNECTIONS, 500, 2000,
+            30_000, 300_000, 2000, 5000, 5000, true, false);
+        webClient = webClientFactory.create(baseUrl);
+        DeliveryResilience resilience = new DeliveryResilience(4, 200, 5000, 0.5, 3000, 15_000, 5, 30_000);
+        emailService = new EmailService(webClientFactory, resilience, message -> { }, baseUrl,
+            100, 20, 1_000_000, 1_000_000, 100_000, new SimpleMeterRegistry()); // Sem limite de taxa
+    }
+    
+    @TearDown
+    public void tearDown() {
+        emailService.close();
+        webClientFactory.close();
+        provider.disposeNow();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void batched() {
+        CompletableFuture<?>[] results = new CompletableFuture<?>[MESSAGES];
+        for (int i = 0; i < MESSAGES; i++) {
+            results[i] = emailService.sendEmail(UUID.randomUUID().toString(), recipient(i), "Lembrete da reserva",
+                "Sua reserva é amanhã às 19:00.", MessagePriority.NORMAL);
+        }
+        CompletableFuture.allOf(results).join();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void oneByOne() {
+        Flux.range(0, MESSAGES)
+            .flatMap(i -> webClient.post()
+                .uri("/send")
+                .bodyValue(EmailService.EmailRequest.builder()
+                    .reference(UUID.randomUUID().toString())
+                    .to(recipient(i))
+                    .subject("Lembrete da reserva")
+                    .body("Sua reserva é amanhã às 19:00.")
+                    .build())
+                .retrieve()
+                .bodyToMono(EmailService.EmailResponse.class), MAX_CONNECTIONS)
+            .blockLast();
+    }
+    
+    private JsonNode read(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private ObjectNode accept(JsonNode message) {
+        return objectMapper.createObjectNode()
+            .put("reference", message.path("reference").asText())
+            .put("messageId", UUID.randomUUID().toString())
+            .put("status", "SENT");
+    }
+    
+    private ObjectNode acceptBatch(JsonNode batch) {
+        ObjectNode response = objectMapper.createObjectNode();
+        ArrayNode results = response.putArray("results");
+        batch.path("messages").forEach(message -> results.add(accept(message)));
+        return response;
+    }
+    
+    private static String recipient(int i) {
+        return "cliente" + i + "@email.com";
+    }
+}
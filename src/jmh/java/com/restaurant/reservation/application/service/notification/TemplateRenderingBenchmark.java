@@ -0,0 +1,117 @@
+package com.restaurant.reservation.application.service.notification;
+
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renderização das notificações de confirmação pelo NotificationTemplateRegistry,
+ * comparada ao String.format usado antes dos templates.
+ * 
+ * Os métodos template* seguem o caminho do NotificationService: montagem do
+ * modelo, busca no cache do registro e renderização. Os métodos format* repetem
+ * o texto e a formatação anteriores. Os dois produzem o mesmo texto. Com
+ * {@code -prof gc} o JMH mostra também a alocação por mensagem.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TemplateRenderingBenchmark {
+    
+    private NotificationTemplateRegistry templates;
+    private CustomerInfo customer;
+    private ReservationTime time;
+    private TableId tableId;
+    
+    @Setup
+    public void setUp() {
+        templates = new NotificationTemplateRegistry(new DefaultResourceLoader(),
+            "classpath:notification-templates/", "pt-BR", false);
+        customer = CustomerInfo.of("João Silva", "joao@email.com", "11999999999");
+        time = ReservationTime.of(LocalDate.now().plusDays(3).atTime(19, 30));
+        tableId = TableId.of("T012");
+    }
+    
+    @Benchmark
+    public void templateConfirmationEmail(Blackhole blackhole) {
+        Map<String, Object> model = model();
+        NotificationTemplate template = templates.get("confirmation-email", templates.getDefaultLocale());
+        blackhole.consume(template.renderSubject(model));
+        blackhole.consume(template.renderBody(model));
+    }
+    
+    @Benchmark
+    public void formatConfirmationEmail(Blackhole blackhole) {
+        blackhole.consume("Reserva Confirmada - " + customer.getName());
+        blackhole.consume(String.format("""
+            Olá %s,
+            
+            Sua reserva foi confirmada com sucesso!
+            
+            Detalhes da reserva:
+            - Data e hora: %s
+            - Mesa: %s
+            - Email: %s
+            - Telefone: %s
+            
+            Esperamos vê-lo em breve!
+            
+            Atenciosamente,
+            Equipe do Restaurante
+            """,
+            customer.getFormattedName(),
+            time.getFormattedTime(),
+            tableId,
+            customer.getEmail(),
+            customer.getPhone()
+        ));
+    }
+    
+    @Benchmark
+    public String templateConfirmationSms() {
+        return templates.get("confirmation-sms", templates.getDefaultLocale()).renderBody(model());
+    }
+    
+    @Benchmark
+    public String formatConfirmationSms() {
+        return String.format(
+            "Sua reserva foi confirmada para %s na mesa %s. Obrigado!",
+            time.getFormattedTime(),
+            tableId
+        );
+    }
+    
+    private Map<String, Object> model() {
+        Map<String, Object> model = new HashMap<>(8);
+        model.put("customerName", customer.getName());
+        model.put("formattedName", customer.getFormattedName());
+        model.put("email", customer.getEmail());
+        model.put("phone", customer.getPhone());
+        model.put("reservationTime", time.getFormattedTime());
+        model.put("tableId", tableId);
+        return model;
+    }
+}
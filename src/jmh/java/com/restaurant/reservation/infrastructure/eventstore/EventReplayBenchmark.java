@@ -0,0 +1,159 @@
+package com.restaurant.reservation.infrastructure.eventstore;
+
+import com.restaurant.reservation.infrastructure.persistence.entity.StoredEventEntity.EventType;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaReservationBookSnapshotRepository;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaStoredEventRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Vazão do replay do log de eventos, em eventos por segundo (meta: 1 milhão/s em um nó).
+ * 
+ * applyInMemory mede só o laço de aplicação do TableBookState sobre eventos
+ * já em memória. replayFromDatabase mede o caminho completo do
+ * ReservationEventReplayer: leitura JDBC em streaming de um H2 em memória,
+ * com as mesas processadas em paralelo. Os dois usam o mesmo log: 1 milhão de
+ * eventos de 250 mil reservas, distribuídas por 50 mesas.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EventReplayBenchmark {
+    
+    static final int TABLES = 50;
+    static final int EVENTS = 1_000_000;
+    private static final int EVENTS_PER_RESERVATION = 4;
+    private static final int BASE_MINUTE = 29_000_000;
+    
+    private final EventType[] types = new EventType[EVENTS];
+    private final String[] reservationIds = new String[EVENTS];
+    private final int[] tables = new int[EVENTS];
+    private final int[] startMinutes = new int[EVENTS];
+    private final int[] durations = new int[EVENTS];
+    
+    private HikariDataSource dataSource;
+    private ReservationEventReplayer replayer;
+    
+    @Setup
+    public void setUp() {
+        generateLog();
+        
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:replay;DB_CLOSE_DELAY=-1");
+        dataSource.setMaximumPoolSize(Runtime.getRuntime().availableProcessors() + 1);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE reservation_events (sequence BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+            "event_id VARCHAR(36) NOT NULL, event_type SMALLINT NOT NULL, reservation_id VARCHAR(36) NOT NULL, " +
+            "table_id VARCHAR(50) NOT NULL, start_minute INT NOT NULL, duration_minutes INT NOT NULL, " +
+            "occurred_at BIGINT NOT NULL, status SMALLINT)");
+        jdbcTemplate.execute("CREATE INDEX idx_reservation_events_table_seq ON reservation_events (table_id, sequence)");
+        insertLog(jdbcTemplate);
+        
+        List<String> tableIds = new ArrayList<>(TABLES);
+        for (int table = 0; table < TABLES; table++) {
+            tableIds.add(tableId(table));
+        }
+        JpaStoredEventRepository storedEventRepository = mock(JpaStoredEventRepository.class);
+        when(storedEventRepository.findDistinctTableIds()).thenReturn(tableIds);
+        replayer = new ReservationEventReplayer(jdbcTemplate, storedEventRepository,
+            mock(JpaReservationBookSnapshotRepository.class), 0, 5000); // Sem snapshot: replay desde o início
+    }
+    
+    @TearDown
+    public void tearDown() {
+        replayer.shutdown();
+        dataSource.close();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void applyInMemory(Blackhole blackhole) {
+        TableBookState[] states = new TableBookState[TABLES];
+        for (int table = 0; table < TABLES; table++) {
+            states[table] = new TableBookState(tableId(table));
+        }
+        for (int i = 0; i < EVENTS; i++) {
+            states[tables[i]].apply(types[i], reservationIds[i], startMinutes[i], durations[i]);
+        }
+        blackhole.consume(states);
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void replayFromDatabase(Blackhole blackhole) {
+        blackhole.consume(replayer.replayAt(Long.MAX_VALUE));
+    }
+    
+    /**
+     * Cada reserva é criada, confirmada, remarcada e então concluída ou cancelada.
+     */
+    private void generateLog() {
+        Random random = new Random(42);
+        for (int i = 0; i < EVENTS; i += EVENTS_PER_RESERVATION) {
+            String reservationId = UUID.randomUUID().toString();
+            int table = random.nextInt(TABLES);
+            int start = BASE_MINUTE + random.nextInt(90 * 24 * 60);
+            EventType[] lifecycle = {EventType.CREATED, EventType.CONFIRMED, EventType.MODIFIED,
+                random.nextBoolean() ? EventType.COMPLETED : EventType.CANCELLED};
+            for (int step = 0; step < EVENTS_PER_RESERVATION; step++) {
+                types[i + step] = lifecycle[step];
+                reservationIds[i + step] = reservationId;
+                tables[i + step] = table;
+                startMinutes[i + step] = lifecycle[step] == EventType.MODIFIED ? start + 30 : start;
+                durations[i + step] = 120;
+            }
+        }
+    }
+    
+    private void insertLog(JdbcTemplate jdbcTemplate) {
+        int batchSize = 10_000;
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < EVENTS; i++) {
+            batch.add(new Object[] {UUID.randomUUID().toString(), types[i].getCode(), reservationIds[i],
+                tableId(tables[i]), startMinutes[i], durations[i], (long) i,
+                types[i] == EventType.MODIFIED ? (short) 2 : null});
+            if (batch.size() == batchSize) {
+                insert(jdbcTemplate, batch);
+                batch.clear();
+            }
+        }
+        insert(jdbcTemplate, batch);
+    }
+    
+    private static void insert(JdbcTemplate jdbcTemplate, List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO reservation_events (event_id, event_type, reservation_id, table_id, " +
+            "start_minute, duration_minutes, occurred_at, status) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", batch);
+    }
+    
+    private static String tableId(int table) {
+        return String.format("T%03d", table);
+    }
+}
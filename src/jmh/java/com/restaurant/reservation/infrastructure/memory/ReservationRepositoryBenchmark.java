@@ -0,0 +1,123 @@
+package com.restaurant.reservation.infrastructure.memory;
+
+import com.restaurant.reservation.ReservationApplication;
+import com.restaurant.reservation.domain.entity.Reservation;
+import com.restaurant.reservation.domain.repository.ReservationRepository;
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão e latência do ReservationRepository com os dois motores de
+ * persistência, na mesma carga: JPA sobre H2 (ReservationRepositoryImpl) e o
+ * perfil "inmemory" (estruturas em memória com log de escrita antecipada).
+ * 
+ * book reproduz a gravação de uma reserva pelo ReservationService: busca de
+ * conflitos e gravação numa transação. findByTableAndDate é a leitura mais
+ * frequente da agenda. Oito threads concorrentes exercitam o group commit do
+ * log. A aplicação sobe inteira em cada motor, sem servidor web.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class ReservationRepositoryBenchmark {
+    
+    private static final int TABLES = 12;
+    private static final int DAYS = 60;
+    private static final int CUSTOMERS = 1000;
+    
+    @Param({"jpa", "inmemory"})
+    public String engine;
+    
+    private Path dataDir;
+    private ConfigurableApplicationContext context;
+    private ReservationRepository reservationRepository;
+    private TransactionTemplate transactionTemplate;
+    
+    @Setup
+    public void setUp() throws IOException {
+        dataDir = Files.createTempDirectory("reservation-bench");
+        SpringApplicationBuilder application = new SpringApplicationBuilder(ReservationApplication.class)
+            .web(WebApplicationType.NONE);
+        // "test" desliga a carga de dados de exemplo; a gravação de reservas não depende das mesas
+        application.profiles("inmemory".equals(engine) ? new String[] {"test", "inmemory"} : new String[] {"test"});
+        // Argumentos de linha de comando, que têm precedência sobre o application.yml
+        context = application.run(
+            "--spring.datasource.url=jdbc:h2:mem:bench-" + engine + ";DB_CLOSE_DELAY=-1",
+            "--spring.sql.init.mode=never",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--reservation.memory.wal.path=" + dataDir.resolve("reservations.wal"));
+        reservationRepository = context.getBean(ReservationRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(dataDir);
+    }
+    
+    @Benchmark
+    public Reservation book() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int customer = random.nextInt(CUSTOMERS);
+        Reservation reservation = Reservation.create(ReservationId.generate(), tableId(1 + random.nextInt(TABLES)),
+            CustomerInfo.of("Cliente " + customer, "cliente" + customer + "@email.com", "11999999999"),
+            ReservationTime.of(randomDay(random).atTime(11 + random.nextInt(10), 30 * random.nextInt(2))));
+        return transactionTemplate.execute(status -> {
+            reservationRepository.findConflictingReservations(reservation.getTableId(),
+                reservation.getReservationTime());
+            return reservationRepository.save(reservation);
+        });
+    }
+    
+    @Benchmark
+    public List<Reservation> findByTableAndDate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return reservationRepository.findByTableAndDate(tableId(1 + random.nextInt(TABLES)), randomDay(random));
+    }
+    
+    private static LocalDate randomDay(ThreadLocalRandom random) {
+        return LocalDateTime.now().toLocalDate().plusDays(1 + random.nextInt(DAYS));
+    }
+    
+    private static TableId tableId(int table) {
+        return TableId.of(String.format("T%03d", table));
+    }
+}
@@ -0,0 +1,106 @@
+package com.restaurant.reservation.infrastructure.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.reservation.application.dto.ReservationResponse;
+import com.restaurant.reservation.application.mapper.ReservationMapper;
+import com.restaurant.reservation.domain.entity.Reservation;
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requisições por segundo da leitura das reservas de um dia, com e sem o
+ * SerializedResponseCache.
+ * 
+ * mapAndSerialize é o caminho sem cache: ReservationMapper para cada reserva
+ * e serialização com Jackson, como o conversor de mensagens faria. cachedHit
+ * e cachedHitGzip são acertos no cache, que só montam a resposta com os bytes
+ * prontos. Com {@code -prof gc} o JMH mostra também a alocação por requisição.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SerializedResponseCacheBenchmark {
+    
+    /** Reservas no dia. */
+    @Param({"20", "200"})
+    public int reservations;
+    
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ReservationMapper reservationMapper = ReservationMapper.INSTANCE;
+    private final LocalDate day = LocalDate.now().plusDays(3);
+    private List<Reservation> floorSheet;
+    private SerializedResponseCache cache;
+    private WebRequest plainRequest;
+    private WebRequest gzipRequest;
+    
+    @Setup
+    public void setUp() {
+        floorSheet = new ArrayList<>(reservations);
+        for (int i = 0; i < reservations; i++) {
+            floorSheet.add(Reservation.create(ReservationId.generate(), TableId.of(String.format("T%03d", 1 + i % 30)),
+                CustomerInfo.of("Cliente " + i, "cliente" + i + "@email.com", "11999999999"),
+                ReservationTime.of(day.atTime(11 + i % 11, 30 * (i % 2)))));
+        }
+        
+        cache = new SerializedResponseCache(objectMapper, new SimpleMeterRegistry(), 1000, 1024);
+        List<ReservationResponse> response = map();
+        cache.put(SerializedResponseCache.reservationsByDateKey(day), cache.stamp(), response,
+            response.stream().map(ReservationResponse::getId).toList());
+        
+        plainRequest = new ServletWebRequest(new MockHttpServletRequest());
+        MockHttpServletRequest gzip = new MockHttpServletRequest();
+        gzip.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+        gzipRequest = new ServletWebRequest(gzip);
+    }
+    
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(map());
+    }
+    
+    @Benchmark
+    public ResponseEntity<byte[]> cachedHit() {
+        return cache.get(SerializedResponseCache.reservationsByDateKey(day)).toResponseEntity(plainRequest);
+    }
+    
+    @Benchmark
+    public ResponseEntity<byte[]> cachedHitGzip() {
+        return cache.get(SerializedResponseCache.reservationsByDateKey(day)).toResponseEntity(gzipRequest);
+    }
+    
+    private List<ReservationResponse> map() {
+        return floorSheet.stream().map(reservationMapper::toResponse).toList();
+    }
+}
@@ -0,0 +1,123 @@
+package com.restaurant.reservation.presentation.controller;
+
+import com.restaurant.reservation.ReservationApplication;
+import com.restaurant.reservation.domain.entity.Reservation;
+import com.restaurant.reservation.domain.repository.ReservationRepository;
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carga de leitura HTTP sobre as duas pilhas web da aplicação: servlet
+ * (Tomcat e JPA) e o perfil "reactive" (WebFlux sobre Netty e R2DBC).
+ * 
+ * A aplicação sobe inteira numa porta aleatória e 64 threads clientes fazem
+ * GETs concorrentes em dois endpoints de /api/v1 que nenhuma das pilhas
+ * guarda em cache: mesas por capacidade e reservas de uma mesa num dia.
+ * Cliente e servidor dividem a mesma máquina, então os números servem para
+ * comparar as pilhas entre si, não como capacidade absoluta.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+@Threads(64)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class WebStackBenchmark {
+    
+    private static final String TABLE = "T003";
+    private static final int RESERVATIONS = 8;
+    
+    @Param({"servlet", "reactive"})
+    public String stack;
+    
+    private final LocalDate day = LocalDate.now().plusDays(3);
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest tablesByCapacity;
+    private HttpRequest reservationsByTableAndDate;
+    
+    @Setup
+    public void setUp() {
+        SpringApplicationBuilder application = new SpringApplicationBuilder(ReservationApplication.class);
+        // "test" desliga a carga de dados de exemplo; as mesas vêm do data.sql
+        application.profiles("reactive".equals(stack) ? new String[] {"test", "reactive"} : new String[] {"test"});
+        // Argumentos de linha de comando, que têm precedência sobre o application.yml
+        context = application.run(
+            "--server.port=0",
+            "--spring.jpa.defer-datasource-initialization=true", // data.sql depois do schema do Hibernate
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN");
+        seedReservations();
+        
+        String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        tablesByCapacity = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/tables/capacity/4")).build();
+        reservationsByTableAndDate = HttpRequest.newBuilder(
+            URI.create(baseUrl + "/api/v1/reservations/table/" + TABLE + "/date/" + day)).build();
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public String tablesByCapacity() throws IOException, InterruptedException {
+        return get(tablesByCapacity);
+    }
+    
+    @Benchmark
+    public String reservationsByTableAndDate() throws IOException, InterruptedException {
+        return get(reservationsByTableAndDate);
+    }
+    
+    private String get(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + request.uri() + " returned " + response.statusCode());
+        }
+        return response.body();
+    }
+    
+    private void seedReservations() {
+        ReservationRepository reservationRepository = context.getBean(ReservationRepository.class);
+        context.getBean(TransactionTemplate.class).executeWithoutResult(status -> {
+            for (int i = 0; i < RESERVATIONS; i++) {
+                reservationRepository.save(Reservation.create(ReservationId.generate(), TableId.of(TABLE),
+                    CustomerInfo.of("Cliente " + i, "cliente" + i + "@email.com", "11999999999"),
+                    ReservationTime.of(day.atTime(11 + i, 0))));
+            }
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package com.restaurant.reservation.application.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de uma mudança de disponibilidade enviada pelo feed em tempo real:
+ * o horário de uma mesa passou a estar ocupado ou livre.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Data
+@Builder
+public class AvailabilityDelta {
+    
+    private String reservationId;
+    private String tableId;
+    private String location;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private SlotState state;
+    
+    /**
+     * Estado do horário da mesa após a mudança.
+     */
+    public enum SlotState {
+        BUSY,
+        FREE
+    }
+}
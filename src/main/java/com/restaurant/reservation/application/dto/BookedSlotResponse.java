@@ -0,0 +1,25 @@
+package com.restaurant.reservation.application.dto;
+
+import com.restaurant.reservation.domain.valueobject.ReservationStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO para resposta de uma ocupação de mesa na agenda reconstruída.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Data
+@Builder
+public class BookedSlotResponse {
+    
+    private String reservationId;
+    private String tableId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private int durationInMinutes;
+    private ReservationStatus status;
+}
@@ -0,0 +1,28 @@
+package com.restaurant.reservation.application.dto;
+
+import com.restaurant.reservation.application.service.integration.FailedMessage.Channel;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO para o andamento do reenvio em lote das mensagens mortas.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Data
+@Builder(toBuilder = true)
+public class DeadLetterReplayStatus {
+    
+    private boolean running;
+    private Channel channel;
+    private int maxMessages;
+    private int submitted;
+    private int replayed;
+    private int failed;
+    private String stopReason;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,34 @@
+package com.restaurant.reservation.application.dto;
+
+import com.restaurant.reservation.application.service.integration.FailedMessage.Channel;
+import com.restaurant.reservation.application.service.integration.MessagePriority;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO para resposta de uma mensagem na fila de mensagens mortas (dead letters).
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Data
+@Builder
+public class DeadLetterResponse {
+    
+    private Long id;
+    private Channel channel;
+    private String recipient;
+    private String subject;
+    private String body;
+    private MessagePriority priority;
+    private String status;
+    private int attempts;
+    private String lastError;
+    private List<String> attemptHistory;
+    private LocalDateTime createdAt;
+    private LocalDateTime lastFailedAt;
+    private LocalDateTime replayedAt;
+}
@@ -0,0 +1,33 @@
+package com.restaurant.reservation.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * DTO para busca de várias reservas por ID em uma única requisição.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationBatchRequest {
+    
+    /**
+     * Quantidade máxima de IDs por requisição.
+     */
+    public static final int MAX_IDS = 1000;
+    
+    @NotEmpty(message = "At least one reservation ID is required")
+    @Size(max = MAX_IDS, message = "At most 1000 reservation IDs are allowed per request")
+    private List<@NotBlank(message = "Reservation ID cannot be blank") String> ids;
+}
@@ -0,0 +1,20 @@
+package com.restaurant.reservation.application.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * DTO para o resultado da busca de um ID no multi-get de reservas.
+ * Quando a reserva não existe, found é false e reservation é nulo.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Data
+@Builder
+public class ReservationLookupResponse {
+    
+    private String id;
+    private boolean found;
+    private ReservationResponse reservation;
+}
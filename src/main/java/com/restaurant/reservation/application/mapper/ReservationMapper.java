@@ -1,7 +1,9 @@
 package com.restaurant.reservation.application.mapper;
 
+import com.restaurant.reservation.application.dto.BookedSlotResponse;
 import com.restaurant.reservation.application.dto.ReservationResponse;
 import com.restaurant.reservation.domain.entity.Reservation;
+import com.restaurant.reservation.domain.valueobject.BookedSlot;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
@@ -31,4 +33,11 @@ public interface ReservationMapper {
     @Mapping(source = "reservationTime.endTime", target = "endTime")
     @Mapping(source = "reservationTime.durationInMinutes", target = "durationInMinutes")
     ReservationResponse toResponse(Reservation reservation);
+    
+    /**
+     * Converte uma ocupação da agenda para BookedSlotResponse.
+     */
+    @Mapping(source = "reservationId.value", target = "reservationId")
+    @Mapping(source = "tableId.value", target = "tableId")
+    BookedSlotResponse toBookedSlotResponse(BookedSlot slot);
 }
@@ -0,0 +1,160 @@
+package com.restaurant.reservation.application.service;
+
+import com.restaurant.reservation.application.dto.BookedSlotResponse;
+import com.restaurant.reservation.application.dto.CreateReservationRequest;
+import com.restaurant.reservation.application.dto.ReservationBatchRequest;
+import com.restaurant.reservation.application.dto.ReservationLookupResponse;
+import com.restaurant.reservation.application.dto.ReservationResponse;
+import com.restaurant.reservation.application.dto.UpdateReservationRequest;
+import com.restaurant.reservation.application.mapper.ReservationMapper;
+import com.restaurant.reservation.domain.repository.ReactiveReservationRepository;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+/**
+ * Versão não bloqueante do ReservationService, usada no perfil "reactive".
+ * 
+ * As consultas usam o ReactiveReservationRepository e não ocupam threads
+ * enquanto aguardam o banco. As gravações e a agenda histórica continuam no
+ * ReservationService, que concentra as regras de conflito, o log de eventos
+ * e o outbox; elas rodam no agendador de tarefas bloqueantes, fora do event
+ * loop.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Service
+@Profile("reactive")
+@Slf4j
+public class ReactiveReservationService {
+    
+    private final ReactiveReservationRepository reservationRepository;
+    private final ReservationService reservationService;
+    private final ReservationMapper reservationMapper;
+    private final Scheduler blockingScheduler;
+    
+    public ReactiveReservationService(ReactiveReservationRepository reservationRepository,
+                                      ReservationService reservationService,
+                                      ReservationMapper reservationMapper,
+                                      @Qualifier("blockingScheduler") Scheduler blockingScheduler) {
+        this.reservationRepository = reservationRepository;
+        this.reservationService = reservationService;
+        this.reservationMapper = reservationMapper;
+        this.blockingScheduler = blockingScheduler;
+    }
+    
+    /**
+     * Cria uma nova reserva.
+     */
+    public Mono<ReservationResponse> createReservation(CreateReservationRequest request) {
+        return blocking(() -> reservationService.createReservation(request));
+    }
+    
+    /**
+     * Confirma uma reserva.
+     */
+    public Mono<ReservationResponse> confirmReservation(String reservationId) {
+        return blocking(() -> reservationService.confirmReservation(reservationId));
+    }
+    
+    /**
+     * Cancela uma reserva.
+     */
+    public Mono<ReservationResponse> cancelReservation(String reservationId) {
+        return blocking(() -> reservationService.cancelReservation(reservationId));
+    }
+    
+    /**
+     * Completa uma reserva.
+     */
+    public Mono<ReservationResponse> completeReservation(String reservationId) {
+        return blocking(() -> reservationService.completeReservation(reservationId));
+    }
+    
+    /**
+     * Atualiza uma reserva existente.
+     */
+    public Mono<ReservationResponse> updateReservation(String reservationId, UpdateReservationRequest request) {
+        return blocking(() -> reservationService.updateReservation(reservationId, request));
+    }
+    
+    /**
+     * Busca uma reserva por ID.
+     */
+    public Mono<ReservationResponse> getReservation(String reservationId) {
+        return reservationRepository.findById(ReservationId.of(reservationId))
+            .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Reservation not found: " + reservationId)))
+            .map(reservationMapper::toResponse);
+    }
+    
+    /**
+     * Busca várias reservas por ID, na ordem dos IDs pedidos.
+     */
+    public Mono<List<ReservationLookupResponse>> getReservations(List<String> reservationIds) {
+        return Mono.defer(() -> {
+            if (reservationIds.size() > ReservationBatchRequest.MAX_IDS) {
+                return Mono.error(new IllegalArgumentException("At most " + ReservationBatchRequest.MAX_IDS 
+                    + " reservation IDs are allowed per request"));
+            }
+            return reservationRepository.findAllById(reservationIds.stream()
+                    .map(ReservationId::of)
+                    .collect(Collectors.toList()))
+                .map(reservationMapper::toResponse)
+                .collectList()
+                .map(found -> ReservationService.inRequestOrder(reservationIds, found));
+        });
+    }
+    
+    /**
+     * Busca reservas por email do cliente.
+     */
+    public Flux<ReservationResponse> getReservationsByCustomer(String email) {
+        return reservationRepository.findByCustomerEmail(email).map(reservationMapper::toResponse);
+    }
+    
+    /**
+     * Busca reservas por data.
+     */
+    public Flux<ReservationResponse> getReservationsByDate(LocalDate date) {
+        return reservationRepository.findByDate(date).map(reservationMapper::toResponse);
+    }
+    
+    /**
+     * Busca reservas por status.
+     */
+    public Flux<ReservationResponse> getReservationsByStatus(String status) {
+        return reservationRepository.findByStatus(status).map(reservationMapper::toResponse);
+    }
+    
+    /**
+     * Busca reservas de uma mesa em uma data específica.
+     */
+    public Flux<ReservationResponse> getTableReservations(String tableId, LocalDate date) {
+        return reservationRepository.findByTableAndDate(TableId.of(tableId), date)
+            .map(reservationMapper::toResponse);
+    }
+    
+    /**
+     * Reconstrói a agenda como estava no instante informado, a partir do log de eventos.
+     */
+    public Mono<List<BookedSlotResponse>> getBookAt(LocalDateTime pointInTime, String tableId) {
+        return blocking(() -> reservationService.getBookAt(pointInTime, tableId));
+    }
+    
+    private <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(blockingScheduler);
+    }
+}
@@ -0,0 +1,62 @@
+package com.restaurant.reservation.application.service;
+
+import com.restaurant.reservation.application.dto.TableResponse;
+import com.restaurant.reservation.application.mapper.TableMapper;
+import com.restaurant.reservation.domain.repository.ReactiveTableRepository;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Versão não bloqueante do TableService, usada no perfil "reactive".
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveTableService {
+    
+    private final ReactiveTableRepository tableRepository;
+    private final TableMapper tableMapper;
+    
+    /**
+     * Busca todas as mesas ativas.
+     */
+    public Flux<TableResponse> getAllActiveTables() {
+        log.debug("Getting all active tables");
+        return tableRepository.findAllActive().map(tableMapper::toResponse);
+    }
+    
+    /**
+     * Busca uma mesa por ID.
+     */
+    public Mono<TableResponse> getTable(String tableId) {
+        log.debug("Getting table: {}", tableId);
+        return tableRepository.findById(TableId.of(tableId))
+            .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Table not found: " + tableId)))
+            .map(tableMapper::toResponse);
+    }
+    
+    /**
+     * Busca mesas por capacidade.
+     */
+    public Flux<TableResponse> getTablesByCapacity(int capacity) {
+        log.debug("Getting tables with capacity: {}", capacity);
+        return tableRepository.findTablesByCapacity(capacity).map(tableMapper::toResponse);
+    }
+    
+    /**
+     * Busca mesas disponíveis por capacidade.
+     */
+    public Flux<TableResponse> getAvailableTablesByCapacity(int capacity) {
+        log.debug("Getting available tables with capacity: {}", capacity);
+        return tableRepository.findAvailableTablesByCapacity(capacity).map(tableMapper::toResponse);
+    }
+}
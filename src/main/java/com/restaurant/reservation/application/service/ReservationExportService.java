@@ -0,0 +1,215 @@
+package com.restaurant.reservation.application.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.reservation.domain.entity.Reservation;
+import com.restaurant.reservation.domain.repository.ReservationRepository;
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Serviço de exportação em massa de reservas por intervalo de datas.
+ * 
+ * As reservas são lidas com cursor e escritas uma a uma na saída, em NDJSON
+ * (um objeto JSON por linha) ou CSV, sem montar listas nem DTOs
+ * intermediários; o consumo de memória não depende do número de linhas.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationExportService {
+    
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final String[] COLUMNS = {
+        "id", "tableId", "customerName", "customerEmail", "customerPhone",
+        "startTime", "endTime", "durationInMinutes", "status"
+    };
+    
+    private final ReservationRepository reservationRepository;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * Formatos de exportação suportados.
+     */
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+        
+        private final String contentType;
+        private final String extension;
+        
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+        
+        public String getContentType() {
+            return contentType;
+        }
+        
+        public String getExtension() {
+            return extension;
+        }
+    }
+    
+    /**
+     * Valida o intervalo de exportação.
+     * 
+     * @throws IllegalArgumentException se o fim não for posterior ao início
+     */
+    public void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || !endDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+    }
+    
+    /**
+     * Escreve na saída as reservas que começam no intervalo [startDate, endDate).
+     * 
+     * @return quantidade de reservas exportadas
+     */
+    @Transactional(readOnly = true)
+    public long export(LocalDate startDate, LocalDate endDate, ExportFormat format, OutputStream output)
+            throws IOException {
+        validateRange(startDate, endDate);
+        log.info("Exporting reservations from {} to {} as {}", startDate, endDate, format);
+        
+        long count = 0;
+        try (Stream<Reservation> reservations = reservationRepository.streamByDateRange(startDate, endDate);
+             RowWriter writer = format == ExportFormat.CSV ? new CsvRowWriter(output) : new NdjsonRowWriter(output)) {
+            Iterator<Reservation> iterator = reservations.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                count++;
+            }
+        }
+        log.info("Exported {} reservations from {} to {}", count, startDate, endDate);
+        return count;
+    }
+    
+    /**
+     * Escritor de linhas de exportação.
+     */
+    private interface RowWriter extends Closeable {
+        
+        void write(Reservation reservation) throws IOException;
+    }
+    
+    /**
+     * Um objeto JSON por linha, gerado diretamente no fluxo de saída.
+     */
+    private final class NdjsonRowWriter implements RowWriter {
+        
+        private final JsonGenerator generator;
+        
+        private NdjsonRowWriter(OutputStream output) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8);
+            this.generator.setRootValueSeparator(null);
+        }
+        
+        @Override
+        public void write(Reservation reservation) throws IOException {
+            CustomerInfo customer = reservation.getCustomerInfo();
+            ReservationTime time = reservation.getReservationTime();
+            generator.writeStartObject();
+            generator.writeStringField(COLUMNS[0], reservation.getId().getValue());
+            generator.writeStringField(COLUMNS[1], reservation.getTableId().getValue());
+            generator.writeStringField(COLUMNS[2], customer.getName());
+            generator.writeStringField(COLUMNS[3], customer.getEmail());
+            generator.writeStringField(COLUMNS[4], customer.getPhone());
+            generator.writeStringField(COLUMNS[5], TIME_FORMAT.format(time.getDateTime()));
+            generator.writeStringField(COLUMNS[6], TIME_FORMAT.format(time.getEndTime()));
+            generator.writeNumberField(COLUMNS[7], time.getDurationInMinutes());
+            generator.writeStringField(COLUMNS[8], reservation.getStatus().name());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+    
+    /**
+     * CSV com cabeçalho, no formato da RFC 4180.
+     */
+    private static final class CsvRowWriter implements RowWriter {
+        
+        private final Writer writer;
+        
+        private CsvRowWriter(OutputStream output) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+        
+        @Override
+        public void write(Reservation reservation) throws IOException {
+            CustomerInfo customer = reservation.getCustomerInfo();
+            ReservationTime time = reservation.getReservationTime();
+            writer.write(reservation.getId().getValue());
+            writer.write(',');
+            writeField(reservation.getTableId().getValue());
+            writer.write(',');
+            writeField(customer.getName());
+            writer.write(',');
+            writeField(customer.getEmail());
+            writer.write(',');
+            writeField(customer.getPhone());
+            writer.write(',');
+            writer.write(TIME_FORMAT.format(time.getDateTime()));
+            writer.write(',');
+            writer.write(TIME_FORMAT.format(time.getEndTime()));
+            writer.write(',');
+            writer.write(Integer.toString(time.getDurationInMinutes()));
+            writer.write(',');
+            writer.write(reservation.getStatus().name());
+            writer.write("\r\n");
+        }
+        
+        private void writeField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+        
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
@@ -1,25 +1,35 @@
 package com.restaurant.reservation.application.service;
 
+import com.restaurant.reservation.application.dto.BookedSlotResponse;
 import com.restaurant.reservation.application.dto.CreateReservationRequest;
+import com.restaurant.reservation.application.dto.ReservationBatchRequest;
+import com.restaurant.reservation.application.dto.ReservationLookupResponse;
 import com.restaurant.reservation.application.dto.ReservationResponse;
 import com.restaurant.reservation.application.dto.UpdateReservationRequest;
 import com.restaurant.reservation.domain.entity.Reservation;
 import com.restaurant.reservation.domain.entity.Table;
 import com.restaurant.reservation.domain.event.DomainEvent;
+import com.restaurant.reservation.domain.repository.DomainEventOutbox;
+import com.restaurant.reservation.domain.repository.ReservationReminderSchedule;
+import com.restaurant.reservation.domain.repository.ReservationEventStore;
 import com.restaurant.reservation.domain.repository.ReservationRepository;
 import com.restaurant.reservation.domain.repository.TableRepository;
 import com.restaurant.reservation.domain.valueobject.*;
 import com.restaurant.reservation.application.mapper.ReservationMapper;
 import com.restaurant.reservation.application.service.availability.AvailabilityService;
-import com.restaurant.reservation.application.service.notification.NotificationService;
+import com.restaurant.reservation.application.service.availability.CoalescedReservationQueries;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -36,9 +46,12 @@ import java.util.stream.Collectors;
 public class ReservationService {
     
     private final ReservationRepository reservationRepository;
+    private final ReservationEventStore eventStore;
     private final TableRepository tableRepository;
     private final AvailabilityService availabilityService;
-    private final NotificationService notificationService;
+    private final CoalescedReservationQueries reservationQueries;
+    private final DomainEventOutbox eventOutbox;
+    private final ReservationReminderSchedule reminderSchedule;
     private final ReservationMapper reservationMapper;
     
     /**
@@ -67,19 +80,19 @@ public class ReservationService {
         availabilityService.checkAvailability(table.getId(), reservationTime);
         
         // Cria a reserva
-        Reservation reservation = Reservation.builder()
-            .id(ReservationId.generate())
-            .tableId(TableId.of(request.getTableId()))
-            .customerInfo(customerInfo)
-            .reservationTime(reservationTime)
-            .status(ReservationStatus.PENDING)
-            .build();
+        Reservation reservation = Reservation.create(
+            ReservationId.generate(),
+            TableId.of(request.getTableId()),
+            customerInfo,
+            reservationTime
+        );
         
         // Salva a reserva
         Reservation savedReservation = reservationRepository.save(reservation);
+        reservationChanged(savedReservation);
         
         // Processa eventos de domínio
-        processDomainEvents(savedReservation);
+        processDomainEvents(reservation);
         
         log.info("Reservation created successfully: {}", savedReservation.getId());
         return reservationMapper.toResponse(savedReservation);
@@ -95,7 +108,8 @@ public class ReservationService {
         reservation.confirm();
         
         Reservation updatedReservation = reservationRepository.save(reservation);
-        processDomainEvents(updatedReservation);
+        reservationChanged(updatedReservation);
+        processDomainEvents(reservation);
         
         log.info("Reservation confirmed: {}", reservationId);
         return reservationMapper.toResponse(updatedReservation);
@@ -111,7 +125,8 @@ public class ReservationService {
         reservation.cancel();
         
         Reservation updatedReservation = reservationRepository.save(reservation);
-        processDomainEvents(updatedReservation);
+        reservationChanged(updatedReservation);
+        processDomainEvents(reservation);
         
         log.info("Reservation cancelled: {}", reservationId);
         return reservationMapper.toResponse(updatedReservation);
@@ -127,7 +142,8 @@ public class ReservationService {
         reservation.complete();
         
         Reservation updatedReservation = reservationRepository.save(reservation);
-        processDomainEvents(updatedReservation);
+        reservationChanged(updatedReservation);
+        processDomainEvents(reservation);
         
         log.info("Reservation completed: {}", reservationId);
         return reservationMapper.toResponse(updatedReservation);
@@ -162,11 +178,13 @@ public class ReservationService {
             availabilityService.checkAvailability(newTableId, newReservationTime);
         }
         
-        // Modifica a reserva
+        // Modifica a reserva; as consultas do horário anterior também mudam
+        reservationChanged(reservation);
         reservation.modifyReservation(newTableId, newReservationTime);
         
         Reservation updatedReservation = reservationRepository.save(reservation);
-        processDomainEvents(updatedReservation);
+        reservationChanged(updatedReservation);
+        processDomainEvents(reservation);
         
         log.info("Reservation updated: {}", reservationId);
         return reservationMapper.toResponse(updatedReservation);
@@ -181,6 +199,26 @@ public class ReservationService {
         return reservationMapper.toResponse(reservation);
     }
     
+    /**
+     * Busca várias reservas por ID, com uma consulta por lote de IDs em vez de
+     * uma por reserva. O resultado segue a ordem dos IDs pedidos, com found
+     * = false para os que não existem.
+     */
+    @Transactional(readOnly = true)
+    public List<ReservationLookupResponse> getReservations(List<String> reservationIds) {
+        if (reservationIds.size() > ReservationBatchRequest.MAX_IDS) {
+            throw new IllegalArgumentException("At most " + ReservationBatchRequest.MAX_IDS 
+                + " reservation IDs are allowed per request");
+        }
+        List<ReservationId> ids = reservationIds.stream()
+            .map(ReservationId::of)
+            .collect(Collectors.toList());
+        List<ReservationResponse> found = reservationRepository.findAllById(ids).stream()
+            .map(reservationMapper::toResponse)
+            .collect(Collectors.toList());
+        return inRequestOrder(reservationIds, found);
+    }
+    
     /**
      * Busca reservas por email do cliente.
      */
@@ -197,7 +235,7 @@ public class ReservationService {
      */
     @Transactional(readOnly = true)
     public List<ReservationResponse> getReservationsByDate(LocalDate date) {
-        List<Reservation> reservations = reservationRepository.findByDate(date);
+        List<Reservation> reservations = reservationQueries.findByDate(date);
         return reservations.stream()
             .map(reservationMapper::toResponse)
             .collect(Collectors.toList());
@@ -219,13 +257,30 @@ public class ReservationService {
      */
     @Transactional(readOnly = true)
     public List<ReservationResponse> getTableReservations(String tableId, LocalDate date) {
-        List<Reservation> reservations = reservationRepository.findByTableAndDate(
+        List<Reservation> reservations = reservationQueries.findByTableAndDate(
             TableId.of(tableId), date);
         return reservations.stream()
             .map(reservationMapper::toResponse)
             .collect(Collectors.toList());
     }
     
+    /**
+     * Reconstrói a agenda como estava no instante informado, a partir do log de eventos.
+     * Se a mesa for informada, apenas a partição dela é reconstruída.
+     */
+    @Transactional(readOnly = true)
+    public List<BookedSlotResponse> getBookAt(LocalDateTime pointInTime, String tableId) {
+        List<BookedSlot> slots = tableId != null ?
+            eventStore.loadTableBookAt(TableId.of(tableId), pointInTime) :
+            eventStore.loadBookAt(pointInTime).values().stream()
+                .flatMap(List::stream)
+                .toList();
+        return slots.stream()
+            .sorted(Comparator.comparing(BookedSlot::getStartTime))
+            .map(reservationMapper::toBookedSlotResponse)
+            .collect(Collectors.toList());
+    }
+    
     /**
      * Valida e retorna uma mesa.
      */
@@ -256,14 +311,42 @@ public class ReservationService {
         return reservationOpt.get();
     }
     
+    /**
+     * Monta o resultado do multi-get na ordem dos IDs pedidos.
+     */
+    static List<ReservationLookupResponse> inRequestOrder(List<String> reservationIds, 
+                                                          List<ReservationResponse> found) {
+        Map<String, ReservationResponse> byId = found.stream()
+            .collect(Collectors.toMap(ReservationResponse::getId, Function.identity(), (first, second) -> first));
+        return reservationIds.stream()
+            .map(id -> ReservationLookupResponse.builder()
+                .id(id)
+                .found(byId.containsKey(id))
+                .reservation(byId.get(id))
+                .build())
+            .collect(Collectors.toList());
+    }
+    
     /**
      * Processa os eventos de domínio da reserva.
+     * Deve receber a instância que registrou os eventos, e não a cópia
+     * devolvida pelo repositório, que é remapeada sem eventos.
      */
     private void processDomainEvents(Reservation reservation) {
         for (DomainEvent event : reservation.getDomainEvents()) {
             log.debug("Processing domain event: {}", event.getEventType());
-            notificationService.handleDomainEvent(event);
+            eventStore.append(event);
+            eventOutbox.add(event);
+            reminderSchedule.apply(event);
         }
         reservation.clearDomainEvents();
     }
+    
+    /**
+     * Invalida as consultas agrupadas da mesa e da data da reserva.
+     */
+    private void reservationChanged(Reservation reservation) {
+        reservationQueries.reservationChanged(reservation.getTableId().getValue(),
+            reservation.getReservationTime().getDateTime().toLocalDate());
+    }
 }
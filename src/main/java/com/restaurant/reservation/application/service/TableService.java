@@ -2,15 +2,21 @@ package com.restaurant.reservation.application.service;
 
 import com.restaurant.reservation.application.dto.TableResponse;
 import com.restaurant.reservation.application.mapper.TableMapper;
+import com.restaurant.reservation.application.service.availability.AvailabilityService;
 import com.restaurant.reservation.domain.entity.Table;
 import com.restaurant.reservation.domain.repository.TableRepository;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
 import com.restaurant.reservation.domain.valueobject.TableId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -28,6 +34,7 @@ public class TableService {
     
     private final TableRepository tableRepository;
     private final TableMapper tableMapper;
+    private final AvailabilityService availabilityService;
     
     /**
      * Busca todas as mesas ativas.
@@ -71,6 +78,22 @@ public class TableService {
             .collect(Collectors.toList());
     }
     
+    /**
+     * Busca mesas livres para o número de pessoas no horário informado.
+     * A ocupação vem do estado de reservas em memória, quando já carregado.
+     */
+    public List<TableResponse> getAvailableTables(int numberOfPeople, LocalDateTime dateTime) {
+        log.info("Getting tables available for {} people at {}", numberOfPeople, dateTime);
+        List<TableId> available = availabilityService.findAvailableTables(numberOfPeople, ReservationTime.of(dateTime));
+        Map<TableId, Table> tables = tableRepository.findAvailableTablesByCapacity(numberOfPeople).stream()
+            .collect(Collectors.toMap(Table::getId, Function.identity()));
+        return available.stream()
+            .map(tables::get)
+            .filter(Objects::nonNull)
+            .map(tableMapper::toResponse)
+            .collect(Collectors.toList());
+    }
+    
     /**
      * Busca uma mesa por ID ou lança exceção se não encontrada.
      */
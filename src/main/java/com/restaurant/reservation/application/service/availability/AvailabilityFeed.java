@@ -0,0 +1,385 @@
+package com.restaurant.reservation.application.service.availability;
+
+import com.restaurant.reservation.application.dto.AvailabilityDelta;
+import com.restaurant.reservation.application.dto.AvailabilityDelta.SlotState;
+import com.restaurant.reservation.application.service.event.DomainEventHandlers;
+import com.restaurant.reservation.application.service.event.DomainEventSubscriber;
+import com.restaurant.reservation.domain.entity.Table;
+import com.restaurant.reservation.domain.event.ReservationCancelledEvent;
+import com.restaurant.reservation.domain.event.ReservationCompletedEvent;
+import com.restaurant.reservation.domain.event.ReservationConfirmedEvent;
+import com.restaurant.reservation.domain.event.ReservationCreatedEvent;
+import com.restaurant.reservation.domain.event.ReservationModifiedEvent;
+import com.restaurant.reservation.domain.repository.TableRepository;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Feed de mudanças de disponibilidade em tempo real, gerado a partir dos
+ * eventos de domínio, que substitui o polling das telas de reservas.
+ * 
+ * Cada evento vira deltas compactos (mesa, intervalo, ocupado/livre)
+ * entregues aos inscritos cujo filtro de data e localização os aceita. O
+ * feed recebe cada evento do DomainEventBus como foi gravado, sem o
+ * agrupamento das notificações. Uma alteração de horário ou mesa libera o
+ * horário anterior, quando ele ainda é conhecido: o feed guarda o último
+ * horário ocupado de cada reserva numa janela LRU limitada.
+ * 
+ * Cada inscrito tem um buffer limitado, esvaziado por um pool pequeno de
+ * threads de envio; o tratamento dos eventos só enfileira. Um inscrito cujo
+ * buffer enche (cliente lento ou parado) é desconectado e deve reconectar e
+ * recarregar a disponibilidade. Heartbeats periódicos passam pelo mesmo
+ * buffer, detectando também conexões que pararam de consumir.
+ * 
+ * Um envio que fica bloqueado além do tempo limite (cliente que parou de ler
+ * com o buffer do socket cheio) desconecta o inscrito; enquanto a escrita não
+ * retorna, uma thread de envio extra substitui a que ficou presa, para que os
+ * demais inscritos continuem recebendo.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Service
+@Slf4j
+public class AvailabilityFeed implements DomainEventSubscriber {
+    
+    private static final String METRIC_PREFIX = "reservation.availability-feed.";
+    private static final AvailabilityDelta HEARTBEAT = AvailabilityDelta.builder().build();
+    
+    private final TableRepository tableRepository;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Map<String, AvailabilityDelta> busySlots;
+    private final ThreadPoolExecutor sender;
+    private final long sendTimeoutNanos;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Counter deltas;
+    private final Counter evicted;
+    
+    public AvailabilityFeed(TableRepository tableRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${reservation.availability-feed.buffer-size:256}") int bufferSize,
+                            @Value("${reservation.availability-feed.max-subscribers:1000}") int maxSubscribers,
+                            @Value("${reservation.availability-feed.sender-threads:2}") int senderThreads,
+                            @Value("${reservation.availability-feed.slot-memory:10000}") int slotMemory,
+                            @Value("${reservation.availability-feed.send-timeout-ms:5000}") long sendTimeoutMs) {
+        if (bufferSize < 1 || maxSubscribers < 1 || senderThreads < 1) {
+            throw new IllegalArgumentException("Buffer size, max subscribers and sender threads must be positive");
+        }
+        this.tableRepository = tableRepository;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        this.busySlots = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, AvailabilityDelta> eldest) {
+                return size() > slotMemory;
+            }
+        };
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "availability-feed-" + threadNumber.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.deltas = meterRegistry.counter(METRIC_PREFIX + "deltas");
+        this.evicted = meterRegistry.counter(METRIC_PREFIX + "evicted");
+        meterRegistry.gauge(METRIC_PREFIX + "subscribers", subscriberCount);
+    }
+    
+    @Override
+    public String getSubscriberName() {
+        return "availability-feed";
+    }
+    
+    @Override
+    public void registerHandlers(DomainEventHandlers handlers) {
+        handlers.on(ReservationCreatedEvent.class, event ->
+                busy(event.getReservationId(), event.getTableId(), event.getReservationTime()))
+            .on(ReservationConfirmedEvent.class, event ->
+                busy(event.getReservationId(), event.getTableId(), event.getReservationTime()))
+            .on(ReservationModifiedEvent.class, event ->
+                busy(event.getReservationId(), event.getNewTableId(), event.getNewReservationTime()))
+            .on(ReservationCancelledEvent.class, event ->
+                free(event.getReservationId(), event.getTableId(), event.getReservationTime()))
+            .on(ReservationCompletedEvent.class, event ->
+                free(event.getReservationId(), event.getTableId(), event.getReservationTime()));
+    }
+    
+    /**
+     * Inscreve um cliente no feed.
+     * 
+     * @param date só recebe horários que começam nesta data (null = todas)
+     * @param location só recebe mesas desta localização (null = todas)
+     * @param sink destino dos deltas, chamado por uma thread de envio por vez
+     * @throws IllegalStateException se o limite de inscritos foi atingido
+     */
+    public Subscription subscribe(LocalDate date, String location, Sink sink) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("Too many availability feed subscribers");
+        }
+        Subscription subscription = new Subscription(date, location, sink);
+        subscriptions.add(subscription);
+        log.debug("Availability feed subscriber added (date={}, location={})", date, location);
+        return subscription;
+    }
+    
+    /**
+     * Envia um heartbeat a todos os inscritos, pelo mesmo buffer dos deltas.
+     */
+    @Scheduled(fixedDelayString = "${reservation.availability-feed.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscriptions.forEach(subscription -> subscription.offer(HEARTBEAT));
+    }
+    
+    /**
+     * Desconecta os inscritos cujo envio em andamento passou do tempo limite.
+     */
+    @Scheduled(fixedDelayString = "${reservation.availability-feed.send-timeout-check-ms:1000}")
+    public void evictStalledSubscribers() {
+        long now = System.nanoTime();
+        subscriptions.forEach(subscription -> subscription.evictIfStalled(now));
+    }
+    
+    /**
+     * Desconecta todos os inscritos e encerra as threads de envio.
+     */
+    @PreDestroy
+    public void close() {
+        subscriptions.forEach(Subscription::disconnect);
+        sender.shutdownNow();
+    }
+    
+    private void busy(ReservationId reservationId, TableId tableId, ReservationTime time) {
+        AvailabilityDelta delta = delta(reservationId, tableId, time, SlotState.BUSY);
+        AvailabilityDelta previous;
+        synchronized (busySlots) {
+            previous = busySlots.put(reservationId.getValue(), delta);
+        }
+        freeIfMoved(previous, delta);
+        publish(delta);
+    }
+    
+    private void free(ReservationId reservationId, TableId tableId, ReservationTime time) {
+        synchronized (busySlots) {
+            busySlots.remove(reservationId.getValue());
+        }
+        publish(delta(reservationId, tableId, time, SlotState.FREE));
+    }
+    
+    /**
+     * Libera o horário lembrado da reserva quando ele difere do novo horário.
+     */
+    private void freeIfMoved(AvailabilityDelta previous, AvailabilityDelta current) {
+        if (previous != null && (!previous.getTableId().equals(current.getTableId())
+                || !previous.getStartTime().equals(current.getStartTime())
+                || !previous.getEndTime().equals(current.getEndTime()))) {
+            publish(AvailabilityDelta.builder()
+                .reservationId(previous.getReservationId())
+                .tableId(previous.getTableId())
+                .location(previous.getLocation())
+                .startTime(previous.getStartTime())
+                .endTime(previous.getEndTime())
+                .state(SlotState.FREE)
+                .build());
+        }
+    }
+    
+    /**
+     * Acrescenta ou retira uma thread de envio, compensando um envio preso.
+     */
+    private void resizeSender(int delta) {
+        synchronized (sender) {
+            if (delta > 0) {
+                sender.setMaximumPoolSize(sender.getMaximumPoolSize() + delta);
+                sender.setCorePoolSize(sender.getCorePoolSize() + delta);
+            } else {
+                sender.setCorePoolSize(sender.getCorePoolSize() + delta);
+                sender.setMaximumPoolSize(sender.getMaximumPoolSize() + delta);
+            }
+        }
+    }
+    
+    private AvailabilityDelta delta(ReservationId reservationId, TableId tableId, ReservationTime time,
+                                    SlotState state) {
+        return AvailabilityDelta.builder()
+            .reservationId(reservationId.getValue())
+            .tableId(tableId.getValue())
+            .location(tableRepository.findById(tableId).map(Table::getLocation).orElse(null))
+            .startTime(time.getDateTime())
+            .endTime(time.getEndTime())
+            .state(state)
+            .build();
+    }
+    
+    private void publish(AvailabilityDelta delta) {
+        deltas.increment();
+        for (Subscription subscription : subscriptions) {
+            if (subscription.accepts(delta)) {
+                subscription.offer(delta);
+            }
+        }
+    }
+    
+    /**
+     * Destino dos deltas de um inscrito (por exemplo, uma conexão SSE).
+     */
+    public interface Sink {
+        
+        /**
+         * Envia um delta; uma exceção desconecta o inscrito.
+         */
+        void send(AvailabilityDelta delta) throws IOException;
+        
+        /**
+         * Envia um sinal de vida sem conteúdo; uma exceção desconecta o inscrito.
+         */
+        void heartbeat() throws IOException;
+        
+        /**
+         * Encerra a conexão, após o feed desconectar o inscrito.
+         */
+        void close();
+    }
+    
+    /**
+     * Inscrição de um cliente, com seu filtro e buffer limitado.
+     */
+    public final class Subscription {
+        
+        private final LocalDate date;
+        private final String location;
+        private final Sink sink;
+        private final ArrayBlockingQueue<AvailabilityDelta> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean active = new AtomicBoolean(true);
+        private volatile long sendStartedAt;
+        private boolean stalled;
+        
+        private Subscription(LocalDate date, String location, Sink sink) {
+            this.date = date;
+            this.location = location;
+            this.sink = sink;
+        }
+        
+        /**
+         * Cancela a inscrição quando o cliente se desconecta.
+         */
+        public void cancel() {
+            if (active.compareAndSet(true, false)) {
+                subscriptions.remove(this);
+                subscriberCount.decrementAndGet();
+                buffer.clear();
+            }
+        }
+        
+        private boolean accepts(AvailabilityDelta delta) {
+            return (date == null || date.equals(delta.getStartTime().toLocalDate()))
+                && (location == null || location.equalsIgnoreCase(delta.getLocation()));
+        }
+        
+        private void offer(AvailabilityDelta delta) {
+            if (!buffer.offer(delta)) {
+                evicted.increment();
+                log.warn("Availability feed subscriber is not keeping up, disconnecting it after {} buffered updates",
+                    bufferSize);
+                disconnect();
+                return;
+            }
+            scheduleDrain();
+        }
+        
+        private void scheduleDrain() {
+            if (active.get() && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+        
+        private void drain() {
+            try {
+                AvailabilityDelta delta;
+                while (active.get() && (delta = buffer.poll()) != null) {
+                    sendStartedAt = System.nanoTime();
+                    if (delta == HEARTBEAT) {
+                        sink.heartbeat();
+                    } else {
+                        sink.send(delta);
+                    }
+                    sendStartedAt = 0;
+                }
+            } catch (Exception e) {
+                log.debug("Availability feed subscriber disconnected: {}", e.getMessage());
+                disconnect();
+            } finally {
+                sendStartedAt = 0;
+                releaseStalled();
+                draining.set(false);
+            }
+            if (!buffer.isEmpty()) {
+                scheduleDrain(); // Delta enfileirado após o último poll
+            }
+        }
+        
+        /**
+         * Desconecta o inscrito se o envio em andamento passou do tempo limite,
+         * e põe uma thread extra no lugar da que está presa nele.
+         */
+        private synchronized void evictIfStalled(long now) {
+            long started = sendStartedAt;
+            if (stalled || started == 0 || now - started < sendTimeoutNanos) {
+                return;
+            }
+            stalled = true;
+            evicted.increment();
+            log.warn("Availability feed subscriber has not accepted an update for {} ms, disconnecting it",
+                TimeUnit.NANOSECONDS.toMillis(now - started));
+            cancel();
+            resizeSender(1);
+        }
+        
+        /**
+         * Após o retorno de um envio que estava preso, fecha a conexão e devolve a thread extra.
+         */
+        private synchronized void releaseStalled() {
+            if (stalled) {
+                stalled = false;
+                resizeSender(-1);
+                sink.close();
+            }
+        }
+        
+        private void disconnect() {
+            cancel();
+            try {
+                sender.execute(sink::close);
+            } catch (RejectedExecutionException e) {
+                sink.close(); // Feed encerrado
+            }
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.restaurant.reservation.application.service.availability;
 
 import com.restaurant.reservation.domain.entity.Reservation;
+import com.restaurant.reservation.domain.entity.Table;
+import com.restaurant.reservation.domain.repository.BookingState;
 import com.restaurant.reservation.domain.repository.ReservationRepository;
+import com.restaurant.reservation.domain.repository.TableRepository;
 import com.restaurant.reservation.domain.valueobject.ReservationStatus;
 import com.restaurant.reservation.domain.valueobject.ReservationTime;
 import com.restaurant.reservation.domain.valueobject.TableId;
@@ -11,6 +14,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -18,6 +22,12 @@ import java.util.List;
  * Implementa validações complexas de disponibilidade considerando
  * conflitos de horário, capacidade e regras de negócio.
  * 
+ * A verificação de conflitos de uma gravação consulta sempre o repositório.
+ * O estado de reservas em memória só muda após o commit (e, para outras
+ * instâncias, no catch-up periódico), então atende apenas às consultas,
+ * como a busca de mesas livres; enquanto ele não termina de carregar, a
+ * busca também consulta o repositório.
+ * 
  * @author Sistema de Reservas
  * @version 1.0.0
  */
@@ -27,6 +37,9 @@ import java.util.List;
 public class AvailabilityService {
     
     private final ReservationRepository reservationRepository;
+    private final TableRepository tableRepository;
+    private final BookingState bookingState;
+    private final CoalescedReservationQueries reservationQueries;
     
     /**
      * Verifica se uma mesa está disponível no horário especificado.
@@ -41,18 +54,12 @@ public class AvailabilityService {
                 "Reservation time is outside operating hours");
         }
         
-        // Busca reservas conflitantes
-        List<Reservation> conflictingReservations = reservationRepository
-            .findConflictingReservations(tableId, reservationTime);
-        
-        // Filtra apenas reservas ativas (não canceladas ou completadas)
-        List<Reservation> activeConflicts = conflictingReservations.stream()
-            .filter(reservation -> isActiveReservation(reservation))
-            .toList();
+        // Conta reservas ativas conflitantes
+        int activeConflicts = countActiveConflicts(tableId, reservationTime);
         
-        if (!activeConflicts.isEmpty()) {
+        if (activeConflicts > 0) {
             log.warn("Table {} is not available at {} - {} conflicting reservations", 
-                tableId, reservationTime, activeConflicts.size());
+                tableId, reservationTime, activeConflicts);
             throw new IllegalStateException(
                 "Table is not available at the requested time");
         }
@@ -79,24 +86,30 @@ public class AvailabilityService {
     }
     
     /**
-     * Busca mesas disponíveis para um horário e número de pessoas específicos.
+     * Busca mesas disponíveis para um horário e número de pessoas específicos,
+     * da menor para a maior capacidade.
      */
     public List<TableId> findAvailableTables(int numberOfPeople, ReservationTime reservationTime) {
-        // Esta implementação seria expandida para buscar todas as mesas
-        // e verificar disponibilidade para cada uma
         log.debug("Finding available tables for {} people at {}", 
             numberOfPeople, reservationTime);
         
-        // Por simplicidade, retorna uma lista vazia
-        // Em uma implementação real, buscaria todas as mesas do repositório
-        return List.of();
+        if (bookingState.isReady()) {
+            return bookingState.findAvailableTables(numberOfPeople, reservationTime);
+        }
+        log.debug("Booking state not loaded yet; checking available tables against the repository");
+        return tableRepository.findAvailableTablesByCapacity(numberOfPeople).stream()
+            .sorted(Comparator.comparingInt((Table table) -> table.getCapacity().getValue())
+                .thenComparing(table -> table.getId().getValue()))
+            .map(Table::getId)
+            .filter(tableId -> countActiveConflicts(tableId, reservationTime) == 0)
+            .toList();
     }
     
     /**
      * Verifica a disponibilidade para um período de tempo.
      */
     public AvailabilityReport getAvailabilityReport(TableId tableId, LocalDate date) {
-        List<Reservation> reservations = reservationRepository
+        List<Reservation> reservations = reservationQueries
             .findByTableAndDate(tableId, date);
         
         List<Reservation> activeReservations = reservations.stream()
@@ -111,6 +124,15 @@ public class AvailabilityService {
             .build();
     }
     
+    /**
+     * Conta as reservas ativas que conflitam com o horário.
+     */
+    private int countActiveConflicts(TableId tableId, ReservationTime reservationTime) {
+        return (int) reservationRepository.findConflictingReservations(tableId, reservationTime).stream()
+            .filter(this::isActiveReservation)
+            .count();
+    }
+    
     /**
      * Verifica se uma reserva está ativa (não cancelada ou completada).
      */
@@ -0,0 +1,171 @@
+package com.restaurant.reservation.application.service.availability;
+
+import com.restaurant.reservation.domain.entity.Reservation;
+import com.restaurant.reservation.domain.repository.ReservationRepository;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Consultas de leitura de reservas mais repetidas em picos de procura
+ * (abertura das reservas de feriados), com execução única para chamadas
+ * idênticas concorrentes: reservas de uma mesa em uma data e reservas de
+ * uma data. A verificação de conflitos de uma gravação não passa por aqui:
+ * consulta sempre o repositório.
+ * 
+ * Chamadas iguais enquanto uma consulta está em curso recebem o resultado
+ * dela, que ainda é reaproveitado por ttl-ms (curto) depois de terminar.
+ * Gravações invalidam, após o commit, as consultas da mesa e da data
+ * gravadas: o ReservationService invalida as suas (antes e depois de uma
+ * remarcação) e o BookingStateLoader as trazidas de outras instâncias.
+ * Para estas, a data anterior de uma reserva remarcada não é conhecida: a
+ * consulta dela pode mostrar o horário antigo ainda ocupado por até ttl-ms.
+ * 
+ * O resultado reaproveitado é compartilhado entre as chamadas, mas a
+ * Reservation é mutável; por isso cada chamada recebe uma lista imutável
+ * com cópias próprias das reservas. Alterar uma reserva retornada não afeta
+ * as outras chamadas nem o resultado guardado.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class CoalescedReservationQueries {
+    
+    private static final String METRIC_NAME = "reservation.availability.single-flight";
+    
+    private final ReservationRepository reservationRepository;
+    private final SingleFlight<QueryKey, List<Reservation>> flights;
+    private final Counter executed;
+    private final Counter shared;
+    
+    public CoalescedReservationQueries(ReservationRepository reservationRepository,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${reservation.availability.single-flight.ttl-ms:250}") long ttlMs,
+                                       @Value("${reservation.availability.single-flight.max-entries:10000}") int maxEntries) {
+        this.reservationRepository = reservationRepository;
+        this.flights = new SingleFlight<>(TimeUnit.MILLISECONDS.toNanos(ttlMs), maxEntries);
+        this.executed = meterRegistry.counter(METRIC_NAME, "result", "executed");
+        this.shared = meterRegistry.counter(METRIC_NAME, "result", "shared");
+    }
+    
+    /**
+     * Reservas de uma mesa em uma data.
+     */
+    public List<Reservation> findByTableAndDate(TableId tableId, LocalDate date) {
+        return query(new QueryKey(Kind.TABLE_DAY, tableId.getValue(), date),
+            () -> reservationRepository.findByTableAndDate(tableId, date));
+    }
+    
+    /**
+     * Reservas de uma data.
+     */
+    public List<Reservation> findByDate(LocalDate date) {
+        return query(new QueryKey(Kind.DAY, null, date),
+            () -> reservationRepository.findByDate(date));
+    }
+    
+    /**
+     * Invalida as consultas da mesa (em qualquer data, já que uma reserva
+     * pode atravessar a meia-noite) e as da data; dentro de uma
+     * transação, após o commit.
+     */
+    public void reservationChanged(String tableId, LocalDate date) {
+        runAfterCommit(() -> flights.invalidate(key ->
+            tableId.equals(key.tableId) || (key.kind == Kind.DAY && date.equals(key.date))));
+    }
+    
+    /**
+     * Executa ou reaproveita a consulta e devolve cópias das reservas do resultado compartilhado.
+     */
+    private List<Reservation> query(QueryKey key, Supplier<List<Reservation>> query) {
+        AtomicBoolean ran = new AtomicBoolean();
+        List<Reservation> result = flights.get(key, () -> {
+            ran.set(true);
+            return List.copyOf(query.get());
+        });
+        if (ran.get()) {
+            executed.increment();
+        } else {
+            shared.increment();
+            log.trace("Shared in-flight result for {}", key);
+        }
+        return result.stream()
+            .map(CoalescedReservationQueries::copy)
+            .toList();
+    }
+    
+    private static Reservation copy(Reservation reservation) {
+        Reservation copy = Reservation.restore(reservation.getId(), reservation.getTableId(),
+            reservation.getCustomerInfo(), reservation.getReservationTime(), reservation.getStatus());
+        copy.setVersion(reservation.getVersion());
+        return copy;
+    }
+    
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    private enum Kind {
+        TABLE_DAY,
+        DAY
+    }
+    
+    /**
+     * Identifica uma consulta; campos que não se aplicam ao tipo são nulos.
+     */
+    private static final class QueryKey {
+        
+        private final Kind kind;
+        private final String tableId;
+        private final LocalDate date;
+        
+        private QueryKey(Kind kind, String tableId, LocalDate date) {
+            this.kind = kind;
+            this.tableId = tableId;
+            this.date = date;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            QueryKey that = (QueryKey) o;
+            return kind == that.kind &&
+                   Objects.equals(tableId, that.tableId) &&
+                   Objects.equals(date, that.date);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, tableId, date);
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("%s{table=%s, date=%s}", kind, tableId, date);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.restaurant.reservation.application.service.availability;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Execução única de consultas idênticas concorrentes ("single flight").
+ * 
+ * A primeira chamada para uma chave executa a consulta na própria thread;
+ * as chamadas que chegam enquanto ela roda aguardam e recebem o mesmo
+ * resultado (ou a mesma exceção). O resultado ainda é reaproveitado por
+ * ttl nanossegundos após terminar; com ttl zero, só chamadas simultâneas
+ * são agrupadas.
+ * 
+ * Uma chave invalidada deixa de ser reaproveitada: chamadas seguintes
+ * executam uma nova consulta, mesmo que a anterior ainda esteja em curso.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+final class SingleFlight<K, V> {
+    
+    private final ConcurrentHashMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+    
+    SingleFlight(long ttlNanos, int maxEntries) {
+        if (ttlNanos < 0 || maxEntries < 1) {
+            throw new IllegalArgumentException("TTL cannot be negative and max entries must be positive");
+        }
+        this.ttlNanos = ttlNanos;
+        this.maxEntries = maxEntries;
+    }
+    
+    /**
+     * Retorna o resultado da consulta em curso ou recente para a chave,
+     * ou executa a consulta.
+     */
+    V get(K key, Supplier<V> query) {
+        while (true) {
+            Flight<V> current = flights.get(key);
+            if (current != null && current.isReusable(System.nanoTime(), ttlNanos)) {
+                return current.await();
+            }
+            Flight<V> flight = new Flight<>();
+            boolean owner = current == null
+                ? flights.putIfAbsent(key, flight) == null
+                : flights.replace(key, current, flight);
+            if (owner) {
+                if (flights.size() > maxEntries) {
+                    evictExpired();
+                }
+                return flight.run(query, () -> {
+                    if (ttlNanos == 0) {
+                        flights.remove(key, flight);
+                    }
+                }, () -> flights.remove(key, flight));
+            }
+        }
+    }
+    
+    /**
+     * Invalida as chaves que atendem ao filtro.
+     */
+    void invalidate(Predicate<K> filter) {
+        flights.keySet().removeIf(filter);
+    }
+    
+    int size() {
+        return flights.size();
+    }
+    
+    private void evictExpired() {
+        long now = System.nanoTime();
+        flights.values().removeIf(flight -> flight.isDone() && !flight.isReusable(now, ttlNanos));
+        if (flights.size() > maxEntries) {
+            flights.values().removeIf(Flight::isDone);
+        }
+    }
+    
+    /**
+     * Uma execução da consulta, com o instante em que terminou.
+     */
+    private static final class Flight<V> {
+        
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private volatile long completedAt;
+        
+        private V run(Supplier<V> query, Runnable onSuccess, Runnable onFailure) {
+            try {
+                V value = query.get();
+                completedAt = System.nanoTime();
+                future.complete(value);
+                onSuccess.run();
+                return value;
+            } catch (RuntimeException | Error e) {
+                onFailure.run(); // Falhas não são reaproveitadas
+                future.completeExceptionally(e);
+                throw e;
+            }
+        }
+        
+        private boolean isDone() {
+            return future.isDone();
+        }
+        
+        private boolean isReusable(long now, long ttlNanos) {
+            return !future.isDone() || (!future.isCompletedExceptionally() && now - completedAt < ttlNanos);
+        }
+        
+        private V await() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
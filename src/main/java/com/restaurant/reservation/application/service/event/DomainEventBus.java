@@ -0,0 +1,288 @@
+package com.restaurant.reservation.application.service.event;
+
+import com.restaurant.reservation.domain.event.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Barramento de eventos de domínio em processo, com entrega assíncrona e tipada.
+ * 
+ * Cada assinante registra tratadores por subtipo de DomainEvent e recebe
+ * suas próprias filas ("lanes"), cada uma com uma thread. A fila é escolhida
+ * pelo ID da reserva, então os eventos de uma reserva chegam ao assinante na
+ * ordem em que foram publicados, enquanto reservas diferentes são tratadas
+ * em paralelo. A publicação só enfileira: não espera nenhum tratador.
+ * 
+ * Um assinante não afeta os outros: exceções são registradas e contadas, e
+ * quando as filas de um assinante estão cheias o evento é descartado para
+ * ele (com métrica), sem bloquear quem publica.
+ * 
+ * Assinantes duráveis (ver {@link DomainEventSubscriber#isDurable()}) são a
+ * exceção: a publicação devolve um futuro que só conclui quando os
+ * tratadores deles terminam, e que falha se um deles lançar exceção ou se a
+ * fila estiver cheia. Assim quem publica a partir da caixa de saída só
+ * confirma o evento depois de entregue, e tenta de novo caso contrário.
+ * 
+ * Tratadores assíncronos (ver {@link DomainEventHandlers#onAsync}) liberam a
+ * thread da fila ao devolver o estágio; o evento conta como tratado, e o
+ * futuro de quem publica conclui, quando o estágio conclui.
+ * 
+ * Os tratadores de cada tipo concreto de evento são resolvidos uma vez e
+ * guardados em cache; a publicação não usa reflexão.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class DomainEventBus {
+    
+    private static final String METRIC_PREFIX = "reservation.events.";
+    private static final CompletableFuture<Void> HANDLED = CompletableFuture.completedFuture(null);
+    
+    private final List<Registration<?>> registrations = new ArrayList<>();
+    private final List<SubscriberLanes> subscribers = new ArrayList<>();
+    private final Map<Class<?>, Registration<?>[]> handlersByType = new ConcurrentHashMap<>();
+    private final Counter published;
+    
+    public DomainEventBus(List<DomainEventSubscriber> eventSubscribers,
+                          Environment environment,
+                          MeterRegistry meterRegistry,
+                          @Value("${reservation.events.lanes:2}") int defaultLanes,
+                          @Value("${reservation.events.queue-capacity:1000}") int defaultQueueCapacity) {
+        this.published = meterRegistry.counter(METRIC_PREFIX + "published");
+        
+        Set<String> names = new HashSet<>();
+        for (DomainEventSubscriber subscriber : eventSubscribers) {
+            String name = subscriber.getSubscriberName();
+            if (!names.add(name)) {
+                throw new IllegalStateException("Duplicate event subscriber name: " + name);
+            }
+            String prefix = "reservation.events.subscribers." + name + ".";
+            SubscriberLanes lanes = new SubscriberLanes(name, subscriber.isDurable(),
+                environment.getProperty(prefix + "lanes", Integer.class, defaultLanes),
+                environment.getProperty(prefix + "queue-capacity", Integer.class, defaultQueueCapacity),
+                meterRegistry);
+            subscribers.add(lanes);
+            subscriber.registerHandlers(new DomainEventHandlers() {
+                @Override
+                public <E extends DomainEvent> DomainEventHandlers on(Class<E> eventType, Consumer<? super E> handler) {
+                    return onAsync(eventType, event -> {
+                        handler.accept(event);
+                        return HANDLED;
+                    });
+                }
+                
+                @Override
+                public <E extends DomainEvent> DomainEventHandlers onAsync(
+                        Class<E> eventType, Function<? super E, ? extends CompletionStage<?>> handler) {
+                    registrations.add(new Registration<>(eventType, handler, lanes));
+                    return this;
+                }
+            });
+            log.info("Registered event subscriber {} with {} lanes", name, lanes.lanes.length);
+        }
+    }
+    
+    /**
+     * Publica um evento para todos os assinantes interessados.
+     * Retorna assim que o evento é enfileirado.
+     * 
+     * @return concluído quando os tratadores dos assinantes duráveis terminarem;
+     *         falha se algum deles falhar ou não puder receber o evento
+     */
+    public CompletableFuture<Void> publish(DomainEvent event) {
+        Registration<?>[] handlers = handlersByType.computeIfAbsent(event.getClass(), this::resolve);
+        if (handlers.length == 0) {
+            log.debug("No subscribers for event: {}", event.getEventType());
+            return CompletableFuture.completedFuture(null);
+        }
+        published.increment();
+        String key = event.getReservationId().getValue();
+        List<CompletableFuture<Void>> durable = new ArrayList<>(1);
+        for (Registration<?> registration : handlers) {
+            CompletableFuture<Void> handled = registration.lanes.execute(key, event, registration);
+            if (handled != null) {
+                durable.add(handled);
+            }
+        }
+        return durable.size() == 1 ? durable.get(0) : CompletableFuture.allOf(durable.toArray(CompletableFuture[]::new));
+    }
+    
+    /**
+     * Encerra os assinantes, aguardando brevemente os eventos já enfileirados.
+     */
+    @PreDestroy
+    public void close() {
+        subscribers.forEach(SubscriberLanes::shutdown);
+        for (SubscriberLanes lanes : subscribers) {
+            lanes.awaitTermination(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+    
+    private Registration<?>[] resolve(Class<?> eventClass) {
+        return registrations.stream()
+            .filter(registration -> registration.eventType.isAssignableFrom(eventClass))
+            .toArray(Registration<?>[]::new);
+    }
+    
+    /**
+     * Tratador de um tipo de evento, ligado às filas do seu assinante.
+     */
+    private static final class Registration<E extends DomainEvent> {
+        
+        private final Class<E> eventType;
+        private final Function<? super E, ? extends CompletionStage<?>> handler;
+        private final SubscriberLanes lanes;
+        
+        private Registration(Class<E> eventType, Function<? super E, ? extends CompletionStage<?>> handler,
+                             SubscriberLanes lanes) {
+            this.eventType = eventType;
+            this.handler = handler;
+            this.lanes = lanes;
+        }
+        
+        private CompletionStage<?> handle(DomainEvent event) {
+            return handler.apply(eventType.cast(event));
+        }
+    }
+    
+    /**
+     * Filas e threads de um assinante, com as métricas correspondentes.
+     */
+    private static final class SubscriberLanes {
+        
+        private final String name;
+        private final boolean durable;
+        private final ThreadPoolExecutor[] lanes;
+        private final Counter dropped;
+        private final Counter failed;
+        private final Timer handlerTimer;
+        
+        private SubscriberLanes(String name, boolean durable, int laneCount, int queueCapacity,
+                                MeterRegistry meterRegistry) {
+            if (laneCount < 1 || queueCapacity < 1) {
+                throw new IllegalArgumentException("Lanes and queue capacity must be positive for subscriber " + name);
+            }
+            this.name = name;
+            this.durable = durable;
+            this.lanes = new ThreadPoolExecutor[laneCount];
+            for (int i = 0; i < laneCount; i++) {
+                String threadName = "event-" + name + "-" + i;
+                ArrayBlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueCapacity);
+                lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, queue, runnable -> {
+                    Thread thread = new Thread(runnable, threadName);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                meterRegistry.gauge(METRIC_PREFIX + "queue.depth", 
+                    Tags.of("subscriber", name, "lane", String.valueOf(i)), queue, ArrayBlockingQueue::size);
+            }
+            this.dropped = Counter.builder(METRIC_PREFIX + "dropped")
+                .description("Eventos descartados por fila cheia")
+                .tag("subscriber", name)
+                .register(meterRegistry);
+            this.failed = Counter.builder(METRIC_PREFIX + "failed")
+                .description("Eventos cujo tratador lançou exceção")
+                .tag("subscriber", name)
+                .register(meterRegistry);
+            this.handlerTimer = Timer.builder(METRIC_PREFIX + "handler")
+                .description("Tempo de execução dos tratadores")
+                .tag("subscriber", name)
+                .register(meterRegistry);
+        }
+        
+        /**
+         * Enfileira o evento na fila da reserva.
+         * 
+         * @return resultado do tratador para assinantes duráveis; null para os demais
+         */
+        private CompletableFuture<Void> execute(String key, DomainEvent event, Registration<?> registration) {
+            ThreadPoolExecutor lane = lanes[Math.floorMod(key.hashCode(), lanes.length)];
+            CompletableFuture<Void> handled = durable ? new CompletableFuture<>() : null;
+            try {
+                lane.execute(() -> handle(event, registration, handled));
+            } catch (RejectedExecutionException e) {
+                if (durable) {
+                    log.warn("Event subscriber {} is saturated, rejecting event {} for reservation {}",
+                        name, event.getEventId(), key);
+                    handled.completeExceptionally(e);
+                } else {
+                    dropped.increment();
+                    log.warn("Event subscriber {} is saturated, dropping event {} for reservation {}",
+                        name, event.getEventId(), key);
+                }
+            }
+            return handled;
+        }
+        
+        /**
+         * Executa o tratador; o resultado só é registrado quando o estágio
+         * devolvido por ele conclui.
+         */
+        private void handle(DomainEvent event, Registration<?> registration, CompletableFuture<Void> handled) {
+            long start = System.nanoTime();
+            CompletionStage<?> stage;
+            try {
+                stage = registration.handle(event);
+            } catch (Exception e) {
+                stage = CompletableFuture.failedFuture(e);
+            }
+            stage.whenComplete((result, error) -> {
+                handlerTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null 
+                        ? error.getCause() : error;
+                    failed.increment();
+                    log.error("Event subscriber {} failed to handle {} {}",
+                        name, event.getEventType(), event.getEventId(), cause);
+                    if (handled != null) {
+                        handled.completeExceptionally(cause);
+                    }
+                } else if (handled != null) {
+                    handled.complete(null);
+                }
+            });
+        }
+        
+        private void shutdown() {
+            for (ThreadPoolExecutor lane : lanes) {
+                lane.shutdown();
+            }
+        }
+        
+        private void awaitTermination(long timeoutMs) {
+            long deadline = System.currentTimeMillis() + timeoutMs;
+            try {
+                for (ThreadPoolExecutor lane : lanes) {
+                    lane.awaitTermination(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
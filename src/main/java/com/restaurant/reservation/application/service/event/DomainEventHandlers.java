@@ -0,0 +1,30 @@
+package com.restaurant.reservation.application.service.event;
+
+import com.restaurant.reservation.domain.event.DomainEvent;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Registro tipado dos tratadores de um assinante.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+public interface DomainEventHandlers {
+    
+    /**
+     * Registra um tratador para o tipo de evento informado e seus subtipos.
+     * Registrar {@code DomainEvent.class} recebe todos os eventos.
+     */
+    <E extends DomainEvent> DomainEventHandlers on(Class<E> eventType, Consumer<? super E> handler);
+    
+    /**
+     * Registra um tratador assíncrono: o evento só conta como tratado quando o
+     * estágio devolvido concluir, e a thread da fila fica livre enquanto isso.
+     * Para assinantes duráveis, quem publica aguarda esse estágio.
+     */
+    <E extends DomainEvent> DomainEventHandlers onAsync(Class<E> eventType, 
+                                                        Function<? super E, ? extends CompletionStage<?>> handler);
+}
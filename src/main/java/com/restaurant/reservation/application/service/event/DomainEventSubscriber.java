@@ -0,0 +1,34 @@
+package com.restaurant.reservation.application.service.event;
+
+/**
+ * Assinante de eventos de domínio do DomainEventBus.
+ * 
+ * Beans que implementam esta interface são registrados automaticamente.
+ * Cada assinante tem suas próprias threads, então um assinante lento ou com
+ * falhas não atrasa os demais.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+public interface DomainEventSubscriber {
+    
+    /**
+     * Nome do assinante, usado em métricas, logs e na configuração
+     * {@code reservation.events.subscribers.<nome>.*}.
+     */
+    String getSubscriberName();
+    
+    /**
+     * Registra os tratadores de cada tipo de evento que interessa ao assinante.
+     */
+    void registerHandlers(DomainEventHandlers handlers);
+    
+    /**
+     * Indica se o assinante é durável: quem publica aguarda os seus tratadores
+     * e é avisado de falhas, e um evento nunca é descartado para ele por fila
+     * cheia. Assinantes não duráveis recebem os eventos sem confirmação.
+     */
+    default boolean isDurable() {
+        return false;
+    }
+}
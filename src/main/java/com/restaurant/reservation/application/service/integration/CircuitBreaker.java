@@ -0,0 +1,140 @@
+package com.restaurant.reservation.application.service.integration;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Disjuntor por provedor externo.
+ * 
+ * Fechado, deixa passar todas as chamadas e conta falhas consecutivas.
+ * Ao atingir o limite, abre e recusa chamadas imediatamente durante o
+ * intervalo configurado. Depois disso, permite uma única chamada de teste
+ * (meio-aberto): sucesso fecha o disjuntor, falha o reabre.
+ * 
+ * Só erros contam como falha (incluindo o tempo limite de cada tentativa,
+ * que chega como erro). Uma chamada cancelada por quem a assinou, como pelo
+ * orçamento total da entrega, não diz nada sobre o provedor: apenas libera
+ * a vaga da chamada de teste.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Slf4j
+public class CircuitBreaker {
+    
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+    
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final Predicate<Throwable> recordsFailure;
+    private final LongSupplier clock;
+    
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+    
+    public CircuitBreaker(String name, int failureThreshold, long openDurationMs,
+                          Predicate<Throwable> recordsFailure) {
+        this(name, failureThreshold, openDurationMs, recordsFailure, System::nanoTime);
+    }
+    
+    CircuitBreaker(String name, int failureThreshold, long openDurationMs,
+                   Predicate<Throwable> recordsFailure, LongSupplier clock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("Failure threshold must be at least 1");
+        }
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMs);
+        this.recordsFailure = recordsFailure;
+        this.clock = clock;
+    }
+    
+    /**
+     * Executa a chamada se o disjuntor permitir; caso contrário falha
+     * imediatamente com {@link CircuitOpenException}.
+     */
+    public <T> Mono<T> protect(Mono<T> call) {
+        return Mono.defer(() -> {
+            if (!tryAcquire()) {
+                return Mono.error(new CircuitOpenException(name));
+            }
+            return call
+                .doOnSuccess(value -> onSuccess())
+                .doOnError(error -> {
+                    if (recordsFailure.test(error)) {
+                        onFailure();
+                    } else {
+                        onSuccess();
+                    }
+                })
+                .doOnCancel(this::onCancel);
+        });
+    }
+    
+    public synchronized State getState() {
+        return state;
+    }
+    
+    synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.getAsLong() - openedAt < openDurationNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                log.info("Circuit breaker {} half-open, sending trial call", name);
+                return true;
+            default:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+    
+    synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("Circuit breaker {} closed", name);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+    
+    synchronized void onCancel() {
+        trialInFlight = false;
+    }
+    
+    synchronized void onFailure() {
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("Circuit breaker {} opened after {} consecutive failures", name, consecutiveFailures);
+            }
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+        }
+    }
+    
+    /**
+     * Chamada recusada porque o disjuntor está aberto.
+     */
+    public static class CircuitOpenException extends IllegalStateException {
+        public CircuitOpenException(String name) {
+            super("Circuit breaker " + name + " is open");
+        }
+    }
+}
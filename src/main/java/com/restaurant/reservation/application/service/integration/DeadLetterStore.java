@@ -0,0 +1,16 @@
+package com.restaurant.reservation.application.service.integration;
+
+/**
+ * Armazenamento das mensagens que falharam depois de todas as tentativas de envio.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+public interface DeadLetterStore {
+    
+    /**
+     * Grava uma mensagem que falhou. Não deve lançar exceção: uma falha ao
+     * gravar é registrada em log, para não afetar quem enviou a mensagem.
+     */
+    void record(FailedMessage message);
+}
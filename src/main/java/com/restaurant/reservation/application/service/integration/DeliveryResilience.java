@@ -0,0 +1,116 @@
+package com.restaurant.reservation.application.service.integration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Política de entrega para chamadas aos provedores de email e SMS.
+ * 
+ * Cada tentativa tem um tempo limite próprio e passa pelo disjuntor do
+ * provedor. Falhas transitórias (tempo esgotado, erro de conexão, 5xx e 429)
+ * são repetidas com backoff exponencial com jitter, limitado pelo número de
+ * tentativas e pelo orçamento total da chamada. Disjuntor aberto e erros 4xx
+ * não são repetidos.
+ * 
+ * Como uma tentativa que esgota o tempo pode ter sido aceita pelo provedor,
+ * os envios em lote levam uma chave de idempotência estável entre as
+ * tentativas, e cada mensagem leva sua referência, que o provedor usa para
+ * descartar as que já recebeu.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class DeliveryResilience {
+    
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final double jitter;
+    private final Duration attemptTimeout;
+    private final Duration callBudget;
+    private final int failureThreshold;
+    private final long openDurationMs;
+    
+    public DeliveryResilience(@Value("${reservation.notification.delivery.max-attempts:4}") int maxAttempts,
+                              @Value("${reservation.notification.delivery.initial-backoff-ms:200}") long initialBackoffMs,
+                              @Value("${reservation.notification.delivery.max-backoff-ms:5000}") long maxBackoffMs,
+                              @Value("${reservation.notification.delivery.jitter:0.5}") double jitter,
+                              @Value("${reservation.notification.delivery.attempt-timeout-ms:3000}") long attemptTimeoutMs,
+                              @Value("${reservation.notification.delivery.call-budget-ms:15000}") long callBudgetMs,
+                              @Value("${reservation.notification.delivery.circuit.failure-threshold:5}") int failureThreshold,
+                              @Value("${reservation.notification.delivery.circuit.open-ms:30000}") long openDurationMs) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be at least 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+        this.jitter = jitter;
+        this.attemptTimeout = Duration.ofMillis(attemptTimeoutMs);
+        this.callBudget = Duration.ofMillis(callBudgetMs);
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+    }
+    
+    /**
+     * Cria o disjuntor de um provedor.
+     */
+    public CircuitBreaker circuitBreaker(String provider) {
+        return new CircuitBreaker(provider, failureThreshold, openDurationMs, DeliveryResilience::isTransient);
+    }
+    
+    /**
+     * Executa a chamada com tempo limite, disjuntor e novas tentativas.
+     * 
+     * @param call cria uma nova requisição a cada tentativa
+     */
+    public <T> Mono<T> execute(String provider, CircuitBreaker breaker, Supplier<Mono<T>> call) {
+        Retry retry = Retry.backoff(maxAttempts - 1, initialBackoff)
+            .maxBackoff(maxBackoff)
+            .jitter(jitter)
+            .filter(DeliveryResilience::isTransient)
+            .doBeforeRetry(signal -> log.warn("Retrying {} call (attempt {}): {}", 
+                provider, signal.totalRetries() + 2, signal.failure().getMessage()))
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+        
+        return breaker.protect(Mono.defer(call).timeout(attemptTimeout))
+            .retryWhen(retry)
+            .timeout(callBudget);
+    }
+    
+    /**
+     * Chave de idempotência de um lote, derivada das referências das mensagens:
+     * a mesma em todas as tentativas do lote.
+     */
+    public static String idempotencyKey(Collection<String> references) {
+        return UUID.nameUUIDFromBytes(String.join(",", references).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+    
+    /**
+     * Indica se o erro é transitório: vale nova tentativa e conta como falha do provedor.
+     */
+    static boolean isTransient(Throwable error) {
+        if (error instanceof TimeoutException || error instanceof WebClientRequestException) {
+            return true;
+        }
+        if (error instanceof WebClientResponseException) {
+            WebClientResponseException response = (WebClientResponseException) error;
+            return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+        }
+        return false;
+    }
+}
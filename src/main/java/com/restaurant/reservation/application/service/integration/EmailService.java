@@ -1,14 +1,31 @@
 package com.restaurant.reservation.application.service.integration;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * Serviço para integração com APIs externas de email.
  * Simula o envio de emails através de uma API externa.
  * 
+ * As mensagens são agrupadas pelo MessageBatcher e enviadas no endpoint
+ * de envio em lote do provedor, com novas tentativas e disjuntor
+ * definidos em DeliveryResilience. Antes do lote, as mensagens passam pela
+ * PrioritizedSendQueue, que respeita o limite de mensagens por segundo do
+ * provedor e dá preferência às de maior prioridade. Mensagens que falham
+ * depois de todas as tentativas são gravadas no DeadLetterStore.
+ * 
  * @author Sistema de Reservas
  * @version 1.0.0
  */
@@ -16,43 +33,142 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class EmailService {
     
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    
     private final WebClient webClient;
+    private final DeliveryResilience resilience;
+    private final CircuitBreaker circuitBreaker;
+    private final MessageBatcher<EmailRequest, EmailResponse> batcher;
+    private final DeadLetterStore deadLetters;
+    private final PrioritizedSendQueue<EmailRequest, EmailResponse> sendQueue;
     
-    public EmailService() {
-        this.webClient = WebClient.builder()
-            .baseUrl("https://api.emailservice.com") // URL fictícia
-            .build();
+    public EmailService(ProviderWebClientFactory webClientFactory,
+                        DeliveryResilience resilience,
+                        DeadLetterStore deadLetters,
+                        @Value("${reservation.notification.email.base-url:https://api.emailservice.com}") String baseUrl,
+                        @Value("${reservation.notification.email.batch.max-size:100}") int maxBatchSize,
+                        @Value("${reservation.notification.email.batch.max-delay-ms:200}") long maxDelayMs,
+                        @Value("${reservation.notification.email.rate-limit.permits-per-second:50}") double permitsPerSecond,
+                        @Value("${reservation.notification.email.rate-limit.burst:50}") int burst,
+                        @Value("${reservation.notification.email.rate-limit.queue-capacity:10000}") int queueCapacity,
+                        MeterRegistry meterRegistry) {
+        this.webClient = webClientFactory.create(baseUrl);
+        this.resilience = resilience;
+        this.deadLetters = deadLetters;
+        this.circuitBreaker = resilience.circuitBreaker("email");
+        this.batcher = new MessageBatcher<>("email", maxBatchSize, maxDelayMs, 
+            EmailRequest::getReference, this::sendBulk);
+        this.sendQueue = new PrioritizedSendQueue<>("email", permitsPerSecond, burst, queueCapacity, 
+            batcher::submit, meterRegistry);
     }
     
     /**
      * Envia um email através de API externa.
+     * A mensagem entra na fila de envio com prioridade normal.
+     * 
+     * @return resultado individual da mensagem, devolvido pelo provedor
+     */
+    public CompletableFuture<EmailResponse> sendEmail(String to, String subject, String body) {
+        return sendEmail(to, subject, body, MessagePriority.NORMAL);
+    }
+    
+    /**
+     * Envia um email com a prioridade informada.
+     * A mensagem aguarda o limite de taxa do provedor e segue no próximo envio em lote.
+     * 
+     * @return resultado individual da mensagem, devolvido pelo provedor
+     */
+    public CompletableFuture<EmailResponse> sendEmail(String to, String subject, String body, MessagePriority priority) {
+        return sendEmail(UUID.randomUUID().toString(), to, subject, body, priority);
+    }
+    
+    /**
+     * Envia um email com a referência informada. Quem pode repetir o envio
+     * (por exemplo, ao reprocessar um evento) deve usar sempre a mesma
+     * referência, para que o provedor descarte a repetição.
+     * 
+     * @return resultado individual da mensagem, devolvido pelo provedor
      */
-    public void sendEmail(String to, String subject, String body) {
+    public CompletableFuture<EmailResponse> sendEmail(String reference, String to, String subject, String body,
+                                                      MessagePriority priority) {
         log.info("Sending email to: {} with subject: {}", to, subject);
         
-        try {
-            EmailRequest request = EmailRequest.builder()
-                .to(to)
-                .subject(subject)
-                .body(body)
-                .build();
-            
-            // Simula chamada para API externa
-            Mono<EmailResponse> response = webClient.post()
-                .uri("/send")
-                .bodyValue(request)
+        EmailRequest request = EmailRequest.builder()
+            .reference(reference)
+            .to(to)
+            .subject(subject)
+            .body(body)
+            .build();
+        
+        CompletableFuture<EmailResponse> result = sendQueue.submit(request, priority);
+        result.whenComplete((emailResponse, error) -> {
+            if (error != null) {
+                log.error("Error sending email to {}: {}", to, error.getMessage());
+                deadLetter(request, priority, String.valueOf(error.getMessage()));
+            } else if (emailResponse.getError() != null) {
+                log.error("Provider rejected email to {}: {}", to, emailResponse.getError());
+                deadLetter(request, priority, emailResponse.getError());
+            } else {
+                log.info("Email sent successfully. ID: {}", emailResponse.getMessageId());
+            }
+        });
+        return result;
+    }
+    
+    /**
+     * Reenvia uma mensagem morta com prioridade baixa, para não disputar a vez
+     * com o tráfego normal. Uma nova falha não gera outra mensagem morta:
+     * quem reenvia atualiza o registro existente.
+     * 
+     * @return resultado individual da mensagem, devolvido pelo provedor
+     */
+    public CompletableFuture<EmailResponse> redeliver(FailedMessage message) {
+        EmailRequest request = EmailRequest.builder()
+            .reference(UUID.randomUUID().toString())
+            .to(message.getRecipient())
+            .subject(message.getSubject())
+            .body(message.getBody())
+            .build();
+        return sendQueue.submit(request, MessagePriority.LOW);
+    }
+    
+    /**
+     * Encerra a fila de envio e envia o lote pendente antes do desligamento.
+     */
+    @PreDestroy
+    public void close() {
+        sendQueue.close();
+        batcher.close();
+    }
+    
+    private void deadLetter(EmailRequest request, MessagePriority priority, String error) {
+        deadLetters.record(FailedMessage.builder()
+            .channel(FailedMessage.Channel.EMAIL)
+            .recipient(request.getTo())
+            .subject(request.getSubject())
+            .body(request.getBody())
+            .priority(priority)
+            .error(error)
+            .build());
+    }
+    
+    /**
+     * Envia um lote ao provedor e indexa os resultados pela referência de cada mensagem.
+     * Novas tentativas repetem a mesma chave de idempotência, para que o provedor
+     * não reenvie mensagens que já aceitou.
+     */
+    private Mono<Map<String, EmailResponse>> sendBulk(List<EmailRequest> requests) {
+        String idempotencyKey = DeliveryResilience.idempotencyKey(
+            requests.stream().map(EmailRequest::getReference).collect(Collectors.toList()));
+        // Simula chamada para API externa
+        return resilience.execute("email", circuitBreaker, () -> webClient.post()
+                .uri("/send/batch")
+                .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                .bodyValue(new BulkEmailRequest(requests))
                 .retrieve()
-                .bodyToMono(EmailResponse.class);
-            
-            response.subscribe(
-                emailResponse -> log.info("Email sent successfully. ID: {}", emailResponse.getMessageId()),
-                error -> log.error("Error sending email to {}: {}", to, error.getMessage())
-            );
-            
-        } catch (Exception e) {
-            log.error("Exception occurred while sending email to {}: {}", to, e.getMessage());
-            // Em um cenário real, poderia implementar retry ou fallback
-        }
+                .bodyToMono(BulkEmailResponse.class))
+            .map(response -> response.getResults().stream()
+                .collect(Collectors.toMap(EmailResponse::getReference, Function.identity(), (first, second) -> first)));
     }
     
     /**
@@ -61,6 +177,8 @@ public class EmailService {
     @lombok.Data
     @lombok.Builder
     public static class EmailRequest {
+        /** Referência única da mensagem; o provedor descarta reenvios com a mesma referência. */
+        private String reference;
         private String to;
         private String subject;
         private String body;
@@ -71,8 +189,26 @@ public class EmailService {
      */
     @lombok.Data
     public static class EmailResponse {
+        private String reference;
         private String messageId;
         private String status;
         private String error;
     }
+    
+    /**
+     * DTO para requisição de envio em lote.
+     */
+    @lombok.Data
+    @lombok.AllArgsConstructor
+    public static class BulkEmailRequest {
+        private List<EmailRequest> messages;
+    }
+    
+    /**
+     * DTO para resposta de envio em lote, com um resultado por mensagem.
+     */
+    @lombok.Data
+    public static class BulkEmailResponse {
+        private List<EmailResponse> results;
+    }
 }
@@ -0,0 +1,32 @@
+package com.restaurant.reservation.application.service.integration;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Mensagem que não pôde ser entregue ao provedor depois de todas as tentativas.
+ * É gravada no DeadLetterStore e pode ser reenviada mais tarde.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Value
+@Builder(toBuilder = true)
+public class FailedMessage {
+    
+    /** ID no DeadLetterStore; nulo enquanto a mensagem ainda não foi gravada. */
+    Long deadLetterId;
+    Channel channel;
+    String recipient;
+    String subject;
+    String body;
+    MessagePriority priority;
+    String error;
+    
+    /**
+     * Canal de envio da mensagem.
+     */
+    public enum Channel {
+        EMAIL, SMS
+    }
+}
@@ -0,0 +1,157 @@
+package com.restaurant.reservation.application.service.integration;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Agrupa mensagens de saída em requisições em lote para o provedor.
+ * 
+ * Um lote é enviado quando atinge o tamanho máximo ou quando a primeira
+ * mensagem pendente completa a janela de espera, o que ocorrer primeiro.
+ * Cada mensagem tem uma referência própria; o resultado do lote é
+ * distribuído por referência, e cada chamador recebe apenas o seu.
+ * 
+ * @param <T> tipo da mensagem
+ * @param <R> tipo do resultado de cada mensagem
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Slf4j
+public class MessageBatcher<T, R> implements AutoCloseable {
+    
+    private final String name;
+    private final int maxBatchSize;
+    private final long maxDelayMs;
+    private final Function<T, String> referenceOf;
+    private final Function<List<T>, Mono<Map<String, R>>> bulkSender;
+    private final ScheduledExecutorService timer;
+    
+    private List<Pending<T, R>> buffer;
+    private ScheduledFuture<?> scheduledFlush;
+    
+    /**
+     * @param name        nome usado em logs e na thread do temporizador
+     * @param referenceOf extrai a referência única de cada mensagem
+     * @param bulkSender  envia um lote e devolve os resultados indexados por referência
+     */
+    public MessageBatcher(String name, int maxBatchSize, long maxDelayMs,
+                          Function<T, String> referenceOf,
+                          Function<List<T>, Mono<Map<String, R>>> bulkSender) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        this.name = name;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayMs = maxDelayMs;
+        this.referenceOf = referenceOf;
+        this.bulkSender = bulkSender;
+        this.buffer = new ArrayList<>(maxBatchSize);
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name + "-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Adiciona uma mensagem ao lote corrente.
+     * 
+     * @return resultado da mensagem, concluído quando o provedor responder o lote
+     */
+    public CompletableFuture<R> submit(T message) {
+        Pending<T, R> pending = new Pending<>(message);
+        List<Pending<T, R>> full = null;
+        synchronized (this) {
+            buffer.add(pending);
+            if (buffer.size() >= maxBatchSize) {
+                full = drain();
+            } else if (buffer.size() == 1) {
+                scheduledFlush = timer.schedule(this::flush, maxDelayMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (full != null) {
+            send(full);
+        }
+        return pending.result;
+    }
+    
+    /**
+     * Envia imediatamente as mensagens pendentes.
+     */
+    public void flush() {
+        List<Pending<T, R>> batch;
+        synchronized (this) {
+            batch = drain();
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+    
+    @Override
+    public void close() {
+        flush();
+        timer.shutdown();
+    }
+    
+    private List<Pending<T, R>> drain() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        List<Pending<T, R>> batch = buffer;
+        buffer = new ArrayList<>(maxBatchSize);
+        return batch;
+    }
+    
+    private void send(List<Pending<T, R>> batch) {
+        List<T> messages = new ArrayList<>(batch.size());
+        batch.forEach(pending -> messages.add(pending.message));
+        log.debug("Sending {} batch with {} messages", name, messages.size());
+        
+        Mono<Map<String, R>> response;
+        try {
+            response = bulkSender.apply(messages);
+        } catch (Exception e) {
+            batch.forEach(pending -> pending.result.completeExceptionally(e));
+            return;
+        }
+        response.subscribe(
+            results -> batch.forEach(pending -> complete(pending, results)),
+            error -> batch.forEach(pending -> pending.result.completeExceptionally(error))
+        );
+    }
+    
+    private void complete(Pending<T, R> pending, Map<String, R> results) {
+        String reference = referenceOf.apply(pending.message);
+        R result = results.get(reference);
+        if (result != null) {
+            pending.result.complete(result);
+        } else {
+            pending.result.completeExceptionally(
+                new IllegalStateException("No result for " + name + " message " + reference));
+        }
+    }
+    
+    /**
+     * Mensagem aguardando envio e o resultado prometido ao chamador.
+     */
+    private static final class Pending<T, R> {
+        private final T message;
+        private final CompletableFuture<R> result = new CompletableFuture<>();
+        
+        private Pending(T message) {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.restaurant.reservation.application.service.integration;
+
+/**
+ * Prioridade de envio de uma mensagem aos provedores.
+ * Mensagens de prioridade maior saem antes quando há fila por limite de taxa.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+public enum MessagePriority {
+    
+    /** Confirmações, cancelamentos e modificações. */
+    HIGH,
+    
+    /** Lembretes e demais avisos. */
+    NORMAL,
+    
+    /** Mensagens de cortesia, como o agradecimento pela visita. */
+    LOW
+}
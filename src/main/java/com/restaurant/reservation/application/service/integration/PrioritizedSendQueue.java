@@ -0,0 +1,182 @@
+package com.restaurant.reservation.application.service.integration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Fila de envio de um provedor com limite de taxa e faixas de prioridade.
+ * 
+ * Uma thread dedicada obtém uma ficha do TokenBucket e só então retira a
+ * próxima mensagem, sempre da faixa de maior prioridade não vazia; assim uma
+ * confirmação que chega durante a espera passa à frente dos agradecimentos
+ * já enfileirados. A mensagem segue para o envio (MessageBatcher) e o
+ * resultado é repassado a quem a enfileirou.
+ * 
+ * Publica {@code reservation.provider.queue.depth} e
+ * {@code reservation.provider.queue.wait} por provedor e prioridade.
+ * 
+ * @param <T> tipo da mensagem
+ * @param <R> tipo do resultado de cada mensagem
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Slf4j
+public class PrioritizedSendQueue<T, R> implements AutoCloseable {
+    
+    private final String provider;
+    private final TokenBucket bucket;
+    private final int capacity;
+    private final Function<T, CompletableFuture<R>> sender;
+    private final Map<MessagePriority, ArrayDeque<Entry<T, R>>> lanes = new EnumMap<>(MessagePriority.class);
+    private final Map<MessagePriority, Timer> waitTimers = new EnumMap<>(MessagePriority.class);
+    private final Thread dispatcher;
+    
+    private int size;
+    private volatile boolean closed;
+    
+    public PrioritizedSendQueue(String provider, double permitsPerSecond, int burst, int capacity,
+                                Function<T, CompletableFuture<R>> sender, MeterRegistry meterRegistry) {
+        this.provider = provider;
+        this.bucket = new TokenBucket(permitsPerSecond, burst);
+        this.capacity = capacity;
+        this.sender = sender;
+        for (MessagePriority priority : MessagePriority.values()) {
+            ArrayDeque<Entry<T, R>> lane = new ArrayDeque<>();
+            lanes.put(priority, lane);
+            Gauge.builder("reservation.provider.queue.depth", this, queue -> queue.depth(lane))
+                .description("Mensagens aguardando o limite de taxa do provedor")
+                .tag("provider", provider)
+                .tag("priority", priority.name())
+                .register(meterRegistry);
+            waitTimers.put(priority, Timer.builder("reservation.provider.queue.wait")
+                .description("Tempo de espera na fila do provedor")
+                .tag("provider", provider)
+                .tag("priority", priority.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        }
+        this.dispatcher = new Thread(this::dispatchLoop, provider + "-send-queue");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+    
+    /**
+     * Enfileira uma mensagem.
+     * 
+     * @return resultado da mensagem; falha com IllegalStateException se a fila estiver cheia
+     */
+    public CompletableFuture<R> submit(T message, MessagePriority priority) {
+        Entry<T, R> entry = new Entry<>(message, priority, System.nanoTime());
+        synchronized (this) {
+            if (closed) {
+                entry.result.completeExceptionally(new IllegalStateException(provider + " send queue is closed"));
+                return entry.result;
+            }
+            if (size >= capacity) {
+                entry.result.completeExceptionally(new IllegalStateException(provider + " send queue is full"));
+                return entry.result;
+            }
+            lanes.get(priority).addLast(entry);
+            size++;
+            notifyAll();
+        }
+        return entry.result;
+    }
+    
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+        dispatcher.interrupt();
+        try {
+            dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            for (ArrayDeque<Entry<T, R>> lane : lanes.values()) {
+                Entry<T, R> entry;
+                while ((entry = lane.pollFirst()) != null) {
+                    entry.result.completeExceptionally(new IllegalStateException(provider + " send queue is closed"));
+                }
+            }
+            size = 0;
+        }
+    }
+    
+    private void dispatchLoop() {
+        try {
+            while (!closed) {
+                awaitMessage();
+                bucket.acquire();
+                Entry<T, R> entry = next();
+                if (entry != null) {
+                    send(entry);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private synchronized void awaitMessage() throws InterruptedException {
+        while (size == 0 && !closed) {
+            wait();
+        }
+    }
+    
+    private synchronized Entry<T, R> next() {
+        for (ArrayDeque<Entry<T, R>> lane : lanes.values()) {
+            Entry<T, R> entry = lane.pollFirst();
+            if (entry != null) {
+                size--;
+                return entry;
+            }
+        }
+        return null;
+    }
+    
+    private void send(Entry<T, R> entry) {
+        waitTimers.get(entry.priority).record(System.nanoTime() - entry.enqueuedAt, TimeUnit.NANOSECONDS);
+        try {
+            sender.apply(entry.message).whenComplete((result, error) -> {
+                if (error != null) {
+                    entry.result.completeExceptionally(error);
+                } else {
+                    entry.result.complete(result);
+                }
+            });
+        } catch (Exception e) {
+            log.error("Error handing {} message to sender", provider, e);
+            entry.result.completeExceptionally(e);
+        }
+    }
+    
+    private synchronized double depth(ArrayDeque<Entry<T, R>> lane) {
+        return lane.size();
+    }
+    
+    private static final class Entry<T, R> {
+        private final T message;
+        private final MessagePriority priority;
+        private final long enqueuedAt;
+        private final CompletableFuture<R> result = new CompletableFuture<>();
+        
+        private Entry(T message, MessagePriority priority, long enqueuedAt) {
+            this.message = message;
+            this.priority = priority;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
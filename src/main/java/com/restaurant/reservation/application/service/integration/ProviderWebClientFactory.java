@@ -0,0 +1,108 @@
+package com.restaurant.reservation.application.service.integration;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import javax.annotation.PreDestroy;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fábrica dos clientes HTTP usados para falar com os provedores externos.
+ * 
+ * Todos os clientes compartilham um único pool de conexões (o Reactor Netty
+ * mantém um sub-pool por endereço remoto), com limites, tempos limite e
+ * keep-alive definidos em {@code reservation.http-client}. O pool publica
+ * métricas {@code reactor.netty.connection.provider.*} (conexões ativas,
+ * ociosas e aquisições pendentes) e cada requisição gera
+ * {@code http.client.requests} pelo WebClient.Builder do Spring Boot.
+ * 
+ * Os tempos limite de leitura (responseTimeout) e de escrita valem por
+ * requisição: os handlers saem da conexão quando ela volta ao pool, para
+ * que uma conexão ociosa só seja fechada por max-idle-ms. Com http2, URLs
+ * https negociam h2 via ALPN e URLs http usam h2c (upgrade a partir do
+ * HTTP/1.1).
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class ProviderWebClientFactory {
+    
+    private final WebClient.Builder webClientBuilder;
+    private final ConnectionProvider connectionProvider;
+    private final HttpClient httpClient;
+    private final boolean http2;
+    
+    public ProviderWebClientFactory(WebClient.Builder webClientBuilder,
+                                    @Value("${reservation.http-client.max-connections:50}") int maxConnections,
+                                    @Value("${reservation.http-client.pending-acquire-max-count:500}") int pendingAcquireMaxCount,
+                                    @Value("${reservation.http-client.pending-acquire-timeout-ms:2000}") long pendingAcquireTimeoutMs,
+                                    @Value("${reservation.http-client.max-idle-ms:30000}") long maxIdleMs,
+                                    @Value("${reservation.http-client.max-life-ms:300000}") long maxLifeMs,
+                                    @Value("${reservation.http-client.connect-timeout-ms:2000}") int connectTimeoutMs,
+                                    @Value("${reservation.http-client.write-timeout-ms:5000}") long writeTimeoutMs,
+                                    @Value("${reservation.http-client.response-timeout-ms:5000}") long responseTimeoutMs,
+                                    @Value("${reservation.http-client.keep-alive:true}") boolean keepAlive,
+                                    @Value("${reservation.http-client.http2:false}") boolean http2) {
+        this.webClientBuilder = webClientBuilder;
+        this.http2 = http2;
+        this.connectionProvider = ConnectionProvider.builder("notification-providers")
+            .maxConnections(maxConnections)
+            .pendingAcquireMaxCount(pendingAcquireMaxCount)
+            .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+            .maxIdleTime(Duration.ofMillis(maxIdleMs))
+            .maxLifeTime(Duration.ofMillis(maxLifeMs))
+            .evictInBackground(Duration.ofMillis(maxIdleMs))
+            .metrics(true)
+            .build();
+        this.httpClient = HttpClient.create(connectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+            .option(ChannelOption.SO_KEEPALIVE, keepAlive)
+            .keepAlive(keepAlive)
+            .responseTimeout(Duration.ofMillis(responseTimeoutMs))
+            .protocol(HttpProtocol.HTTP11)
+            .doOnRequest((request, connection) -> connection
+                .addHandlerFirst(new WriteTimeoutHandler(writeTimeoutMs, TimeUnit.MILLISECONDS)));
+        
+        log.info("Provider HTTP client pool: {} connections, {} pending acquires, http2={}", 
+            maxConnections, pendingAcquireMaxCount, http2);
+    }
+    
+    /**
+     * Cria um cliente para o provedor informado sobre o pool compartilhado.
+     */
+    public WebClient create(String baseUrl) {
+        return webClientBuilder.clone()
+            .baseUrl(baseUrl)
+            .clientConnector(new ReactorClientHttpConnector(http2 ? httpClient.protocol(http2Protocols(baseUrl)) : httpClient))
+            .build();
+    }
+    
+    /**
+     * h2 exige TLS; sem https, o HTTP/2 é negociado em texto puro (h2c).
+     */
+    private static HttpProtocol[] http2Protocols(String baseUrl) {
+        return "https".equalsIgnoreCase(URI.create(baseUrl).getScheme())
+            ? new HttpProtocol[] {HttpProtocol.H2, HttpProtocol.HTTP11}
+            : new HttpProtocol[] {HttpProtocol.H2C, HttpProtocol.HTTP11};
+    }
+    
+    /**
+     * Fecha as conexões do pool no desligamento.
+     */
+    @PreDestroy
+    public void close() {
+        connectionProvider.disposeLater().block(Duration.ofSeconds(5));
+    }
+}
@@ -1,14 +1,31 @@
 package com.restaurant.reservation.application.service.integration;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * Serviço para integração com APIs externas de SMS.
  * Simula o envio de SMS através de uma API externa.
  * 
+ * As mensagens são agrupadas pelo MessageBatcher e enviadas no endpoint
+ * de envio em lote do provedor, com novas tentativas e disjuntor
+ * definidos em DeliveryResilience. Antes do lote, as mensagens passam pela
+ * PrioritizedSendQueue, que respeita o limite de mensagens por segundo do
+ * provedor e dá preferência às de maior prioridade. Mensagens que falham
+ * depois de todas as tentativas são gravadas no DeadLetterStore.
+ * 
  * @author Sistema de Reservas
  * @version 1.0.0
  */
@@ -16,42 +33,139 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class SmsService {
     
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    
     private final WebClient webClient;
+    private final DeliveryResilience resilience;
+    private final CircuitBreaker circuitBreaker;
+    private final MessageBatcher<SmsRequest, SmsResponse> batcher;
+    private final DeadLetterStore deadLetters;
+    private final PrioritizedSendQueue<SmsRequest, SmsResponse> sendQueue;
     
-    public SmsService() {
-        this.webClient = WebClient.builder()
-            .baseUrl("https://api.smsservice.com") // URL fictícia
-            .build();
+    public SmsService(ProviderWebClientFactory webClientFactory,
+                      DeliveryResilience resilience,
+                      DeadLetterStore deadLetters,
+                      @Value("${reservation.notification.sms.base-url:https://api.smsservice.com}") String baseUrl,
+                      @Value("${reservation.notification.sms.batch.max-size:100}") int maxBatchSize,
+                      @Value("${reservation.notification.sms.batch.max-delay-ms:200}") long maxDelayMs,
+                      @Value("${reservation.notification.sms.rate-limit.permits-per-second:10}") double permitsPerSecond,
+                      @Value("${reservation.notification.sms.rate-limit.burst:10}") int burst,
+                      @Value("${reservation.notification.sms.rate-limit.queue-capacity:10000}") int queueCapacity,
+                      MeterRegistry meterRegistry) {
+        this.webClient = webClientFactory.create(baseUrl);
+        this.resilience = resilience;
+        this.deadLetters = deadLetters;
+        this.circuitBreaker = resilience.circuitBreaker("sms");
+        this.batcher = new MessageBatcher<>("sms", maxBatchSize, maxDelayMs, 
+            SmsRequest::getReference, this::sendBulk);
+        this.sendQueue = new PrioritizedSendQueue<>("sms", permitsPerSecond, burst, queueCapacity, 
+            batcher::submit, meterRegistry);
     }
     
     /**
      * Envia um SMS através de API externa.
+     * A mensagem entra na fila de envio com prioridade normal.
+     * 
+     * @return resultado individual da mensagem, devolvido pelo provedor
+     */
+    public CompletableFuture<SmsResponse> sendSms(String phoneNumber, String message) {
+        return sendSms(phoneNumber, message, MessagePriority.NORMAL);
+    }
+    
+    /**
+     * Envia um SMS com a prioridade informada.
+     * A mensagem aguarda o limite de taxa do provedor e segue no próximo envio em lote.
+     * 
+     * @return resultado individual da mensagem, devolvido pelo provedor
+     */
+    public CompletableFuture<SmsResponse> sendSms(String phoneNumber, String message, MessagePriority priority) {
+        return sendSms(UUID.randomUUID().toString(), phoneNumber, message, priority);
+    }
+    
+    /**
+     * Envia um SMS com a referência informada. Quem pode repetir o envio
+     * (por exemplo, ao reprocessar um evento) deve usar sempre a mesma
+     * referência, para que o provedor descarte a repetição.
+     * 
+     * @return resultado individual da mensagem, devolvido pelo provedor
      */
-    public void sendSms(String phoneNumber, String message) {
+    public CompletableFuture<SmsResponse> sendSms(String reference, String phoneNumber, String message,
+                                                  MessagePriority priority) {
         log.info("Sending SMS to: {} with message: {}", phoneNumber, message);
         
-        try {
-            SmsRequest request = SmsRequest.builder()
-                .to(phoneNumber)
-                .message(message)
-                .build();
-            
-            // Simula chamada para API externa
-            Mono<SmsResponse> response = webClient.post()
-                .uri("/send")
-                .bodyValue(request)
+        SmsRequest request = SmsRequest.builder()
+            .reference(reference)
+            .to(phoneNumber)
+            .message(message)
+            .build();
+        
+        CompletableFuture<SmsResponse> result = sendQueue.submit(request, priority);
+        result.whenComplete((smsResponse, error) -> {
+            if (error != null) {
+                log.error("Error sending SMS to {}: {}", phoneNumber, error.getMessage());
+                deadLetter(request, priority, String.valueOf(error.getMessage()));
+            } else if (smsResponse.getError() != null) {
+                log.error("Provider rejected SMS to {}: {}", phoneNumber, smsResponse.getError());
+                deadLetter(request, priority, smsResponse.getError());
+            } else {
+                log.info("SMS sent successfully. ID: {}", smsResponse.getMessageId());
+            }
+        });
+        return result;
+    }
+    
+    /**
+     * Reenvia uma mensagem morta com prioridade baixa, para não disputar a vez
+     * com o tráfego normal. Uma nova falha não gera outra mensagem morta:
+     * quem reenvia atualiza o registro existente.
+     * 
+     * @return resultado individual da mensagem, devolvido pelo provedor
+     */
+    public CompletableFuture<SmsResponse> redeliver(FailedMessage message) {
+        SmsRequest request = SmsRequest.builder()
+            .reference(UUID.randomUUID().toString())
+            .to(message.getRecipient())
+            .message(message.getBody())
+            .build();
+        return sendQueue.submit(request, MessagePriority.LOW);
+    }
+    
+    /**
+     * Encerra a fila de envio e envia o lote pendente antes do desligamento.
+     */
+    @PreDestroy
+    public void close() {
+        sendQueue.close();
+        batcher.close();
+    }
+    
+    private void deadLetter(SmsRequest request, MessagePriority priority, String error) {
+        deadLetters.record(FailedMessage.builder()
+            .channel(FailedMessage.Channel.SMS)
+            .recipient(request.getTo())
+            .body(request.getMessage())
+            .priority(priority)
+            .error(error)
+            .build());
+    }
+    
+    /**
+     * Envia um lote ao provedor e indexa os resultados pela referência de cada mensagem.
+     * Novas tentativas repetem a mesma chave de idempotência, para que o provedor
+     * não reenvie mensagens que já aceitou.
+     */
+    private Mono<Map<String, SmsResponse>> sendBulk(List<SmsRequest> requests) {
+        String idempotencyKey = DeliveryResilience.idempotencyKey(
+            requests.stream().map(SmsRequest::getReference).collect(Collectors.toList()));
+        // Simula chamada para API externa
+        return resilience.execute("sms", circuitBreaker, () -> webClient.post()
+                .uri("/send/batch")
+                .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                .bodyValue(new BulkSmsRequest(requests))
                 .retrieve()
-                .bodyToMono(SmsResponse.class);
-            
-            response.subscribe(
-                smsResponse -> log.info("SMS sent successfully. ID: {}", smsResponse.getMessageId()),
-                error -> log.error("Error sending SMS to {}: {}", phoneNumber, error.getMessage())
-            );
-            
-        } catch (Exception e) {
-            log.error("Exception occurred while sending SMS to {}: {}", phoneNumber, e.getMessage());
-            // Em um cenário real, poderia implementar retry ou fallback
-        }
+                .bodyToMono(BulkSmsResponse.class))
+            .map(response -> response.getResults().stream()
+                .collect(Collectors.toMap(SmsResponse::getReference, Function.identity(), (first, second) -> first)));
     }
     
     /**
@@ -60,6 +174,8 @@ public class SmsService {
     @lombok.Data
     @lombok.Builder
     public static class SmsRequest {
+        /** Referência única da mensagem; o provedor descarta reenvios com a mesma referência. */
+        private String reference;
         private String to;
         private String message;
     }
@@ -69,8 +185,26 @@ public class SmsService {
      */
     @lombok.Data
     public static class SmsResponse {
+        private String reference;
         private String messageId;
         private String status;
         private String error;
     }
+    
+    /**
+     * DTO para requisição de envio em lote.
+     */
+    @lombok.Data
+    @lombok.AllArgsConstructor
+    public static class BulkSmsRequest {
+        private List<SmsRequest> messages;
+    }
+    
+    /**
+     * DTO para resposta de envio em lote, com um resultado por mensagem.
+     */
+    @lombok.Data
+    public static class BulkSmsResponse {
+        private List<SmsResponse> results;
+    }
 }
@@ -0,0 +1,68 @@
+package com.restaurant.reservation.application.service.integration;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Balde de fichas (token bucket) para limitar a taxa de envio.
+ * 
+ * O balde é reabastecido continuamente à taxa configurada até a capacidade
+ * (rajada máxima). Cada mensagem consome uma ficha.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+public class TokenBucket {
+    
+    private final long capacity;
+    private final double tokensPerNano;
+    private final LongSupplier clock;
+    
+    private double tokens;
+    private long lastRefill;
+    
+    public TokenBucket(double permitsPerSecond, long capacity) {
+        this(permitsPerSecond, capacity, System::nanoTime);
+    }
+    
+    TokenBucket(double permitsPerSecond, long capacity, LongSupplier clock) {
+        if (permitsPerSecond <= 0 || capacity < 1) {
+            throw new IllegalArgumentException("Rate and capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.clock = clock;
+        this.tokens = capacity;
+        this.lastRefill = clock.getAsLong();
+    }
+    
+    /**
+     * Consome uma ficha se houver.
+     * 
+     * @return 0 se a ficha foi consumida, ou quantos nanossegundos faltam para a próxima
+     */
+    public synchronized long tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+    
+    /**
+     * Aguarda até obter uma ficha.
+     */
+    public void acquire() throws InterruptedException {
+        long wait;
+        while ((wait = tryAcquire()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+    
+    private void refill() {
+        long now = clock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+    }
+}
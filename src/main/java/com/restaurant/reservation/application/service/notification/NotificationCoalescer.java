@@ -0,0 +1,49 @@
+package com.restaurant.reservation.application.service.notification;
+
+import com.restaurant.reservation.domain.event.DomainEvent;
+import com.restaurant.reservation.domain.event.ReservationCancelledEvent;
+import com.restaurant.reservation.domain.event.ReservationCompletedEvent;
+import com.restaurant.reservation.domain.event.ReservationConfirmedEvent;
+import com.restaurant.reservation.domain.event.ReservationModifiedEvent;
+
+import java.util.List;
+
+/**
+ * Reduz uma sequência de eventos da mesma reserva à notificação final.
+ * 
+ * Cada evento substitui o anterior (cancelamento após modificações gera só
+ * o email de cancelamento; várias modificações geram só a última), com uma
+ * exceção: modificações após uma confirmação ainda não notificada viram uma
+ * confirmação com os dados novos. Eventos sem notificação (criação) são ignorados.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+public final class NotificationCoalescer {
+    
+    private NotificationCoalescer() {
+    }
+    
+    /**
+     * Retorna o evento a notificar, ou null se nenhum evento gera notificação.
+     * 
+     * @param events eventos de uma mesma reserva, em ordem de ocorrência
+     */
+    public static DomainEvent coalesce(List<DomainEvent> events) {
+        DomainEvent result = null;
+        for (DomainEvent event : events) {
+            if (event instanceof ReservationModifiedEvent modified 
+                    && result instanceof ReservationConfirmedEvent) {
+                result = new ReservationConfirmedEvent(modified.getEventId(), modified.getOccurredOn(),
+                    modified.getReservationId(), modified.getNewTableId(), modified.getCustomerInfo(),
+                    modified.getNewReservationTime());
+            } else if (event instanceof ReservationConfirmedEvent
+                    || event instanceof ReservationModifiedEvent
+                    || event instanceof ReservationCancelledEvent
+                    || event instanceof ReservationCompletedEvent) {
+                result = event;
+            }
+        }
+        return result;
+    }
+}
@@ -5,15 +5,36 @@ import com.restaurant.reservation.domain.event.ReservationCancelledEvent;
 import com.restaurant.reservation.domain.event.ReservationCompletedEvent;
 import com.restaurant.reservation.domain.event.ReservationConfirmedEvent;
 import com.restaurant.reservation.domain.event.ReservationModifiedEvent;
+import com.restaurant.reservation.application.service.integration.DeliveryResilience;
 import com.restaurant.reservation.application.service.integration.EmailService;
+import com.restaurant.reservation.application.service.integration.MessagePriority;
 import com.restaurant.reservation.application.service.integration.SmsService;
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
- * Serviço responsável por processar eventos de domínio e enviar notificações.
- * Coordena o envio de emails e SMS baseado nos eventos que ocorrem no sistema.
+ * Serviço responsável por enviar as notificações de cada evento de domínio.
+ * Coordena o envio de emails e SMS; os eventos chegam já agrupados e sem
+ * duplicatas pelo NotificationPipeline, o assinante "notifications" do
+ * DomainEventBus.
+ * Os textos vêm dos templates compilados do NotificationTemplateRegistry.
+ * Confirmações, cancelamentos e modificações têm prioridade alta nas filas
+ * dos provedores; lembretes, normal; agradecimentos, baixa.
+ * 
+ * Uma falha ao montar ou enfileirar as mensagens não é engolida aqui: chega
+ * a quem publicou o evento, e o evento volta a ser entregue pela caixa de
+ * saída. Cada mensagem leva uma referência derivada do ID do evento e do
+ * template, então a nova entrega repete as referências e o provedor descarta
+ * os canais que já tinham sido enviados (por exemplo, o email enviado antes
+ * de o SMS falhar). Falhas do provedor depois disso ficam com o DeadLetterStore.
  * 
  * @author Sistema de Reservas
  * @version 1.0.0
@@ -25,19 +46,21 @@ public class NotificationService {
     
     private final EmailService emailService;
     private final SmsService smsService;
+    private final NotificationTemplateRegistry templates;
     
     /**
-     * Processa um evento de domínio e envia as notificações apropriadas.
+     * Envia as notificações do evento.
+     * Reservas criadas ainda não geram notificação.
      */
-    public void handleDomainEvent(DomainEvent event) {
-        log.info("Processing domain event: {} - {}", event.getEventType(), event.getEventId());
-        
-        switch (event.getEventType()) {
-            case "ReservationConfirmed" -> handleReservationConfirmed((ReservationConfirmedEvent) event);
-            case "ReservationCancelled" -> handleReservationCancelled((ReservationCancelledEvent) event);
-            case "ReservationCompleted" -> handleReservationCompleted((ReservationCompletedEvent) event);
-            case "ReservationModified" -> handleReservationModified((ReservationModifiedEvent) event);
-            default -> log.warn("Unknown event type: {}", event.getEventType());
+    public void notify(DomainEvent event) {
+        if (event instanceof ReservationConfirmedEvent confirmed) {
+            handleReservationConfirmed(confirmed);
+        } else if (event instanceof ReservationCancelledEvent cancelled) {
+            handleReservationCancelled(cancelled);
+        } else if (event instanceof ReservationCompletedEvent completed) {
+            handleReservationCompleted(completed);
+        } else if (event instanceof ReservationModifiedEvent modified) {
+            handleReservationModified(modified);
         }
     }
     
@@ -45,180 +68,104 @@ public class NotificationService {
      * Processa evento de reserva confirmada.
      */
     private void handleReservationConfirmed(ReservationConfirmedEvent event) {
-        try {
-            // Envia email de confirmação
-            String emailSubject = "Reserva Confirmada - " + event.getCustomerInfo().getName();
-            String emailBody = buildConfirmationEmailBody(event);
-            emailService.sendEmail(event.getCustomerInfo().getEmail(), emailSubject, emailBody);
-            
-            // Envia SMS de confirmação (opcional)
-            String smsMessage = String.format(
-                "Sua reserva foi confirmada para %s na mesa %s. Obrigado!",
-                event.getReservationTime().getFormattedTime(),
-                event.getTableId()
-            );
-            smsService.sendSms(event.getCustomerInfo().getPhone(), smsMessage);
-            
-            log.info("Confirmation notifications sent for reservation: {}", event.getReservationId());
-            
-        } catch (Exception e) {
-            log.error("Error sending confirmation notifications for reservation: {}", 
-                event.getReservationId(), e);
-        }
+        Map<String, Object> model = model(event.getCustomerInfo(), event.getReservationTime(), event.getTableId());
+        
+        // Envia email de confirmação
+        sendEmail(event, "confirmation-email", event.getCustomerInfo(), model, MessagePriority.HIGH);
+        
+        // Envia SMS de confirmação (opcional)
+        String smsMessage = templates.get("confirmation-sms", templates.getDefaultLocale()).renderBody(model);
+        smsService.sendSms(reference(event, "confirmation-sms"), event.getCustomerInfo().getPhone(), smsMessage, 
+            MessagePriority.HIGH);
+        
+        log.info("Confirmation notifications sent for reservation: {}", event.getReservationId());
     }
     
     /**
      * Processa evento de reserva cancelada.
      */
     private void handleReservationCancelled(ReservationCancelledEvent event) {
-        try {
-            // Envia email de cancelamento
-            String emailSubject = "Reserva Cancelada - " + event.getCustomerInfo().getName();
-            String emailBody = buildCancellationEmailBody(event);
-            emailService.sendEmail(event.getCustomerInfo().getEmail(), emailSubject, emailBody);
-            
-            log.info("Cancellation notifications sent for reservation: {}", event.getReservationId());
-            
-        } catch (Exception e) {
-            log.error("Error sending cancellation notifications for reservation: {}", 
-                event.getReservationId(), e);
-        }
+        // Envia email de cancelamento
+        sendEmail(event, "cancellation-email", event.getCustomerInfo(), 
+            model(event.getCustomerInfo(), event.getReservationTime(), event.getTableId()), MessagePriority.HIGH);
+        
+        log.info("Cancellation notifications sent for reservation: {}", event.getReservationId());
     }
     
     /**
      * Processa evento de reserva completada.
      */
     private void handleReservationCompleted(ReservationCompletedEvent event) {
-        try {
-            // Envia email de agradecimento
-            String emailSubject = "Obrigado pela visita - " + event.getCustomerInfo().getName();
-            String emailBody = buildCompletionEmailBody(event);
-            emailService.sendEmail(event.getCustomerInfo().getEmail(), emailSubject, emailBody);
-            
-            log.info("Completion notifications sent for reservation: {}", event.getReservationId());
-            
-        } catch (Exception e) {
-            log.error("Error sending completion notifications for reservation: {}", 
-                event.getReservationId(), e);
-        }
+        // Envia email de agradecimento
+        sendEmail(event, "completion-email", event.getCustomerInfo(), 
+            model(event.getCustomerInfo(), event.getReservationTime(), event.getTableId()), MessagePriority.LOW);
+        
+        log.info("Completion notifications sent for reservation: {}", event.getReservationId());
     }
     
     /**
      * Processa evento de reserva modificada.
      */
     private void handleReservationModified(ReservationModifiedEvent event) {
-        try {
-            // Envia email de modificação
-            String emailSubject = "Reserva Modificada - " + event.getCustomerInfo().getName();
-            String emailBody = buildModificationEmailBody(event);
-            emailService.sendEmail(event.getCustomerInfo().getEmail(), emailSubject, emailBody);
-            
-            log.info("Modification notifications sent for reservation: {}", event.getReservationId());
-            
-        } catch (Exception e) {
-            log.error("Error sending modification notifications for reservation: {}", 
-                event.getReservationId(), e);
-        }
+        // Envia email de modificação
+        sendEmail(event, "modification-email", event.getCustomerInfo(), 
+            model(event.getCustomerInfo(), event.getNewReservationTime(), event.getNewTableId()), MessagePriority.HIGH);
+        
+        log.info("Modification notifications sent for reservation: {}", event.getReservationId());
+    }
+    
+    /**
+     * Envia o lembrete por email na véspera da reserva.
+     * 
+     * @param reference referência da mensagem, a mesma em todas as tentativas do lembrete
+     */
+    public void sendDayBeforeReminder(String reference, CustomerInfo customer, ReservationTime time, TableId tableId) {
+        NotificationTemplate template = templates.get("reminder-day-before-email", templates.getDefaultLocale());
+        Map<String, Object> model = model(customer, time, tableId);
+        emailService.sendEmail(reference, customer.getEmail(), template.renderSubject(model), 
+            template.renderBody(model), MessagePriority.NORMAL);
     }
     
     /**
-     * Constrói o corpo do email de confirmação.
+     * Envia o lembrete por SMS duas horas antes da reserva.
+     * 
+     * @param reference referência da mensagem, a mesma em todas as tentativas do lembrete
      */
-    private String buildConfirmationEmailBody(ReservationConfirmedEvent event) {
-        return String.format("""
-            Olá %s,
-            
-            Sua reserva foi confirmada com sucesso!
-            
-            Detalhes da reserva:
-            - Data e hora: %s
-            - Mesa: %s
-            - Email: %s
-            - Telefone: %s
-            
-            Esperamos vê-lo em breve!
-            
-            Atenciosamente,
-            Equipe do Restaurante
-            """, 
-            event.getCustomerInfo().getFormattedName(),
-            event.getReservationTime().getFormattedTime(),
-            event.getTableId(),
-            event.getCustomerInfo().getEmail(),
-            event.getCustomerInfo().getPhone()
-        );
+    public void sendTwoHoursReminder(String reference, CustomerInfo customer, ReservationTime time, TableId tableId) {
+        String smsMessage = templates.get("reminder-two-hours-sms", templates.getDefaultLocale())
+            .renderBody(model(customer, time, tableId));
+        smsService.sendSms(reference, customer.getPhone(), smsMessage, MessagePriority.NORMAL);
     }
     
     /**
-     * Constrói o corpo do email de cancelamento.
+     * Renderiza o template de email no locale padrão e envia ao cliente.
      */
-    private String buildCancellationEmailBody(ReservationCancelledEvent event) {
-        return String.format("""
-            Olá %s,
-            
-            Sua reserva foi cancelada conforme solicitado.
-            
-            Detalhes da reserva cancelada:
-            - Data e hora: %s
-            - Mesa: %s
-            
-            Esperamos poder atendê-lo em uma próxima oportunidade!
-            
-            Atenciosamente,
-            Equipe do Restaurante
-            """, 
-            event.getCustomerInfo().getFormattedName(),
-            event.getReservationTime().getFormattedTime(),
-            event.getTableId()
-        );
+    private void sendEmail(DomainEvent event, String templateName, CustomerInfo customer, Map<String, Object> model, 
+                           MessagePriority priority) {
+        NotificationTemplate template = templates.get(templateName, templates.getDefaultLocale());
+        emailService.sendEmail(reference(event, templateName), customer.getEmail(), template.renderSubject(model), 
+            template.renderBody(model), priority);
     }
     
     /**
-     * Constrói o corpo do email de conclusão.
+     * Referência da mensagem de um template para o evento: a mesma em todas
+     * as entregas do evento.
      */
-    private String buildCompletionEmailBody(ReservationCompletedEvent event) {
-        return String.format("""
-            Olá %s,
-            
-            Obrigado por escolher nosso restaurante!
-            
-            Esperamos que tenha tido uma excelente experiência.
-            Sua opinião é muito importante para nós.
-            
-            Detalhes da visita:
-            - Data e hora: %s
-            - Mesa: %s
-            
-            Atenciosamente,
-            Equipe do Restaurante
-            """, 
-            event.getCustomerInfo().getFormattedName(),
-            event.getReservationTime().getFormattedTime(),
-            event.getTableId()
-        );
+    private static String reference(DomainEvent event, String templateName) {
+        return DeliveryResilience.idempotencyKey(List.of(event.getEventId(), templateName));
     }
     
     /**
-     * Constrói o corpo do email de modificação.
+     * Monta as variáveis disponíveis aos templates de reserva.
      */
-    private String buildModificationEmailBody(ReservationModifiedEvent event) {
-        return String.format("""
-            Olá %s,
-            
-            Sua reserva foi modificada com sucesso!
-            
-            Novos detalhes da reserva:
-            - Data e hora: %s
-            - Mesa: %s
-            
-            Caso tenha alguma dúvida, entre em contato conosco.
-            
-            Atenciosamente,
-            Equipe do Restaurante
-            """, 
-            event.getCustomerInfo().getFormattedName(),
-            event.getNewReservationTime().getFormattedTime(),
-            event.getNewTableId()
-        );
+    private Map<String, Object> model(CustomerInfo customer, ReservationTime time, TableId tableId) {
+        Map<String, Object> model = new HashMap<>(8);
+        model.put("customerName", customer.getName());
+        model.put("formattedName", customer.getFormattedName());
+        model.put("email", customer.getEmail());
+        model.put("phone", customer.getPhone());
+        model.put("reservationTime", time.getFormattedTime());
+        model.put("tableId", tableId);
+        return model;
     }
 }
@@ -0,0 +1,54 @@
+package com.restaurant.reservation.application.service.notification;
+
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * Template de notificação compilado: assunto opcional e corpo.
+ * 
+ * O arquivo fonte pode começar com uma linha {@code subject: ...}, seguida de
+ * uma linha em branco; o restante é o corpo. Templates de SMS têm apenas corpo.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Value
+public class NotificationTemplate {
+    
+    private static final String SUBJECT_PREFIX = "subject:";
+    
+    TemplateText subject;
+    TemplateText body;
+    
+    /**
+     * Compila o conteúdo de um arquivo de template.
+     */
+    public static NotificationTemplate parse(String source) {
+        String normalized = source.replace("\r\n", "\n");
+        if (!normalized.startsWith(SUBJECT_PREFIX)) {
+            return new NotificationTemplate(null, TemplateText.compile(normalized));
+        }
+        int endOfLine = normalized.indexOf('\n');
+        String subject = endOfLine < 0 ? normalized : normalized.substring(0, endOfLine);
+        String body = endOfLine < 0 ? "" : normalized.substring(endOfLine + 1);
+        if (body.startsWith("\n")) {
+            body = body.substring(1);
+        }
+        return new NotificationTemplate(
+            TemplateText.compile(subject.substring(SUBJECT_PREFIX.length()).trim()),
+            TemplateText.compile(body)
+        );
+    }
+    
+    public String renderSubject(Map<String, ?> model) {
+        if (subject == null) {
+            throw new IllegalStateException("Template has no subject");
+        }
+        return subject.render(model);
+    }
+    
+    public String renderBody(Map<String, ?> model) {
+        return body.render(model);
+    }
+}
@@ -0,0 +1,139 @@
+package com.restaurant.reservation.application.service.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Carrega, compila e mantém em cache os templates de notificação.
+ * 
+ * Os arquivos ficam em {@code reservation.notification.templates.location} com
+ * o nome {@code <template>_<idioma>_<PAÍS>.txt}. A busca segue a mesma ordem do
+ * ResourceBundle: idioma e país, só idioma, e por fim o arquivo sem sufixo.
+ * Cada template é compilado uma única vez por locale; com hot reload ativo,
+ * arquivos alterados são descartados do cache e recompilados no próximo uso.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class NotificationTemplateRegistry {
+    
+    private static final String EXTENSION = ".txt";
+    
+    private final ResourceLoader resourceLoader;
+    private final String location;
+    private final Locale defaultLocale;
+    private final boolean hotReload;
+    private final Map<String, CachedTemplate> cache = new ConcurrentHashMap<>();
+    
+    public NotificationTemplateRegistry(ResourceLoader resourceLoader,
+                                        @Value("${reservation.notification.templates.location:classpath:notification-templates/}") String location,
+                                        @Value("${reservation.notification.templates.default-locale:pt-BR}") String defaultLocale,
+                                        @Value("${reservation.notification.templates.hot-reload:false}") boolean hotReload) {
+        this.resourceLoader = resourceLoader;
+        this.location = location.endsWith("/") ? location : location + "/";
+        this.defaultLocale = Locale.forLanguageTag(defaultLocale);
+        this.hotReload = hotReload;
+    }
+    
+    public Locale getDefaultLocale() {
+        return defaultLocale;
+    }
+    
+    /**
+     * Obtém o template compilado para o locale, aplicando o fallback de idioma.
+     * 
+     * @throws IllegalStateException se nenhuma variante do template existir
+     */
+    public NotificationTemplate get(String name, Locale locale) {
+        String key = name + '|' + locale.toLanguageTag();
+        CachedTemplate cached = cache.get(key);
+        if (cached == null) {
+            cached = cache.computeIfAbsent(key, ignored -> load(name, locale));
+        }
+        return cached.template;
+    }
+    
+    /**
+     * Descarta do cache os templates cujos arquivos foram alterados.
+     */
+    @Scheduled(fixedDelayString = "${reservation.notification.templates.reload-interval-ms:5000}")
+    public void reloadChanged() {
+        if (!hotReload) {
+            return;
+        }
+        cache.entrySet().removeIf(entry -> {
+            boolean changed = lastModified(entry.getValue().resource) != entry.getValue().lastModified;
+            if (changed) {
+                log.info("Notification template changed, reloading: {}", entry.getKey());
+            }
+            return changed;
+        });
+    }
+    
+    private CachedTemplate load(String name, Locale locale) {
+        for (String candidate : candidates(name, locale)) {
+            Resource resource = resourceLoader.getResource(location + candidate + EXTENSION);
+            if (resource.exists()) {
+                log.debug("Compiling notification template {} for locale {}", candidate, locale);
+                return new CachedTemplate(NotificationTemplate.parse(read(resource)), resource, lastModified(resource));
+            }
+        }
+        throw new IllegalStateException("Notification template not found: " + name + " (" + locale + ")");
+    }
+    
+    private List<String> candidates(String name, Locale locale) {
+        List<String> candidates = new ArrayList<>(3);
+        if (!locale.getCountry().isEmpty()) {
+            candidates.add(name + '_' + locale.getLanguage() + '_' + locale.getCountry());
+        }
+        if (!locale.getLanguage().isEmpty()) {
+            candidates.add(name + '_' + locale.getLanguage());
+        }
+        candidates.add(name);
+        return candidates;
+    }
+    
+    private String read(Resource resource) {
+        try (InputStream input = resource.getInputStream()) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read notification template " + resource, e);
+        }
+    }
+    
+    private long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+    
+    private static final class CachedTemplate {
+        private final NotificationTemplate template;
+        private final Resource resource;
+        private final long lastModified;
+        
+        private CachedTemplate(NotificationTemplate template, Resource resource, long lastModified) {
+            this.template = template;
+            this.resource = resource;
+            this.lastModified = lastModified;
+        }
+    }
+}
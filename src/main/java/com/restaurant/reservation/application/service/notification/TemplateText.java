@@ -0,0 +1,99 @@
+package com.restaurant.reservation.application.service.notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Texto de template compilado em segmentos.
+ * 
+ * O texto fonte usa marcadores {@code {{variavel}}}. Na compilação ele é
+ * dividido uma única vez em trechos literais e nomes de variáveis; a
+ * renderização apenas concatena os segmentos num buffer reutilizado pela
+ * thread, sem reprocessar o texto a cada mensagem.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+public final class TemplateText {
+    
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final int MAX_RETAINED_BUFFER = 16 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+    
+    /** literals[i] é seguido por variables[i]; o último literal não tem variável. */
+    private final String[] literals;
+    private final String[] variables;
+    private final int estimatedLength;
+    
+    private TemplateText(String[] literals, String[] variables) {
+        this.literals = literals;
+        this.variables = variables;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.estimatedLength = length + variables.length * 16;
+    }
+    
+    /**
+     * Compila o texto fonte em segmentos.
+     */
+    public static TemplateText compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at position " + open);
+            }
+            String variable = source.substring(open + OPEN.length(), close).trim();
+            if (variable.isEmpty()) {
+                throw new IllegalArgumentException("Empty placeholder at position " + open);
+            }
+            literals.add(source.substring(position, open));
+            variables.add(variable);
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+        return new TemplateText(literals.toArray(new String[0]), variables.toArray(new String[0]));
+    }
+    
+    /**
+     * Renderiza o texto com os valores informados.
+     * 
+     * @throws IllegalArgumentException se alguma variável não tiver valor
+     */
+    public String render(Map<String, ?> model) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        buffer.ensureCapacity(estimatedLength);
+        renderTo(model, buffer);
+        String result = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+        return result;
+    }
+    
+    /**
+     * Renderiza o texto acrescentando ao buffer informado.
+     */
+    public void renderTo(Map<String, ?> model, StringBuilder buffer) {
+        for (int i = 0; i < variables.length; i++) {
+            buffer.append(literals[i]);
+            Object value = model.get(variables[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("Missing template variable: " + variables[i]);
+            }
+            buffer.append(value);
+        }
+        buffer.append(literals[variables.length]);
+    }
+}
@@ -1,5 +1,11 @@
 package com.restaurant.reservation.domain.entity;
 
+import com.restaurant.reservation.domain.event.DomainEvent;
+import com.restaurant.reservation.domain.event.ReservationCancelledEvent;
+import com.restaurant.reservation.domain.event.ReservationCompletedEvent;
+import com.restaurant.reservation.domain.event.ReservationConfirmedEvent;
+import com.restaurant.reservation.domain.event.ReservationCreatedEvent;
+import com.restaurant.reservation.domain.event.ReservationModifiedEvent;
 import com.restaurant.reservation.domain.valueobject.CustomerInfo;
 import com.restaurant.reservation.domain.valueobject.ReservationId;
 import com.restaurant.reservation.domain.valueobject.ReservationStatus;
@@ -32,6 +38,12 @@ public class Reservation {
     private ReservationStatus status;
     private List<DomainEvent> domainEvents;
     
+    /**
+     * Versão de persistência, usada no controle de concorrência otimista.
+     * Nula enquanto a reserva não foi gravada.
+     */
+    private Long version;
+    
     @Builder
     public Reservation(ReservationId id, TableId tableId, CustomerInfo customerInfo, 
                       ReservationTime reservationTime, ReservationStatus status) {
@@ -45,6 +57,39 @@ public class Reservation {
         validateReservation();
     }
     
+    private Reservation(ReservationId id, TableId tableId, CustomerInfo customerInfo, 
+                        ReservationTime reservationTime, ReservationStatus status, boolean restored) {
+        this.id = id;
+        this.tableId = tableId;
+        this.customerInfo = customerInfo;
+        this.reservationTime = reservationTime;
+        this.status = status != null ? status : ReservationStatus.PENDING;
+        this.domainEvents = new ArrayList<>();
+        
+        validateRequiredFields();
+    }
+    
+    /**
+     * Reconstrói uma reserva já registrada (ex.: a partir do banco ou do arquivo).
+     * Não valida o horário contra o instante atual, pois reservas gravadas
+     * podem já ter acontecido.
+     */
+    public static Reservation restore(ReservationId id, TableId tableId, CustomerInfo customerInfo,
+                                      ReservationTime reservationTime, ReservationStatus status) {
+        return new Reservation(id, tableId, customerInfo, reservationTime, status, true);
+    }
+    
+    /**
+     * Cria uma nova reserva pendente e registra o evento de criação.
+     */
+    public static Reservation create(ReservationId id, TableId tableId, CustomerInfo customerInfo,
+                                     ReservationTime reservationTime) {
+        Reservation reservation = new Reservation(id, tableId, customerInfo, reservationTime, 
+            ReservationStatus.PENDING);
+        reservation.addDomainEvent(new ReservationCreatedEvent(id, tableId, customerInfo, reservationTime));
+        return reservation;
+    }
+    
     /**
      * Confirma uma reserva pendente.
      * Lança exceção se a reserva não estiver em estado válido para confirmação.
@@ -107,10 +152,11 @@ public class Reservation {
                 "Cannot modify reservation in status: " + this.status);
         }
         
+        TableId previousTableId = this.tableId;
         this.tableId = newTableId;
         this.reservationTime = newTime;
-        addDomainEvent(new ReservationModifiedEvent(this.id, newTableId, 
-            this.customerInfo, newTime));
+        addDomainEvent(new ReservationModifiedEvent(this.id, previousTableId, newTableId, 
+            this.customerInfo, newTime, this.status));
     }
     
     /**
@@ -131,6 +177,16 @@ public class Reservation {
      * Valida os dados da reserva.
      */
     private void validateReservation() {
+        validateRequiredFields();
+        if (reservationTime.getDateTime().isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Reservation time cannot be in the past");
+        }
+    }
+    
+    /**
+     * Valida os campos obrigatórios da reserva.
+     */
+    private void validateRequiredFields() {
         if (id == null) {
             throw new IllegalArgumentException("Reservation ID cannot be null");
         }
@@ -143,9 +199,6 @@ public class Reservation {
         if (reservationTime == null) {
             throw new IllegalArgumentException("Reservation time cannot be null");
         }
-        if (reservationTime.getDateTime().isBefore(LocalDateTime.now())) {
-            throw new IllegalArgumentException("Reservation time cannot be in the past");
-        }
     }
     
     @Override
@@ -1,5 +1,7 @@
 package com.restaurant.reservation.domain.event;
 
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -22,6 +24,11 @@ public interface DomainEvent {
      */
     LocalDateTime getOccurredOn();
     
+    /**
+     * Retorna o ID da reserva a que o evento se refere.
+     */
+    ReservationId getReservationId();
+    
     /**
      * Retorna o tipo do evento.
      */
@@ -28,8 +28,17 @@ public class ReservationCancelledEvent implements DomainEvent {
     
     public ReservationCancelledEvent(ReservationId reservationId, TableId tableId, 
                                    CustomerInfo customerInfo, ReservationTime reservationTime) {
-        this.eventId = java.util.UUID.randomUUID().toString();
-        this.occurredOn = LocalDateTime.now();
+        this(java.util.UUID.randomUUID().toString(), LocalDateTime.now(), 
+            reservationId, tableId, customerInfo, reservationTime);
+    }
+    
+    /**
+     * Reconstrói um evento já registrado, preservando seu ID e instante de ocorrência.
+     */
+    public ReservationCancelledEvent(String eventId, LocalDateTime occurredOn, ReservationId reservationId, 
+                                   TableId tableId, CustomerInfo customerInfo, ReservationTime reservationTime) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
         this.eventType = "ReservationCancelled";
         this.reservationId = reservationId;
         this.tableId = tableId;
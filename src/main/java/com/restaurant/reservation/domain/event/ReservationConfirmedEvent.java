@@ -28,8 +28,17 @@ public class ReservationConfirmedEvent implements DomainEvent {
     
     public ReservationConfirmedEvent(ReservationId reservationId, TableId tableId, 
                                    CustomerInfo customerInfo, ReservationTime reservationTime) {
-        this.eventId = java.util.UUID.randomUUID().toString();
-        this.occurredOn = LocalDateTime.now();
+        this(java.util.UUID.randomUUID().toString(), LocalDateTime.now(), 
+            reservationId, tableId, customerInfo, reservationTime);
+    }
+    
+    /**
+     * Reconstrói um evento já registrado, preservando seu ID e instante de ocorrência.
+     */
+    public ReservationConfirmedEvent(String eventId, LocalDateTime occurredOn, ReservationId reservationId, 
+                                   TableId tableId, CustomerInfo customerInfo, ReservationTime reservationTime) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
         this.eventType = "ReservationConfirmed";
         this.reservationId = reservationId;
         this.tableId = tableId;
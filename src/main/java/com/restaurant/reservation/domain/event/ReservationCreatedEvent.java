@@ -0,0 +1,70 @@
+package com.restaurant.reservation.domain.event;
+
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de domínio disparado quando uma nova reserva é registrada.
+ * Marca o início do histórico da reserva no log de eventos.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Getter
+public class ReservationCreatedEvent implements DomainEvent {
+    
+    private final String eventId;
+    private final LocalDateTime occurredOn;
+    private final String eventType;
+    private final ReservationId reservationId;
+    private final TableId tableId;
+    private final CustomerInfo customerInfo;
+    private final ReservationTime reservationTime;
+    
+    public ReservationCreatedEvent(ReservationId reservationId, TableId tableId, 
+                                   CustomerInfo customerInfo, ReservationTime reservationTime) {
+        this(java.util.UUID.randomUUID().toString(), LocalDateTime.now(), 
+            reservationId, tableId, customerInfo, reservationTime);
+    }
+    
+    /**
+     * Reconstrói um evento já registrado, preservando seu ID e instante de ocorrência.
+     */
+    public ReservationCreatedEvent(String eventId, LocalDateTime occurredOn, ReservationId reservationId, 
+                                   TableId tableId, CustomerInfo customerInfo, ReservationTime reservationTime) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
+        this.eventType = "ReservationCreated";
+        this.reservationId = reservationId;
+        this.tableId = tableId;
+        this.customerInfo = customerInfo;
+        this.reservationTime = reservationTime;
+    }
+    
+    @Override
+    public String getEventId() {
+        return eventId;
+    }
+    
+    @Override
+    public LocalDateTime getOccurredOn() {
+        return occurredOn;
+    }
+    
+    @Override
+    public String getEventType() {
+        return eventType;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("ReservationCreatedEvent{reservationId=%s, tableId=%s, " +
+                           "customerName='%s', time=%s}", 
+            reservationId, tableId, customerInfo.getName(), reservationTime.getFormattedTime());
+    }
+}
@@ -2,6 +2,7 @@ package com.restaurant.reservation.domain.event;
 
 import com.restaurant.reservation.domain.valueobject.CustomerInfo;
 import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationStatus;
 import com.restaurant.reservation.domain.valueobject.ReservationTime;
 import com.restaurant.reservation.domain.valueobject.TableId;
 import lombok.Getter;
@@ -12,6 +13,10 @@ import java.time.LocalDateTime;
  * Evento de domínio disparado quando uma reserva é modificada.
  * Contém as novas informações da reserva após a modificação.
  * 
+ * O status (que a modificação não altera) acompanha o evento para que a
+ * agenda da nova mesa o conheça numa troca de mesa; é nulo em eventos
+ * reconstruídos sem ele.
+ * 
  * @author Sistema de Reservas
  * @version 1.0.0
  */
@@ -22,19 +27,47 @@ public class ReservationModifiedEvent implements DomainEvent {
     private final LocalDateTime occurredOn;
     private final String eventType;
     private final ReservationId reservationId;
+    private final TableId previousTableId;
     private final TableId newTableId;
     private final CustomerInfo customerInfo;
     private final ReservationTime newReservationTime;
+    private final ReservationStatus status;
     
-    public ReservationModifiedEvent(ReservationId reservationId, TableId newTableId, 
+    public ReservationModifiedEvent(ReservationId reservationId, TableId previousTableId, TableId newTableId, 
                                  CustomerInfo customerInfo, ReservationTime newReservationTime) {
-        this.eventId = java.util.UUID.randomUUID().toString();
-        this.occurredOn = LocalDateTime.now();
+        this(reservationId, previousTableId, newTableId, customerInfo, newReservationTime, null);
+    }
+    
+    public ReservationModifiedEvent(ReservationId reservationId, TableId previousTableId, TableId newTableId, 
+                                 CustomerInfo customerInfo, ReservationTime newReservationTime,
+                                 ReservationStatus status) {
+        this(java.util.UUID.randomUUID().toString(), LocalDateTime.now(), 
+            reservationId, previousTableId, newTableId, customerInfo, newReservationTime, status);
+    }
+    
+    /**
+     * Reconstrói um evento já registrado, preservando seu ID e instante de ocorrência.
+     */
+    public ReservationModifiedEvent(String eventId, LocalDateTime occurredOn, ReservationId reservationId, 
+                                 TableId previousTableId, TableId newTableId, 
+                                 CustomerInfo customerInfo, ReservationTime newReservationTime,
+                                 ReservationStatus status) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
         this.eventType = "ReservationModified";
         this.reservationId = reservationId;
+        this.previousTableId = previousTableId;
         this.newTableId = newTableId;
         this.customerInfo = customerInfo;
         this.newReservationTime = newReservationTime;
+        this.status = status;
+    }
+    
+    /**
+     * Verifica se a modificação trocou a reserva de mesa.
+     */
+    public boolean isTableChanged() {
+        return previousTableId != null && !previousTableId.equals(newTableId);
     }
     
     @Override
@@ -0,0 +1,27 @@
+package com.restaurant.reservation.domain.repository;
+
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+
+import java.util.List;
+
+/**
+ * Visão em memória das mesas e das reservas ativas do horizonte de reservas.
+ * Usada para responder consultas de disponibilidade sem acessar o banco.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+public interface BookingState {
+    
+    /**
+     * Indica se o estado já foi carregado e pode ser consultado.
+     * Enquanto não estiver pronto, as consultas devem usar o repositório.
+     */
+    boolean isReady();
+    
+    /**
+     * Busca mesas ativas que comportam o número de pessoas e estão livres no horário.
+     */
+    List<TableId> findAvailableTables(int numberOfPeople, ReservationTime reservationTime);
+}
@@ -0,0 +1,19 @@
+package com.restaurant.reservation.domain.repository;
+
+import com.restaurant.reservation.domain.event.DomainEvent;
+
+/**
+ * Interface da caixa de saída (outbox) de eventos de domínio.
+ * Os eventos são gravados na mesma transação da alteração que os gerou
+ * e publicados posteriormente, fora dela.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+public interface DomainEventOutbox {
+    
+    /**
+     * Registra um evento para publicação após o commit.
+     */
+    void add(DomainEvent event);
+}
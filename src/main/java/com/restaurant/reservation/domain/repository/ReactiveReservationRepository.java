@@ -0,0 +1,51 @@
+package com.restaurant.reservation.domain.repository;
+
+import com.restaurant.reservation.domain.entity.Reservation;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Consultas não bloqueantes de reservas, usadas no perfil "reactive".
+ * As gravações continuam no ReservationRepository, que aplica as regras de
+ * conflito e publica os eventos de domínio.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+public interface ReactiveReservationRepository {
+    
+    /**
+     * Busca uma reserva por ID, inclusive arquivada; vazio se não existir.
+     */
+    Mono<Reservation> findById(ReservationId id);
+    
+    /**
+     * Busca as reservas com os IDs informados, inclusive arquivadas, em qualquer ordem.
+     */
+    Flux<Reservation> findAllById(Collection<ReservationId> ids);
+    
+    /**
+     * Busca reservas de uma mesa em uma data.
+     */
+    Flux<Reservation> findByTableAndDate(TableId tableId, LocalDate date);
+    
+    /**
+     * Busca reservas por status.
+     */
+    Flux<Reservation> findByStatus(String status);
+    
+    /**
+     * Busca reservas por email do cliente.
+     */
+    Flux<Reservation> findByCustomerEmail(String email);
+    
+    /**
+     * Busca reservas que começam em uma data, inclusive arquivadas.
+     */
+    Flux<Reservation> findByDate(LocalDate date);
+}
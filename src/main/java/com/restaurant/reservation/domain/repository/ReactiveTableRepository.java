@@ -0,0 +1,36 @@
+package com.restaurant.reservation.domain.repository;
+
+import com.restaurant.reservation.domain.entity.Table;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Consultas não bloqueantes de mesas, usadas no perfil "reactive".
+ * As gravações continuam no TableRepository.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+public interface ReactiveTableRepository {
+    
+    /**
+     * Busca uma mesa por ID; vazio se não existir.
+     */
+    Mono<Table> findById(TableId id);
+    
+    /**
+     * Busca todas as mesas ativas.
+     */
+    Flux<Table> findAllActive();
+    
+    /**
+     * Busca mesas com capacidade mínima.
+     */
+    Flux<Table> findTablesByCapacity(int capacity);
+    
+    /**
+     * Busca mesas ativas com capacidade mínima.
+     */
+    Flux<Table> findAvailableTablesByCapacity(int capacity);
+}
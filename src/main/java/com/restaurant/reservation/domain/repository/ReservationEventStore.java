@@ -0,0 +1,34 @@
+package com.restaurant.reservation.domain.repository;
+
+import com.restaurant.reservation.domain.event.DomainEvent;
+import com.restaurant.reservation.domain.valueobject.BookedSlot;
+import com.restaurant.reservation.domain.valueobject.TableId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interface do log de eventos de reservas (append-only).
+ * Permite reconstruir a agenda de mesas em qualquer instante do passado.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+public interface ReservationEventStore {
+    
+    /**
+     * Acrescenta um evento de domínio ao log.
+     */
+    void append(DomainEvent event);
+    
+    /**
+     * Reconstrói a agenda de todas as mesas como estava no instante informado.
+     */
+    Map<TableId, List<BookedSlot>> loadBookAt(LocalDateTime pointInTime);
+    
+    /**
+     * Reconstrói a agenda de uma mesa como estava no instante informado.
+     */
+    List<BookedSlot> loadTableBookAt(TableId tableId, LocalDateTime pointInTime);
+}
@@ -0,0 +1,19 @@
+package com.restaurant.reservation.domain.repository;
+
+import com.restaurant.reservation.domain.event.DomainEvent;
+
+/**
+ * Interface da agenda de lembretes das reservas.
+ * A agenda é atualizada a partir dos eventos de domínio, na mesma transação
+ * da alteração que os gerou.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+public interface ReservationReminderSchedule {
+    
+    /**
+     * Agenda, reagenda ou cancela os lembretes conforme o evento.
+     */
+    void apply(DomainEvent event);
+}
@@ -6,8 +6,10 @@ import com.restaurant.reservation.domain.valueobject.TableId;
 import com.restaurant.reservation.domain.valueobject.ReservationTime;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Interface do repositório para a entidade Reservation.
@@ -28,6 +30,12 @@ public interface ReservationRepository {
      */
     Optional<Reservation> findById(ReservationId id);
     
+    /**
+     * Busca as reservas com os IDs informados, em qualquer ordem.
+     * IDs sem reserva correspondente não aparecem no resultado.
+     */
+    List<Reservation> findAllById(Collection<ReservationId> ids);
+    
     /**
      * Busca todas as reservas de uma mesa em uma data específica.
      */
@@ -53,6 +61,13 @@ public interface ReservationRepository {
      */
     List<Reservation> findByDate(LocalDate date);
     
+    /**
+     * Percorre as reservas que começam no intervalo [startDate, endDate).
+     * As linhas são lidas sob demanda; o stream deve ser fechado e, na
+     * implementação JPA, consumido dentro de uma transação.
+     */
+    Stream<Reservation> streamByDateRange(LocalDate startDate, LocalDate endDate);
+    
     /**
      * Remove uma reserva.
      */
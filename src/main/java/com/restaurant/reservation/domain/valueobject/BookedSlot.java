@@ -0,0 +1,84 @@
+package com.restaurant.reservation.domain.valueobject;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Value Object que representa a ocupação de uma mesa por uma reserva.
+ * Usado por modelos de leitura (agenda reconstruída a partir do log de eventos)
+ * e, ao contrário de ReservationTime, aceita horários no passado.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Value
+public class BookedSlot {
+    
+    ReservationId reservationId;
+    TableId tableId;
+    LocalDateTime startTime;
+    int durationInMinutes;
+    ReservationStatus status;
+    
+    private BookedSlot(ReservationId reservationId, TableId tableId, LocalDateTime startTime,
+                       int durationInMinutes, ReservationStatus status) {
+        if (reservationId == null || tableId == null || startTime == null || status == null) {
+            throw new IllegalArgumentException("Booked slot fields cannot be null");
+        }
+        if (durationInMinutes <= 0) {
+            throw new IllegalArgumentException("Duration must be greater than 0 minutes");
+        }
+        this.reservationId = reservationId;
+        this.tableId = tableId;
+        this.startTime = startTime;
+        this.durationInMinutes = durationInMinutes;
+        this.status = status;
+    }
+    
+    /**
+     * Cria um BookedSlot.
+     */
+    public static BookedSlot of(ReservationId reservationId, TableId tableId, LocalDateTime startTime,
+                                int durationInMinutes, ReservationStatus status) {
+        return new BookedSlot(reservationId, tableId, startTime, durationInMinutes, status);
+    }
+    
+    /**
+     * Retorna o horário de término da ocupação.
+     */
+    public LocalDateTime getEndTime() {
+        return startTime.plusMinutes(durationInMinutes);
+    }
+    
+    /**
+     * Verifica se a ocupação se sobrepõe ao intervalo informado.
+     */
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return startTime.isBefore(end) && getEndTime().isAfter(start);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("BookedSlot{reservationId=%s, tableId=%s, start=%s, duration=%d, status=%s}",
+            reservationId, tableId, startTime, durationInMinutes, status.name());
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BookedSlot that = (BookedSlot) o;
+        return durationInMinutes == that.durationInMinutes &&
+               Objects.equals(reservationId, that.reservationId) &&
+               Objects.equals(tableId, that.tableId) &&
+               Objects.equals(startTime, that.startTime) &&
+               status == that.status;
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(reservationId, tableId, startTime, durationInMinutes, status);
+    }
+}
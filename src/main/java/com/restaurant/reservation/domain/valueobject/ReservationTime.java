@@ -26,6 +26,12 @@ public class ReservationTime {
         this.durationInMinutes = durationInMinutes;
     }
     
+    private ReservationTime(LocalDateTime dateTime, int durationInMinutes, boolean restored) {
+        validateDuration(dateTime, durationInMinutes);
+        this.dateTime = dateTime;
+        this.durationInMinutes = durationInMinutes;
+    }
+    
     /**
      * Cria ReservationTime com duração padrão de 2 horas.
      */
@@ -40,21 +46,20 @@ public class ReservationTime {
         return new ReservationTime(dateTime, durationInMinutes);
     }
     
+    /**
+     * Reconstrói um horário já registrado (ex.: a partir de um evento armazenado).
+     * Apenas a duração é validada: as regras de criação, como não estar no passado,
+     * não se aplicam a reservas que já aconteceram.
+     */
+    public static ReservationTime restore(LocalDateTime dateTime, int durationInMinutes) {
+        return new ReservationTime(dateTime, durationInMinutes, true);
+    }
+    
     /**
      * Valida o horário da reserva.
      */
     private void validateReservationTime(LocalDateTime dateTime, int durationInMinutes) {
-        if (dateTime == null) {
-            throw new IllegalArgumentException("Reservation date and time cannot be null");
-        }
-        
-        if (durationInMinutes <= 0) {
-            throw new IllegalArgumentException("Duration must be greater than 0 minutes");
-        }
-        
-        if (durationInMinutes > 480) { // 8 hours
-            throw new IllegalArgumentException("Duration cannot exceed 8 hours");
-        }
+        validateDuration(dateTime, durationInMinutes);
         
         // Verifica se está dentro do horário de funcionamento
         LocalTime time = dateTime.toLocalTime();
@@ -77,6 +82,23 @@ public class ReservationTime {
         }
     }
     
+    /**
+     * Valida a presença do horário e os limites da duração.
+     */
+    private void validateDuration(LocalDateTime dateTime, int durationInMinutes) {
+        if (dateTime == null) {
+            throw new IllegalArgumentException("Reservation date and time cannot be null");
+        }
+        
+        if (durationInMinutes <= 0) {
+            throw new IllegalArgumentException("Duration must be greater than 0 minutes");
+        }
+        
+        if (durationInMinutes > 480) { // 8 hours
+            throw new IllegalArgumentException("Duration cannot exceed 8 hours");
+        }
+    }
+    
     /**
      * Retorna o horário de término da reserva.
      */
@@ -0,0 +1,112 @@
+package com.restaurant.reservation.infrastructure.archive;
+
+import com.restaurant.reservation.infrastructure.persistence.entity.ReservationEntity;
+import com.restaurant.reservation.infrastructure.persistence.mapper.EpochMinutes;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaArchivedReservationRepository;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Move reservas finalizadas antigas da tabela principal para o arquivo.
+ * O trabalho é feito em lotes pequenos, cada um na sua própria transação,
+ * com uma pausa entre eles e um limite de lotes por execução, para não
+ * competir com o tráfego de reservas.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Component
+@Profile("!inmemory")
+@Slf4j
+public class ReservationArchiver {
+    
+    private final JpaReservationRepository reservationRepository;
+    private final JpaArchivedReservationRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final long pauseBetweenChunksMs;
+    
+    public ReservationArchiver(JpaReservationRepository reservationRepository,
+                               JpaArchivedReservationRepository archiveRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${reservation.archive.retention-days:90}") int retentionDays,
+                               @Value("${reservation.archive.chunk-size:500}") int chunkSize,
+                               @Value("${reservation.archive.max-chunks-per-run:100}") int maxChunksPerRun,
+                               @Value("${reservation.archive.pause-between-chunks-ms:200}") long pauseBetweenChunksMs) {
+        this.reservationRepository = reservationRepository;
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.pauseBetweenChunksMs = pauseBetweenChunksMs;
+    }
+    
+    /**
+     * Arquiva as reservas finalizadas anteriores ao limite de retenção.
+     */
+    @Scheduled(fixedDelayString = "${reservation.archive.interval-ms:3600000}",
+               initialDelayString = "${reservation.archive.initial-delay-ms:300000}")
+    public void archive() {
+        int cutoffMinute = EpochMinutes.startOfDay(LocalDate.now().minusDays(retentionDays));
+        long total = 0;
+        
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            int moved;
+            try {
+                moved = archiveChunk(cutoffMinute);
+            } catch (Exception e) {
+                log.error("Error archiving reservations, stopping this run", e);
+                break;
+            }
+            total += moved;
+            if (moved < chunkSize || !pause()) {
+                break;
+            }
+        }
+        
+        if (total > 0) {
+            log.info("Archived {} finalized reservations older than {} days", total, retentionDays);
+        }
+    }
+    
+    /**
+     * Move um lote de reservas para o arquivo em uma única transação.
+     * 
+     * @return quantidade de reservas movidas
+     */
+    public int archiveChunk(int cutoffMinute) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<String> ids = reservationRepository.findIdsToArchive(
+                ReservationEntity.ReservationStatus.FINALIZED, cutoffMinute, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            archiveRepository.copyFromReservations(ids);
+            return reservationRepository.deleteByIds(ids);
+        });
+        return moved != null ? moved : 0;
+    }
+    
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseBetweenChunksMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.restaurant.reservation.infrastructure.bookingstate;
+
+import com.restaurant.reservation.domain.repository.BookingState;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Prontidão do estado de reservas em memória ("bookingState"), incluída no
+ * grupo readiness (/actuator/health/readiness).
+ * 
+ * Enquanto a carga inicial não termina, a instância informa OUT_OF_SERVICE
+ * e a busca de mesas livres consulta o banco; assim o balanceador só envia
+ * tráfego a instâncias com o estado já carregado.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Component("bookingStateHealthIndicator")
+public class BookingStateHealthIndicator implements HealthIndicator {
+    
+    private final BookingState bookingState;
+    
+    public BookingStateHealthIndicator(BookingState bookingState) {
+        this.bookingState = bookingState;
+    }
+    
+    @Override
+    public Health health() {
+        if (bookingState.isReady()) {
+            return Health.up().withDetail("source", "memory").build();
+        }
+        return Health.outOfService().withDetail("source", "database").build();
+    }
+}
@@ -0,0 +1,273 @@
+package com.restaurant.reservation.infrastructure.bookingstate;
+
+import com.restaurant.reservation.application.service.availability.CoalescedReservationQueries;
+import com.restaurant.reservation.infrastructure.bookingstate.InMemoryBookingState.ActiveSlot;
+import com.restaurant.reservation.infrastructure.bookingstate.InMemoryBookingState.TableInfo;
+import com.restaurant.reservation.infrastructure.persistence.entity.ReservationEntity;
+import com.restaurant.reservation.infrastructure.persistence.entity.TableEntity;
+import com.restaurant.reservation.infrastructure.persistence.mapper.EpochMinutes;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaReservationRepository;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaTableRepository;
+import com.restaurant.reservation.infrastructure.web.ResourceVersions;
+import com.restaurant.reservation.infrastructure.web.SerializedResponseCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Carrega e mantém o estado de reservas em memória.
+ * 
+ * Na inicialização, lê o snapshot do disco e busca no banco apenas as
+ * reservas alteradas desde o watermark do snapshot, de modo que o tempo de
+ * partida depende do volume de alterações e não do tamanho do banco.
+ * Sem snapshot válido, a carga completa é feita em segundo plano (repetida
+ * até ter sucesso) e a busca de mesas livres usa o banco até ela terminar;
+ * enquanto isso, o BookingStateHealthIndicator deixa a instância fora do
+ * grupo readiness.
+ * 
+ * Remoções feitas diretamente no banco não alteram updated_at; elas são
+ * refletidas na recarga completa periódica.
+ * 
+ * A cada atualização, as ETags (ResourceVersions) e as respostas em cache
+ * (SerializedResponseCache) das reservas trazidas do banco e da lista de
+ * mesas são invalidadas, assim como as consultas agrupadas
+ * (CoalescedReservationQueries) das mesas e datas delas. Como cada ciclo
+ * relê a janela de sobreposição, uma reserva só é reaplicada e invalidada
+ * quando a sua versão (version/updated_at) muda em relação à já aplicada.
+ * Mesas não têm updated_at: a lista só é invalidada quando o hash das
+ * linhas lidas difere do ciclo anterior.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Component
+@Profile("!inmemory")
+@Slf4j
+public class BookingStateLoader implements ApplicationRunner {
+    
+    private static final int SANITY_SAMPLE_SIZE = 64;
+    
+    private final InMemoryBookingState state;
+    private final JpaReservationRepository reservationRepository;
+    private final JpaTableRepository tableRepository;
+    private final ResourceVersions resourceVersions;
+    private final SerializedResponseCache responseCache;
+    private final CoalescedReservationQueries reservationQueries;
+    private final Path snapshotPath;
+    private final long catchUpOverlapMs;
+    private final long retryDelayMs;
+    
+    /** Versões já aplicadas das reservas ainda dentro da janela de sobreposição. */
+    private final Map<String, AppliedVersion> appliedVersions = new HashMap<>();
+    private Integer tablesHash;
+    
+    public BookingStateLoader(InMemoryBookingState state,
+                              JpaReservationRepository reservationRepository,
+                              JpaTableRepository tableRepository,
+                              ResourceVersions resourceVersions,
+                              SerializedResponseCache responseCache,
+                              CoalescedReservationQueries reservationQueries,
+                              @Value("${reservation.booking-state.snapshot.path:./data/booking-state.snap}") String snapshotPath,
+                              @Value("${reservation.booking-state.catch-up-overlap-ms:5000}") long catchUpOverlapMs,
+                              @Value("${reservation.booking-state.refresh-interval-ms:5000}") long retryDelayMs) {
+        this.state = state;
+        this.reservationRepository = reservationRepository;
+        this.tableRepository = tableRepository;
+        this.resourceVersions = resourceVersions;
+        this.responseCache = responseCache;
+        this.reservationQueries = reservationQueries;
+        this.snapshotPath = Path.of(snapshotPath);
+        this.catchUpOverlapMs = catchUpOverlapMs;
+        this.retryDelayMs = retryDelayMs;
+    }
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.nanoTime();
+        
+        Optional<BookingStateSnapshotFile.Snapshot> snapshot = readSnapshot();
+        if (snapshot.isPresent() && matchesDatabase(snapshot.get())) {
+            BookingStateSnapshotFile.Snapshot loaded = snapshot.get();
+            state.replace(loaded.getTables(), loaded.getSlots(), loaded.getWatermark());
+            catchUp();
+            state.markReady();
+            log.info("Booking state warm start from {} in {} ms", 
+                snapshotPath, (System.nanoTime() - started) / 1_000_000);
+            return;
+        }
+        
+        Thread loader = new Thread(this::loadInBackground, "booking-state-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+    
+    /**
+     * Busca no banco as alterações desde o último watermark.
+     */
+    @Scheduled(fixedDelayString = "${reservation.booking-state.refresh-interval-ms:5000}")
+    public synchronized void catchUp() {
+        if (state.getWatermark().equals(LocalDateTime.MIN)) {
+            return; // Carga inicial ainda não concluída
+        }
+        LocalDateTime since = state.getWatermark().minus(Duration.ofMillis(catchUpOverlapMs));
+        List<ReservationEntity> changed = reservationRepository.findUpdatedSince(since);
+        
+        LocalDateTime latest = null;
+        int applied = 0;
+        for (ReservationEntity entity : changed) {
+            if (entity.getUpdatedAt() != null && (latest == null || entity.getUpdatedAt().isAfter(latest))) {
+                latest = entity.getUpdatedAt();
+            }
+            if (!advanced(entity)) {
+                continue;
+            }
+            applied++;
+            state.apply(entity.getId(), entity.getTableId(), entity.getStartMinute(), 
+                entity.getDurationInMinutes(), entity.getStatus());
+            resourceVersions.reservationChanged(entity.getId());
+            LocalDate date = EpochMinutes.toLocalDateTime(entity.getStartMinute()).toLocalDate();
+            responseCache.reservationChanged(entity.getId(), date);
+            reservationQueries.reservationChanged(entity.getTableId(), date);
+        }
+        appliedVersions.values().removeIf(version -> version.getUpdatedAt().isBefore(since));
+        List<TableEntity> tables = tableRepository.findAll();
+        int hash = new HashSet<>(tables).hashCode();
+        if (tablesHash == null || tablesHash != hash) {
+            tables.forEach(state::applyTable);
+            responseCache.tablesChanged();
+            tablesHash = hash;
+        }
+        state.advanceWatermark(latest);
+        
+        int pruned = state.pruneEndedBefore(EpochMinutes.of(LocalDateTime.now()));
+        if (applied > 0 || pruned > 0) {
+            log.debug("Booking state caught up: {} changed, {} ended reservations pruned", applied, pruned);
+        }
+    }
+    
+    /**
+     * Indica se a reserva mudou desde a última vez que foi aplicada, e registra a versão vista.
+     */
+    private boolean advanced(ReservationEntity entity) {
+        if (entity.getUpdatedAt() == null) {
+            return true;
+        }
+        AppliedVersion current = new AppliedVersion(entity.getUpdatedAt(), entity.getVersion());
+        return !current.equals(appliedVersions.put(entity.getId(), current));
+    }
+    
+    /**
+     * Grava o snapshot do estado atual.
+     */
+    @Scheduled(fixedDelayString = "${reservation.booking-state.snapshot.interval-ms:30000}",
+               initialDelayString = "${reservation.booking-state.snapshot.interval-ms:30000}")
+    public void writeSnapshot() {
+        if (!state.isReady()) {
+            return;
+        }
+        try {
+            LocalDateTime watermark = state.getWatermark();
+            BookingStateSnapshotFile.write(snapshotPath, watermark, state.tables(), state.slots());
+            log.debug("Booking state snapshot written to {} (watermark {})", snapshotPath, watermark);
+        } catch (Exception e) {
+            log.error("Error writing booking state snapshot to {}", snapshotPath, e);
+        }
+    }
+    
+    /**
+     * Recarrega todo o estado a partir do banco.
+     */
+    @Scheduled(fixedDelayString = "${reservation.booking-state.full-reload-interval-ms:3600000}",
+               initialDelayString = "${reservation.booking-state.full-reload-interval-ms:3600000}")
+    public synchronized void reload() {
+        LocalDateTime watermark = LocalDateTime.now();
+        int fromMinute = EpochMinutes.of(watermark) - InMemoryBookingState.MAX_DURATION_MINUTES;
+        
+        List<TableInfo> tables = new ArrayList<>();
+        for (TableEntity table : tableRepository.findAll()) {
+            tables.add(TableInfo.of(table));
+        }
+        List<ActiveSlot> slots = new ArrayList<>();
+        for (ReservationEntity entity : reservationRepository.findByStatusInStartingFrom(
+                ReservationEntity.ReservationStatus.ACTIVE, fromMinute)) {
+            slots.add(new ActiveSlot(entity.getId(), entity.getTableId(), entity.getStartMinute(), 
+                entity.getDurationInMinutes(), entity.getStatus().getCode()));
+        }
+        state.replace(tables, slots, watermark);
+        appliedVersions.clear();
+        catchUp();
+    }
+    
+    private void loadInBackground() {
+        long started = System.nanoTime();
+        while (!state.isReady()) {
+            try {
+                reload();
+                state.markReady();
+                writeSnapshot();
+                log.info("Booking state loaded from database in {} ms", (System.nanoTime() - started) / 1_000_000);
+            } catch (Exception e) {
+                log.error("Error loading booking state; retrying in {} ms, available tables are checked against the database", 
+                    retryDelayMs, e);
+                try {
+                    Thread.sleep(retryDelayMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+    
+    private Optional<BookingStateSnapshotFile.Snapshot> readSnapshot() {
+        try {
+            return BookingStateSnapshotFile.read(snapshotPath);
+        } catch (Exception e) {
+            log.warn("Ignoring unreadable booking state snapshot {}", snapshotPath, e);
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Verifica se o snapshot pertence a este banco: se nenhuma das reservas
+     * amostradas existir (ex.: banco recriado), o snapshot é descartado.
+     */
+    private boolean matchesDatabase(BookingStateSnapshotFile.Snapshot snapshot) {
+        List<String> sample = snapshot.getSlots().stream()
+            .limit(SANITY_SAMPLE_SIZE)
+            .map(ActiveSlot::getReservationId)
+            .toList();
+        if (sample.isEmpty()) {
+            return !snapshot.getTables().isEmpty() && tableRepository.count() > 0;
+        }
+        boolean matches = reservationRepository.countByIdIn(sample) > 0;
+        if (!matches) {
+            log.warn("Booking state snapshot {} does not match the database; discarding it", snapshotPath);
+        }
+        return matches;
+    }
+    
+    /**
+     * Versão de uma reserva já refletida no estado e nos caches.
+     */
+    @lombok.Value
+    private static class AppliedVersion {
+        LocalDateTime updatedAt;
+        Long version;
+    }
+}
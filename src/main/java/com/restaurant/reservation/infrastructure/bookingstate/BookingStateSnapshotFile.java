@@ -0,0 +1,156 @@
+package com.restaurant.reservation.infrastructure.bookingstate;
+
+import com.restaurant.reservation.infrastructure.bookingstate.InMemoryBookingState.ActiveSlot;
+import com.restaurant.reservation.infrastructure.bookingstate.InMemoryBookingState.TableInfo;
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Arquivo binário com o snapshot do estado de reservas em memória.
+ * O arquivo é lido e escrito por mapeamento em memória; a escrita é feita em
+ * um arquivo temporário e movida atomicamente sobre o anterior.
+ * 
+ * Formato: assinatura (int), versão (int), watermark em segundos (long),
+ * quantidade de mesas (int) e, por mesa, id, capacidade (int) e ativa (byte);
+ * quantidade de reservas (int) e, por reserva, id, id da mesa, minuto de
+ * início (int), duração (short) e código do status (byte).
+ * Textos são gravados como tamanho (short) seguido dos bytes em UTF-8.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+public final class BookingStateSnapshotFile {
+    
+    private static final int MAGIC = 0x52425354;
+    private static final int FORMAT_VERSION = 1;
+    
+    private BookingStateSnapshotFile() {
+    }
+    
+    /**
+     * Conteúdo de um snapshot.
+     */
+    @Value
+    public static class Snapshot {
+        LocalDateTime watermark;
+        List<TableInfo> tables;
+        List<ActiveSlot> slots;
+    }
+    
+    /**
+     * Grava o snapshot no caminho informado.
+     */
+    public static void write(Path path, LocalDateTime watermark, Collection<TableInfo> tables,
+                             Collection<ActiveSlot> slots) {
+        List<byte[]> texts = new ArrayList<>(tables.size() + slots.size() * 2);
+        long size = 4 + 4 + 8 + 4 + 4;
+        for (TableInfo table : tables) {
+            size += addText(texts, table.getTableId()) + 4 + 1;
+        }
+        for (ActiveSlot slot : slots) {
+            size += addText(texts, slot.getReservationId()) + addText(texts, slot.getTableId()) + 4 + 2 + 1;
+        }
+        
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, 
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                int text = 0;
+                buffer.putInt(MAGIC);
+                buffer.putInt(FORMAT_VERSION);
+                buffer.putLong(watermark.toEpochSecond(ZoneOffset.UTC));
+                buffer.putInt(tables.size());
+                for (TableInfo table : tables) {
+                    putText(buffer, texts.get(text++));
+                    buffer.putInt(table.getCapacity());
+                    buffer.put((byte) (table.isActive() ? 1 : 0));
+                }
+                buffer.putInt(slots.size());
+                for (ActiveSlot slot : slots) {
+                    putText(buffer, texts.get(text++));
+                    putText(buffer, texts.get(text++));
+                    buffer.putInt(slot.getStartMinute());
+                    buffer.putShort((short) slot.getDurationInMinutes());
+                    buffer.put((byte) slot.getStatusCode());
+                }
+                buffer.force();
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing booking state snapshot to " + path, e);
+        }
+    }
+    
+    /**
+     * Lê o snapshot do caminho informado.
+     * Retorna vazio se o arquivo não existir ou estiver em formato desconhecido.
+     */
+    public static Optional<Snapshot> read(Path path) {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 8 || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            LocalDateTime watermark = LocalDateTime.ofEpochSecond(buffer.getLong(), 0, ZoneOffset.UTC);
+            
+            int tableCount = buffer.getInt();
+            List<TableInfo> tables = new ArrayList<>(tableCount);
+            for (int i = 0; i < tableCount; i++) {
+                tables.add(new TableInfo(getText(buffer), buffer.getInt(), buffer.get() == 1));
+            }
+            
+            int slotCount = buffer.getInt();
+            List<ActiveSlot> slots = new ArrayList<>(slotCount);
+            for (int i = 0; i < slotCount; i++) {
+                slots.add(new ActiveSlot(getText(buffer), getText(buffer), 
+                    buffer.getInt(), buffer.getShort(), buffer.get()));
+            }
+            return Optional.of(new Snapshot(watermark, tables, slots));
+        } catch (BufferUnderflowException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading booking state snapshot from " + path, e);
+        }
+    }
+    
+    private static int addText(List<byte[]> texts, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        texts.add(bytes);
+        return 2 + bytes.length;
+    }
+    
+    private static void putText(MappedByteBuffer buffer, byte[] bytes) {
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+    
+    private static String getText(MappedByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
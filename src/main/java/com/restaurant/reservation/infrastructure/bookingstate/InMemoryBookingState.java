@@ -0,0 +1,259 @@
+package com.restaurant.reservation.infrastructure.bookingstate;
+
+import com.restaurant.reservation.domain.repository.BookingState;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import com.restaurant.reservation.infrastructure.persistence.entity.ReservationEntity;
+import com.restaurant.reservation.infrastructure.persistence.entity.TableEntity;
+import com.restaurant.reservation.infrastructure.persistence.mapper.EpochMinutes;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Estado de reservas em memória: mesas e reservas ativas, indexadas por mesa
+ * e horário de início.
+ * 
+ * Alterações feitas pela aplicação são aplicadas após o commit da transação;
+ * alterações feitas fora dela são trazidas pelo BookingStateLoader a partir
+ * da coluna updated_at.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Component
+@Profile("!inmemory")
+@Slf4j
+public class InMemoryBookingState implements BookingState {
+    
+    /**
+     * Duração máxima de uma reserva, usada para limitar a busca de conflitos.
+     */
+    static final int MAX_DURATION_MINUTES = 480;
+    
+    private static final Comparator<ActiveSlot> BY_START = 
+        Comparator.comparingInt(ActiveSlot::getStartMinute).thenComparing(ActiveSlot::getReservationId);
+    
+    private volatile Book book = new Book();
+    private volatile boolean ready;
+    private volatile LocalDateTime watermark = LocalDateTime.MIN;
+    
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+    
+    @Override
+    public List<TableId> findAvailableTables(int numberOfPeople, ReservationTime reservationTime) {
+        int startMinute = EpochMinutes.of(reservationTime.getDateTime());
+        int endMinute = EpochMinutes.of(reservationTime.getEndTime());
+        Book current = book;
+        
+        return current.tables.values().stream()
+            .filter(table -> table.isActive() && table.getCapacity() >= numberOfPeople)
+            .filter(table -> current.overlapping(table.getTableId(), startMinute, endMinute).isEmpty())
+            .sorted(Comparator.comparingInt(TableInfo::getCapacity).thenComparing(TableInfo::getTableId))
+            .map(table -> TableId.of(table.getTableId()))
+            .toList();
+    }
+    
+    /**
+     * Registra uma reserva gravada; aplicada ao estado após o commit.
+     */
+    public void recordSaved(ReservationEntity entity) {
+        String reservationId = entity.getId();
+        String tableId = entity.getTableId();
+        int startMinute = entity.getStartMinute();
+        int duration = entity.getDurationInMinutes();
+        ReservationEntity.ReservationStatus status = entity.getStatus();
+        runAfterCommit(() -> apply(reservationId, tableId, startMinute, duration, status));
+    }
+    
+    /**
+     * Registra a remoção de uma reserva; aplicada ao estado após o commit.
+     */
+    public void recordDeleted(String reservationId) {
+        runAfterCommit(() -> book.remove(reservationId));
+    }
+    
+    /**
+     * Registra uma mesa gravada; aplicada ao estado após o commit.
+     */
+    public void recordTableSaved(TableEntity entity) {
+        TableInfo table = TableInfo.of(entity);
+        runAfterCommit(() -> book.tables.put(table.getTableId(), table));
+    }
+    
+    /**
+     * Aplica o estado atual de uma reserva: reservas ativas são indexadas,
+     * as demais são removidas.
+     */
+    public void apply(String reservationId, String tableId, int startMinute, int durationInMinutes,
+                      ReservationEntity.ReservationStatus status) {
+        if (ReservationEntity.ReservationStatus.ACTIVE.contains(status)) {
+            book.put(new ActiveSlot(reservationId, tableId, startMinute, durationInMinutes, status.getCode()));
+        } else {
+            book.remove(reservationId);
+        }
+    }
+    
+    /**
+     * Aplica o estado atual de uma mesa.
+     */
+    public void applyTable(TableEntity entity) {
+        TableInfo table = TableInfo.of(entity);
+        book.tables.put(table.getTableId(), table);
+    }
+    
+    /**
+     * Substitui todo o estado (carga de snapshot ou recarga completa).
+     */
+    public void replace(Collection<TableInfo> tables, Collection<ActiveSlot> slots, LocalDateTime watermark) {
+        Book fresh = new Book();
+        tables.forEach(table -> fresh.tables.put(table.getTableId(), table));
+        slots.forEach(fresh::put);
+        this.book = fresh;
+        this.watermark = watermark;
+        log.info("Booking state replaced: {} tables, {} active reservations (watermark {})", 
+            tables.size(), slots.size(), watermark);
+    }
+    
+    /**
+     * Remove as reservas que terminaram antes do minuto informado.
+     */
+    public int pruneEndedBefore(int minute) {
+        int removed = 0;
+        for (ActiveSlot slot : book.slots.values()) {
+            if (slot.getStartMinute() + slot.getDurationInMinutes() < minute && book.remove(slot.getReservationId())) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+    
+    public void markReady() {
+        this.ready = true;
+    }
+    
+    public LocalDateTime getWatermark() {
+        return watermark;
+    }
+    
+    public void advanceWatermark(LocalDateTime candidate) {
+        if (candidate != null && candidate.isAfter(watermark)) {
+            this.watermark = candidate;
+        }
+    }
+    
+    public Collection<TableInfo> tables() {
+        return List.copyOf(book.tables.values());
+    }
+    
+    public Collection<ActiveSlot> slots() {
+        return List.copyOf(book.slots.values());
+    }
+    
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    /**
+     * Índices do estado. Trocados atomicamente em uma recarga completa.
+     */
+    private static final class Book {
+        
+        private final ConcurrentHashMap<String, TableInfo> tables = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, ActiveSlot> slots = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, NavigableSet<ActiveSlot>> slotsByTable = new ConcurrentHashMap<>();
+        
+        void put(ActiveSlot slot) {
+            slots.compute(slot.getReservationId(), (id, previous) -> {
+                if (previous != null) {
+                    tableSlots(previous.getTableId()).remove(previous);
+                }
+                tableSlots(slot.getTableId()).add(slot);
+                return slot;
+            });
+        }
+        
+        boolean remove(String reservationId) {
+            ActiveSlot previous = slots.remove(reservationId);
+            if (previous == null) {
+                return false;
+            }
+            tableSlots(previous.getTableId()).remove(previous);
+            return true;
+        }
+        
+        List<ActiveSlot> overlapping(String tableId, int startMinute, int endMinute) {
+            NavigableSet<ActiveSlot> tableSlots = slotsByTable.get(tableId);
+            if (tableSlots == null) {
+                return List.of();
+            }
+            ActiveSlot from = ActiveSlot.probe(startMinute - MAX_DURATION_MINUTES);
+            ActiveSlot to = ActiveSlot.probe(endMinute);
+            List<ActiveSlot> overlapping = new ArrayList<>();
+            for (ActiveSlot slot : tableSlots.subSet(from, true, to, false)) {
+                if (slot.getStartMinute() + slot.getDurationInMinutes() > startMinute) {
+                    overlapping.add(slot);
+                }
+            }
+            return overlapping;
+        }
+        
+        private NavigableSet<ActiveSlot> tableSlots(String tableId) {
+            return slotsByTable.computeIfAbsent(tableId, id -> new ConcurrentSkipListSet<>(BY_START));
+        }
+    }
+    
+    /**
+     * Reserva ativa no estado em memória.
+     */
+    @Value
+    public static class ActiveSlot {
+        String reservationId;
+        String tableId;
+        int startMinute;
+        int durationInMinutes;
+        short statusCode;
+        
+        static ActiveSlot probe(int startMinute) {
+            return new ActiveSlot("", "", startMinute, 0, (short) 0);
+        }
+    }
+    
+    /**
+     * Mesa no estado em memória.
+     */
+    @Value
+    public static class TableInfo {
+        String tableId;
+        int capacity;
+        boolean active;
+        
+        static TableInfo of(TableEntity entity) {
+            return new TableInfo(entity.getId(), entity.getCapacity(), Boolean.TRUE.equals(entity.getIsActive()));
+        }
+    }
+}
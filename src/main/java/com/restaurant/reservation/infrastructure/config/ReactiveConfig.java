@@ -0,0 +1,96 @@
+package com.restaurant.reservation.infrastructure.config;
+
+import io.r2dbc.spi.Closeable;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.resources.LoopResources;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+
+/**
+ * Configuração do modo de implantação reativo (perfil "reactive").
+ * 
+ * O servidor HTTP é o Netty, com um event loop de poucas threads; as
+ * consultas de mesas e reservas usam R2DBC sobre o mesmo banco mantido pelo
+ * JPA, com o usuário e a senha do DataSource. O JPA continua ativo para as gravações e os jobs em segundo plano,
+ * que rodam no agendador de tarefas bloqueantes.
+ * 
+ * A ConnectionFactory do R2DBC não é exposta como bean: assim a
+ * inicialização do schema (spring.sql.init) e as transações continuam com o
+ * DataSource e o gerenciador de transações do JPA.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Configuration
+@Profile("reactive")
+@Slf4j
+public class ReactiveConfig {
+    
+    private final ConnectionFactory connectionFactory;
+    private final LoopResources loopResources;
+    private final Scheduler blockingScheduler;
+    
+    public ReactiveConfig(@Value("${reservation.reactive.r2dbc.url:r2dbc:pool:h2:mem:///reservationdb}") String r2dbcUrl,
+                          @Value("${spring.datasource.username:sa}") String username,
+                          @Value("${spring.datasource.password:}") String password,
+                          @Value("${reservation.reactive.event-loop-threads:4}") int eventLoopThreads,
+                          @Value("${reservation.reactive.blocking-threads:32}") int blockingThreads,
+                          @Value("${reservation.reactive.blocking-queue-capacity:10000}") int blockingQueueCapacity) {
+        if (eventLoopThreads < 1 || blockingThreads < 1) {
+            throw new IllegalArgumentException("Event loop and blocking thread counts must be positive");
+        }
+        this.connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(r2dbcUrl).mutate()
+            .option(ConnectionFactoryOptions.USER, username)
+            .option(ConnectionFactoryOptions.PASSWORD, password)
+            .build());
+        this.loopResources = LoopResources.create("reactive-http", eventLoopThreads, true);
+        this.blockingScheduler = Schedulers.newBoundedElastic(blockingThreads, blockingQueueCapacity, "reactive-blocking");
+        log.info("Reactive mode: {} event loop threads, {} blocking threads, R2DBC at {}", 
+            eventLoopThreads, blockingThreads, r2dbcUrl);
+    }
+    
+    /**
+     * Servidor Netty no lugar do Tomcat, que também está no classpath.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+        factory.addServerCustomizers(server -> server.runOn(loopResources));
+        return factory;
+    }
+    
+    @Bean
+    public DatabaseClient reactiveDatabaseClient() {
+        return DatabaseClient.create(connectionFactory);
+    }
+    
+    /**
+     * Agendador das chamadas bloqueantes (JPA) feitas a partir dos endpoints reativos.
+     */
+    @Bean
+    public Scheduler blockingScheduler() {
+        return blockingScheduler;
+    }
+    
+    @PreDestroy
+    public void close() {
+        blockingScheduler.dispose();
+        if (connectionFactory instanceof Closeable closeable) {
+            Mono.from(closeable.close()).block(Duration.ofSeconds(5));
+        }
+        loopResources.disposeLater().block(Duration.ofSeconds(5));
+    }
+}
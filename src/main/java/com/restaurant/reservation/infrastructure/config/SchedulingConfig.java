@@ -0,0 +1,15 @@
+package com.restaurant.reservation.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas agendadas da aplicação (snapshots, jobs de manutenção).
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,301 @@
+package com.restaurant.reservation.infrastructure.deadletter;
+
+import com.restaurant.reservation.application.dto.DeadLetterReplayStatus;
+import com.restaurant.reservation.application.service.integration.EmailService;
+import com.restaurant.reservation.application.service.integration.FailedMessage;
+import com.restaurant.reservation.application.service.integration.FailedMessage.Channel;
+import com.restaurant.reservation.application.service.integration.SmsService;
+import com.restaurant.reservation.application.service.integration.TokenBucket;
+import com.restaurant.reservation.infrastructure.persistence.entity.DeadLetterEntity;
+import com.restaurant.reservation.infrastructure.persistence.entity.DeadLetterEntity.DeadLetterStatus;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaDeadLetterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Reenvio em lote das notificações mortas, depois que o provedor se recupera.
+ * 
+ * As mensagens são reenviadas em blocos: cada bloco é reservado no banco,
+ * enviado com prioridade baixa na fila do provedor (o tráfego normal sempre
+ * sai antes) e limitado por um balde de fichas próprio, de modo que o reenvio
+ * use só uma parte da cota do provedor. O próximo bloco só começa depois que
+ * o anterior termina, e a execução para se um bloco inteiro falhar, sinal de
+ * que o provedor ainda não se recuperou. Roda no máximo uma execução por vez.
+ * 
+ * Se a execução parar com um bloco ainda em curso (prazo do bloco esgotado,
+ * interrupção ou erro), as mensagens do bloco sem resposta voltam ao estado
+ * pendente, para que a próxima execução as reenvie sem esperar um reinício.
+ * Uma resposta que chegue depois ainda atualiza a mensagem.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class DeadLetterReplayer {
+    
+    private final JpaDeadLetterRepository repository;
+    private final JpaDeadLetterStore store;
+    private final EmailService emailService;
+    private final SmsService smsService;
+    private final int chunkSize;
+    private final double permitsPerSecond;
+    private final long pauseBetweenChunksMs;
+    private final long chunkTimeoutMs;
+    private final ExecutorService executor;
+    
+    private volatile DeadLetterReplayStatus status;
+    private volatile boolean stopRequested;
+    
+    public DeadLetterReplayer(JpaDeadLetterRepository repository,
+                              JpaDeadLetterStore store,
+                              EmailService emailService,
+                              SmsService smsService,
+                              @Value("${reservation.notification.dead-letter.replay.chunk-size:100}") int chunkSize,
+                              @Value("${reservation.notification.dead-letter.replay.permits-per-second:5}") double permitsPerSecond,
+                              @Value("${reservation.notification.dead-letter.replay.pause-between-chunks-ms:1000}") long pauseBetweenChunksMs,
+                              @Value("${reservation.notification.dead-letter.replay.chunk-timeout-ms:120000}") long chunkTimeoutMs) {
+        if (chunkSize < 1 || permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("Replay chunk size and rate must be positive");
+        }
+        this.repository = repository;
+        this.store = store;
+        this.emailService = emailService;
+        this.smsService = smsService;
+        this.chunkSize = chunkSize;
+        this.permitsPerSecond = permitsPerSecond;
+        this.pauseBetweenChunksMs = pauseBetweenChunksMs;
+        this.chunkTimeoutMs = chunkTimeoutMs;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dead-letter-replay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.status = DeadLetterReplayStatus.builder().running(false).build();
+    }
+    
+    /**
+     * Devolve ao estado pendente as mensagens deixadas em reenvio por uma
+     * execução interrompida. Elas podem ter sido entregues; o reenvio é
+     * "pelo menos uma vez".
+     */
+    @PostConstruct
+    public void recoverInterrupted() {
+        int reset = repository.resetReplaying();
+        if (reset > 0) {
+            log.warn("Reset {} dead letters left in replay by a previous run", reset);
+        }
+    }
+    
+    /**
+     * Inicia o reenvio das mensagens pendentes.
+     * 
+     * @param channel canal a reenviar; nulo para todos
+     * @param maxMessages máximo de mensagens nesta execução
+     * @return andamento da nova execução, ou vazio se já houver uma em curso
+     */
+    public synchronized Optional<DeadLetterReplayStatus> start(Channel channel, int maxMessages) {
+        if (maxMessages < 1) {
+            throw new IllegalArgumentException("Max messages must be positive");
+        }
+        if (status.isRunning()) {
+            return Optional.empty();
+        }
+        stopRequested = false;
+        status = DeadLetterReplayStatus.builder()
+            .running(true)
+            .channel(channel)
+            .maxMessages(maxMessages)
+            .startedAt(LocalDateTime.now())
+            .build();
+        executor.execute(() -> run(channel, maxMessages));
+        return Optional.of(status);
+    }
+    
+    /**
+     * Pede a interrupção da execução em curso ao fim do bloco atual.
+     */
+    public void stop() {
+        stopRequested = true;
+    }
+    
+    /**
+     * Retorna o andamento da execução atual ou da última.
+     */
+    public DeadLetterReplayStatus getStatus() {
+        return status;
+    }
+    
+    @PreDestroy
+    public void close() {
+        stopRequested = true;
+        executor.shutdownNow();
+    }
+    
+    private void run(Channel channel, int maxMessages) {
+        Set<Channel> channels = channel != null ? EnumSet.of(channel) : EnumSet.allOf(Channel.class);
+        TokenBucket bucket = new TokenBucket(permitsPerSecond, Math.max(1, (long) permitsPerSecond));
+        AtomicInteger replayed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        int submitted = 0;
+        long lastId = 0L;
+        String stopReason = "completed";
+        List<DeadLetterEntity> chunk = List.of();
+        List<CompletableFuture<Void>> results = List.of();
+        
+        try {
+            while (submitted < maxMessages) {
+                if (stopRequested) {
+                    stopReason = "stopped";
+                    break;
+                }
+                List<DeadLetterEntity> claimed = claimChunk(channels, lastId,
+                    Math.min(chunkSize, maxMessages - submitted));
+                if (claimed == null) {
+                    break;
+                }
+                chunk = claimed;
+                results = new ArrayList<>(chunk.size());
+                lastId = chunk.get(chunk.size() - 1).getId();
+                
+                int failedBefore = failed.get();
+                for (DeadLetterEntity entity : chunk) {
+                    bucket.acquire();
+                    results.add(replay(entity, replayed, failed));
+                }
+                submitted += chunk.size();
+                updateStatus(submitted, replayed.get(), failed.get(), null);
+                
+                try {
+                    CompletableFuture.allOf(results.toArray(new CompletableFuture[0]))
+                        .get(chunkTimeoutMs, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    stopReason = "chunk did not finish within " + chunkTimeoutMs + " ms";
+                    break;
+                }
+                if (failed.get() - failedBefore == chunk.size()) {
+                    stopReason = "whole chunk failed, provider still unavailable";
+                    break;
+                }
+                Thread.sleep(pauseBetweenChunksMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopReason = "interrupted";
+        } catch (Exception e) {
+            log.error("Dead letter replay failed", e);
+            stopReason = "error: " + e.getMessage();
+        }
+        releaseUnfinished(chunk, results);
+        
+        log.info("Dead letter replay finished ({}): submitted={}, replayed={}, failed={}", 
+            stopReason, submitted, replayed.get(), failed.get());
+        updateStatus(submitted, replayed.get(), failed.get(), stopReason);
+    }
+    
+    /**
+     * Reserva o próximo bloco de mensagens pendentes.
+     * 
+     * @return bloco reservado, ou nulo se não houver mais mensagens
+     */
+    private List<DeadLetterEntity> claimChunk(Set<Channel> channels, long afterId, int limit) {
+        while (true) {
+            List<DeadLetterEntity> candidates = repository.findByStatusAndChannelInAndIdGreaterThanOrderByIdAsc(
+                DeadLetterStatus.PENDING, channels, afterId, PageRequest.of(0, limit));
+            if (candidates.isEmpty()) {
+                return null;
+            }
+            List<Long> ids = candidates.stream().map(DeadLetterEntity::getId).collect(Collectors.toList());
+            if (repository.markReplaying(ids) == ids.size()) {
+                return candidates;
+            }
+            // Outra operação (descarte ou outra instância) alterou parte do bloco: reserva de novo
+            List<DeadLetterEntity> claimed = repository.findAllById(ids).stream()
+                .filter(entity -> entity.getStatus() == DeadLetterStatus.REPLAYING)
+                .sorted((first, second) -> Long.compare(first.getId(), second.getId()))
+                .collect(Collectors.toList());
+            if (!claimed.isEmpty()) {
+                return claimed;
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+    
+    /**
+     * Devolve ao estado pendente as mensagens do bloco que ainda não tiveram resposta.
+     */
+    private void releaseUnfinished(List<DeadLetterEntity> chunk, List<CompletableFuture<Void>> results) {
+        List<Long> unfinished = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i >= results.size() || !results.get(i).isDone()) {
+                unfinished.add(chunk.get(i).getId());
+            }
+        }
+        if (unfinished.isEmpty()) {
+            return;
+        }
+        try {
+            int released = repository.releaseReplaying(unfinished);
+            log.warn("Released {} dead letters left in replay by an unfinished chunk", released);
+        } catch (Exception e) {
+            log.error("Error releasing {} dead letters left in replay; they are reset on the next restart",
+                unfinished.size(), e);
+        }
+    }
+    
+    private CompletableFuture<Void> replay(DeadLetterEntity entity, AtomicInteger replayed, AtomicInteger failed) {
+        FailedMessage message = FailedMessage.builder()
+            .deadLetterId(entity.getId())
+            .channel(entity.getChannel())
+            .recipient(entity.getRecipient())
+            .subject(entity.getSubject())
+            .body(entity.getBody())
+            .priority(entity.getPriority())
+            .build();
+        
+        CompletableFuture<String> providerError = entity.getChannel() == Channel.EMAIL
+            ? emailService.redeliver(message).thenApply(EmailService.EmailResponse::getError)
+            : smsService.redeliver(message).thenApply(SmsService.SmsResponse::getError);
+        
+        return providerError.handle((error, exception) -> {
+            String failure = exception != null ? String.valueOf(exception.getMessage()) : error;
+            if (failure == null) {
+                store.markReplayed(entity.getId());
+                replayed.incrementAndGet();
+            } else {
+                store.recordFailedReplay(entity.getId(), failure);
+                failed.incrementAndGet();
+            }
+            return null;
+        });
+    }
+    
+    private synchronized void updateStatus(int submitted, int replayed, int failed, String stopReason) {
+        DeadLetterReplayStatus.DeadLetterReplayStatusBuilder builder = status.toBuilder()
+            .submitted(submitted)
+            .replayed(replayed)
+            .failed(failed);
+        if (stopReason != null) {
+            builder.running(false).stopReason(stopReason).finishedAt(LocalDateTime.now());
+        }
+        status = builder.build();
+    }
+}
@@ -0,0 +1,174 @@
+package com.restaurant.reservation.infrastructure.deadletter;
+
+import com.restaurant.reservation.application.dto.DeadLetterResponse;
+import com.restaurant.reservation.application.service.integration.DeadLetterStore;
+import com.restaurant.reservation.application.service.integration.FailedMessage;
+import com.restaurant.reservation.application.service.integration.FailedMessage.Channel;
+import com.restaurant.reservation.infrastructure.persistence.entity.DeadLetterEntity;
+import com.restaurant.reservation.infrastructure.persistence.entity.DeadLetterEntity.DeadLetterStatus;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaDeadLetterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementação do DeadLetterStore em banco de dados.
+ * 
+ * Uma mensagem que falha pela primeira vez gera uma nova linha; falhas de
+ * reenvio atualizam a linha original, somando a tentativa ao histórico,
+ * que guarda apenas as últimas entradas.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class JpaDeadLetterStore implements DeadLetterStore {
+    
+    private static final int MAX_ERROR_LENGTH = 500;
+    
+    private final JpaDeadLetterRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxHistory;
+    private final Counter recorded;
+    
+    public JpaDeadLetterStore(JpaDeadLetterRepository repository,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${reservation.notification.dead-letter.max-history:20}") int maxHistory) {
+        if (maxHistory < 1) {
+            throw new IllegalArgumentException("Max history must be positive");
+        }
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxHistory = maxHistory;
+        this.recorded = Counter.builder("reservation.notification.dead_letters")
+            .description("Notificações gravadas como mensagens mortas")
+            .register(meterRegistry);
+    }
+    
+    @Override
+    public void record(FailedMessage message) {
+        try {
+            if (message.getDeadLetterId() == null) {
+                insert(message);
+            } else {
+                recordFailedReplay(message.getDeadLetterId(), message.getError());
+            }
+        } catch (Exception e) {
+            log.error("Error storing dead letter for {} {}: {}", 
+                message.getChannel(), message.getRecipient(), e.getMessage());
+        }
+    }
+    
+    /**
+     * Registra a falha de um reenvio e devolve a mensagem ao estado pendente.
+     */
+    public void recordFailedReplay(Long id, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> repository.findById(id).ifPresent(entity -> {
+            entity.setStatus(DeadLetterStatus.PENDING);
+            entity.setAttempts(entity.getAttempts() + 1);
+            entity.setLastError(truncate(error));
+            entity.setLastFailedAt(now);
+            entity.setAttemptHistory(appendHistory(entity.getAttemptHistory(), error));
+        }));
+    }
+    
+    /**
+     * Registra o sucesso de um reenvio.
+     */
+    public void markReplayed(Long id) {
+        repository.markReplayed(id, LocalDateTime.now());
+    }
+    
+    /**
+     * Busca uma página de mensagens mortas; filtros nulos são ignorados.
+     */
+    public Page<DeadLetterResponse> search(Channel channel, DeadLetterStatus status, Pageable pageable) {
+        return repository.search(channel, status, pageable).map(this::toResponse);
+    }
+    
+    /**
+     * Busca uma mensagem morta por ID.
+     */
+    public Optional<DeadLetterResponse> findById(Long id) {
+        return repository.findById(id).map(this::toResponse);
+    }
+    
+    /**
+     * Descarta uma mensagem pendente, que deixa de ser reenviada.
+     * 
+     * @return true se a mensagem existia e estava pendente
+     */
+    public boolean discard(Long id) {
+        return repository.discard(id) > 0;
+    }
+    
+    private void insert(FailedMessage message) {
+        LocalDateTime now = LocalDateTime.now();
+        repository.save(DeadLetterEntity.builder()
+            .channel(message.getChannel())
+            .recipient(message.getRecipient())
+            .subject(message.getSubject())
+            .body(message.getBody())
+            .priority(message.getPriority())
+            .status(DeadLetterStatus.PENDING)
+            .attempts(1)
+            .lastError(truncate(message.getError()))
+            .attemptHistory(appendHistory(null, message.getError()))
+            .createdAt(now)
+            .lastFailedAt(now)
+            .build());
+        recorded.increment();
+    }
+    
+    private String appendHistory(String history, String error) {
+        List<String> entries = history == null || history.isEmpty() 
+            ? new ArrayList<>() 
+            : new ArrayList<>(Arrays.asList(history.split("\n")));
+        entries.add(Instant.now() + " | " + truncate(error).replace('\n', ' '));
+        if (entries.size() > maxHistory) {
+            entries = entries.subList(entries.size() - maxHistory, entries.size());
+        }
+        return String.join("\n", entries);
+    }
+    
+    private static String truncate(String error) {
+        String text = error != null ? error : "unknown error";
+        return text.length() > MAX_ERROR_LENGTH ? text.substring(0, MAX_ERROR_LENGTH) : text;
+    }
+    
+    private DeadLetterResponse toResponse(DeadLetterEntity entity) {
+        return DeadLetterResponse.builder()
+            .id(entity.getId())
+            .channel(entity.getChannel())
+            .recipient(entity.getRecipient())
+            .subject(entity.getSubject())
+            .body(entity.getBody())
+            .priority(entity.getPriority())
+            .status(entity.getStatus().name())
+            .attempts(entity.getAttempts())
+            .lastError(entity.getLastError())
+            .attemptHistory(entity.getAttemptHistory() == null 
+                ? List.of() 
+                : List.of(entity.getAttemptHistory().split("\n")))
+            .createdAt(entity.getCreatedAt())
+            .lastFailedAt(entity.getLastFailedAt())
+            .replayedAt(entity.getReplayedAt())
+            .build();
+    }
+}
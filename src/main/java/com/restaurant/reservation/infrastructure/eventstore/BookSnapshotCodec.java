@@ -0,0 +1,72 @@
+package com.restaurant.reservation.infrastructure.eventstore;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Codificação binária dos snapshots da agenda de uma mesa.
+ * Formato: versão (int), quantidade (int) e, por entrada, id da reserva (UTF),
+ * minuto de início (int), duração (short) e código do status (byte).
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+public final class BookSnapshotCodec {
+    
+    private static final int FORMAT_VERSION = 1;
+    
+    private BookSnapshotCodec() {
+    }
+    
+    /**
+     * Serializa o estado de uma mesa.
+     */
+    public static byte[] encode(TableBookState state) {
+        Map<String, int[]> entries = state.entries();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(16 + entries.size() * 48);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(entries.size());
+            for (Map.Entry<String, int[]> entry : entries.entrySet()) {
+                int[] values = entry.getValue();
+                out.writeUTF(entry.getKey());
+                out.writeInt(values[TableBookState.START]);
+                out.writeShort(values[TableBookState.DURATION]);
+                out.writeByte(values[TableBookState.STATUS]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error encoding book snapshot", e);
+        }
+        return buffer.toByteArray();
+    }
+    
+    /**
+     * Reconstrói o estado de uma mesa a partir do snapshot.
+     */
+    public static TableBookState decode(String tableId, byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported book snapshot version: " + version);
+            }
+            int count = in.readInt();
+            Map<String, int[]> entries = new HashMap<>(Math.max(16, count * 4 / 3 + 1));
+            for (int i = 0; i < count; i++) {
+                String reservationId = in.readUTF();
+                int start = in.readInt();
+                int duration = in.readShort();
+                int status = in.readByte();
+                entries.put(reservationId, new int[] {start, duration, status});
+            }
+            return new TableBookState(tableId, entries);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error decoding book snapshot", e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.restaurant.reservation.infrastructure.eventstore;
+
+import com.restaurant.reservation.infrastructure.persistence.entity.ReservationBookSnapshotEntity;
+import com.restaurant.reservation.infrastructure.persistence.entity.StoredEventEntity;
+import com.restaurant.reservation.infrastructure.persistence.mapper.StoredEventMapper;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaReservationBookSnapshotRepository;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaStoredEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Gera snapshots periódicos da agenda de cada mesa.
+ * Um novo snapshot só é gravado quando a mesa acumulou eventos suficientes
+ * desde o anterior; snapshots antigos são mantidos para consultas no passado.
+ * 
+ * A sequência é uma IDENTITY atribuída na inserção, não no commit: uma linha
+ * de sequência menor pode ficar visível depois de outra maior, e o replay
+ * nunca lê linhas anteriores ao lastSequence do snapshot. Por isso o
+ * snapshot só cobre eventos ocorridos há mais de commit-grace-ms, prazo
+ * que deve superar com folga a duração de uma transação de reserva.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class ReservationBookSnapshotJob {
+    
+    private final JpaStoredEventRepository storedEventRepository;
+    private final JpaReservationBookSnapshotRepository snapshotRepository;
+    private final ReservationEventReplayer replayer;
+    private final long minEventsBetweenSnapshots;
+    private final Duration commitGrace;
+    
+    public ReservationBookSnapshotJob(JpaStoredEventRepository storedEventRepository,
+                                      JpaReservationBookSnapshotRepository snapshotRepository,
+                                      ReservationEventReplayer replayer,
+                                      @Value("${reservation.event-store.snapshot.min-events:1000}") long minEventsBetweenSnapshots,
+                                      @Value("${reservation.event-store.snapshot.commit-grace-ms:60000}") long commitGraceMs) {
+        this.storedEventRepository = storedEventRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.replayer = replayer;
+        this.minEventsBetweenSnapshots = minEventsBetweenSnapshots;
+        this.commitGrace = Duration.ofMillis(commitGraceMs);
+    }
+    
+    /**
+     * Verifica todas as partições e gera os snapshots necessários.
+     */
+    @Scheduled(fixedDelayString = "${reservation.event-store.snapshot.interval-ms:60000}")
+    public void takeSnapshots() {
+        for (String tableId : storedEventRepository.findDistinctTableIds()) {
+            try {
+                snapshotTable(tableId);
+            } catch (Exception e) {
+                log.error("Error taking book snapshot for table {}", tableId, e);
+            }
+        }
+    }
+    
+    /**
+     * Gera um snapshot da mesa se houver eventos suficientes desde o último.
+     */
+    public void snapshotTable(String tableId) {
+        Optional<ReservationBookSnapshotEntity> latest = 
+            snapshotRepository.findFirstByTableIdOrderByLastSequenceDesc(tableId);
+        long afterSequence = latest.map(ReservationBookSnapshotEntity::getLastSequence).orElse(0L);
+        
+        long pending = storedEventRepository.countByTableIdAndSequenceGreaterThan(tableId, afterSequence);
+        if (pending < minEventsBetweenSnapshots) {
+            return;
+        }
+        
+        long horizon = StoredEventMapper.INSTANCE.toEpochMillis(LocalDateTime.now().minus(commitGrace));
+        Optional<StoredEventEntity> head = storedEventRepository
+            .findFirstByTableIdAndOccurredAtLessThanEqualOrderBySequenceDesc(tableId, horizon);
+        if (head.isEmpty() || head.get().getSequence() <= afterSequence) {
+            return; // Eventos recentes demais: ficam para a próxima execução
+        }
+        long untilSequence = head.get().getSequence();
+        
+        TableBookState state = replayer.replayTableUpTo(tableId, latest, untilSequence);
+        ReservationBookSnapshotEntity snapshot = ReservationBookSnapshotEntity.builder()
+            .tableId(tableId)
+            .lastSequence(untilSequence)
+            .takenAt(storedEventRepository.findMaxOccurredAt(tableId, untilSequence))
+            .entryCount(state.size())
+            .payload(BookSnapshotCodec.encode(state))
+            .build();
+        snapshotRepository.save(snapshot);
+        
+        log.info("Book snapshot taken for table {} at sequence {} ({} entries, {} new events)", 
+            tableId, untilSequence, state.size(), pending);
+    }
+}
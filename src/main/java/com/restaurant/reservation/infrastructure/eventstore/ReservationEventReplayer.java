@@ -0,0 +1,135 @@
+package com.restaurant.reservation.infrastructure.eventstore;
+
+import com.restaurant.reservation.domain.valueobject.BookedSlot;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import com.restaurant.reservation.infrastructure.persistence.entity.ReservationBookSnapshotEntity;
+import com.restaurant.reservation.infrastructure.persistence.entity.StoredEventEntity;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaReservationBookSnapshotRepository;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaStoredEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Reconstrói a agenda das mesas a partir do log de eventos.
+ * Cada mesa é uma partição independente: o replay parte do snapshot mais
+ * recente aplicável e lê os eventos seguintes via JDBC em streaming,
+ * com as partições processadas em paralelo.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class ReservationEventReplayer {
+    
+    private static final String EVENTS_UNTIL_INSTANT_SQL = 
+        "SELECT event_type, reservation_id, start_minute, duration_minutes, status FROM reservation_events " +
+        "WHERE table_id = ? AND sequence > ? AND occurred_at <= ? ORDER BY sequence";
+    
+    private static final String EVENTS_UNTIL_SEQUENCE_SQL = 
+        "SELECT event_type, reservation_id, start_minute, duration_minutes, status FROM reservation_events " +
+        "WHERE table_id = ? AND sequence > ? AND sequence <= ? ORDER BY sequence";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final JpaStoredEventRepository storedEventRepository;
+    private final JpaReservationBookSnapshotRepository snapshotRepository;
+    private final ExecutorService executor;
+    
+    public ReservationEventReplayer(JdbcTemplate jdbcTemplate,
+                                    JpaStoredEventRepository storedEventRepository,
+                                    JpaReservationBookSnapshotRepository snapshotRepository,
+                                    @Value("${reservation.event-store.replay.parallelism:0}") int parallelism,
+                                    @Value("${reservation.event-store.replay.fetch-size:5000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.storedEventRepository = storedEventRepository;
+        this.snapshotRepository = snapshotRepository;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "event-replay");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Reconstrói a agenda de todas as mesas no instante informado (epoch millis).
+     */
+    public Map<TableId, List<BookedSlot>> replayAt(long atMillis) {
+        List<String> tableIds = storedEventRepository.findDistinctTableIds();
+        log.debug("Replaying {} table partitions up to {}", tableIds.size(), atMillis);
+        
+        List<CompletableFuture<TableBookState>> futures = new ArrayList<>(tableIds.size());
+        for (String tableId : tableIds) {
+            futures.add(CompletableFuture.supplyAsync(() -> replayTableAt(tableId, atMillis), executor));
+        }
+        
+        Map<TableId, List<BookedSlot>> book = new LinkedHashMap<>();
+        for (CompletableFuture<TableBookState> future : futures) {
+            TableBookState state = future.join();
+            book.put(TableId.of(state.getTableId()), state.toSlots());
+        }
+        return book;
+    }
+    
+    /**
+     * Reconstrói a agenda de uma mesa no instante informado (epoch millis).
+     */
+    public TableBookState replayTableAt(String tableId, long atMillis) {
+        Optional<ReservationBookSnapshotEntity> snapshot = snapshotRepository
+            .findFirstByTableIdAndTakenAtLessThanEqualOrderByLastSequenceDesc(tableId, atMillis);
+        TableBookState state = initialState(tableId, snapshot);
+        long afterSequence = snapshot.map(ReservationBookSnapshotEntity::getLastSequence).orElse(0L);
+        
+        applyEvents(state, EVENTS_UNTIL_INSTANT_SQL, tableId, afterSequence, atMillis);
+        return state;
+    }
+    
+    /**
+     * Reconstrói a agenda de uma mesa até a sequência informada, partindo do snapshot dado.
+     * Usado na geração de novos snapshots.
+     */
+    public TableBookState replayTableUpTo(String tableId, Optional<ReservationBookSnapshotEntity> snapshot,
+                                          long untilSequence) {
+        TableBookState state = initialState(tableId, snapshot);
+        long afterSequence = snapshot.map(ReservationBookSnapshotEntity::getLastSequence).orElse(0L);
+        
+        applyEvents(state, EVENTS_UNTIL_SEQUENCE_SQL, tableId, afterSequence, untilSequence);
+        return state;
+    }
+    
+    private TableBookState initialState(String tableId, Optional<ReservationBookSnapshotEntity> snapshot) {
+        return snapshot
+            .map(s -> BookSnapshotCodec.decode(tableId, s.getPayload()))
+            .orElseGet(() -> new TableBookState(tableId));
+    }
+    
+    private void applyEvents(TableBookState state, String sql, String tableId, long afterSequence, long limit) {
+        jdbcTemplate.query(sql, rs -> {
+            state.apply(
+                StoredEventEntity.EventType.fromCode(rs.getShort(1)),
+                rs.getString(2),
+                rs.getInt(3),
+                rs.getInt(4),
+                rs.getShort(5) // 0 quando nulo
+            );
+        }, tableId, afterSequence, limit);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
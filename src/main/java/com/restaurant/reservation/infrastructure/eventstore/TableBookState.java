@@ -0,0 +1,111 @@
+package com.restaurant.reservation.infrastructure.eventstore;
+
+import com.restaurant.reservation.domain.valueobject.BookedSlot;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationStatus;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import com.restaurant.reservation.infrastructure.persistence.entity.ReservationEntity;
+import com.restaurant.reservation.infrastructure.persistence.entity.StoredEventEntity;
+import com.restaurant.reservation.infrastructure.persistence.mapper.EpochMinutes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estado mutável da agenda de uma mesa durante o replay.
+ * Cada entrada é guardada como {startMinute, duração, código do status} para
+ * manter o laço de replay sem alocação de objetos de domínio.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+public class TableBookState {
+    
+    static final int START = 0;
+    static final int DURATION = 1;
+    static final int STATUS = 2;
+    
+    private final String tableId;
+    private final Map<String, int[]> entries;
+    
+    public TableBookState(String tableId) {
+        this(tableId, new HashMap<>());
+    }
+    
+    TableBookState(String tableId, Map<String, int[]> entries) {
+        this.tableId = tableId;
+        this.entries = entries;
+    }
+    
+    /**
+     * Aplica um evento do log ao estado.
+     */
+    public void apply(StoredEventEntity.EventType type, String reservationId, 
+                      int startMinute, int durationInMinutes) {
+        apply(type, reservationId, startMinute, durationInMinutes, (short) 0);
+    }
+    
+    /**
+     * Aplica um evento do log ao estado, com o status gravado na linha
+     * (código da reserva, ou 0 quando a linha não tem status). Um MODIFIED
+     * de uma reserva vinda de outra mesa usa esse status; linhas antigas,
+     * sem ele, assumem PENDING.
+     */
+    public void apply(StoredEventEntity.EventType type, String reservationId, 
+                      int startMinute, int durationInMinutes, short statusCode) {
+        if (type == StoredEventEntity.EventType.RELEASED) {
+            entries.remove(reservationId);
+            return;
+        }
+        
+        int[] entry = entries.get(reservationId);
+        if (entry == null) {
+            entry = new int[] {0, 0, ReservationEntity.ReservationStatus.PENDING.getCode()};
+            entries.put(reservationId, entry);
+        }
+        entry[START] = startMinute;
+        entry[DURATION] = durationInMinutes;
+        if (type.getResultingStatus() != null) {
+            entry[STATUS] = type.getResultingStatus().getCode();
+        } else if (statusCode != 0) {
+            entry[STATUS] = statusCode;
+        }
+    }
+    
+    public String getTableId() {
+        return tableId;
+    }
+    
+    public int size() {
+        return entries.size();
+    }
+    
+    Map<String, int[]> entries() {
+        return entries;
+    }
+    
+    /**
+     * Converte o estado para a representação de domínio.
+     */
+    public List<BookedSlot> toSlots() {
+        TableId id = TableId.of(tableId);
+        List<BookedSlot> slots = new ArrayList<>(entries.size());
+        for (Map.Entry<String, int[]> entry : entries.entrySet()) {
+            int[] values = entry.getValue();
+            slots.add(BookedSlot.of(
+                ReservationId.of(entry.getKey()),
+                id,
+                EpochMinutes.toLocalDateTime(values[START]),
+                values[DURATION],
+                toDomainStatus((short) values[STATUS])
+            ));
+        }
+        return slots;
+    }
+    
+    private ReservationStatus toDomainStatus(short code) {
+        return ReservationStatus.valueOf(ReservationEntity.ReservationStatus.fromCode(code).name());
+    }
+}
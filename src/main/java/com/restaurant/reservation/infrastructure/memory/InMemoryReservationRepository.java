@@ -0,0 +1,135 @@
+package com.restaurant.reservation.infrastructure.memory;
+
+import com.restaurant.reservation.domain.entity.Reservation;
+import com.restaurant.reservation.domain.repository.ReservationRepository;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationStatus;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import com.restaurant.reservation.infrastructure.persistence.mapper.EpochMinutes;
+import com.restaurant.reservation.infrastructure.web.ResourceVersions;
+import com.restaurant.reservation.infrastructure.web.SerializedResponseCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Implementação do repositório de reservas sobre o armazenamento em memória.
+ * Selecionada pelo perfil "inmemory"; a durabilidade vem do log do InMemoryStore.
+ * 
+ * As gravações não participam das transações JPA: ficam visíveis assim que
+ * gravadas no log, mesmo que a transação do chamador seja desfeita depois.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Repository
+@Profile("inmemory")
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryReservationRepository implements ReservationRepository {
+    
+    private final InMemoryStore store;
+    private final ResourceVersions resourceVersions;
+    private final SerializedResponseCache responseCache;
+    
+    @Override
+    public Reservation save(Reservation reservation) {
+        log.debug("Saving reservation: {}", reservation.getId());
+        
+        StoredReservation stored = StoredReservation.of(reservation);
+        store.saveReservation(stored);
+        resourceVersions.reservationChanged(stored.getId());
+        responseCache.reservationChanged(stored.getId(), reservation.getReservationTime().getDateTime().toLocalDate());
+        return stored.toDomain();
+    }
+    
+    @Override
+    public Optional<Reservation> findById(ReservationId id) {
+        return store.findReservation(id.getValue()).map(StoredReservation::toDomain);
+    }
+    
+    @Override
+    public List<Reservation> findAllById(Collection<ReservationId> ids) {
+        return ids.stream()
+            .distinct()
+            .map(id -> store.findReservation(id.getValue()))
+            .flatMap(Optional::stream)
+            .map(StoredReservation::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<Reservation> findByTableAndDate(TableId tableId, LocalDate date) {
+        return toDomain(store.findByTableStartingBetween(
+            tableId.getValue(), EpochMinutes.startOfDay(date), EpochMinutes.endOfDay(date)));
+    }
+    
+    @Override
+    public List<Reservation> findConflictingReservations(TableId tableId, ReservationTime reservationTime) {
+        return toDomain(store.findActiveOverlapping(tableId.getValue(),
+            EpochMinutes.of(reservationTime.getDateTime()), EpochMinutes.of(reservationTime.getEndTime())));
+    }
+    
+    @Override
+    public List<Reservation> findByStatus(String status) {
+        ReservationStatus reservationStatus = ReservationStatus.valueOf(status.toUpperCase());
+        return store.allReservations().stream()
+            .filter(reservation -> reservation.getStatus() == reservationStatus)
+            .map(StoredReservation::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<Reservation> findByCustomerEmail(String email) {
+        return toDomain(store.findByCustomerEmail(email));
+    }
+    
+    @Override
+    public List<Reservation> findByDate(LocalDate date) {
+        return toDomain(store.findStartingBetween(EpochMinutes.startOfDay(date), EpochMinutes.endOfDay(date)));
+    }
+    
+    @Override
+    public Stream<Reservation> streamByDateRange(LocalDate startDate, LocalDate endDate) {
+        return store.findStartingBetween(EpochMinutes.startOfDay(startDate), EpochMinutes.startOfDay(endDate)).stream()
+            .map(StoredReservation::toDomain);
+    }
+    
+    @Override
+    public void delete(Reservation reservation) {
+        log.debug("Deleting reservation: {}", reservation.getId());
+        
+        store.removeReservation(reservation.getId().getValue());
+        resourceVersions.reservationChanged(reservation.getId().getValue());
+        responseCache.reservationChanged(reservation.getId().getValue(), 
+            reservation.getReservationTime().getDateTime().toLocalDate());
+    }
+    
+    @Override
+    public boolean existsById(ReservationId id) {
+        return store.containsReservation(id.getValue());
+    }
+    
+    @Override
+    public long countByTableAndDate(TableId tableId, LocalDate date) {
+        return store.findByTableStartingBetween(
+                tableId.getValue(), EpochMinutes.startOfDay(date), EpochMinutes.endOfDay(date)).stream()
+            .filter(StoredReservation::isActive)
+            .count();
+    }
+    
+    private static List<Reservation> toDomain(List<StoredReservation> stored) {
+        return stored.stream()
+            .map(StoredReservation::toDomain)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,268 @@
+package com.restaurant.reservation.infrastructure.memory;
+
+import com.restaurant.reservation.domain.repository.BookingState;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import com.restaurant.reservation.infrastructure.persistence.mapper.EpochMinutes;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Armazenamento em memória de reservas e mesas, usado no perfil "inmemory".
+ * 
+ * Leituras usam apenas estruturas concorrentes sem bloqueio. Cada escrita é
+ * gravada no WriteAheadLog antes de ser aplicada à memória; escritas sobre a
+ * mesma chave são serializadas por um lock particionado, para que a ordem
+ * no log e na memória seja a mesma. Na inicialização, o estado é
+ * reconstruído a partir do log.
+ * 
+ * Também serve de estado de reservas (BookingState) neste perfil, já que
+ * todos os dados estão em memória.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Component
+@Profile("inmemory")
+@Slf4j
+public class InMemoryStore implements BookingState, WalRecordCodec.Handler {
+    
+    /**
+     * Duração máxima de uma reserva, usada para limitar a busca de conflitos.
+     */
+    private static final int MAX_DURATION_MINUTES = 480;
+    private static final int LOCK_STRIPES = 64;
+    private static final Comparator<StoredReservation> BY_START = 
+        Comparator.comparingInt(StoredReservation::getStartMinute).thenComparing(StoredReservation::getId);
+    
+    private final ConcurrentHashMap<String, StoredReservation> reservations = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, NavigableSet<StoredReservation>> reservationsByTable = new ConcurrentHashMap<>();
+    private final NavigableSet<StoredReservation> reservationsByStart = new ConcurrentSkipListSet<>(BY_START);
+    private final ConcurrentHashMap<String, Set<String>> reservationIdsByEmail = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, StoredTable> tables = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    
+    private final Path walPath;
+    private final int maxBatchRecords;
+    private WriteAheadLog wal;
+    private volatile boolean ready;
+    
+    public InMemoryStore(@Value("${reservation.memory.wal.path:./data/reservations.wal}") String walPath,
+                         @Value("${reservation.memory.wal.max-batch-records:256}") int maxBatchRecords) {
+        this.walPath = Path.of(walPath);
+        this.maxBatchRecords = maxBatchRecords;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+    
+    /**
+     * Recupera o estado a partir do log e compacta o log se necessário.
+     */
+    @PostConstruct
+    public void recover() {
+        long started = System.nanoTime();
+        long[] records = {0};
+        wal = WriteAheadLog.open(walPath, maxBatchRecords, payload -> {
+            WalRecordCodec.decode(payload, this);
+            records[0]++;
+        });
+        
+        long live = reservations.size() + tables.size();
+        if (records[0] > 2 * live + 1000) {
+            wal.compact(liveRecords());
+            log.info("Write-ahead log {} compacted from {} to {} records", walPath, records[0], live);
+        }
+        ready = true;
+        log.info("In-memory store recovered {} reservations and {} tables from {} log records in {} ms",
+            reservations.size(), tables.size(), records[0], (System.nanoTime() - started) / 1_000_000);
+    }
+    
+    @PreDestroy
+    public void close() {
+        if (wal != null) {
+            wal.close();
+        }
+    }
+    
+    // Escritas
+    
+    public void saveReservation(StoredReservation reservation) {
+        write(reservation.getId(), WalRecordCodec.putReservation(reservation), () -> putReservation(reservation));
+    }
+    
+    public void removeReservation(String id) {
+        write(id, WalRecordCodec.deleteReservation(id), () -> deleteReservation(id));
+    }
+    
+    public void saveTable(StoredTable table) {
+        write(table.getId(), WalRecordCodec.putTable(table), () -> putTable(table));
+    }
+    
+    public void removeTable(String id) {
+        write(id, WalRecordCodec.deleteTable(id), () -> deleteTable(id));
+    }
+    
+    private void write(String key, byte[] record, Runnable apply) {
+        ReentrantLock lock = locks[Math.floorMod(key.hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            wal.append(record);
+            apply.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // Aplicação dos registros (recuperação e escritas)
+    
+    @Override
+    public void putReservation(StoredReservation reservation) {
+        StoredReservation previous = reservations.put(reservation.getId(), reservation);
+        if (previous != null) {
+            unindex(previous);
+        }
+        reservationsByTable
+            .computeIfAbsent(reservation.getTableId(), id -> new ConcurrentSkipListSet<>(BY_START))
+            .add(reservation);
+        reservationsByStart.add(reservation);
+        reservationIdsByEmail
+            .computeIfAbsent(reservation.getCustomerEmail(), email -> ConcurrentHashMap.newKeySet())
+            .add(reservation.getId());
+    }
+    
+    @Override
+    public void deleteReservation(String id) {
+        StoredReservation previous = reservations.remove(id);
+        if (previous != null) {
+            unindex(previous);
+        }
+    }
+    
+    @Override
+    public void putTable(StoredTable table) {
+        tables.put(table.getId(), table);
+    }
+    
+    @Override
+    public void deleteTable(String id) {
+        tables.remove(id);
+    }
+    
+    private void unindex(StoredReservation reservation) {
+        NavigableSet<StoredReservation> tableSet = reservationsByTable.get(reservation.getTableId());
+        if (tableSet != null) {
+            tableSet.remove(reservation);
+        }
+        reservationsByStart.remove(reservation);
+        Set<String> ids = reservationIdsByEmail.get(reservation.getCustomerEmail());
+        if (ids != null) {
+            ids.remove(reservation.getId());
+        }
+    }
+    
+    // Leituras
+    
+    public Optional<StoredReservation> findReservation(String id) {
+        return Optional.ofNullable(reservations.get(id));
+    }
+    
+    public boolean containsReservation(String id) {
+        return reservations.containsKey(id);
+    }
+    
+    /**
+     * Reservas da mesa com início no intervalo [fromMinute, toMinute).
+     */
+    public List<StoredReservation> findByTableStartingBetween(String tableId, int fromMinute, int toMinute) {
+        NavigableSet<StoredReservation> tableSet = reservationsByTable.get(tableId);
+        if (tableSet == null) {
+            return List.of();
+        }
+        return new ArrayList<>(tableSet.subSet(probe(fromMinute), true, probe(toMinute), false));
+    }
+    
+    /**
+     * Reservas com início no intervalo [fromMinute, toMinute).
+     */
+    public List<StoredReservation> findStartingBetween(int fromMinute, int toMinute) {
+        return new ArrayList<>(reservationsByStart.subSet(probe(fromMinute), true, probe(toMinute), false));
+    }
+    
+    /**
+     * Reservas ativas da mesa que se sobrepõem ao intervalo [startMinute, endMinute).
+     */
+    public List<StoredReservation> findActiveOverlapping(String tableId, int startMinute, int endMinute) {
+        return findByTableStartingBetween(tableId, startMinute - MAX_DURATION_MINUTES, endMinute).stream()
+            .filter(StoredReservation::isActive)
+            .filter(reservation -> reservation.getEndMinute() > startMinute)
+            .collect(Collectors.toList());
+    }
+    
+    public List<StoredReservation> findByCustomerEmail(String email) {
+        Set<String> ids = reservationIdsByEmail.getOrDefault(email, Set.of());
+        return ids.stream()
+            .map(reservations::get)
+            .filter(reservation -> reservation != null && reservation.getCustomerEmail().equals(email))
+            .collect(Collectors.toList());
+    }
+    
+    public Collection<StoredReservation> allReservations() {
+        return reservations.values();
+    }
+    
+    public Optional<StoredTable> findTable(String id) {
+        return Optional.ofNullable(tables.get(id));
+    }
+    
+    public Collection<StoredTable> allTables() {
+        return tables.values();
+    }
+    
+    // BookingState
+    
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+    
+    @Override
+    public List<TableId> findAvailableTables(int numberOfPeople, ReservationTime reservationTime) {
+        int startMinute = EpochMinutes.of(reservationTime.getDateTime());
+        int endMinute = EpochMinutes.of(reservationTime.getEndTime());
+        return tables.values().stream()
+            .filter(table -> table.isActive() && table.getCapacity() >= numberOfPeople)
+            .filter(table -> findActiveOverlapping(table.getId(), startMinute, endMinute).isEmpty())
+            .sorted(Comparator.comparingInt(StoredTable::getCapacity).thenComparing(StoredTable::getId))
+            .map(table -> TableId.of(table.getId()))
+            .collect(Collectors.toList());
+    }
+    
+    private List<byte[]> liveRecords() {
+        List<byte[]> records = new ArrayList<>(reservations.size() + tables.size());
+        tables.values().forEach(table -> records.add(WalRecordCodec.putTable(table)));
+        reservations.values().forEach(reservation -> records.add(WalRecordCodec.putReservation(reservation)));
+        return records;
+    }
+    
+    private static StoredReservation probe(int startMinute) {
+        return new StoredReservation("", "", "", "", "", null, startMinute, 0, null);
+    }
+}
@@ -0,0 +1,89 @@
+package com.restaurant.reservation.infrastructure.memory;
+
+import com.restaurant.reservation.domain.entity.Table;
+import com.restaurant.reservation.domain.repository.TableRepository;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import com.restaurant.reservation.infrastructure.web.SerializedResponseCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Implementação do repositório de mesas sobre o armazenamento em memória.
+ * Selecionada pelo perfil "inmemory".
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Repository
+@Profile("inmemory")
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryTableRepository implements TableRepository {
+    
+    private final InMemoryStore store;
+    private final SerializedResponseCache responseCache;
+    
+    @Override
+    public Table save(Table table) {
+        log.debug("Saving table: {}", table.getId());
+        
+        StoredTable stored = StoredTable.of(table);
+        store.saveTable(stored);
+        responseCache.tablesChanged();
+        return stored.toDomain();
+    }
+    
+    @Override
+    public Optional<Table> findById(TableId id) {
+        return store.findTable(id.getValue()).map(StoredTable::toDomain);
+    }
+    
+    @Override
+    public List<Table> findAllActive() {
+        return find(StoredTable::isActive);
+    }
+    
+    @Override
+    public List<Table> findTablesByCapacity(int capacity) {
+        return find(table -> table.isActive() && table.getCapacity() >= capacity);
+    }
+    
+    @Override
+    public List<Table> findAvailableTablesByCapacity(int capacity) {
+        return find(table -> table.isActive() && table.getCapacity() >= capacity);
+    }
+    
+    @Override
+    public List<Table> findAll() {
+        return find(table -> true);
+    }
+    
+    @Override
+    public void delete(Table table) {
+        log.debug("Deleting table: {}", table.getId());
+        
+        store.removeTable(table.getId().getValue());
+        responseCache.tablesChanged();
+    }
+    
+    @Override
+    public boolean existsById(TableId id) {
+        return store.findTable(id.getValue()).isPresent();
+    }
+    
+    private List<Table> find(Predicate<StoredTable> filter) {
+        return store.allTables().stream()
+            .filter(filter)
+            .sorted(Comparator.comparing(StoredTable::getId))
+            .map(StoredTable::toDomain)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,65 @@
+package com.restaurant.reservation.infrastructure.memory;
+
+import com.restaurant.reservation.domain.entity.Reservation;
+import com.restaurant.reservation.domain.valueobject.*;
+import com.restaurant.reservation.infrastructure.persistence.mapper.EpochMinutes;
+import lombok.Value;
+
+/**
+ * Cópia imutável de uma reserva mantida pelo armazenamento em memória.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Value
+public class StoredReservation {
+    
+    String id;
+    String tableId;
+    String customerName;
+    String customerEmail;
+    String customerPhone;
+    String specialRequests;
+    int startMinute;
+    int durationInMinutes;
+    ReservationStatus status;
+    
+    /**
+     * Cria a cópia armazenada a partir da entidade de domínio.
+     */
+    public static StoredReservation of(Reservation reservation) {
+        CustomerInfo customer = reservation.getCustomerInfo();
+        return new StoredReservation(
+            reservation.getId().getValue(),
+            reservation.getTableId().getValue(),
+            customer.getName(),
+            customer.getEmail(),
+            customer.getPhone(),
+            customer.getSpecialRequests(),
+            EpochMinutes.of(reservation.getReservationTime().getDateTime()),
+            reservation.getReservationTime().getDurationInMinutes(),
+            reservation.getStatus()
+        );
+    }
+    
+    /**
+     * Reconstrói a entidade de domínio.
+     */
+    public Reservation toDomain() {
+        return Reservation.restore(
+            ReservationId.of(id),
+            TableId.of(tableId),
+            CustomerInfo.of(customerName, customerEmail, customerPhone, specialRequests),
+            ReservationTime.restore(EpochMinutes.toLocalDateTime(startMinute), durationInMinutes),
+            status
+        );
+    }
+    
+    public int getEndMinute() {
+        return startMinute + durationInMinutes;
+    }
+    
+    public boolean isActive() {
+        return status == ReservationStatus.PENDING || status == ReservationStatus.CONFIRMED;
+    }
+}
@@ -0,0 +1,41 @@
+package com.restaurant.reservation.infrastructure.memory;
+
+import com.restaurant.reservation.domain.entity.Table;
+import com.restaurant.reservation.domain.valueobject.Capacity;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import lombok.Value;
+
+/**
+ * Cópia imutável de uma mesa mantida pelo armazenamento em memória.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Value
+public class StoredTable {
+    
+    String id;
+    int capacity;
+    boolean active;
+    String location;
+    
+    /**
+     * Cria a cópia armazenada a partir da entidade de domínio.
+     */
+    public static StoredTable of(Table table) {
+        return new StoredTable(table.getId().getValue(), table.getCapacity().getValue(), 
+            table.isActive(), table.getLocation());
+    }
+    
+    /**
+     * Reconstrói a entidade de domínio.
+     */
+    public Table toDomain() {
+        return Table.builder()
+            .id(TableId.of(id))
+            .capacity(Capacity.of(capacity))
+            .isActive(active)
+            .location(location)
+            .build();
+    }
+}
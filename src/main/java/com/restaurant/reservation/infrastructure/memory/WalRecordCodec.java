@@ -0,0 +1,124 @@
+package com.restaurant.reservation.infrastructure.memory;
+
+import com.restaurant.reservation.domain.valueobject.ReservationStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Codificação binária dos registros do log do armazenamento em memória.
+ * Cada registro começa com o tipo da operação (byte), seguido dos dados
+ * da reserva ou mesa gravada, ou apenas do ID em caso de remoção.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+final class WalRecordCodec {
+    
+    static final byte PUT_RESERVATION = 1;
+    static final byte DELETE_RESERVATION = 2;
+    static final byte PUT_TABLE = 3;
+    static final byte DELETE_TABLE = 4;
+    
+    private WalRecordCodec() {
+    }
+    
+    /**
+     * Visitante dos registros decodificados.
+     */
+    interface Handler {
+        void putReservation(StoredReservation reservation);
+        void deleteReservation(String id);
+        void putTable(StoredTable table);
+        void deleteTable(String id);
+    }
+    
+    static byte[] putReservation(StoredReservation reservation) {
+        return encode(out -> {
+            out.writeByte(PUT_RESERVATION);
+            out.writeUTF(reservation.getId());
+            out.writeUTF(reservation.getTableId());
+            out.writeUTF(reservation.getCustomerName());
+            out.writeUTF(reservation.getCustomerEmail());
+            out.writeUTF(reservation.getCustomerPhone());
+            writeNullable(out, reservation.getSpecialRequests());
+            out.writeInt(reservation.getStartMinute());
+            out.writeInt(reservation.getDurationInMinutes());
+            out.writeUTF(reservation.getStatus().name());
+        });
+    }
+    
+    static byte[] deleteReservation(String id) {
+        return encode(out -> {
+            out.writeByte(DELETE_RESERVATION);
+            out.writeUTF(id);
+        });
+    }
+    
+    static byte[] putTable(StoredTable table) {
+        return encode(out -> {
+            out.writeByte(PUT_TABLE);
+            out.writeUTF(table.getId());
+            out.writeInt(table.getCapacity());
+            out.writeBoolean(table.isActive());
+            writeNullable(out, table.getLocation());
+        });
+    }
+    
+    static byte[] deleteTable(String id) {
+        return encode(out -> {
+            out.writeByte(DELETE_TABLE);
+            out.writeUTF(id);
+        });
+    }
+    
+    /**
+     * Decodifica um registro e o entrega ao handler.
+     */
+    static void decode(byte[] payload, Handler handler) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte type = in.readByte();
+            switch (type) {
+                case PUT_RESERVATION -> handler.putReservation(new StoredReservation(
+                    in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(),
+                    readNullable(in), in.readInt(), in.readInt(), ReservationStatus.valueOf(in.readUTF())));
+                case DELETE_RESERVATION -> handler.deleteReservation(in.readUTF());
+                case PUT_TABLE -> handler.putTable(new StoredTable(
+                    in.readUTF(), in.readInt(), in.readBoolean(), readNullable(in)));
+                case DELETE_TABLE -> handler.deleteTable(in.readUTF());
+                default -> throw new IllegalStateException("Unknown write-ahead log record type: " + type);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error decoding write-ahead log record", e);
+        }
+    }
+    
+    private interface Writer {
+        void write(DataOutputStream out) throws IOException;
+    }
+    
+    private static byte[] encode(Writer writer) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error encoding write-ahead log record", e);
+        }
+        return buffer.toByteArray();
+    }
+    
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+    
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,301 @@
+package com.restaurant.reservation.infrastructure.memory;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Log de escrita antecipada (write-ahead log) em arquivo local, somente anexação.
+ * 
+ * Cada registro é gravado como tamanho (int), CRC32 (int) e conteúdo.
+ * As escritas concorrentes são agrupadas por uma única thread, que grava o
+ * lote inteiro e faz um único fsync antes de liberar os chamadores
+ * (group commit). Na abertura, os registros válidos são reaplicados e um
+ * final truncado ou corrompido por uma queda é descartado.
+ * 
+ * Se a gravação de um lote falhar, o arquivo é truncado de volta ao fim do
+ * último lote confirmado, para que registros seguintes não fiquem atrás de
+ * um quadro parcial (que a recuperação trataria como fim do log). Se nem
+ * isso for possível, o log passa a recusar novas escritas.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Slf4j
+public class WriteAheadLog implements Closeable {
+    
+    private static final int HEADER_BYTES = 8;
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+    
+    private final Path path;
+    private final int maxBatchRecords;
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    private final Thread flusher;
+    private FileChannel channel;
+    private volatile boolean closed;
+    private volatile IOException failure;
+    
+    private WriteAheadLog(Path path, FileChannel channel, int maxBatchRecords) {
+        this.path = path;
+        this.channel = channel;
+        this.maxBatchRecords = maxBatchRecords;
+        this.flusher = new Thread(this::flushLoop, "wal-flusher");
+        this.flusher.setDaemon(true);
+    }
+    
+    /**
+     * Abre o log, reaplicando os registros existentes em ordem.
+     * 
+     * @param replay recebe o conteúdo de cada registro válido
+     * @return o log posicionado no fim, pronto para novas escritas
+     */
+    public static WriteAheadLog open(Path path, int maxBatchRecords, Consumer<byte[]> replay) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            FileChannel channel = FileChannel.open(path, 
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long validEnd = recover(channel, replay);
+            if (validEnd < channel.size()) {
+                log.warn("Truncating write-ahead log {} from {} to {} bytes (incomplete tail)", 
+                    path, channel.size(), validEnd);
+                channel.truncate(validEnd);
+                channel.force(true);
+            }
+            channel.position(validEnd);
+            
+            WriteAheadLog wal = new WriteAheadLog(path, channel, maxBatchRecords);
+            wal.flusher.start();
+            return wal;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error opening write-ahead log " + path, e);
+        }
+    }
+    
+    /**
+     * Anexa um registro e aguarda até que ele esteja gravado em disco.
+     */
+    public void append(byte[] payload) {
+        if (payload.length > MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("Write-ahead log record too large: " + payload.length);
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Write-ahead log is unusable after a write failure: " + path, failure);
+        }
+        PendingWrite write = new PendingWrite(payload);
+        synchronized (queue) {
+            // Verificado junto com a inserção: close() não deixa escritas sem o flusher
+            if (closed) {
+                throw new IllegalStateException("Write-ahead log is closed: " + path);
+            }
+            queue.add(write);
+        }
+        try {
+            write.done.join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Error writing to write-ahead log " + path, e.getCause());
+        }
+    }
+    
+    /**
+     * Reescreve o log contendo apenas os registros informados.
+     * Deve ser chamado sem escritas em andamento (ex.: logo após a recuperação).
+     */
+    public synchronized void compact(Iterable<byte[]> records) {
+        Path temp = path.resolveSibling(path.getFileName() + ".compact");
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, 
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                for (byte[] record : records) {
+                    writeFully(out, frame(record));
+                }
+                out.force(true);
+            }
+            channel.close();
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error compacting write-ahead log " + path, e);
+        }
+    }
+    
+    @Override
+    public void close() {
+        synchronized (queue) {
+            closed = true;
+        }
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // O flusher não terminou a tempo: as escritas restantes falham em vez de esperar para sempre
+        List<PendingWrite> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        IllegalStateException closedError = new IllegalStateException("Write-ahead log closed: " + path);
+        abandoned.forEach(write -> write.done.completeExceptionally(closedError));
+        synchronized (this) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Error closing write-ahead log {}", path, e);
+            }
+        }
+    }
+    
+    private void flushLoop() {
+        List<PendingWrite> batch = new ArrayList<>(maxBatchRecords);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchRecords - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+    
+    private synchronized void flush(List<PendingWrite> batch) {
+        if (failure != null) {
+            batch.forEach(write -> write.done.completeExceptionally(failure));
+            return;
+        }
+        long start = -1;
+        try {
+            start = channel.position();
+            ByteBuffer[] buffers = new ByteBuffer[batch.size()];
+            for (int i = 0; i < batch.size(); i++) {
+                buffers[i] = frame(batch.get(i).payload);
+            }
+            long remaining = 0;
+            for (ByteBuffer buffer : buffers) {
+                remaining += buffer.remaining();
+            }
+            while (remaining > 0) {
+                remaining -= channel.write(buffers);
+            }
+            channel.force(false);
+            batch.forEach(write -> write.done.complete(null));
+        } catch (IOException e) {
+            discardPartialBatch(start, e);
+            batch.forEach(write -> write.done.completeExceptionally(e));
+        }
+    }
+    
+    /**
+     * Remove o que o lote que falhou chegou a gravar; se não conseguir,
+     * marca o log como inutilizável.
+     */
+    private void discardPartialBatch(long start, IOException cause) {
+        if (start < 0) {
+            failure = cause;
+            log.error("Write-ahead log {} failed before writing; refusing further writes", path, cause);
+            return;
+        }
+        try {
+            channel.truncate(start);
+            channel.position(start);
+            channel.force(false);
+            log.warn("Write-ahead log {} batch failed; truncated back to {} bytes", path, start, cause);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+            failure = cause;
+            log.error("Write-ahead log {} could not drop a partial batch; refusing further writes", path, cause);
+        }
+    }
+    
+    private static long recover(FileChannel channel, Consumer<byte[]> replay) throws IOException {
+        long position = 0;
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        CRC32 crc = new CRC32();
+        
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            readFully(channel, header, position);
+            header.flip();
+            int length = header.getInt();
+            int checksum = header.getInt();
+            if (length < 0 || length > MAX_RECORD_BYTES || position + HEADER_BYTES + length > size) {
+                break;
+            }
+            
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(channel, payload, position + HEADER_BYTES);
+            crc.reset();
+            crc.update(payload.array());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            
+            replay.accept(payload.array());
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+    
+    private static ByteBuffer frame(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        buffer.putInt(payload.length);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(payload);
+        buffer.flip();
+        return buffer;
+    }
+    
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of write-ahead log");
+            }
+        }
+    }
+    
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+    
+    /**
+     * Escrita aguardando o próximo lote.
+     */
+    private static final class PendingWrite {
+        private final byte[] payload;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        
+        private PendingWrite(byte[] payload) {
+            this.payload = payload;
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package com.restaurant.reservation.infrastructure.notification;
+
+import com.restaurant.reservation.application.service.event.DomainEventHandlers;
+import com.restaurant.reservation.application.service.event.DomainEventSubscriber;
+import com.restaurant.reservation.application.service.notification.NotificationCoalescer;
+import com.restaurant.reservation.application.service.notification.NotificationService;
+import com.restaurant.reservation.domain.event.DomainEvent;
+import com.restaurant.reservation.domain.event.ReservationCancelledEvent;
+import com.restaurant.reservation.domain.event.ReservationCompletedEvent;
+import com.restaurant.reservation.domain.event.ReservationConfirmedEvent;
+import com.restaurant.reservation.domain.event.ReservationModifiedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pipeline assíncrono de notificações: o assinante durável "notifications"
+ * do DomainEventBus.
+ * 
+ * Os eventos de uma reserva aguardam uma janela curta (reiniciada a cada
+ * novo evento, até um limite máximo contado a partir da ocorrência do
+ * primeiro); os eventos acumulados são reduzidos pelo NotificationCoalescer
+ * a uma única notificação, enviada pelo NotificationService. A janela só
+ * atrasa as notificações: os demais assinantes recebem cada evento assim que
+ * ele é publicado. Eventos entregues de novo pela caixa de saída já passaram
+ * do limite e seguem sem espera.
+ * 
+ * Eventos cujo ID já foi notificado são descartados, pois a caixa de saída
+ * entrega "pelo menos uma vez". Os IDs notificados ficam numa janela LRU em
+ * memória, de tamanho limitado.
+ * 
+ * O limite da janela precisa ficar abaixo do tempo que o OutboxRelay espera
+ * pela confirmação (validado na inicialização); caso contrário toda rajada
+ * seria dada como perdida e publicada de novo antes de ser notificada.
+ * 
+ * As notificações são enviadas por workers com filas de tamanho limitado,
+ * escolhidas pelo ID da reserva; assim as notificações de uma mesma reserva
+ * saem em ordem. Cada evento só é confirmado a quem publicou depois do envio.
+ * Se a fila estiver cheia ou o envio falhar, todos os eventos da janela
+ * falham e continuam na caixa de saída, para nova entrega pelo OutboxRelay.
+ * Os lembretes do ReminderScheduler usam os mesmos workers, via submit().
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class NotificationPipeline implements DomainEventSubscriber {
+    
+    private static final String METRIC_PREFIX = "reservation.notifications.";
+    
+    private final NotificationService notificationService;
+    private final ThreadPoolExecutor[] lanes;
+    private final Map<String, PendingEvents> windows = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> deliveredEventIds;
+    private final ScheduledExecutorService windowTimer;
+    private final long windowNanos;
+    private final long maxWindowNanos;
+    
+    private final Counter dispatched;
+    private final Counter delivered;
+    private final Counter rejected;
+    private final Counter failed;
+    private final Counter duplicates;
+    private final Counter coalesced;
+    private final Timer deliveryTimer;
+    
+    public NotificationPipeline(NotificationService notificationService,
+                                MeterRegistry meterRegistry,
+                                @Value("${reservation.notification.pipeline.workers:4}") int workers,
+                                @Value("${reservation.notification.pipeline.queue-capacity:1000}") int queueCapacity,
+                                @Value("${reservation.notification.pipeline.coalesce-window-ms:5000}") long windowMs,
+                                @Value("${reservation.notification.pipeline.coalesce-max-window-ms:20000}") long maxWindowMs,
+                                @Value("${reservation.notification.dedup.capacity:100000}") int dedupCapacity,
+                                @Value("${reservation.notification.handler-timeout-ms:30000}") long handlerTimeoutMs) {
+        if (Math.max(windowMs, maxWindowMs) >= handlerTimeoutMs) {
+            throw new IllegalArgumentException("Coalesce max window must be shorter than the handler timeout");
+        }
+        this.notificationService = notificationService;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.maxWindowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(windowMs, maxWindowMs));
+        this.deliveredEventIds = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > dedupCapacity;
+            }
+        };
+        this.windowTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-window");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.lanes = new ThreadPoolExecutor[workers];
+        int laneCapacity = Math.max(1, queueCapacity / workers);
+        for (int i = 0; i < workers; i++) {
+            String threadName = "notification-" + i;
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(laneCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, threadName);
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        }
+        
+        this.dispatched = meterRegistry.counter(METRIC_PREFIX + "dispatched");
+        this.delivered = meterRegistry.counter(METRIC_PREFIX + "delivered");
+        this.rejected = meterRegistry.counter(METRIC_PREFIX + "rejected");
+        this.failed = meterRegistry.counter(METRIC_PREFIX + "failed");
+        this.duplicates = meterRegistry.counter(METRIC_PREFIX + "duplicates");
+        this.coalesced = meterRegistry.counter(METRIC_PREFIX + "coalesced");
+        this.deliveryTimer = meterRegistry.timer(METRIC_PREFIX + "delivery");
+        Gauge.builder(METRIC_PREFIX + "queue.size", this, NotificationPipeline::queueSize)
+            .description("Notificações aguardando nas filas do pipeline")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "queue.remaining", this, NotificationPipeline::remainingCapacity)
+            .description("Capacidade livre nas filas do pipeline")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "window.reservations", windows, Map::size)
+            .description("Reservas com eventos aguardando a janela de agrupamento")
+            .register(meterRegistry);
+    }
+    
+    @Override
+    public String getSubscriberName() {
+        return "notifications";
+    }
+    
+    @Override
+    public boolean isDurable() {
+        return true;
+    }
+    
+    /**
+     * Registra os eventos que geram notificações.
+     * Reservas criadas ainda não geram notificação e não passam pelo pipeline.
+     */
+    @Override
+    public void registerHandlers(DomainEventHandlers handlers) {
+        handlers.onAsync(ReservationConfirmedEvent.class, this::accept)
+            .onAsync(ReservationModifiedEvent.class, this::accept)
+            .onAsync(ReservationCancelledEvent.class, this::accept)
+            .onAsync(ReservationCompletedEvent.class, this::accept);
+    }
+    
+    /**
+     * Executa um envio fora do fluxo de eventos (por exemplo, um lembrete) no
+     * worker da reserva, sem bloquear quem chama e em ordem com as demais
+     * notificações da reserva.
+     * 
+     * @return false se a fila do worker estiver cheia e o envio não foi aceito
+     */
+    public boolean submit(String reservationId, Runnable send) {
+        try {
+            lane(reservationId).execute(send);
+            dispatched.increment();
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return false;
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        // Eventos ainda na janela ou nas filas continuam na caixa de saída
+        windowTimer.shutdownNow();
+        IllegalStateException stopped = new IllegalStateException("Notification pipeline stopped");
+        windows.values().forEach(pending -> pending.fail(stopped));
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        try {
+            for (ThreadPoolExecutor lane : lanes) {
+                if (!lane.awaitTermination(5, TimeUnit.SECONDS)) {
+                    List<Runnable> pending = lane.shutdownNow();
+                    log.info("Notification pipeline stopped with {} queued notifications left to the outbox relay",
+                        pending.size());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Acrescenta o evento à janela de agrupamento da reserva.
+     * 
+     * @return concluído quando a notificação da janela for enviada
+     */
+    private CompletableFuture<Void> accept(DomainEvent event) {
+        if (isDelivered(event)) {
+            duplicates.increment();
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> notified = new CompletableFuture<>();
+        String reservationId = event.getReservationId().getValue();
+        if (windowNanos <= 0) {
+            enqueue(reservationId, new PendingEvents(System.nanoTime(), event, notified));
+            return notified;
+        }
+        windows.compute(reservationId, (id, pending) -> {
+            long now = System.nanoTime();
+            if (pending == null) {
+                pending = new PendingEvents(now - age(event), event, notified);
+            } else {
+                pending.add(event, notified);
+                pending.flush.cancel(false);
+            }
+            long delay = Math.min(now + windowNanos, pending.firstAt + maxWindowNanos) - now;
+            PendingEvents scheduled = pending;
+            pending.flush = windowTimer.schedule(() -> closeWindow(id, scheduled),
+                Math.max(0, delay), TimeUnit.NANOSECONDS);
+            return pending;
+        });
+        return notified;
+    }
+    
+    private void closeWindow(String reservationId, PendingEvents pending) {
+        if (windows.remove(reservationId, pending)) {
+            enqueue(reservationId, pending);
+        }
+    }
+    
+    private void enqueue(String reservationId, PendingEvents pending) {
+        try {
+            lane(reservationId).execute(() -> deliver(pending));
+            dispatched.increment(pending.events.size());
+        } catch (RejectedExecutionException e) {
+            rejected.increment(pending.events.size());
+            log.warn("Notification queue full; {} events for reservation {} left to the outbox relay",
+                pending.events.size(), reservationId);
+            pending.fail(e);
+        }
+    }
+    
+    private void deliver(PendingEvents pending) {
+        List<DomainEvent> fresh = new ArrayList<>(pending.events.size());
+        for (DomainEvent event : pending.events) {
+            if (!isDelivered(event)) {
+                fresh.add(event);
+            }
+        }
+        duplicates.increment(pending.events.size() - fresh.size());
+        try {
+            DomainEvent result = fresh.isEmpty() ? null : NotificationCoalescer.coalesce(fresh);
+            if (result != null) {
+                deliveryTimer.record(() -> notificationService.notify(result));
+            }
+            synchronized (deliveredEventIds) {
+                fresh.forEach(event -> deliveredEventIds.put(event.getEventId(), Boolean.TRUE));
+            }
+            if (fresh.size() > 1) {
+                coalesced.increment(fresh.size() - 1);
+            }
+            delivered.increment(fresh.size());
+            pending.complete();
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("Error notifying {} events for reservation {}; left to the outbox relay",
+                fresh.size(), pending.events.get(0).getReservationId(), e);
+            pending.fail(e);
+        }
+    }
+    
+    private boolean isDelivered(DomainEvent event) {
+        synchronized (deliveredEventIds) {
+            return deliveredEventIds.containsKey(event.getEventId());
+        }
+    }
+    
+    /**
+     * Tempo desde a ocorrência do evento, para que o limite da janela conte a
+     * partir dela e não da chegada ao pipeline.
+     */
+    private static long age(DomainEvent event) {
+        return Math.max(0, Duration.between(event.getOccurredOn(), LocalDateTime.now()).toNanos());
+    }
+    
+    private ThreadPoolExecutor lane(String reservationId) {
+        return lanes[Math.floorMod(reservationId.hashCode(), lanes.length)];
+    }
+    
+    private double queueSize() {
+        int size = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            size += lane.getQueue().size();
+        }
+        return size;
+    }
+    
+    private double remainingCapacity() {
+        int remaining = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            remaining += lane.getQueue().remainingCapacity();
+        }
+        return remaining;
+    }
+    
+    /**
+     * Eventos de uma reserva acumulados na janela de agrupamento, com os
+     * futuros que os confirmam a quem publicou.
+     */
+    private static final class PendingEvents {
+        private final long firstAt;
+        private final List<DomainEvent> events = new ArrayList<>(2);
+        private final List<CompletableFuture<Void>> notified = new ArrayList<>(2);
+        private ScheduledFuture<?> flush;
+        
+        private PendingEvents(long firstAt, DomainEvent event, CompletableFuture<Void> future) {
+            this.firstAt = firstAt;
+            add(event, future);
+        }
+        
+        private void add(DomainEvent event, CompletableFuture<Void> future) {
+            events.add(event);
+            notified.add(future);
+        }
+        
+        private void complete() {
+            notified.forEach(future -> future.complete(null));
+        }
+        
+        private void fail(Throwable error) {
+            notified.forEach(future -> future.completeExceptionally(error));
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package com.restaurant.reservation.infrastructure.outbox;
+
+import com.restaurant.reservation.application.service.event.DomainEventBus;
+import com.restaurant.reservation.domain.event.DomainEvent;
+import com.restaurant.reservation.infrastructure.persistence.entity.OutboxEventEntity;
+import com.restaurant.reservation.infrastructure.persistence.mapper.OutboxEventMapper;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaOutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Publica no DomainEventBus cada evento gravado na caixa de saída, um a um,
+ * sem agrupamento: cada assinante decide como tratar rajadas (as notificações
+ * agrupam e descartam duplicatas; o feed de disponibilidade usa cada evento).
+ * 
+ * Logo após o commit, o DomainEventOutboxImpl entrega o evento a
+ * {@link #publishCommitted}, que publica sem esperar os assinantes; a linha
+ * é removida quando os assinantes duráveis confirmam. O ciclo periódico
+ * publica o que sobrou: eventos cuja publicação falhou ou não foi confirmada
+ * a tempo e os que estavam pendentes quando a aplicação parou.
+ * 
+ * Um evento nunca está em publicação por dois caminhos ao mesmo tempo: a
+ * linha já é gravada reservada para a publicação imediata (ver
+ * {@link #claimExpiry()}), o ciclo periódico reserva as linhas que vai
+ * publicar e só lê linhas livres ou com a reserva vencida. A reserva dura
+ * mais que a espera pelos assinantes (validado na inicialização), então só
+ * vence depois que quem publicou desistiu; quem desiste libera a linha.
+ * 
+ * A entrega é "pelo menos uma vez": a linha só é removida depois que os
+ * assinantes duráveis confirmaram o evento. Quando a publicação imediata de
+ * uma reserva falha, os eventos seguintes dela também ficam para o ciclo
+ * periódico até ele esvaziar as pendências da reserva, preservando a ordem.
+ * No ciclo, os eventos de uma reserva são publicados juntos; se algum falhar,
+ * todos ficam para o próximo ciclo.
+ * Um evento que falha max-attempts vezes é estacionado (PARKED) e deixa de
+ * ser lido, para não bloquear os seguintes; os demais eventos da reserva
+ * seguem sem ele.
+ * Pressupõe uma única instância do relay ativa por banco.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+    
+    private static final int MAX_ERROR_LENGTH = 500;
+    
+    private final JpaOutboxEventRepository outboxRepository;
+    private final OutboxEventMapper mapper;
+    private final DomainEventBus eventBus;
+    private final int batchSize;
+    private final long leaseMs;
+    private final int maxAttempts;
+    private final long handlerTimeoutMs;
+    private final Set<String> spilledReservations = ConcurrentHashMap.newKeySet();
+    private final ExecutorService acknowledger;
+    private final Counter spilled;
+    private final Counter parked;
+    
+    public OutboxRelay(JpaOutboxEventRepository outboxRepository,
+                       OutboxEventMapper mapper,
+                       DomainEventBus eventBus,
+                       MeterRegistry meterRegistry,
+                       @Value("${reservation.outbox.batch-size:100}") int batchSize,
+                       @Value("${reservation.outbox.lease-ms:60000}") long leaseMs,
+                       @Value("${reservation.outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${reservation.notification.handler-timeout-ms:30000}") long handlerTimeoutMs) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be positive");
+        }
+        if (leaseMs <= handlerTimeoutMs) {
+            throw new IllegalArgumentException("Outbox lease must be longer than the handler timeout");
+        }
+        this.outboxRepository = outboxRepository;
+        this.mapper = mapper;
+        this.eventBus = eventBus;
+        this.batchSize = batchSize;
+        this.leaseMs = leaseMs;
+        this.maxAttempts = maxAttempts;
+        this.handlerTimeoutMs = handlerTimeoutMs;
+        this.acknowledger = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-ack");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.spilled = Counter.builder("reservation.outbox.spilled")
+            .description("Eventos deixados para o ciclo periódico do relay")
+            .register(meterRegistry);
+        this.parked = Counter.builder("reservation.outbox.parked")
+            .description("Eventos estacionados após esgotar as tentativas de entrega")
+            .register(meterRegistry);
+        Gauge.builder("reservation.outbox.spilled.reservations", spilledReservations, Set::size)
+            .description("Reservas cujos eventos estão sendo publicados pelo ciclo periódico")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Fim da reserva de um evento que começa a ser publicado agora (epoch millis).
+     * Os eventos são gravados já reservados para a publicação imediata.
+     */
+    public long claimExpiry() {
+        return System.currentTimeMillis() + leaseMs;
+    }
+    
+    /**
+     * Publica um evento recém-confirmado no banco, sem esperar os assinantes.
+     * A linha é removida quando os assinantes duráveis confirmam; se falharem
+     * ou não confirmarem dentro do tempo limite, a linha é liberada e o evento
+     * e os seguintes da reserva ficam para o ciclo periódico.
+     */
+    public void publishCommitted(Long outboxId, String reservationId, DomainEvent event) {
+        if (spilledReservations.contains(reservationId)) {
+            spilled.increment();
+            acknowledger.execute(() -> release(outboxId));
+            return;
+        }
+        // A remoção roda fora da thread de quem publica, que pode estar no afterCommit da transação
+        eventBus.publish(event)
+            .orTimeout(handlerTimeoutMs, TimeUnit.MILLISECONDS)
+            .whenCompleteAsync((result, error) -> {
+                if (error == null) {
+                    acknowledge(outboxId, event);
+                } else {
+                    spill(reservationId);
+                    release(outboxId);
+                    log.warn("Event {} for reservation {} was not confirmed by durable subscribers; "
+                        + "left to the outbox relay: {}", event.getEventId(), reservationId, error.toString());
+                }
+            }, acknowledger);
+    }
+    
+    /**
+     * Publica os lotes pendentes até esvaziar a caixa de saída ou até um lote
+     * não conseguir publicar nenhum evento.
+     */
+    @Scheduled(fixedDelayString = "${reservation.outbox.poll-interval-ms:1000}")
+    public void relay() {
+        int published;
+        do {
+            published = publishBatch();
+        } while (published == batchSize);
+    }
+    
+    /**
+     * Reserva e publica um lote de eventos em ordem de gravação e espera a
+     * confirmação dos assinantes duráveis.
+     * 
+     * @return quantidade de eventos publicados e removidos
+     */
+    public int publishBatch() {
+        List<OutboxEventEntity> batch = claimNextBatch();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        
+        Map<String, List<OutboxEventEntity>> byReservation = new LinkedHashMap<>();
+        for (OutboxEventEntity entry : batch) {
+            byReservation.computeIfAbsent(entry.getReservationId(), id -> new ArrayList<>()).add(entry);
+        }
+        
+        // Publica tudo antes de esperar: as reservas são tratadas em paralelo pelos assinantes
+        Map<String, CompletableFuture<Void>> confirmations = new LinkedHashMap<>();
+        for (Map.Entry<String, List<OutboxEventEntity>> group : byReservation.entrySet()) {
+            confirmations.put(group.getKey(), publish(group.getValue()));
+        }
+        
+        List<OutboxEventEntity> published = new ArrayList<>();
+        List<OutboxEventEntity> failed = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(handlerTimeoutMs);
+        
+        for (Map.Entry<String, List<OutboxEventEntity>> group : byReservation.entrySet()) {
+            List<OutboxEventEntity> entries = group.getValue();
+            try {
+                await(confirmations.get(group.getKey()), deadline);
+                published.addAll(entries);
+            } catch (Exception e) {
+                log.warn("Error publishing {} outbox events for reservation {} (attempt {})", 
+                    entries.size(), group.getKey(), entries.get(0).getAttempts() + 1, e);
+                for (OutboxEventEntity entry : entries) {
+                    entry.setClaimedUntil(null);
+                    entry.setAttempts(entry.getAttempts() + 1);
+                    entry.setLastError(truncate(e.toString()));
+                    if (entry.getAttempts() >= maxAttempts) {
+                        entry.setStatus(OutboxEventEntity.OutboxStatus.PARKED);
+                        parked.increment();
+                        log.error("Parking outbox event {} ({}) for reservation {} after {} attempts",
+                            entry.getEventId(), entry.getEventType(), entry.getReservationId(), entry.getAttempts());
+                    }
+                }
+                failed.addAll(entries);
+            }
+        }
+        
+        outboxRepository.deleteAllInBatch(published);
+        outboxRepository.saveAll(failed);
+        releaseDrainedReservations(published);
+        releaseDrainedReservations(failed);
+        
+        if (!published.isEmpty()) {
+            log.debug("Outbox relay published {} events ({} failed)", published.size(), failed.size());
+        }
+        return published.size();
+    }
+    
+    /**
+     * Indica se os eventos da reserva estão sendo publicados pelo ciclo periódico.
+     */
+    public boolean isSpilled(String reservationId) {
+        return spilledReservations.contains(reservationId);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        // Confirmações ainda não gravadas só fazem o evento ser publicado de novo
+        acknowledger.shutdown();
+    }
+    
+    /**
+     * Busca e reserva o próximo lote de eventos livres.
+     * Se outro publicador reservou alguma linha entre a busca e a reserva,
+     * o lote fica só com as linhas reservadas aqui.
+     */
+    private List<OutboxEventEntity> claimNextBatch() {
+        long now = System.currentTimeMillis();
+        List<OutboxEventEntity> candidates = outboxRepository.findNextBatch(
+            OutboxEventEntity.OutboxStatus.PENDING, now, PageRequest.of(0, batchSize));
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        long until = now + leaseMs;
+        List<Long> ids = candidates.stream().map(OutboxEventEntity::getId).collect(Collectors.toList());
+        int claimed = outboxRepository.claim(ids, now, until);
+        if (claimed == candidates.size()) {
+            candidates.forEach(entry -> entry.setClaimedUntil(until));
+            return candidates;
+        }
+        return outboxRepository.findAllById(ids).stream()
+            .filter(entry -> Long.valueOf(until).equals(entry.getClaimedUntil()))
+            .sorted(Comparator.comparing(OutboxEventEntity::getId))
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Publica os eventos de uma reserva em ordem.
+     * 
+     * @return concluído quando os assinantes duráveis confirmarem todos os eventos
+     */
+    private CompletableFuture<Void> publish(List<OutboxEventEntity> entries) {
+        try {
+            CompletableFuture<?>[] confirmed = new CompletableFuture<?>[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                confirmed[i] = eventBus.publish(mapper.toDomain(entries.get(i)));
+            }
+            return CompletableFuture.allOf(confirmed);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
+    private static void await(CompletableFuture<Void> confirmation, long deadline) throws Exception {
+        try {
+            confirmation.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Durable subscribers did not confirm in time", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+    
+    private void acknowledge(Long outboxId, DomainEvent event) {
+        try {
+            outboxRepository.deleteAllByIdInBatch(List.of(outboxId));
+        } catch (Exception e) {
+            // A linha continua na caixa de saída e o evento é publicado de novo
+            log.warn("Error removing published event {} from the outbox", event.getEventId(), e);
+        }
+    }
+    
+    private void release(Long outboxId) {
+        try {
+            outboxRepository.release(outboxId);
+        } catch (Exception e) {
+            // A reserva vence sozinha e o ciclo periódico publica o evento depois
+            log.warn("Error releasing outbox event {}", outboxId, e);
+        }
+    }
+    
+    private void spill(String reservationId) {
+        spilledReservations.add(reservationId);
+        spilled.increment();
+    }
+    
+    /**
+     * Devolve à publicação imediata as reservas que não têm mais eventos pendentes.
+     */
+    private void releaseDrainedReservations(List<OutboxEventEntity> entries) {
+        entries.stream()
+            .map(OutboxEventEntity::getReservationId)
+            .distinct()
+            .filter(spilledReservations::contains)
+            .filter(reservationId -> !outboxRepository.existsByReservationIdAndStatus(
+                reservationId, OutboxEventEntity.OutboxStatus.PENDING))
+            .forEach(spilledReservations::remove);
+    }
+    
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,27 @@
+package com.restaurant.reservation.infrastructure.persistence.converter;
+
+import com.restaurant.reservation.infrastructure.persistence.entity.ReservationEntity;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * Converte o status da reserva para o código numérico armazenado na coluna.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Converter
+public class ReservationStatusConverter 
+        implements AttributeConverter<ReservationEntity.ReservationStatus, Short> {
+    
+    @Override
+    public Short convertToDatabaseColumn(ReservationEntity.ReservationStatus status) {
+        return status != null ? status.getCode() : null;
+    }
+    
+    @Override
+    public ReservationEntity.ReservationStatus convertToEntityAttribute(Short code) {
+        return code != null ? ReservationEntity.ReservationStatus.fromCode(code) : null;
+    }
+}
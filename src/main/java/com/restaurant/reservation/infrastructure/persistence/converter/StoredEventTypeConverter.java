@@ -0,0 +1,27 @@
+package com.restaurant.reservation.infrastructure.persistence.converter;
+
+import com.restaurant.reservation.infrastructure.persistence.entity.StoredEventEntity;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * Converte o tipo do evento armazenado para o código numérico da coluna.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Converter
+public class StoredEventTypeConverter 
+        implements AttributeConverter<StoredEventEntity.EventType, Short> {
+    
+    @Override
+    public Short convertToDatabaseColumn(StoredEventEntity.EventType type) {
+        return type != null ? type.getCode() : null;
+    }
+    
+    @Override
+    public StoredEventEntity.EventType convertToEntityAttribute(Short code) {
+        return code != null ? StoredEventEntity.EventType.fromCode(code) : null;
+    }
+}
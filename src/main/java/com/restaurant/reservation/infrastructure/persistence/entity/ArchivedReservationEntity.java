@@ -0,0 +1,64 @@
+package com.restaurant.reservation.infrastructure.persistence.entity;
+
+import com.restaurant.reservation.infrastructure.persistence.converter.ReservationStatusConverter;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entidade JPA para reservas finalizadas movidas para o arquivo.
+ * Mesmo layout da tabela de reservas, mais o instante do arquivamento.
+ * As linhas são gravadas pelo ReservationArchiver e apenas lidas pela aplicação.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "reservations_archive", indexes = {
+    @Index(name = "idx_reservations_archive_start_minute", columnList = "start_minute"),
+    @Index(name = "idx_reservations_archive_customer", columnList = "customer_id"),
+    @Index(name = "idx_reservations_archive_status", columnList = "status")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedReservationEntity {
+    
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+    
+    @Column(name = "table_id", nullable = false, length = 50)
+    private String tableId;
+    
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "customer_id", nullable = false)
+    private CustomerEntity customer;
+    
+    @Column(name = "special_requests", length = 500)
+    private String specialRequests;
+    
+    @Column(name = "start_minute", nullable = false)
+    private Integer startMinute;
+    
+    @Column(name = "duration_minutes", nullable = false)
+    private Integer durationInMinutes;
+    
+    @Column(name = "number_of_people")
+    private Integer numberOfPeople;
+    
+    @Convert(converter = ReservationStatusConverter.class)
+    @Column(name = "status", nullable = false, columnDefinition = "smallint")
+    private ReservationEntity.ReservationStatus status;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
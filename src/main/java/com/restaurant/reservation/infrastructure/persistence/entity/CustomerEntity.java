@@ -0,0 +1,41 @@
+package com.restaurant.reservation.infrastructure.persistence.entity;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import javax.persistence.*;
+
+/**
+ * Entidade JPA para persistência de clientes.
+ * Cada combinação de nome, email e telefone é armazenada uma única vez
+ * e referenciada pelas reservas através de uma chave numérica.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "customers", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_customers_identity", columnNames = {"email", "name", "phone"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+    
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+    
+    @Column(name = "email", nullable = false, length = 100)
+    private String email;
+    
+    @Column(name = "phone", nullable = false, length = 20)
+    private String phone;
+}
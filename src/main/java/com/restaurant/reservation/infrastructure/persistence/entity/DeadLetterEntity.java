@@ -0,0 +1,84 @@
+package com.restaurant.reservation.infrastructure.persistence.entity;
+
+import com.restaurant.reservation.application.service.integration.FailedMessage.Channel;
+import com.restaurant.reservation.application.service.integration.MessagePriority;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entidade JPA para as notificações que falharam depois de todas as tentativas.
+ * Guarda a mensagem completa, o último erro e o histórico de tentativas
+ * (uma linha por tentativa, no formato "instante | erro").
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "notification_dead_letters", indexes = {
+    @Index(name = "idx_dead_letters_status", columnList = "status, id"),
+    @Index(name = "idx_dead_letters_channel_status", columnList = "channel, status, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeadLetterEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "channel", nullable = false, length = 10)
+    private Channel channel;
+    
+    @Column(name = "recipient", nullable = false, length = 100)
+    private String recipient;
+    
+    @Column(name = "subject", length = 200)
+    private String subject;
+    
+    @Lob
+    @Column(name = "body", nullable = false)
+    private String body;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority", nullable = false, length = 10)
+    private MessagePriority priority;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private DeadLetterStatus status;
+    
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+    
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+    
+    @Lob
+    @Column(name = "attempt_history")
+    private String attemptHistory;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "last_failed_at", nullable = false)
+    private LocalDateTime lastFailedAt;
+    
+    @Column(name = "replayed_at")
+    private LocalDateTime replayedAt;
+    
+    /**
+     * Estados da mensagem morta.
+     */
+    public enum DeadLetterStatus {
+        PENDING, REPLAYING, REPLAYED, DISCARDED
+    }
+}
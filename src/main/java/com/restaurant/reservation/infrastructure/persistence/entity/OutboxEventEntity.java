@@ -0,0 +1,94 @@
+package com.restaurant.reservation.infrastructure.persistence.entity;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import javax.persistence.*;
+
+/**
+ * Entidade JPA para a caixa de saída (outbox) de eventos de domínio.
+ * Cada linha contém os dados necessários para reconstruir o evento;
+ * a linha é removida depois que o evento é publicado. Enquanto um evento
+ * está sendo publicado, a linha fica reservada até claimed_until; só linhas
+ * livres ou com a reserva vencida são lidas pelo relay. Eventos que esgotam
+ * as tentativas ficam estacionados (PARKED) para análise, fora da fila.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "outbox_events", 
+    indexes = {
+        @Index(name = "idx_outbox_events_reservation", columnList = "reservation_id"),
+        @Index(name = "idx_outbox_events_status", columnList = "status, id")
+    },
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_outbox_events_event", columnNames = {"event_id"})
+    })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEventEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+    
+    @Column(name = "event_id", nullable = false, length = 36)
+    private String eventId;
+    
+    @Column(name = "event_type", nullable = false, length = 40)
+    private String eventType;
+    
+    @Column(name = "reservation_id", nullable = false, length = 36)
+    private String reservationId;
+    
+    @Column(name = "table_id", nullable = false, length = 50)
+    private String tableId;
+    
+    @Column(name = "previous_table_id", length = 50)
+    private String previousTableId;
+    
+    @Column(name = "customer_name", nullable = false, length = 100)
+    private String customerName;
+    
+    @Column(name = "customer_email", nullable = false, length = 100)
+    private String customerEmail;
+    
+    @Column(name = "customer_phone", nullable = false, length = 20)
+    private String customerPhone;
+    
+    @Column(name = "start_minute", nullable = false)
+    private Integer startMinute;
+    
+    @Column(name = "duration_minutes", nullable = false)
+    private Integer durationInMinutes;
+    
+    @Column(name = "occurred_at", nullable = false)
+    private Long occurredAt;
+    
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+    
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+    
+    /** Fim da reserva de quem está publicando o evento (epoch millis); nulo quando livre. */
+    @Column(name = "claimed_until")
+    private Long claimedUntil;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status;
+    
+    /**
+     * Situação do evento na caixa de saída.
+     */
+    public enum OutboxStatus {
+        PENDING, PARKED
+    }
+}
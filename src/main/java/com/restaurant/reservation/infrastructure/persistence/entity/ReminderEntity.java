@@ -0,0 +1,90 @@
+package com.restaurant.reservation.infrastructure.persistence.entity;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import javax.persistence.*;
+
+/**
+ * Entidade JPA para os lembretes agendados das reservas confirmadas.
+ * Guarda os dados necessários para enviar o lembrete sem reler a reserva;
+ * os horários são minutos desde a época (ver EpochMinutes).
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "reservation_reminders", indexes = {
+    @Index(name = "idx_reminders_reservation", columnList = "reservation_id"),
+    @Index(name = "idx_reminders_status", columnList = "status, due_minute, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReminderEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+    
+    @Column(name = "reservation_id", nullable = false, length = 36)
+    private String reservationId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false, length = 20)
+    private ReminderKind kind;
+    
+    @Column(name = "due_minute", nullable = false)
+    private Integer dueMinute;
+    
+    @Column(name = "start_minute", nullable = false)
+    private Integer startMinute;
+    
+    @Column(name = "duration_minutes", nullable = false)
+    private Integer durationInMinutes;
+    
+    @Column(name = "table_id", nullable = false, length = 50)
+    private String tableId;
+    
+    @Column(name = "customer_name", nullable = false, length = 100)
+    private String customerName;
+    
+    @Column(name = "customer_email", nullable = false, length = 100)
+    private String customerEmail;
+    
+    @Column(name = "customer_phone", nullable = false, length = 20)
+    private String customerPhone;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReminderStatus status;
+    
+    /**
+     * Tipos de lembrete e a antecedência de cada um.
+     */
+    public enum ReminderKind {
+        DAY_BEFORE(24 * 60),
+        TWO_HOURS(2 * 60);
+        
+        private final int minutesBefore;
+        
+        ReminderKind(int minutesBefore) {
+            this.minutesBefore = minutesBefore;
+        }
+        
+        public int getMinutesBefore() {
+            return minutesBefore;
+        }
+    }
+    
+    /**
+     * Estados do lembrete.
+     */
+    public enum ReminderStatus {
+        PENDING, SENT, CANCELLED
+    }
+}
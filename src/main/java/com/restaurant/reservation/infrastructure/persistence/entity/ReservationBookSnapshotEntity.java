@@ -0,0 +1,48 @@
+package com.restaurant.reservation.infrastructure.persistence.entity;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import javax.persistence.*;
+
+/**
+ * Entidade JPA para snapshots da agenda de uma mesa.
+ * Guarda o estado compactado após aplicar todos os eventos até last_sequence,
+ * permitindo que o replay comece do snapshot em vez do início do log.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "reservation_book_snapshots", indexes = {
+    @Index(name = "idx_book_snapshots_table_seq", columnList = "table_id, last_sequence")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationBookSnapshotEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+    
+    @Column(name = "table_id", nullable = false, length = 50)
+    private String tableId;
+    
+    @Column(name = "last_sequence", nullable = false)
+    private Long lastSequence;
+    
+    @Column(name = "taken_at", nullable = false)
+    private Long takenAt;
+    
+    @Column(name = "entry_count", nullable = false)
+    private Integer entryCount;
+    
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private byte[] payload;
+}
@@ -1,5 +1,6 @@
 package com.restaurant.reservation.infrastructure.persistence.entity;
 
+import com.restaurant.reservation.infrastructure.persistence.converter.ReservationStatusConverter;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -7,16 +8,30 @@ import lombok.Builder;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * Entidade JPA para persistência de reservas.
  * Representa a tabela de reservas no banco de dados.
  * 
+ * Layout compacto: status como código inteiro, cliente normalizado na
+ * tabela de clientes e horário de início em minutos desde a época.
+ * 
+ * A coluna de versão, além do controle de concorrência otimista, indica ao
+ * Spring Data se a entidade é nova (versão nula): nesse caso ela é
+ * persistida diretamente, sem o SELECT do merge.
+ * 
  * @author Sistema de Reservas
  * @version 1.0.0
  */
 @Entity
-@Table(name = "reservations")
+@Table(name = "reservations", indexes = {
+    @Index(name = "idx_reservations_start_minute", columnList = "start_minute"),
+    @Index(name = "idx_reservations_table_start", columnList = "table_id, start_minute"),
+    @Index(name = "idx_reservations_customer", columnList = "customer_id"),
+    @Index(name = "idx_reservations_updated_at", columnList = "updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -30,40 +45,35 @@ public class ReservationEntity {
     @Column(name = "table_id", nullable = false, length = 50)
     private String tableId;
     
-    @Column(name = "customer_name", nullable = false, length = 100)
-    private String customerName;
-    
-    @Column(name = "customer_email", nullable = false, length = 100)
-    private String customerEmail;
-    
-    @Column(name = "customer_phone", nullable = false, length = 20)
-    private String customerPhone;
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "customer_id", nullable = false)
+    private CustomerEntity customer;
     
     @Column(name = "special_requests", length = 500)
     private String specialRequests;
     
-    @Column(name = "reservation_date_time", nullable = false)
-    private LocalDateTime reservationDateTime;
+    @Column(name = "start_minute", nullable = false)
+    private Integer startMinute;
     
     @Column(name = "duration_minutes", nullable = false)
     private Integer durationInMinutes;
     
-    @Column(name = "number_of_people", nullable = false)
-    private Integer numberOfPeople;
+    @Column(name = "number_of_people")
+    private Integer numberOfPeople; // Não faz parte do domínio; ainda não preenchido
     
-    @Enumerated(EnumType.STRING)
-    @Column(name = "status", nullable = false, length = 20)
+    @Convert(converter = ReservationStatusConverter.class)
+    @Column(name = "status", nullable = false, columnDefinition = "smallint")
     private ReservationStatus status;
     
-    @Column(name = "created_at", nullable = false)
-    private LocalDateTime createdAt;
-    
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    @Version
+    @Column(name = "version")
+    private Long version;
+    
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
     }
     
@@ -74,8 +84,45 @@ public class ReservationEntity {
     
     /**
      * Enum para status da reserva na camada de persistência.
+     * O código numérico é o valor gravado na coluna e nunca deve ser reutilizado.
      */
     public enum ReservationStatus {
-        PENDING, CONFIRMED, COMPLETED, CANCELLED, NO_SHOW
+        PENDING((short) 1),
+        CONFIRMED((short) 2),
+        COMPLETED((short) 3),
+        CANCELLED((short) 4),
+        NO_SHOW((short) 5);
+        
+        /**
+         * Status que ocupam a mesa (não cancelados ou completados).
+         */
+        public static final Set<ReservationStatus> ACTIVE = EnumSet.of(PENDING, CONFIRMED);
+        
+        /**
+         * Status finais, elegíveis para arquivamento.
+         */
+        public static final Set<ReservationStatus> FINALIZED = EnumSet.of(COMPLETED, CANCELLED, NO_SHOW);
+        
+        private final short code;
+        
+        ReservationStatus(short code) {
+            this.code = code;
+        }
+        
+        public short getCode() {
+            return code;
+        }
+        
+        /**
+         * Retorna o status correspondente ao código gravado no banco.
+         */
+        public static ReservationStatus fromCode(short code) {
+            for (ReservationStatus status : values()) {
+                if (status.code == code) {
+                    return status;
+                }
+            }
+            throw new IllegalArgumentException("Unknown reservation status code: " + code);
+        }
     }
 }
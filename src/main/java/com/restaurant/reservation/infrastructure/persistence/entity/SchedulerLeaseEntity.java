@@ -0,0 +1,34 @@
+package com.restaurant.reservation.infrastructure.persistence.entity;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * Entidade JPA para as concessões (leases) usadas na eleição de líder
+ * entre instâncias da aplicação. Quem detém a concessão vigente executa
+ * a tarefa correspondente.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLeaseEntity {
+    
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+    
+    @Column(name = "owner", nullable = false, length = 100)
+    private String owner;
+    
+    /** Fim da concessão em epoch millis. */
+    @Column(name = "expires_at", nullable = false)
+    private Long expiresAt;
+}
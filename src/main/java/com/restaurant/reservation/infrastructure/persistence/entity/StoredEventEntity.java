@@ -0,0 +1,110 @@
+package com.restaurant.reservation.infrastructure.persistence.entity;
+
+import com.restaurant.reservation.infrastructure.persistence.converter.ReservationStatusConverter;
+import com.restaurant.reservation.infrastructure.persistence.converter.StoredEventTypeConverter;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import javax.persistence.*;
+
+/**
+ * Entidade JPA do log de eventos de reservas (append-only).
+ * Cada linha pertence à partição de uma mesa; a sequência define a ordem de replay.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "reservation_events", 
+    indexes = {
+        @Index(name = "idx_reservation_events_table_seq", columnList = "table_id, sequence")
+    },
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reservation_events_event_table", columnNames = {"event_id", "table_id"})
+    })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoredEventEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "sequence")
+    private Long sequence;
+    
+    @Column(name = "event_id", nullable = false, length = 36)
+    private String eventId;
+    
+    @Convert(converter = StoredEventTypeConverter.class)
+    @Column(name = "event_type", nullable = false, columnDefinition = "smallint")
+    private EventType eventType;
+    
+    @Column(name = "reservation_id", nullable = false, length = 36)
+    private String reservationId;
+    
+    @Column(name = "table_id", nullable = false, length = 50)
+    private String tableId;
+    
+    @Column(name = "start_minute", nullable = false)
+    private Integer startMinute;
+    
+    @Column(name = "duration_minutes", nullable = false)
+    private Integer durationInMinutes;
+    
+    @Column(name = "occurred_at", nullable = false)
+    private Long occurredAt;
+    
+    /**
+     * Status da reserva em linhas MODIFIED, que não o alteram; nulo nos demais tipos.
+     */
+    @Convert(converter = ReservationStatusConverter.class)
+    @Column(name = "status", columnDefinition = "smallint")
+    private ReservationEntity.ReservationStatus status;
+    
+    /**
+     * Tipo do evento armazenado e o status resultante na agenda.
+     * RELEASED é gravado na partição da mesa antiga quando uma reserva muda de mesa.
+     */
+    public enum EventType {
+        CREATED((short) 1, ReservationEntity.ReservationStatus.PENDING),
+        CONFIRMED((short) 2, ReservationEntity.ReservationStatus.CONFIRMED),
+        CANCELLED((short) 3, ReservationEntity.ReservationStatus.CANCELLED),
+        COMPLETED((short) 4, ReservationEntity.ReservationStatus.COMPLETED),
+        MODIFIED((short) 5, null),
+        RELEASED((short) 6, null);
+        
+        private final short code;
+        private final ReservationEntity.ReservationStatus resultingStatus;
+        
+        EventType(short code, ReservationEntity.ReservationStatus resultingStatus) {
+            this.code = code;
+            this.resultingStatus = resultingStatus;
+        }
+        
+        public short getCode() {
+            return code;
+        }
+        
+        /**
+         * Status da reserva após o evento, ou null quando o evento não altera o status.
+         */
+        public ReservationEntity.ReservationStatus getResultingStatus() {
+            return resultingStatus;
+        }
+        
+        /**
+         * Retorna o tipo correspondente ao código gravado no banco.
+         */
+        public static EventType fromCode(short code) {
+            for (EventType type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unknown stored event type code: " + code);
+        }
+    }
+}
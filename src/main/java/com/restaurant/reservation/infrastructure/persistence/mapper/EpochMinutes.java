@@ -0,0 +1,47 @@
+package com.restaurant.reservation.infrastructure.persistence.mapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Conversões entre datas e minutos desde a época, formato usado nas
+ * colunas de horário da camada de persistência.
+ * Os horários de reserva têm granularidade de minuto; segundos são descartados.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+public final class EpochMinutes {
+    
+    private EpochMinutes() {
+    }
+    
+    /**
+     * Converte uma data e hora para minutos desde a época.
+     */
+    public static int of(LocalDateTime dateTime) {
+        return Math.toIntExact(dateTime.toEpochSecond(ZoneOffset.UTC) / 60);
+    }
+    
+    /**
+     * Converte minutos desde a época para data e hora.
+     */
+    public static LocalDateTime toLocalDateTime(int epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60L, 0, ZoneOffset.UTC);
+    }
+    
+    /**
+     * Retorna o primeiro minuto do dia.
+     */
+    public static int startOfDay(LocalDate date) {
+        return of(date.atStartOfDay());
+    }
+    
+    /**
+     * Retorna o primeiro minuto do dia seguinte (limite exclusivo).
+     */
+    public static int endOfDay(LocalDate date) {
+        return of(date.plusDays(1).atStartOfDay());
+    }
+}
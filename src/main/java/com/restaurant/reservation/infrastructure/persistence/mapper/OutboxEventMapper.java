@@ -0,0 +1,109 @@
+package com.restaurant.reservation.infrastructure.persistence.mapper;
+
+import com.restaurant.reservation.domain.event.*;
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import com.restaurant.reservation.infrastructure.persistence.entity.OutboxEventEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Mapper para conversão entre eventos de domínio e linhas da caixa de saída.
+ * A reconstrução preserva o ID e o instante do evento original.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Mapper
+public interface OutboxEventMapper {
+    
+    OutboxEventMapper INSTANCE = Mappers.getMapper(OutboxEventMapper.class);
+    
+    /**
+     * Converte um evento de domínio para uma linha da caixa de saída.
+     */
+    default OutboxEventEntity toEntity(DomainEvent event) {
+        if (event instanceof ReservationCreatedEvent created) {
+            return createEntity(event, created.getReservationId(), created.getTableId(), null,
+                created.getCustomerInfo(), created.getReservationTime());
+        }
+        if (event instanceof ReservationConfirmedEvent confirmed) {
+            return createEntity(event, confirmed.getReservationId(), confirmed.getTableId(), null,
+                confirmed.getCustomerInfo(), confirmed.getReservationTime());
+        }
+        if (event instanceof ReservationCancelledEvent cancelled) {
+            return createEntity(event, cancelled.getReservationId(), cancelled.getTableId(), null,
+                cancelled.getCustomerInfo(), cancelled.getReservationTime());
+        }
+        if (event instanceof ReservationCompletedEvent completed) {
+            return createEntity(event, completed.getReservationId(), completed.getTableId(), null,
+                completed.getCustomerInfo(), completed.getReservationTime());
+        }
+        if (event instanceof ReservationModifiedEvent modified) {
+            return createEntity(event, modified.getReservationId(), modified.getNewTableId(),
+                modified.getPreviousTableId(), modified.getCustomerInfo(), modified.getNewReservationTime());
+        }
+        throw new IllegalArgumentException("Unsupported event type: " + event.getEventType());
+    }
+    
+    /**
+     * Reconstrói o evento de domínio a partir da linha da caixa de saída.
+     */
+    default DomainEvent toDomain(OutboxEventEntity entity) {
+        String eventId = entity.getEventId();
+        LocalDateTime occurredOn = LocalDateTime.ofEpochSecond(
+            Math.floorDiv(entity.getOccurredAt(), 1000L),
+            (int) Math.floorMod(entity.getOccurredAt(), 1000L) * 1_000_000,
+            ZoneOffset.UTC);
+        ReservationId reservationId = ReservationId.of(entity.getReservationId());
+        TableId tableId = TableId.of(entity.getTableId());
+        CustomerInfo customerInfo = CustomerInfo.of(
+            entity.getCustomerName(), entity.getCustomerEmail(), entity.getCustomerPhone());
+        ReservationTime reservationTime = ReservationTime.restore(
+            EpochMinutes.toLocalDateTime(entity.getStartMinute()), entity.getDurationInMinutes());
+        
+        return switch (entity.getEventType()) {
+            case "ReservationCreated" -> new ReservationCreatedEvent(
+                eventId, occurredOn, reservationId, tableId, customerInfo, reservationTime);
+            case "ReservationConfirmed" -> new ReservationConfirmedEvent(
+                eventId, occurredOn, reservationId, tableId, customerInfo, reservationTime);
+            case "ReservationCancelled" -> new ReservationCancelledEvent(
+                eventId, occurredOn, reservationId, tableId, customerInfo, reservationTime);
+            case "ReservationCompleted" -> new ReservationCompletedEvent(
+                eventId, occurredOn, reservationId, tableId, customerInfo, reservationTime);
+            case "ReservationModified" -> new ReservationModifiedEvent(
+                eventId, occurredOn, reservationId,
+                entity.getPreviousTableId() != null ? TableId.of(entity.getPreviousTableId()) : null,
+                tableId, customerInfo, reservationTime, null);
+            default -> throw new IllegalArgumentException("Unsupported event type: " + entity.getEventType());
+        };
+    }
+    
+    /**
+     * Cria uma linha da caixa de saída.
+     */
+    default OutboxEventEntity createEntity(DomainEvent event, ReservationId reservationId, TableId tableId,
+                                           TableId previousTableId, CustomerInfo customerInfo,
+                                           ReservationTime reservationTime) {
+        return OutboxEventEntity.builder()
+            .eventId(event.getEventId())
+            .eventType(event.getEventType())
+            .reservationId(reservationId.getValue())
+            .tableId(tableId.getValue())
+            .previousTableId(previousTableId != null ? previousTableId.getValue() : null)
+            .customerName(customerInfo.getName())
+            .customerEmail(customerInfo.getEmail())
+            .customerPhone(customerInfo.getPhone())
+            .startMinute(EpochMinutes.of(reservationTime.getDateTime()))
+            .durationInMinutes(reservationTime.getDurationInMinutes())
+            .occurredAt(event.getOccurredOn().toInstant(ZoneOffset.UTC).toEpochMilli())
+            .attempts(0)
+            .status(OutboxEventEntity.OutboxStatus.PENDING)
+            .build();
+    }
+}
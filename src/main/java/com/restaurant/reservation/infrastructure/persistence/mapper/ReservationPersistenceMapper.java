@@ -2,6 +2,8 @@ package com.restaurant.reservation.infrastructure.persistence.mapper;
 
 import com.restaurant.reservation.domain.entity.Reservation;
 import com.restaurant.reservation.domain.valueobject.*;
+import com.restaurant.reservation.infrastructure.persistence.entity.ArchivedReservationEntity;
+import com.restaurant.reservation.infrastructure.persistence.entity.CustomerEntity;
 import com.restaurant.reservation.infrastructure.persistence.entity.ReservationEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -11,6 +13,9 @@ import org.mapstruct.factory.Mappers;
  * Mapper para conversão entre entidades de domínio e entidades de persistência.
  * Utiliza MapStruct para geração automática de código de mapeamento.
  * 
+ * O cliente não é mapeado aqui: a referência para {@link CustomerEntity}
+ * é resolvida pelo repositório, que deduplica os clientes.
+ * 
  * @author Sistema de Reservas
  * @version 1.0.0
  */
@@ -24,28 +29,47 @@ public interface ReservationPersistenceMapper {
      */
     @Mapping(source = "id.value", target = "id")
     @Mapping(source = "tableId.value", target = "tableId")
-    @Mapping(source = "customerInfo.name", target = "customerName")
-    @Mapping(source = "customerInfo.email", target = "customerEmail")
-    @Mapping(source = "customerInfo.phone", target = "customerPhone")
+    @Mapping(target = "customer", ignore = true) // Resolvido pelo repositório
     @Mapping(source = "customerInfo.specialRequests", target = "specialRequests")
-    @Mapping(source = "reservationTime.dateTime", target = "reservationDateTime")
+    @Mapping(target = "startMinute", expression = "java(EpochMinutes.of(reservation.getReservationTime().getDateTime()))")
     @Mapping(source = "reservationTime.durationInMinutes", target = "durationInMinutes")
     @Mapping(target = "numberOfPeople", ignore = true) // Será calculado baseado na mesa
     @Mapping(target = "status", expression = "java(mapStatusToEntity(reservation.getStatus()))")
-    @Mapping(target = "createdAt", ignore = true) // Será definido pelo JPA
     @Mapping(target = "updatedAt", ignore = true) // Será definido pelo JPA
     ReservationEntity toEntity(Reservation reservation);
     
     /**
      * Converte uma entidade de persistência para entidade de domínio.
      */
-    @Mapping(source = "id", target = "id.value")
-    @Mapping(source = "tableId", target = "tableId.value")
-    @Mapping(target = "customerInfo", expression = "java(createCustomerInfo(entity))")
-    @Mapping(target = "reservationTime", expression = "java(createReservationTime(entity))")
-    @Mapping(target = "status", expression = "java(mapStatusFromEntity(entity.getStatus()))")
-    @Mapping(target = "domainEvents", ignore = true) // Não é persistido
-    Reservation toDomain(ReservationEntity entity);
+    default Reservation toDomain(ReservationEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        Reservation reservation = Reservation.restore(
+            ReservationId.of(entity.getId()),
+            TableId.of(entity.getTableId()),
+            createCustomerInfo(entity),
+            createReservationTime(entity),
+            mapStatusFromEntity(entity.getStatus()));
+        reservation.setVersion(entity.getVersion());
+        return reservation;
+    }
+    
+    /**
+     * Converte uma reserva arquivada para entidade de domínio.
+     */
+    default Reservation toDomain(ArchivedReservationEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        CustomerEntity customer = entity.getCustomer();
+        return Reservation.restore(
+            ReservationId.of(entity.getId()),
+            TableId.of(entity.getTableId()),
+            CustomerInfo.of(customer.getName(), customer.getEmail(), customer.getPhone(), entity.getSpecialRequests()),
+            ReservationTime.restore(EpochMinutes.toLocalDateTime(entity.getStartMinute()), entity.getDurationInMinutes()),
+            mapStatusFromEntity(entity.getStatus()));
+    }
     
     /**
      * Mapeia o status do domínio para a entidade.
@@ -77,20 +101,22 @@ public interface ReservationPersistenceMapper {
      * Cria CustomerInfo a partir da entidade.
      */
     default CustomerInfo createCustomerInfo(ReservationEntity entity) {
+        CustomerEntity customer = entity.getCustomer();
         return CustomerInfo.of(
-            entity.getCustomerName(),
-            entity.getCustomerEmail(),
-            entity.getCustomerPhone(),
+            customer.getName(),
+            customer.getEmail(),
+            customer.getPhone(),
             entity.getSpecialRequests()
         );
     }
     
     /**
      * Cria ReservationTime a partir da entidade.
+     * Usa restore: reservas gravadas podem estar no passado.
      */
     default ReservationTime createReservationTime(ReservationEntity entity) {
-        return ReservationTime.of(
-            entity.getReservationDateTime(),
+        return ReservationTime.restore(
+            EpochMinutes.toLocalDateTime(entity.getStartMinute()),
             entity.getDurationInMinutes()
         );
     }
@@ -0,0 +1,89 @@
+package com.restaurant.reservation.infrastructure.persistence.mapper;
+
+import com.restaurant.reservation.domain.event.*;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import com.restaurant.reservation.infrastructure.persistence.entity.ReservationEntity;
+import com.restaurant.reservation.infrastructure.persistence.entity.StoredEventEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Mapper para conversão de eventos de domínio em linhas do log de eventos.
+ * Uma modificação que troca a reserva de mesa gera duas linhas: RELEASED na
+ * partição da mesa antiga e MODIFIED na partição da nova.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Mapper
+public interface StoredEventMapper {
+    
+    StoredEventMapper INSTANCE = Mappers.getMapper(StoredEventMapper.class);
+    
+    /**
+     * Converte um evento de domínio para as linhas do log de eventos.
+     */
+    default List<StoredEventEntity> toEntities(DomainEvent event) {
+        if (event instanceof ReservationCreatedEvent created) {
+            return List.of(createEntity(event, StoredEventEntity.EventType.CREATED,
+                created.getReservationId(), created.getTableId(), created.getReservationTime()));
+        }
+        if (event instanceof ReservationConfirmedEvent confirmed) {
+            return List.of(createEntity(event, StoredEventEntity.EventType.CONFIRMED,
+                confirmed.getReservationId(), confirmed.getTableId(), confirmed.getReservationTime()));
+        }
+        if (event instanceof ReservationCancelledEvent cancelled) {
+            return List.of(createEntity(event, StoredEventEntity.EventType.CANCELLED,
+                cancelled.getReservationId(), cancelled.getTableId(), cancelled.getReservationTime()));
+        }
+        if (event instanceof ReservationCompletedEvent completed) {
+            return List.of(createEntity(event, StoredEventEntity.EventType.COMPLETED,
+                completed.getReservationId(), completed.getTableId(), completed.getReservationTime()));
+        }
+        if (event instanceof ReservationModifiedEvent modified) {
+            StoredEventEntity modifiedEntity = createEntity(event, StoredEventEntity.EventType.MODIFIED,
+                modified.getReservationId(), modified.getNewTableId(), modified.getNewReservationTime());
+            if (modified.getStatus() != null) {
+                // Leva o status para a partição da nova mesa, que pode não conhecer a reserva
+                modifiedEntity.setStatus(ReservationEntity.ReservationStatus.valueOf(modified.getStatus().name()));
+            }
+            if (!modified.isTableChanged()) {
+                return List.of(modifiedEntity);
+            }
+            StoredEventEntity releasedEntity = createEntity(event, StoredEventEntity.EventType.RELEASED,
+                modified.getReservationId(), modified.getPreviousTableId(), modified.getNewReservationTime());
+            return List.of(releasedEntity, modifiedEntity);
+        }
+        throw new IllegalArgumentException("Unsupported event type: " + event.getEventType());
+    }
+    
+    /**
+     * Cria uma linha do log de eventos.
+     */
+    default StoredEventEntity createEntity(DomainEvent event, StoredEventEntity.EventType type,
+                                           ReservationId reservationId, TableId tableId,
+                                           ReservationTime reservationTime) {
+        return StoredEventEntity.builder()
+            .eventId(event.getEventId())
+            .eventType(type)
+            .reservationId(reservationId.getValue())
+            .tableId(tableId.getValue())
+            .startMinute(EpochMinutes.of(reservationTime.getDateTime()))
+            .durationInMinutes(reservationTime.getDurationInMinutes())
+            .occurredAt(toEpochMillis(event.getOccurredOn()))
+            .build();
+    }
+    
+    /**
+     * Converte um instante para milissegundos desde a época.
+     */
+    default long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,85 @@
+package com.restaurant.reservation.infrastructure.persistence.repository;
+
+import com.restaurant.reservation.infrastructure.persistence.entity.ArchivedReservationEntity;
+import com.restaurant.reservation.infrastructure.persistence.entity.ReservationEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repositório JPA para o arquivo de reservas finalizadas.
+ * Oferece as consultas de histórico usadas na leitura transparente
+ * e as operações em massa usadas pelo arquivamento.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Repository
+public interface JpaArchivedReservationRepository extends JpaRepository<ArchivedReservationEntity, String> {
+    
+    /**
+     * Busca as reservas arquivadas com os IDs informados (um lote do multi-get).
+     */
+    @Query("SELECT r FROM ArchivedReservationEntity r JOIN FETCH r.customer WHERE r.id IN :ids")
+    List<ArchivedReservationEntity> findByIds(@Param("ids") Collection<String> ids);
+    
+    /**
+     * Busca reservas arquivadas por mesa e data.
+     */
+    @Query("SELECT r FROM ArchivedReservationEntity r JOIN FETCH r.customer WHERE r.tableId = :tableId AND " +
+           "r.startMinute >= :dayStart AND r.startMinute < :dayEnd")
+    List<ArchivedReservationEntity> findByTableAndDate(@Param("tableId") String tableId,
+                                                     @Param("dayStart") int dayStart,
+                                                     @Param("dayEnd") int dayEnd);
+    
+    /**
+     * Busca reservas arquivadas por status.
+     */
+    @Query("SELECT r FROM ArchivedReservationEntity r JOIN FETCH r.customer WHERE r.status = :status")
+    List<ArchivedReservationEntity> findByStatus(@Param("status") ReservationEntity.ReservationStatus status);
+    
+    /**
+     * Busca reservas arquivadas por email do cliente.
+     */
+    @Query("SELECT r FROM ArchivedReservationEntity r JOIN FETCH r.customer c WHERE c.email = :email")
+    List<ArchivedReservationEntity> findByCustomerEmail(@Param("email") String email);
+    
+    /**
+     * Busca reservas arquivadas por data.
+     */
+    @Query("SELECT r FROM ArchivedReservationEntity r JOIN FETCH r.customer WHERE " +
+           "r.startMinute >= :dayStart AND r.startMinute < :dayEnd")
+    List<ArchivedReservationEntity> findByDate(@Param("dayStart") int dayStart, @Param("dayEnd") int dayEnd);
+    
+    /**
+     * Percorre as reservas arquivadas que começam no intervalo [startMinute, endMinute), em ordem de início.
+     * Lê as linhas com cursor no servidor, como JpaReservationRepository.findByDateRange.
+     */
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = JpaReservationRepository.EXPORT_FETCH_SIZE),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT r FROM ArchivedReservationEntity r JOIN FETCH r.customer WHERE " +
+           "r.startMinute >= :startMinute AND r.startMinute < :endMinute ORDER BY r.startMinute, r.id")
+    Stream<ArchivedReservationEntity> findByDateRange(@Param("startMinute") int startMinute,
+                                                      @Param("endMinute") int endMinute);
+    
+    /**
+     * Copia as reservas indicadas da tabela principal para o arquivo.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO reservations_archive (id, table_id, customer_id, special_requests, " +
+                   "start_minute, duration_minutes, number_of_people, status, updated_at, archived_at) " +
+                   "SELECT id, table_id, customer_id, special_requests, start_minute, duration_minutes, " +
+                   "number_of_people, status, updated_at, CURRENT_TIMESTAMP FROM reservations " +
+                   "WHERE id IN (:ids)", nativeQuery = true)
+    int copyFromReservations(@Param("ids") Collection<String> ids);
+}
@@ -0,0 +1,36 @@
+package com.restaurant.reservation.infrastructure.persistence.repository;
+
+import com.restaurant.reservation.infrastructure.persistence.entity.CustomerEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repositório JPA para a entidade CustomerEntity.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Repository
+public interface JpaCustomerRepository extends JpaRepository<CustomerEntity, Long> {
+    
+    /**
+     * Busca um cliente pela combinação única de email, nome e telefone.
+     */
+    Optional<CustomerEntity> findByEmailAndNameAndPhone(String email, String name, String phone);
+    
+    /**
+     * Cadastra o cliente se a combinação ainda não existir, na transação
+     * corrente. Com um cadastro concorrente ainda não confirmado, o banco
+     * espera por ele e atualiza a linha gravada em vez de violar
+     * uk_customers_identity.
+     */
+    @Modifying
+    @Query(value = "MERGE INTO customers (name, email, phone) KEY (email, name, phone) " +
+                   "VALUES (:name, :email, :phone)", nativeQuery = true)
+    int mergeCustomer(@Param("name") String name, @Param("email") String email, @Param("phone") String phone);
+}
@@ -0,0 +1,88 @@
+package com.restaurant.reservation.infrastructure.persistence.repository;
+
+import com.restaurant.reservation.application.service.integration.FailedMessage.Channel;
+import com.restaurant.reservation.infrastructure.persistence.entity.DeadLetterEntity;
+import com.restaurant.reservation.infrastructure.persistence.entity.DeadLetterEntity.DeadLetterStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositório JPA para as notificações mortas (dead letters).
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Repository
+public interface JpaDeadLetterRepository extends JpaRepository<DeadLetterEntity, Long> {
+    
+    /**
+     * Busca uma página de mensagens; filtros nulos são ignorados.
+     */
+    @Query("SELECT d FROM DeadLetterEntity d " +
+           "WHERE (:channel IS NULL OR d.channel = :channel) AND (:status IS NULL OR d.status = :status)")
+    Page<DeadLetterEntity> search(@Param("channel") Channel channel, 
+                                  @Param("status") DeadLetterStatus status, 
+                                  Pageable pageable);
+    
+    /**
+     * Busca as mensagens no estado informado, dos canais informados, gravadas após o ID informado.
+     */
+    List<DeadLetterEntity> findByStatusAndChannelInAndIdGreaterThanOrderByIdAsc(
+        DeadLetterStatus status, Collection<Channel> channels, Long id, Pageable pageable);
+    
+    /**
+     * Marca como em reenvio as mensagens ainda pendentes.
+     * 
+     * @return quantidade de mensagens que esta chamada reservou
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE DeadLetterEntity d SET d.status = 'REPLAYING' WHERE d.id IN :ids AND d.status = 'PENDING'")
+    int markReplaying(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Marca a mensagem como reenviada com sucesso.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE DeadLetterEntity d SET d.status = 'REPLAYED', d.replayedAt = :replayedAt, " +
+           "d.attempts = d.attempts + 1 WHERE d.id = :id")
+    int markReplayed(@Param("id") Long id, @Param("replayedAt") LocalDateTime replayedAt);
+    
+    /**
+     * Descarta a mensagem, se ela não estiver sendo reenviada.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE DeadLetterEntity d SET d.status = 'DISCARDED' WHERE d.id = :id AND d.status = 'PENDING'")
+    int discard(@Param("id") Long id);
+    
+    /**
+     * Devolve ao estado pendente as mensagens informadas que ainda estão em reenvio.
+     * 
+     * @return quantidade de mensagens devolvidas
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE DeadLetterEntity d SET d.status = 'PENDING' WHERE d.id IN :ids AND d.status = 'REPLAYING'")
+    int releaseReplaying(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Devolve ao estado pendente as mensagens que ficaram presas em reenvio
+     * (por exemplo, após uma parada da aplicação durante o reenvio).
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE DeadLetterEntity d SET d.status = 'PENDING' WHERE d.status = 'REPLAYING'")
+    int resetReplaying();
+}
@@ -0,0 +1,55 @@
+package com.restaurant.reservation.infrastructure.persistence.repository;
+
+import com.restaurant.reservation.infrastructure.persistence.entity.OutboxEventEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Repositório JPA para a caixa de saída de eventos.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Repository
+public interface JpaOutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+    
+    /**
+     * Busca o próximo lote de eventos na situação informada que não estão
+     * reservados no instante informado (epoch millis), em ordem de gravação.
+     */
+    @Query("SELECT e FROM OutboxEventEntity e WHERE e.status = :status " +
+           "AND (e.claimedUntil IS NULL OR e.claimedUntil < :now) ORDER BY e.id")
+    List<OutboxEventEntity> findNextBatch(@Param("status") OutboxEventEntity.OutboxStatus status,
+                                          @Param("now") long now, Pageable pageable);
+    
+    /**
+     * Reserva os eventos informados que estão livres no instante informado.
+     * 
+     * @return quantidade de eventos reservados
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.claimedUntil = :until " +
+           "WHERE e.id IN :ids AND (e.claimedUntil IS NULL OR e.claimedUntil < :now)")
+    int claim(@Param("ids") List<Long> ids, @Param("now") long now, @Param("until") long until);
+    
+    /**
+     * Libera a reserva do evento, que volta a ser lido pelo relay.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.claimedUntil = NULL WHERE e.id = :id")
+    int release(@Param("id") Long id);
+    
+    /**
+     * Verifica se a reserva tem eventos na situação informada.
+     */
+    boolean existsByReservationIdAndStatus(String reservationId, OutboxEventEntity.OutboxStatus status);
+}
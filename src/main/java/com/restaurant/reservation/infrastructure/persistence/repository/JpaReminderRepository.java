@@ -0,0 +1,66 @@
+package com.restaurant.reservation.infrastructure.persistence.repository;
+
+import com.restaurant.reservation.infrastructure.persistence.entity.ReminderEntity;
+import com.restaurant.reservation.infrastructure.persistence.entity.ReminderEntity.ReminderStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Repositório JPA para os lembretes de reserva.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Repository
+public interface JpaReminderRepository extends JpaRepository<ReminderEntity, Long> {
+    
+    /**
+     * Busca os lembretes no estado informado que vencem até o minuto informado,
+     * com ID maior que o informado, em ordem de ID (paginação por chave).
+     */
+    List<ReminderEntity> findByStatusAndDueMinuteLessThanEqualAndIdGreaterThanOrderByIdAsc(
+        ReminderStatus status, Integer dueMinute, Long id, Pageable pageable);
+    
+    /**
+     * Verifica se o lembrete está no estado informado.
+     */
+    boolean existsByIdAndStatus(Long id, ReminderStatus status);
+    
+    /**
+     * Verifica se a reserva já teve lembretes agendados.
+     */
+    boolean existsByReservationId(String reservationId);
+    
+    /**
+     * Cancela os lembretes pendentes da reserva.
+     */
+    @Modifying
+    @Query("UPDATE ReminderEntity r SET r.status = 'CANCELLED' " +
+           "WHERE r.reservationId = :reservationId AND r.status = 'PENDING'")
+    int cancelPending(@Param("reservationId") String reservationId);
+    
+    /**
+     * Marca o lembrete como enviado se ele ainda estiver pendente.
+     * 
+     * @return 1 se esta chamada fez a transição, 0 caso contrário
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReminderEntity r SET r.status = 'SENT' WHERE r.id = :id AND r.status = 'PENDING'")
+    int markSent(@Param("id") Long id);
+    
+    /**
+     * Remove lembretes já encerrados com vencimento anterior ao minuto informado.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ReminderEntity r WHERE r.status <> 'PENDING' AND r.dueMinute < :before")
+    int deleteFinishedBefore(@Param("before") int before);
+}
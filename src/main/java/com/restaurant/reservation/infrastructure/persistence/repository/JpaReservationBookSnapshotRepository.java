@@ -0,0 +1,29 @@
+package com.restaurant.reservation.infrastructure.persistence.repository;
+
+import com.restaurant.reservation.infrastructure.persistence.entity.ReservationBookSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repositório JPA para snapshots da agenda das mesas.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Repository
+public interface JpaReservationBookSnapshotRepository 
+        extends JpaRepository<ReservationBookSnapshotEntity, Long> {
+    
+    /**
+     * Busca o snapshot mais recente de uma mesa.
+     */
+    Optional<ReservationBookSnapshotEntity> findFirstByTableIdOrderByLastSequenceDesc(String tableId);
+    
+    /**
+     * Busca o snapshot mais recente de uma mesa tirado até o instante informado.
+     */
+    Optional<ReservationBookSnapshotEntity> findFirstByTableIdAndTakenAtLessThanEqualOrderByLastSequenceDesc(
+            String tableId, Long takenAt);
+}
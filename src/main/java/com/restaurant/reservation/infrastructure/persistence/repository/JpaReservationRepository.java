@@ -1,77 +1,152 @@
 package com.restaurant.reservation.infrastructure.persistence.repository;
 
 import com.restaurant.reservation.infrastructure.persistence.entity.ReservationEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
+import javax.persistence.QueryHint;
+
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repositório JPA para a entidade ReservationEntity.
  * Extende JpaRepository para operações CRUD básicas e define consultas customizadas.
  * 
+ * Horários são expressos em minutos desde a época (ver EpochMinutes); intervalos
+ * de data usam início inclusivo e fim exclusivo para aproveitar os índices.
+ * 
  * @author Sistema de Reservas
  * @version 1.0.0
  */
 @Repository
 public interface JpaReservationRepository extends JpaRepository<ReservationEntity, String> {
     
+    /**
+     * Linhas lidas por ida ao banco nas consultas de exportação.
+     */
+    String EXPORT_FETCH_SIZE = "500";
+    
+    /**
+     * Busca as reservas com os IDs informados (um lote do multi-get).
+     */
+    @Query("SELECT r FROM ReservationEntity r JOIN FETCH r.customer WHERE r.id IN :ids")
+    List<ReservationEntity> findByIds(@Param("ids") Collection<String> ids);
+    
     /**
      * Busca reservas por mesa e data.
      */
-    @Query("SELECT r FROM ReservationEntity r WHERE r.tableId = :tableId AND " +
-           "DATE(r.reservationDateTime) = :date")
+    @Query("SELECT r FROM ReservationEntity r JOIN FETCH r.customer WHERE r.tableId = :tableId AND " +
+           "r.startMinute >= :dayStart AND r.startMinute < :dayEnd")
     List<ReservationEntity> findByTableAndDate(@Param("tableId") String tableId, 
-                                             @Param("date") LocalDate date);
+                                             @Param("dayStart") int dayStart,
+                                             @Param("dayEnd") int dayEnd);
     
     /**
      * Busca reservas que conflitam com o horário especificado.
+     * O limite inferior usa a duração máxima de uma reserva para restringir
+     * a varredura do índice (table_id, start_minute).
      */
-    @Query("SELECT r FROM ReservationEntity r WHERE r.tableId = :tableId AND " +
-           "r.status IN ('PENDING', 'CONFIRMED') AND " +
-           "((r.reservationDateTime < :endTime AND " +
-           "r.reservationDateTime + INTERVAL r.durationInMinutes MINUTE > :startTime))")
+    @Query("SELECT r FROM ReservationEntity r JOIN FETCH r.customer WHERE r.tableId = :tableId AND " +
+           "r.status IN :statuses AND " +
+           "r.startMinute >= :earliestStart AND r.startMinute < :endMinute AND " +
+           "r.startMinute + r.durationInMinutes > :startMinute")
     List<ReservationEntity> findConflictingReservations(@Param("tableId") String tableId,
-                                                       @Param("startTime") LocalDateTime startTime,
-                                                       @Param("endTime") LocalDateTime endTime);
+                                                       @Param("earliestStart") int earliestStart,
+                                                       @Param("startMinute") int startMinute,
+                                                       @Param("endMinute") int endMinute,
+                                                       @Param("statuses") Collection<ReservationEntity.ReservationStatus> statuses);
     
     /**
      * Busca reservas por status.
      */
-    List<ReservationEntity> findByStatus(ReservationEntity.ReservationStatus status);
+    @Query("SELECT r FROM ReservationEntity r JOIN FETCH r.customer WHERE r.status = :status")
+    List<ReservationEntity> findByStatus(@Param("status") ReservationEntity.ReservationStatus status);
     
     /**
      * Busca reservas por email do cliente.
      */
-    List<ReservationEntity> findByCustomerEmail(String email);
+    @Query("SELECT r FROM ReservationEntity r JOIN FETCH r.customer c WHERE c.email = :email")
+    List<ReservationEntity> findByCustomerEmail(@Param("email") String email);
     
     /**
      * Busca reservas por data.
      */
-    @Query("SELECT r FROM ReservationEntity r WHERE DATE(r.reservationDateTime) = :date")
-    List<ReservationEntity> findByDate(@Param("date") LocalDate date);
+    @Query("SELECT r FROM ReservationEntity r JOIN FETCH r.customer WHERE " +
+           "r.startMinute >= :dayStart AND r.startMinute < :dayEnd")
+    List<ReservationEntity> findByDate(@Param("dayStart") int dayStart, @Param("dayEnd") int dayEnd);
     
     /**
      * Conta reservas por mesa e data.
      */
     @Query("SELECT COUNT(r) FROM ReservationEntity r WHERE r.tableId = :tableId AND " +
-           "DATE(r.reservationDateTime) = :date AND r.status IN ('PENDING', 'CONFIRMED')")
-    long countByTableAndDate(@Param("tableId") String tableId, @Param("date") LocalDate date);
+           "r.startMinute >= :dayStart AND r.startMinute < :dayEnd AND r.status IN :statuses")
+    long countByTableAndDate(@Param("tableId") String tableId, 
+                             @Param("dayStart") int dayStart,
+                             @Param("dayEnd") int dayEnd,
+                             @Param("statuses") Collection<ReservationEntity.ReservationStatus> statuses);
     
     /**
      * Busca reservas ativas (não canceladas ou completadas).
      */
-    @Query("SELECT r FROM ReservationEntity r WHERE r.status IN ('PENDING', 'CONFIRMED')")
-    List<ReservationEntity> findActiveReservations();
+    @Query("SELECT r FROM ReservationEntity r JOIN FETCH r.customer WHERE r.status IN :statuses")
+    List<ReservationEntity> findActiveReservations(
+            @Param("statuses") Collection<ReservationEntity.ReservationStatus> statuses);
+    
+    /**
+     * Percorre as reservas que começam no intervalo [startMinute, endMinute), em ordem de início.
+     * Lê as linhas com cursor no servidor, em blocos de EXPORT_FETCH_SIZE, sem materializar a lista.
+     */
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = EXPORT_FETCH_SIZE),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT r FROM ReservationEntity r JOIN FETCH r.customer WHERE " +
+           "r.startMinute >= :startMinute AND r.startMinute < :endMinute ORDER BY r.startMinute, r.id")
+    Stream<ReservationEntity> findByDateRange(@Param("startMinute") int startMinute,
+                                              @Param("endMinute") int endMinute);
+    
+    /**
+     * Busca IDs de reservas finalizadas que começaram antes do limite, mais antigas primeiro.
+     */
+    @Query("SELECT r.id FROM ReservationEntity r WHERE r.status IN :statuses AND " +
+           "r.startMinute < :cutoffMinute ORDER BY r.startMinute")
+    List<String> findIdsToArchive(@Param("statuses") Collection<ReservationEntity.ReservationStatus> statuses,
+                                  @Param("cutoffMinute") int cutoffMinute,
+                                  Pageable pageable);
+    
+    /**
+     * Remove em massa as reservas indicadas.
+     */
+    @Modifying
+    @Query("DELETE FROM ReservationEntity r WHERE r.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<String> ids);
+    
+    /**
+     * Busca reservas nos status informados que começam a partir do minuto indicado.
+     * Não carrega o cliente; usada na carga do estado em memória.
+     */
+    @Query("SELECT r FROM ReservationEntity r WHERE r.status IN :statuses AND r.startMinute >= :fromMinute")
+    List<ReservationEntity> findByStatusInStartingFrom(
+            @Param("statuses") Collection<ReservationEntity.ReservationStatus> statuses,
+            @Param("fromMinute") int fromMinute);
+    
+    /**
+     * Busca reservas alteradas a partir do instante informado.
+     * Não carrega o cliente; usada na atualização do estado em memória.
+     */
+    @Query("SELECT r FROM ReservationEntity r WHERE r.updatedAt >= :since")
+    List<ReservationEntity> findUpdatedSince(@Param("since") LocalDateTime since);
     
     /**
-     * Busca reservas por período.
+     * Conta quantos dos IDs informados existem.
      */
-    @Query("SELECT r FROM ReservationEntity r WHERE r.reservationDateTime BETWEEN :startDate AND :endDate")
-    List<ReservationEntity> findByDateRange(@Param("startDate") LocalDateTime startDate,
-                                          @Param("endDate") LocalDateTime endDate);
+    long countByIdIn(Collection<String> ids);
 }
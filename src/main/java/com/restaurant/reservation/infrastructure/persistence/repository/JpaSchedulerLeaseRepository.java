@@ -0,0 +1,36 @@
+package com.restaurant.reservation.infrastructure.persistence.repository;
+
+import com.restaurant.reservation.infrastructure.persistence.entity.SchedulerLeaseEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositório JPA para as concessões de liderança.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Repository
+public interface JpaSchedulerLeaseRepository extends JpaRepository<SchedulerLeaseEntity, String> {
+    
+    /**
+     * Renova a concessão do dono atual ou assume uma concessão expirada.
+     * 
+     * @return 1 se o solicitante passou a deter a concessão
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLeaseEntity l SET l.owner = :owner, l.expiresAt = :expiresAt " +
+           "WHERE l.name = :name AND (l.owner = :owner OR l.expiresAt < :now)")
+    int acquire(@Param("name") String name, @Param("owner") String owner, 
+                @Param("now") long now, @Param("expiresAt") long expiresAt);
+    
+    /**
+     * Libera a concessão se ela pertencer ao solicitante.
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLeaseEntity l SET l.expiresAt = 0 WHERE l.name = :name AND l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner);
+}
@@ -0,0 +1,46 @@
+package com.restaurant.reservation.infrastructure.persistence.repository;
+
+import com.restaurant.reservation.infrastructure.persistence.entity.StoredEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório JPA para o log de eventos de reservas.
+ * O replay em si usa JDBC direto (ver ReservationEventReplayer); aqui ficam
+ * apenas as consultas de controle.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Repository
+public interface JpaStoredEventRepository extends JpaRepository<StoredEventEntity, Long> {
+    
+    /**
+     * Lista as mesas (partições) que possuem eventos.
+     */
+    @Query("SELECT DISTINCT e.tableId FROM StoredEventEntity e")
+    List<String> findDistinctTableIds();
+    
+    /**
+     * Busca o evento de maior sequência de uma mesa ocorrido até o instante (epoch millis).
+     */
+    Optional<StoredEventEntity> findFirstByTableIdAndOccurredAtLessThanEqualOrderBySequenceDesc(String tableId,
+                                                                                                 Long occurredAt);
+    
+    /**
+     * Conta os eventos de uma mesa posteriores a uma sequência.
+     */
+    long countByTableIdAndSequenceGreaterThan(String tableId, Long sequence);
+    
+    /**
+     * Retorna o maior instante de ocorrência entre os eventos de uma mesa até uma sequência.
+     */
+    @Query("SELECT MAX(e.occurredAt) FROM StoredEventEntity e WHERE e.tableId = :tableId AND " +
+           "e.sequence <= :sequence")
+    Long findMaxOccurredAt(@Param("tableId") String tableId, @Param("sequence") Long sequence);
+}
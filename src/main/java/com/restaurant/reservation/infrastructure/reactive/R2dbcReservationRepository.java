@@ -0,0 +1,184 @@
+package com.restaurant.reservation.infrastructure.reactive;
+
+import com.restaurant.reservation.domain.entity.Reservation;
+import com.restaurant.reservation.domain.repository.ReactiveReservationRepository;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import com.restaurant.reservation.infrastructure.persistence.entity.ArchivedReservationEntity;
+import com.restaurant.reservation.infrastructure.persistence.entity.CustomerEntity;
+import com.restaurant.reservation.infrastructure.persistence.entity.ReservationEntity;
+import com.restaurant.reservation.infrastructure.persistence.mapper.EpochMinutes;
+import com.restaurant.reservation.infrastructure.persistence.mapper.ReservationPersistenceMapper;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Implementação não bloqueante das consultas de reservas usando R2DBC.
+ * Lê as mesmas tabelas mantidas pelo JPA (reservations, reservations_archive
+ * e customers) e reaproveita o ReservationPersistenceMapper para montar as
+ * reservas, com as mesmas regras do ReservationRepositoryImpl para consultar
+ * o arquivo.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class R2dbcReservationRepository implements ReactiveReservationRepository {
+    
+    private static final String LIVE_SELECT = 
+        "SELECT r.id, r.table_id, r.special_requests, r.start_minute, r.duration_minutes, r.status, r.version, " +
+        "c.name, c.email, c.phone FROM reservations r JOIN customers c ON c.id = r.customer_id ";
+    private static final String ARCHIVE_SELECT = 
+        "SELECT r.id, r.table_id, r.special_requests, r.start_minute, r.duration_minutes, r.status, " +
+        "c.name, c.email, c.phone FROM reservations_archive r JOIN customers c ON c.id = r.customer_id ";
+    
+    /**
+     * IDs por consulta IN do multi-get; listas maiores são divididas em lotes.
+     */
+    private static final int IN_CHUNK_SIZE = 500;
+    
+    private final DatabaseClient databaseClient;
+    private final ReservationPersistenceMapper mapper;
+    
+    @Override
+    public Mono<Reservation> findById(ReservationId id) {
+        log.debug("Finding reservation by ID: {}", id);
+        
+        return live("WHERE r.id = :id", spec -> spec.bind("id", id.getValue()))
+            .next()
+            .switchIfEmpty(Mono.defer(() -> archived("WHERE r.id = :id", spec -> spec.bind("id", id.getValue())).next()));
+    }
+    
+    @Override
+    public Flux<Reservation> findAllById(Collection<ReservationId> ids) {
+        log.debug("Finding {} reservations by ID", ids.size());
+        
+        return Flux.defer(() -> {
+            Set<String> missing = ConcurrentHashMap.newKeySet();
+            ids.forEach(id -> missing.add(id.getValue()));
+            Flux<Reservation> live = chunked(List.copyOf(missing), chunk -> 
+                    live("WHERE r.id IN (:ids)", spec -> spec.bind("ids", chunk)))
+                .doOnNext(reservation -> missing.remove(reservation.getId().getValue()));
+            return live.concatWith(Flux.defer(() -> chunked(List.copyOf(missing), chunk -> 
+                archived("WHERE r.id IN (:ids)", spec -> spec.bind("ids", chunk)))));
+        });
+    }
+    
+    @Override
+    public Flux<Reservation> findByTableAndDate(TableId tableId, LocalDate date) {
+        log.debug("Finding reservations for table {} on date {}", tableId, date);
+        
+        String where = "WHERE r.table_id = :tableId AND r.start_minute >= :dayStart AND r.start_minute < :dayEnd";
+        UnaryOperator<DatabaseClient.GenericExecuteSpec> binder = spec -> spec
+            .bind("tableId", tableId.getValue())
+            .bind("dayStart", EpochMinutes.startOfDay(date))
+            .bind("dayEnd", EpochMinutes.endOfDay(date));
+        Flux<Reservation> live = live(where, binder);
+        return isArchivable(date) ? live.concatWith(archived(where, binder)) : live;
+    }
+    
+    @Override
+    public Flux<Reservation> findByStatus(String status) {
+        log.debug("Finding reservations by status: {}", status);
+        
+        return Flux.defer(() -> {
+            ReservationEntity.ReservationStatus entityStatus = 
+                ReservationEntity.ReservationStatus.valueOf(status.toUpperCase());
+            UnaryOperator<DatabaseClient.GenericExecuteSpec> binder = 
+                spec -> spec.bind("status", entityStatus.getCode());
+            Flux<Reservation> live = live("WHERE r.status = :status", binder);
+            return ReservationEntity.ReservationStatus.FINALIZED.contains(entityStatus)
+                ? live.concatWith(archived("WHERE r.status = :status", binder))
+                : live;
+        });
+    }
+    
+    @Override
+    public Flux<Reservation> findByCustomerEmail(String email) {
+        log.debug("Finding reservations by customer email: {}", email);
+        
+        UnaryOperator<DatabaseClient.GenericExecuteSpec> binder = spec -> spec.bind("email", email);
+        return live("WHERE c.email = :email", binder)
+            .concatWith(archived("WHERE c.email = :email", binder));
+    }
+    
+    @Override
+    public Flux<Reservation> findByDate(LocalDate date) {
+        log.debug("Finding reservations by date: {}", date);
+        
+        String where = "WHERE r.start_minute >= :dayStart AND r.start_minute < :dayEnd";
+        UnaryOperator<DatabaseClient.GenericExecuteSpec> binder = spec -> spec
+            .bind("dayStart", EpochMinutes.startOfDay(date))
+            .bind("dayEnd", EpochMinutes.endOfDay(date));
+        Flux<Reservation> live = live(where, binder);
+        return isArchivable(date) ? live.concatWith(archived(where, binder)) : live;
+    }
+    
+    private Flux<Reservation> live(String where, UnaryOperator<DatabaseClient.GenericExecuteSpec> binder) {
+        return binder.apply(databaseClient.sql(LIVE_SELECT + where))
+            .map(row -> mapper.toDomain(ReservationEntity.builder()
+                .id(row.get("id", String.class))
+                .tableId(row.get("table_id", String.class))
+                .customer(customer(row))
+                .specialRequests(row.get("special_requests", String.class))
+                .startMinute(row.get("start_minute", Integer.class))
+                .durationInMinutes(row.get("duration_minutes", Integer.class))
+                .status(status(row))
+                .version(row.get("version", Long.class))
+                .build()))
+            .all();
+    }
+    
+    private Flux<Reservation> archived(String where, UnaryOperator<DatabaseClient.GenericExecuteSpec> binder) {
+        return binder.apply(databaseClient.sql(ARCHIVE_SELECT + where))
+            .map(row -> mapper.toDomain(ArchivedReservationEntity.builder()
+                .id(row.get("id", String.class))
+                .tableId(row.get("table_id", String.class))
+                .customer(customer(row))
+                .specialRequests(row.get("special_requests", String.class))
+                .startMinute(row.get("start_minute", Integer.class))
+                .durationInMinutes(row.get("duration_minutes", Integer.class))
+                .status(status(row))
+                .build()))
+            .all();
+    }
+    
+    private static Flux<Reservation> chunked(List<String> ids, Function<List<String>, Flux<Reservation>> query) {
+        return Flux.fromIterable(ids)
+            .buffer(IN_CHUNK_SIZE)
+            .concatMap(query);
+    }
+    
+    private static CustomerEntity customer(Readable row) {
+        return CustomerEntity.builder()
+            .name(row.get("name", String.class))
+            .email(row.get("email", String.class))
+            .phone(row.get("phone", String.class))
+            .build();
+    }
+    
+    private static ReservationEntity.ReservationStatus status(Readable row) {
+        return ReservationEntity.ReservationStatus.fromCode(row.get("status", Short.class));
+    }
+    
+    private static boolean isArchivable(LocalDate date) {
+        return date.isBefore(LocalDate.now());
+    }
+}
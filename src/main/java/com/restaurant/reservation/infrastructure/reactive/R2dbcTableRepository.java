@@ -0,0 +1,72 @@
+package com.restaurant.reservation.infrastructure.reactive;
+
+import com.restaurant.reservation.domain.entity.Table;
+import com.restaurant.reservation.domain.repository.ReactiveTableRepository;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import com.restaurant.reservation.infrastructure.persistence.entity.TableEntity;
+import com.restaurant.reservation.infrastructure.persistence.mapper.TablePersistenceMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementação não bloqueante das consultas de mesas usando R2DBC.
+ * Lê a tabela tables mantida pelo JPA e reaproveita o TablePersistenceMapper.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class R2dbcTableRepository implements ReactiveTableRepository {
+    
+    private static final String SELECT = "SELECT id, capacity, is_active, location FROM tables ";
+    
+    private final DatabaseClient databaseClient;
+    private final TablePersistenceMapper mapper;
+    
+    @Override
+    public Mono<Table> findById(TableId id) {
+        log.debug("Finding table by ID: {}", id);
+        
+        return query(databaseClient.sql(SELECT + "WHERE id = :id").bind("id", id.getValue())).next();
+    }
+    
+    @Override
+    public Flux<Table> findAllActive() {
+        log.debug("Finding all active tables");
+        
+        return query(databaseClient.sql(SELECT + "WHERE is_active = TRUE"));
+    }
+    
+    @Override
+    public Flux<Table> findTablesByCapacity(int capacity) {
+        log.debug("Finding tables with capacity: {}", capacity);
+        
+        return query(databaseClient.sql(SELECT + "WHERE capacity >= :capacity").bind("capacity", capacity));
+    }
+    
+    @Override
+    public Flux<Table> findAvailableTablesByCapacity(int capacity) {
+        log.debug("Finding available tables with capacity: {}", capacity);
+        
+        return query(databaseClient.sql(SELECT + "WHERE capacity >= :capacity AND is_active = TRUE")
+            .bind("capacity", capacity));
+    }
+    
+    private Flux<Table> query(DatabaseClient.GenericExecuteSpec spec) {
+        return spec.map(row -> mapper.toDomain(TableEntity.builder()
+                .id(row.get("id", String.class))
+                .capacity(row.get("capacity", Integer.class))
+                .isActive(row.get("is_active", Boolean.class))
+                .location(row.get("location", String.class))
+                .build()))
+            .all();
+    }
+}
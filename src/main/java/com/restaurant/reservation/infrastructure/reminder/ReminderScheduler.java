@@ -0,0 +1,315 @@
+package com.restaurant.reservation.infrastructure.reminder;
+
+import com.restaurant.reservation.application.service.integration.DeliveryResilience;
+import com.restaurant.reservation.application.service.notification.NotificationService;
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import com.restaurant.reservation.infrastructure.notification.NotificationPipeline;
+import com.restaurant.reservation.infrastructure.persistence.entity.ReminderEntity;
+import com.restaurant.reservation.infrastructure.persistence.entity.ReminderEntity.ReminderKind;
+import com.restaurant.reservation.infrastructure.persistence.entity.ReminderEntity.ReminderStatus;
+import com.restaurant.reservation.infrastructure.persistence.mapper.EpochMinutes;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaReminderRepository;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaSchedulerLeaseRepository;
+import com.restaurant.reservation.infrastructure.reminder.TimingWheel.Timeout;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dispara os lembretes de reserva (24h e 2h antes) a partir de uma roda de
+ * temporização hierárquica com tique de 1 segundo.
+ * 
+ * Os lembretes são gravados pela ReservationReminderScheduleImpl na mesma
+ * transação da reserva e entram na roda após o commit. Apenas a instância
+ * que detém a concessão {@value #LEASE_NAME} mantém a roda e dispara: ao
+ * assumir a liderança e depois periodicamente, ela varre os lembretes
+ * pendentes que vencem dentro do horizonte de carga; os que já estão na roda
+ * são ignorados. A varredura é refeita inteira a cada ciclo, em vez de
+ * continuar do maior ID já visto, porque IDs gerados pelo banco podem ser
+ * confirmados fora de ordem por transações concorrentes.
+ * 
+ * O tique só entrega os lembretes vencidos aos workers do
+ * NotificationPipeline, sem enviar nada na thread de agendamento. O worker
+ * envia o lembrete e só então o marca como enviado; se o envio não for
+ * aceito (fila cheia, falha ao montar a mensagem), o lembrete continua
+ * pendente e volta à roda na próxima varredura. Falhas depois de aceito ficam
+ * no DeadLetterStore dos serviços de email e SMS. Todas as tentativas de um
+ * lembrete usam a mesma referência de mensagem, então o provedor descarta o
+ * reenvio de um lembrete já aceito (por exemplo, numa troca de líder).
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class ReminderScheduler {
+    
+    static final String LEASE_NAME = "reservation-reminders";
+    private static final int WHEEL_LEVELS = 4;
+    private static final int LOAD_PAGE_SIZE = 500;
+    private static final int FINISHED_RETENTION_MINUTES = 24 * 60;
+    
+    private final JpaReminderRepository reminderRepository;
+    private final NotificationService notificationService;
+    private final NotificationPipeline pipeline;
+    private final SchedulerLease lease;
+    private final boolean enabled;
+    private final int loadHorizonMinutes;
+    
+    private TimingWheel<ReminderEntity> wheel;
+    private final Set<Long> scheduledIds = new HashSet<>();
+    private final Set<Long> inFlightIds = ConcurrentHashMap.newKeySet();
+    private final Map<String, List<Timeout<ReminderEntity>>> timeoutsByReservation = new HashMap<>();
+    private final Object loadLock = new Object();
+    private volatile boolean leading;
+    
+    public ReminderScheduler(JpaReminderRepository reminderRepository,
+                             JpaSchedulerLeaseRepository leaseRepository,
+                             NotificationService notificationService,
+                             NotificationPipeline pipeline,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${reservation.reminder.enabled:true}") boolean enabled,
+                             @Value("${reservation.reminder.load-horizon-minutes:60}") int loadHorizonMinutes,
+                             @Value("${reservation.reminder.lease.duration-ms:30000}") long leaseDurationMs) {
+        this.reminderRepository = reminderRepository;
+        this.notificationService = notificationService;
+        this.pipeline = pipeline;
+        this.lease = new SchedulerLease(LEASE_NAME, leaseDurationMs, leaseRepository, transactionTemplate);
+        this.enabled = enabled;
+        this.loadHorizonMinutes = loadHorizonMinutes;
+        this.wheel = new TimingWheel<>(WHEEL_LEVELS, nowTick());
+    }
+    
+    /**
+     * Renova a liderança; ao assumi-la carrega os lembretes pendentes, ao perdê-la esvazia a roda.
+     */
+    @Scheduled(fixedDelayString = "${reservation.reminder.lease.renew-interval-ms:10000}")
+    public void maintainLeadership() {
+        if (!enabled) {
+            return;
+        }
+        boolean leader = lease.tryAcquire();
+        if (leader && !leading) {
+            synchronized (loadLock) {
+                synchronized (this) {
+                    resetWheel();
+                }
+            }
+            leading = true;
+            loadPending();
+        } else if (!leader && leading) {
+            leading = false;
+            synchronized (this) {
+                resetWheel();
+            }
+        }
+    }
+    
+    /**
+     * Carrega na roda os lembretes pendentes que vencem dentro do horizonte de carga.
+     */
+    @Scheduled(fixedDelayString = "${reservation.reminder.poll-interval-ms:10000}")
+    public void loadPending() {
+        if (!leading) {
+            return;
+        }
+        synchronized (loadLock) {
+            int horizon = EpochMinutes.of(LocalDateTime.now()) + loadHorizonMinutes;
+            int loaded = 0;
+            long afterId = 0;
+            List<ReminderEntity> page;
+            do {
+                page = reminderRepository.findByStatusAndDueMinuteLessThanEqualAndIdGreaterThanOrderByIdAsc(
+                    ReminderStatus.PENDING, horizon, afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+                loaded += schedule(page);
+                if (!page.isEmpty()) {
+                    afterId = page.get(page.size() - 1).getId();
+                }
+            } while (page.size() == LOAD_PAGE_SIZE);
+            
+            if (loaded > 0) {
+                log.info("Loaded {} pending reminders into the timing wheel", loaded);
+            }
+        }
+    }
+    
+    /**
+     * Avança a roda até o segundo atual e entrega os lembretes vencidos ao pipeline de notificações.
+     */
+    @Scheduled(fixedRate = 1000)
+    public void tick() {
+        if (!leading) {
+            return;
+        }
+        List<ReminderEntity> due = new ArrayList<>();
+        synchronized (this) {
+            wheel.advanceTo(nowTick(), reminder -> {
+                due.add(reminder);
+                forget(reminder);
+            });
+        }
+        due.forEach(this::fire);
+    }
+    
+    /**
+     * Remove lembretes enviados ou cancelados há mais de um dia.
+     */
+    @Scheduled(fixedDelayString = "${reservation.reminder.purge-interval-ms:3600000}")
+    public void purgeFinished() {
+        if (!leading) {
+            return;
+        }
+        int removed = reminderRepository.deleteFinishedBefore(
+            EpochMinutes.of(LocalDateTime.now()) - FINISHED_RETENTION_MINUTES);
+        if (removed > 0) {
+            log.debug("Purged {} finished reminders", removed);
+        }
+    }
+    
+    /**
+     * Coloca lembretes na roda. Lembretes já presentes ou em envio são ignorados.
+     * 
+     * @return quantidade de lembretes efetivamente adicionados
+     */
+    public synchronized int schedule(List<ReminderEntity> reminders) {
+        if (!leading) {
+            return 0;
+        }
+        int added = 0;
+        for (ReminderEntity reminder : reminders) {
+            if (inFlightIds.contains(reminder.getId()) || !scheduledIds.add(reminder.getId())) {
+                continue;
+            }
+            Timeout<ReminderEntity> timeout = wheel.schedule(reminder, reminder.getDueMinute() * 60L);
+            timeoutsByReservation.computeIfAbsent(reminder.getReservationId(), id -> new ArrayList<>(2)).add(timeout);
+            added++;
+        }
+        return added;
+    }
+    
+    /**
+     * Retira da roda os lembretes da reserva.
+     */
+    public synchronized void cancel(String reservationId) {
+        List<Timeout<ReminderEntity>> timeouts = timeoutsByReservation.remove(reservationId);
+        if (timeouts == null) {
+            return;
+        }
+        for (Timeout<ReminderEntity> timeout : timeouts) {
+            wheel.cancel(timeout);
+            scheduledIds.remove(timeout.getPayload().getId());
+        }
+    }
+    
+    public synchronized int size() {
+        return wheel.size();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        leading = false;
+        lease.release();
+    }
+    
+    private void fire(ReminderEntity reminder) {
+        if (!lease.isHeld()) {
+            log.warn("Lease not held; reminder {} left for the next leader", reminder.getId());
+            return;
+        }
+        if (!inFlightIds.add(reminder.getId())) {
+            return;
+        }
+        if (!pipeline.submit(reminder.getReservationId(), () -> deliver(reminder))) {
+            inFlightIds.remove(reminder.getId());
+            log.warn("Notification queue full; reminder {} for reservation {} left pending",
+                reminder.getId(), reminder.getReservationId());
+        }
+    }
+    
+    /**
+     * Envia o lembrete no worker do pipeline e o marca como enviado depois que
+     * o envio for aceito. Em caso de erro o lembrete continua pendente.
+     */
+    private void deliver(ReminderEntity reminder) {
+        try {
+            if (!lease.isHeld()) {
+                log.warn("Lease not held; reminder {} left for the next leader", reminder.getId());
+                return;
+            }
+            if (!reminderRepository.existsByIdAndStatus(reminder.getId(), ReminderStatus.PENDING)) {
+                log.debug("Reminder {} already sent or cancelled", reminder.getId());
+                return;
+            }
+            if (reminder.getStartMinute() <= EpochMinutes.of(LocalDateTime.now())) {
+                reminderRepository.markSent(reminder.getId());
+                log.info("Skipping reminder {} for reservation {} that already started", 
+                    reminder.getId(), reminder.getReservationId());
+                return;
+            }
+            send(reminder);
+            reminderRepository.markSent(reminder.getId());
+            log.info("Sent {} reminder for reservation {}", reminder.getKind(), reminder.getReservationId());
+        } catch (Exception e) {
+            log.error("Error sending reminder {} for reservation {}; left pending for retry", 
+                reminder.getId(), reminder.getReservationId(), e);
+        } finally {
+            inFlightIds.remove(reminder.getId());
+        }
+    }
+    
+    private void send(ReminderEntity reminder) {
+        CustomerInfo customer = CustomerInfo.of(
+            reminder.getCustomerName(), reminder.getCustomerEmail(), reminder.getCustomerPhone());
+        ReservationTime time = ReservationTime.restore(
+            EpochMinutes.toLocalDateTime(reminder.getStartMinute()), reminder.getDurationInMinutes());
+        TableId tableId = TableId.of(reminder.getTableId());
+        String reference = DeliveryResilience.idempotencyKey(
+            List.of("reminder", String.valueOf(reminder.getId()), reminder.getKind().name()));
+        
+        if (reminder.getKind() == ReminderKind.DAY_BEFORE) {
+            notificationService.sendDayBeforeReminder(reference, customer, time, tableId);
+        } else {
+            notificationService.sendTwoHoursReminder(reference, customer, time, tableId);
+        }
+    }
+    
+    private void forget(ReminderEntity reminder) {
+        scheduledIds.remove(reminder.getId());
+        List<Timeout<ReminderEntity>> timeouts = timeoutsByReservation.get(reminder.getReservationId());
+        if (timeouts != null) {
+            timeouts.removeIf(timeout -> timeout.getPayload() == reminder);
+            if (timeouts.isEmpty()) {
+                timeoutsByReservation.remove(reminder.getReservationId());
+            }
+        }
+    }
+    
+    private void resetWheel() {
+        wheel = new TimingWheel<>(WHEEL_LEVELS, nowTick());
+        scheduledIds.clear();
+        timeoutsByReservation.clear();
+    }
+    
+    /**
+     * Segundo atual no mesmo referencial de EpochMinutes (hora local como UTC).
+     */
+    private static long nowTick() {
+        return LocalDateTime.now().toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,101 @@
+package com.restaurant.reservation.infrastructure.reminder;
+
+import com.restaurant.reservation.infrastructure.persistence.entity.SchedulerLeaseEntity;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaSchedulerLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.util.UUID;
+
+/**
+ * Concessão de liderança com prazo, gravada no banco compartilhado.
+ * 
+ * A instância que detém a concessão a renova periodicamente; se ela parar,
+ * outra assume depois que o prazo expirar. A escrita é condicional, então no
+ * máximo uma instância detém a concessão vigente de cada nome.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Slf4j
+public class SchedulerLease {
+    
+    private final String name;
+    private final String owner;
+    private final long durationMs;
+    private final JpaSchedulerLeaseRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    
+    private volatile boolean held;
+    private volatile long heldUntil;
+    
+    public SchedulerLease(String name, long durationMs, JpaSchedulerLeaseRepository repository,
+                          TransactionTemplate transactionTemplate) {
+        this.name = name;
+        this.owner = hostName() + "-" + UUID.randomUUID();
+        this.durationMs = durationMs;
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+    }
+    
+    /**
+     * Tenta obter ou renovar a concessão.
+     * 
+     * @return true se esta instância é a líder após a chamada
+     */
+    public boolean tryAcquire() {
+        long now = System.currentTimeMillis();
+        boolean acquired;
+        try {
+            acquired = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (repository.acquire(name, owner, now, now + durationMs) > 0) {
+                    return true;
+                }
+                if (repository.existsById(name)) {
+                    return false;
+                }
+                repository.saveAndFlush(new SchedulerLeaseEntity(name, owner, now + durationMs));
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            // Outra instância criou a concessão ao mesmo tempo
+            acquired = false;
+        } catch (RuntimeException e) {
+            log.warn("Failed to renew lease {}: {}", name, e.getMessage());
+            acquired = false;
+        }
+        if (acquired != held) {
+            log.info("Lease {} {} by {}", name, acquired ? "acquired" : "lost", owner);
+        }
+        held = acquired;
+        heldUntil = acquired ? now + durationMs : 0;
+        return acquired;
+    }
+    
+    /**
+     * Libera a concessão para que outra instância assuma sem esperar o prazo.
+     */
+    public void release() {
+        if (held) {
+            transactionTemplate.executeWithoutResult(status -> repository.release(name, owner));
+            held = false;
+        }
+    }
+    
+    /**
+     * Indica se esta instância detém a concessão e o prazo local ainda não venceu.
+     */
+    public boolean isHeld() {
+        return held && System.currentTimeMillis() < heldUntil;
+    }
+    
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.restaurant.reservation.infrastructure.reminder;
+
+import java.util.function.Consumer;
+
+/**
+ * Roda de temporização hierárquica (hashed hierarchical timing wheel).
+ * 
+ * Cada nível tem 64 posições; a posição de um nível equivale a 64 posições
+ * do nível abaixo. Com 4 níveis e tique de 1 segundo a roda cobre cerca de
+ * 194 dias. Inserir e cancelar são O(1): cada posição é uma lista duplamente
+ * encadeada e o temporizador guarda a referência da posição onde está.
+ * Quando o nível 0 completa uma volta, a posição correspondente do nível de
+ * cima é redistribuída nos níveis inferiores (cascata).
+ * 
+ * Prazos além do alcance ficam na última posição alcançável e são
+ * reposicionados quando chegam à cascata. A classe não é thread-safe.
+ * 
+ * @param <T> tipo do conteúdo de cada temporizador
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+public final class TimingWheel<T> {
+    
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    
+    private final Slot<T>[][] levels;
+    private final long maxDelta;
+    private long currentTick;
+    private int size;
+    
+    @SuppressWarnings("unchecked")
+    public TimingWheel(int levelCount, long startTick) {
+        if (levelCount < 1 || BITS * levelCount > 62) {
+            throw new IllegalArgumentException("Invalid number of levels: " + levelCount);
+        }
+        this.levels = new Slot[levelCount][SLOTS];
+        for (Slot<T>[] level : levels) {
+            for (int i = 0; i < SLOTS; i++) {
+                level[i] = new Slot<>();
+            }
+        }
+        this.maxDelta = (1L << (BITS * levelCount)) - 1;
+        this.currentTick = startTick;
+    }
+    
+    /**
+     * Agenda o conteúdo para o tique informado. Prazos que já passaram
+     * vencem no próximo tique.
+     */
+    public Timeout<T> schedule(T payload, long deadlineTick) {
+        Timeout<T> timeout = new Timeout<>(payload, Math.max(deadlineTick, currentTick + 1));
+        place(timeout);
+        size++;
+        return timeout;
+    }
+    
+    /**
+     * Cancela um temporizador ainda pendente.
+     * 
+     * @return false se ele já venceu ou já foi cancelado
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout.slot == null) {
+            return false;
+        }
+        timeout.slot.unlink(timeout);
+        size--;
+        return true;
+    }
+    
+    /**
+     * Avança a roda até o tique informado, entregando os temporizadores vencidos em ordem.
+     */
+    public void advanceTo(long tick, Consumer<T> expired) {
+        while (currentTick < tick) {
+            currentTick++;
+            cascade();
+            Slot<T> slot = levels[0][(int) (currentTick & MASK)];
+            Timeout<T> timeout;
+            while ((timeout = slot.poll()) != null) {
+                size--;
+                expired.accept(timeout.payload);
+            }
+        }
+    }
+    
+    public long currentTick() {
+        return currentTick;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Remove todos os temporizadores pendentes.
+     */
+    public void clear() {
+        for (Slot<T>[] level : levels) {
+            for (Slot<T> slot : level) {
+                while (slot.poll() != null) {
+                    // descarta
+                }
+            }
+        }
+        size = 0;
+    }
+    
+    private void cascade() {
+        for (int level = 1; level < levels.length; level++) {
+            if ((currentTick & ((1L << (BITS * level)) - 1)) != 0) {
+                return;
+            }
+            Slot<T> slot = levels[level][(int) ((currentTick >>> (BITS * level)) & MASK)];
+            Timeout<T> timeout;
+            Slot<T> pending = new Slot<>();
+            while ((timeout = slot.poll()) != null) {
+                pending.append(timeout);
+            }
+            while ((timeout = pending.poll()) != null) {
+                place(timeout);
+            }
+        }
+    }
+    
+    private void place(Timeout<T> timeout) {
+        long target = Math.min(Math.max(timeout.deadline, currentTick), currentTick + maxDelta);
+        long delta = target - currentTick;
+        int level = 0;
+        while (level < levels.length - 1 && delta >= (1L << (BITS * (level + 1)))) {
+            level++;
+        }
+        levels[level][(int) ((target >>> (BITS * level)) & MASK)].append(timeout);
+    }
+    
+    /**
+     * Temporizador agendado na roda.
+     */
+    public static final class Timeout<T> {
+        private final T payload;
+        private final long deadline;
+        private Slot<T> slot;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+        
+        private Timeout(T payload, long deadline) {
+            this.payload = payload;
+            this.deadline = deadline;
+        }
+        
+        public T getPayload() {
+            return payload;
+        }
+        
+        public long getDeadline() {
+            return deadline;
+        }
+    }
+    
+    /**
+     * Posição da roda: lista duplamente encadeada com sentinela.
+     */
+    private static final class Slot<T> {
+        private final Timeout<T> head = new Timeout<>(null, 0);
+        
+        private Slot() {
+            head.prev = head;
+            head.next = head;
+        }
+        
+        private void append(Timeout<T> timeout) {
+            timeout.slot = this;
+            timeout.prev = head.prev;
+            timeout.next = head;
+            head.prev.next = timeout;
+            head.prev = timeout;
+        }
+        
+        private void unlink(Timeout<T> timeout) {
+            timeout.prev.next = timeout.next;
+            timeout.next.prev = timeout.prev;
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.slot = null;
+        }
+        
+        private Timeout<T> poll() {
+            Timeout<T> first = head.next;
+            if (first == head) {
+                return null;
+            }
+            unlink(first);
+            return first;
+        }
+    }
+}
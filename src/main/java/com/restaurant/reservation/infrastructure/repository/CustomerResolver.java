@@ -0,0 +1,50 @@
+package com.restaurant.reservation.infrastructure.repository;
+
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.infrastructure.persistence.entity.CustomerEntity;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaCustomerRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Localiza ou cadastra o cliente de uma reserva (uk_customers_identity).
+ * 
+ * O cadastro usa MERGE na própria transação da reserva, sem ocupar uma
+ * segunda conexão do pool: quando duas primeiras reservas do mesmo cliente
+ * chegam juntas, a segunda espera a primeira terminar e reaproveita a linha
+ * gravada, em vez de falhar pela chave única. O cliente é então relido.
+ * Se a reserva falhar, o cadastro é desfeito junto com ela.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Component
+@Profile("!inmemory")
+public class CustomerResolver {
+    
+    private final JpaCustomerRepository customerRepository;
+    
+    public CustomerResolver(JpaCustomerRepository customerRepository) {
+        this.customerRepository = customerRepository;
+    }
+    
+    /**
+     * Retorna o cliente já cadastrado com os mesmos dados ou cadastra um novo.
+     */
+    public CustomerEntity resolve(CustomerInfo customerInfo) {
+        return find(customerInfo).orElseGet(() -> insert(customerInfo));
+    }
+    
+    private CustomerEntity insert(CustomerInfo customerInfo) {
+        customerRepository.mergeCustomer(customerInfo.getName(), customerInfo.getEmail(), customerInfo.getPhone());
+        return find(customerInfo).orElseThrow(() ->
+            new IllegalStateException("Customer not found after registration: " + customerInfo.getEmail()));
+    }
+    
+    private Optional<CustomerEntity> find(CustomerInfo customerInfo) {
+        return customerRepository.findByEmailAndNameAndPhone(
+            customerInfo.getEmail(), customerInfo.getName(), customerInfo.getPhone());
+    }
+}
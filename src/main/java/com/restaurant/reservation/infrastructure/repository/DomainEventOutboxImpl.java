@@ -0,0 +1,61 @@
+package com.restaurant.reservation.infrastructure.repository;
+
+import com.restaurant.reservation.domain.event.DomainEvent;
+import com.restaurant.reservation.domain.repository.DomainEventOutbox;
+import com.restaurant.reservation.infrastructure.outbox.OutboxRelay;
+import com.restaurant.reservation.infrastructure.persistence.entity.OutboxEventEntity;
+import com.restaurant.reservation.infrastructure.persistence.mapper.OutboxEventMapper;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaOutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Implementação da caixa de saída de eventos usando uma tabela do banco.
+ * A gravação participa da transação corrente. Após o commit o evento é
+ * publicado pelo OutboxRelay, que também entrega depois o que não foi
+ * confirmado pelos assinantes. A linha já é gravada reservada para essa
+ * publicação; a reserva começa na gravação e dura bem mais que uma
+ * transação de reserva.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class DomainEventOutboxImpl implements DomainEventOutbox {
+    
+    private final JpaOutboxEventRepository jpaRepository;
+    private final OutboxEventMapper mapper;
+    private final OutboxRelay outboxRelay;
+    
+    @Override
+    public void add(DomainEvent event) {
+        log.debug("Adding event {} to outbox: {}", event.getEventType(), event.getEventId());
+        
+        OutboxEventEntity entry = mapper.toEntity(event);
+        entry.setClaimedUntil(outboxRelay.claimExpiry());
+        OutboxEventEntity saved = jpaRepository.save(entry);
+        publishAfterCommit(saved, event);
+    }
+    
+    /**
+     * Publica o evento somente depois do commit, para que uma transação
+     * desfeita nunca gere notificação.
+     */
+    private void publishAfterCommit(OutboxEventEntity entry, DomainEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            outboxRelay.publishCommitted(entry.getId(), entry.getReservationId(), event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxRelay.publishCommitted(entry.getId(), entry.getReservationId(), event);
+            }
+        });
+    }
+}
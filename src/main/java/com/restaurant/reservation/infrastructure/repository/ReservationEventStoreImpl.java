@@ -0,0 +1,61 @@
+package com.restaurant.reservation.infrastructure.repository;
+
+import com.restaurant.reservation.domain.event.DomainEvent;
+import com.restaurant.reservation.domain.repository.ReservationEventStore;
+import com.restaurant.reservation.domain.valueobject.BookedSlot;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import com.restaurant.reservation.infrastructure.eventstore.ReservationEventReplayer;
+import com.restaurant.reservation.infrastructure.persistence.entity.StoredEventEntity;
+import com.restaurant.reservation.infrastructure.persistence.mapper.StoredEventMapper;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaStoredEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementação do log de eventos de reservas usando uma tabela append-only.
+ * A gravação participa da transação corrente, junto com a reserva.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationEventStoreImpl implements ReservationEventStore {
+    
+    private final JpaStoredEventRepository jpaRepository;
+    private final StoredEventMapper mapper;
+    private final ReservationEventReplayer replayer;
+    
+    @Override
+    public void append(DomainEvent event) {
+        log.debug("Appending event {} to event store: {}", event.getEventType(), event.getEventId());
+        
+        List<StoredEventEntity> entities = mapper.toEntities(event);
+        jpaRepository.saveAll(entities);
+    }
+    
+    @Override
+    public Map<TableId, List<BookedSlot>> loadBookAt(LocalDateTime pointInTime) {
+        log.debug("Loading reservation book at {}", pointInTime);
+        
+        return replayer.replayAt(toEpochMillis(pointInTime));
+    }
+    
+    @Override
+    public List<BookedSlot> loadTableBookAt(TableId tableId, LocalDateTime pointInTime) {
+        log.debug("Loading reservation book for table {} at {}", tableId, pointInTime);
+        
+        return replayer.replayTableAt(tableId.getValue(), toEpochMillis(pointInTime)).toSlots();
+    }
+    
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
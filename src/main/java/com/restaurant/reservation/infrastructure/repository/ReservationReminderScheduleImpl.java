@@ -0,0 +1,115 @@
+package com.restaurant.reservation.infrastructure.repository;
+
+import com.restaurant.reservation.domain.event.DomainEvent;
+import com.restaurant.reservation.domain.event.ReservationCancelledEvent;
+import com.restaurant.reservation.domain.event.ReservationCompletedEvent;
+import com.restaurant.reservation.domain.event.ReservationConfirmedEvent;
+import com.restaurant.reservation.domain.event.ReservationModifiedEvent;
+import com.restaurant.reservation.domain.repository.ReservationReminderSchedule;
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import com.restaurant.reservation.infrastructure.persistence.entity.ReminderEntity;
+import com.restaurant.reservation.infrastructure.persistence.entity.ReminderEntity.ReminderKind;
+import com.restaurant.reservation.infrastructure.persistence.entity.ReminderEntity.ReminderStatus;
+import com.restaurant.reservation.infrastructure.persistence.mapper.EpochMinutes;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaReminderRepository;
+import com.restaurant.reservation.infrastructure.reminder.ReminderScheduler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementação da agenda de lembretes usando a tabela reservation_reminders.
+ * 
+ * A confirmação agenda os lembretes; a modificação de uma reserva que já
+ * tem lembretes os reagenda para o novo horário; cancelamento e conclusão
+ * cancelam os pendentes. Lembretes cujo horário já passou não são criados.
+ * A roda de temporização é atualizada somente após o commit.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationReminderScheduleImpl implements ReservationReminderSchedule {
+    
+    private final JpaReminderRepository jpaRepository;
+    private final ReminderScheduler reminderScheduler;
+    
+    @Override
+    public void apply(DomainEvent event) {
+        if (event instanceof ReservationConfirmedEvent confirmed) {
+            reschedule(confirmed.getReservationId().getValue(), confirmed.getTableId(),
+                confirmed.getCustomerInfo(), confirmed.getReservationTime());
+        } else if (event instanceof ReservationModifiedEvent modified) {
+            String reservationId = modified.getReservationId().getValue();
+            if (jpaRepository.existsByReservationId(reservationId)) {
+                reschedule(reservationId, modified.getNewTableId(),
+                    modified.getCustomerInfo(), modified.getNewReservationTime());
+            }
+        } else if (event instanceof ReservationCancelledEvent cancelled) {
+            cancel(cancelled.getReservationId().getValue());
+        } else if (event instanceof ReservationCompletedEvent completed) {
+            cancel(completed.getReservationId().getValue());
+        }
+    }
+    
+    private void reschedule(String reservationId, TableId tableId, CustomerInfo customerInfo, ReservationTime time) {
+        jpaRepository.cancelPending(reservationId);
+        
+        int startMinute = EpochMinutes.of(time.getDateTime());
+        int nowMinute = EpochMinutes.of(LocalDateTime.now());
+        List<ReminderEntity> created = new ArrayList<>(ReminderKind.values().length);
+        for (ReminderKind kind : ReminderKind.values()) {
+            int dueMinute = startMinute - kind.getMinutesBefore();
+            if (dueMinute <= nowMinute) {
+                continue;
+            }
+            created.add(jpaRepository.save(ReminderEntity.builder()
+                .reservationId(reservationId)
+                .kind(kind)
+                .dueMinute(dueMinute)
+                .startMinute(startMinute)
+                .durationInMinutes(time.getDurationInMinutes())
+                .tableId(tableId.getValue())
+                .customerName(customerInfo.getName())
+                .customerEmail(customerInfo.getEmail())
+                .customerPhone(customerInfo.getPhone())
+                .status(ReminderStatus.PENDING)
+                .build()));
+        }
+        log.debug("Scheduled {} reminders for reservation {}", created.size(), reservationId);
+        
+        afterCommit(() -> {
+            reminderScheduler.cancel(reservationId);
+            reminderScheduler.schedule(created);
+        });
+    }
+    
+    private void cancel(String reservationId) {
+        if (jpaRepository.cancelPending(reservationId) > 0) {
+            afterCommit(() -> reminderScheduler.cancel(reservationId));
+        }
+    }
+    
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -3,42 +3,88 @@ package com.restaurant.reservation.infrastructure.repository;
 import com.restaurant.reservation.domain.entity.Reservation;
 import com.restaurant.reservation.domain.repository.ReservationRepository;
 import com.restaurant.reservation.domain.valueobject.*;
+import com.restaurant.reservation.infrastructure.bookingstate.InMemoryBookingState;
+import com.restaurant.reservation.infrastructure.persistence.entity.CustomerEntity;
 import com.restaurant.reservation.infrastructure.persistence.entity.ReservationEntity;
+import com.restaurant.reservation.infrastructure.persistence.mapper.EpochMinutes;
 import com.restaurant.reservation.infrastructure.persistence.mapper.ReservationPersistenceMapper;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaArchivedReservationRepository;
 import com.restaurant.reservation.infrastructure.persistence.repository.JpaReservationRepository;
+import com.restaurant.reservation.infrastructure.web.ResourceVersions;
+import com.restaurant.reservation.infrastructure.web.SerializedResponseCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.EntityManager;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementação do repositório de reservas usando JPA.
  * Adapta a interface de domínio para a camada de persistência.
+ * Não é usada no perfil "inmemory" (ver InMemoryReservationRepository).
+ * 
+ * Consultas de histórico (por ID, cliente, status finalizado e datas passadas)
+ * também leem o arquivo de reservas finalizadas; consultas de disponibilidade
+ * usam apenas a tabela principal, pois o arquivo só contém reservas finalizadas.
  * 
  * @author Sistema de Reservas
  * @version 1.0.0
  */
 @Repository
+@Profile("!inmemory")
 @RequiredArgsConstructor
 @Slf4j
 public class ReservationRepositoryImpl implements ReservationRepository {
     
+    /**
+     * Duração máxima de uma reserva, usada para limitar a busca de conflitos.
+     */
+    private static final int MAX_DURATION_MINUTES = 480;
+    
+    /**
+     * IDs por consulta IN do multi-get; listas maiores são divididas em lotes.
+     */
+    private static final int IN_CHUNK_SIZE = 500;
+    
     private final JpaReservationRepository jpaRepository;
+    private final JpaArchivedReservationRepository archiveRepository;
+    private final CustomerResolver customerResolver;
     private final ReservationPersistenceMapper mapper;
+    private final InMemoryBookingState bookingState;
+    private final ResourceVersions resourceVersions;
+    private final SerializedResponseCache responseCache;
+    private final EntityManager entityManager;
     
     @Override
     public Reservation save(Reservation reservation) {
         log.debug("Saving reservation: {}", reservation.getId());
         
         ReservationEntity entity = mapper.toEntity(reservation);
-        ReservationEntity savedEntity = jpaRepository.save(entity);
+        entity.setCustomer(customerResolver.resolve(reservation.getCustomerInfo()));
+        // Versão nula: o Spring Data persiste a nova reserva sem o SELECT do merge.
+        // Numa atualização, o flush aplica o incremento de @Version e o updated_at
+        // antes de serem copiados para a reserva e para o estado em memória
+        ReservationEntity savedEntity = entity.getVersion() == null
+            ? jpaRepository.save(entity)
+            : jpaRepository.saveAndFlush(entity);
+        bookingState.recordSaved(savedEntity);
+        resourceVersions.reservationChanged(savedEntity.getId());
+        responseCache.reservationChanged(savedEntity.getId(), reservation.getReservationTime().getDateTime().toLocalDate());
+        reservation.setVersion(savedEntity.getVersion());
         
         log.debug("Reservation saved successfully: {}", savedEntity.getId());
-        return mapper.toDomain(savedEntity);
+        return reservation;
     }
     
     @Override
@@ -46,17 +92,51 @@ public class ReservationRepositoryImpl implements ReservationRepository {
         log.debug("Finding reservation by ID: {}", id);
         
         Optional<ReservationEntity> entityOpt = jpaRepository.findById(id.getValue());
-        return entityOpt.map(mapper::toDomain);
+        if (entityOpt.isPresent()) {
+            return entityOpt.map(mapper::toDomain);
+        }
+        return archiveRepository.findById(id.getValue()).map(mapper::toDomain);
+    }
+    
+    /**
+     * Uma consulta IN por lote na tabela principal; os IDs que não estão nela
+     * são procurados, também em lotes, no arquivo.
+     */
+    @Override
+    public List<Reservation> findAllById(Collection<ReservationId> ids) {
+        log.debug("Finding {} reservations by ID", ids.size());
+        
+        Set<String> missing = ids.stream()
+            .map(ReservationId::getValue)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        List<Reservation> found = new ArrayList<>(missing.size());
+        for (List<String> chunk : chunks(missing)) {
+            for (ReservationEntity entity : jpaRepository.findByIds(chunk)) {
+                found.add(mapper.toDomain(entity));
+                missing.remove(entity.getId());
+            }
+        }
+        for (List<String> chunk : chunks(missing)) {
+            archiveRepository.findByIds(chunk).forEach(entity -> found.add(mapper.toDomain(entity)));
+        }
+        return found;
     }
     
     @Override
     public List<Reservation> findByTableAndDate(TableId tableId, LocalDate date) {
         log.debug("Finding reservations for table {} on date {}", tableId, date);
         
-        List<ReservationEntity> entities = jpaRepository.findByTableAndDate(
-            tableId.getValue(), date);
-        return entities.stream()
-            .map(mapper::toDomain)
+        int dayStart = EpochMinutes.startOfDay(date);
+        int dayEnd = EpochMinutes.endOfDay(date);
+        List<ReservationEntity> entities = jpaRepository.findByTableAndDate(tableId.getValue(), dayStart, dayEnd);
+        if (!isArchivable(date)) {
+            return entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+        }
+        return Stream.concat(
+                entities.stream().map(mapper::toDomain),
+                archiveRepository.findByTableAndDate(tableId.getValue(), dayStart, dayEnd).stream().map(mapper::toDomain))
             .collect(Collectors.toList());
     }
     
@@ -64,10 +144,13 @@ public class ReservationRepositoryImpl implements ReservationRepository {
     public List<Reservation> findConflictingReservations(TableId tableId, ReservationTime reservationTime) {
         log.debug("Finding conflicting reservations for table {} at time {}", tableId, reservationTime);
         
+        int startMinute = EpochMinutes.of(reservationTime.getDateTime());
         List<ReservationEntity> entities = jpaRepository.findConflictingReservations(
             tableId.getValue(),
-            reservationTime.getDateTime(),
-            reservationTime.getEndTime()
+            startMinute - MAX_DURATION_MINUTES,
+            startMinute,
+            EpochMinutes.of(reservationTime.getEndTime()),
+            ReservationEntity.ReservationStatus.ACTIVE
         );
         return entities.stream()
             .map(mapper::toDomain)
@@ -81,8 +164,14 @@ public class ReservationRepositoryImpl implements ReservationRepository {
         ReservationEntity.ReservationStatus entityStatus = 
             ReservationEntity.ReservationStatus.valueOf(status.toUpperCase());
         List<ReservationEntity> entities = jpaRepository.findByStatus(entityStatus);
-        return entities.stream()
-            .map(mapper::toDomain)
+        if (!ReservationEntity.ReservationStatus.FINALIZED.contains(entityStatus)) {
+            return entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+        }
+        return Stream.concat(
+                entities.stream().map(mapper::toDomain),
+                archiveRepository.findByStatus(entityStatus).stream().map(mapper::toDomain))
             .collect(Collectors.toList());
     }
     
@@ -91,8 +180,9 @@ public class ReservationRepositoryImpl implements ReservationRepository {
         log.debug("Finding reservations by customer email: {}", email);
         
         List<ReservationEntity> entities = jpaRepository.findByCustomerEmail(email);
-        return entities.stream()
-            .map(mapper::toDomain)
+        return Stream.concat(
+                entities.stream().map(mapper::toDomain),
+                archiveRepository.findByCustomerEmail(email).stream().map(mapper::toDomain))
             .collect(Collectors.toList());
     }
     
@@ -100,27 +190,98 @@ public class ReservationRepositoryImpl implements ReservationRepository {
     public List<Reservation> findByDate(LocalDate date) {
         log.debug("Finding reservations by date: {}", date);
         
-        List<ReservationEntity> entities = jpaRepository.findByDate(date);
-        return entities.stream()
-            .map(mapper::toDomain)
+        int dayStart = EpochMinutes.startOfDay(date);
+        int dayEnd = EpochMinutes.endOfDay(date);
+        List<ReservationEntity> entities = jpaRepository.findByDate(dayStart, dayEnd);
+        if (!isArchivable(date)) {
+            return entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+        }
+        return Stream.concat(
+                entities.stream().map(mapper::toDomain),
+                archiveRepository.findByDate(dayStart, dayEnd).stream().map(mapper::toDomain))
             .collect(Collectors.toList());
     }
     
+    /**
+     * Lê primeiro a tabela principal e depois, se o intervalo tiver datas passadas,
+     * o arquivo; a consulta do arquivo só é aberta quando a primeira termina.
+     * Cada linha é desanexada do contexto de persistência após o mapeamento,
+     * para que o consumo de memória não cresça com o número de linhas.
+     */
+    @Override
+    public Stream<Reservation> streamByDateRange(LocalDate startDate, LocalDate endDate) {
+        log.debug("Streaming reservations from {} to {}", startDate, endDate);
+        
+        int startMinute = EpochMinutes.startOfDay(startDate);
+        int endMinute = EpochMinutes.startOfDay(endDate);
+        Supplier<Stream<Reservation>> live = () -> jpaRepository.findByDateRange(startMinute, endMinute)
+            .map(entity -> {
+                Reservation reservation = mapper.toDomain(entity);
+                detach(entity, entity.getCustomer());
+                return reservation;
+            });
+        if (!isArchivable(startDate)) {
+            return live.get();
+        }
+        Supplier<Stream<Reservation>> archived = () -> archiveRepository.findByDateRange(startMinute, endMinute)
+            .map(entity -> {
+                Reservation reservation = mapper.toDomain(entity);
+                detach(entity, entity.getCustomer());
+                return reservation;
+            });
+        return Stream.of(live, archived).flatMap(Supplier::get);
+    }
+    
     @Override
     public void delete(Reservation reservation) {
         log.debug("Deleting reservation: {}", reservation.getId());
         
-        jpaRepository.deleteById(reservation.getId().getValue());
+        String id = reservation.getId().getValue();
+        if (jpaRepository.existsById(id)) {
+            jpaRepository.deleteById(id);
+            bookingState.recordDeleted(id);
+        } else {
+            archiveRepository.deleteById(id);
+        }
+        resourceVersions.reservationChanged(id);
+        responseCache.reservationChanged(id, reservation.getReservationTime().getDateTime().toLocalDate());
         log.debug("Reservation deleted successfully: {}", reservation.getId());
     }
     
     @Override
     public boolean existsById(ReservationId id) {
-        return jpaRepository.existsById(id.getValue());
+        return jpaRepository.existsById(id.getValue()) || archiveRepository.existsById(id.getValue());
     }
     
     @Override
     public long countByTableAndDate(TableId tableId, LocalDate date) {
-        return jpaRepository.countByTableAndDate(tableId.getValue(), date);
+        return jpaRepository.countByTableAndDate(tableId.getValue(), 
+            EpochMinutes.startOfDay(date), EpochMinutes.endOfDay(date),
+            ReservationEntity.ReservationStatus.ACTIVE);
+    }
+    
+    /**
+     * Indica se a data pode ter reservas no arquivo (apenas datas passadas são arquivadas).
+     */
+    private boolean isArchivable(LocalDate date) {
+        return date.isBefore(LocalDate.now());
+    }
+    
+    private static List<List<String>> chunks(Collection<String> ids) {
+        List<String> values = new ArrayList<>(ids);
+        List<List<String>> chunks = new ArrayList<>((values.size() + IN_CHUNK_SIZE - 1) / IN_CHUNK_SIZE);
+        for (int start = 0; start < values.size(); start += IN_CHUNK_SIZE) {
+            chunks.add(values.subList(start, Math.min(start + IN_CHUNK_SIZE, values.size())));
+        }
+        return chunks;
+    }
+    
+    private void detach(Object entity, CustomerEntity customer) {
+        entityManager.detach(entity);
+        if (entityManager.contains(customer)) {
+            entityManager.detach(customer);
+        }
     }
 }
@@ -3,11 +3,14 @@ package com.restaurant.reservation.infrastructure.repository;
 import com.restaurant.reservation.domain.entity.Table;
 import com.restaurant.reservation.domain.repository.TableRepository;
 import com.restaurant.reservation.domain.valueobject.TableId;
+import com.restaurant.reservation.infrastructure.bookingstate.InMemoryBookingState;
 import com.restaurant.reservation.infrastructure.persistence.entity.TableEntity;
 import com.restaurant.reservation.infrastructure.persistence.mapper.TablePersistenceMapper;
 import com.restaurant.reservation.infrastructure.persistence.repository.JpaTableRepository;
+import com.restaurant.reservation.infrastructure.web.SerializedResponseCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,17 +20,21 @@ import java.util.stream.Collectors;
 /**
  * Implementação do repositório de mesas usando JPA.
  * Adapta a interface de domínio para a camada de persistência.
+ * Não é usada no perfil "inmemory" (ver InMemoryTableRepository).
  * 
  * @author Sistema de Reservas
  * @version 1.0.0
  */
 @Repository
+@Profile("!inmemory")
 @RequiredArgsConstructor
 @Slf4j
 public class TableRepositoryImpl implements TableRepository {
     
     private final JpaTableRepository jpaRepository;
     private final TablePersistenceMapper mapper;
+    private final InMemoryBookingState bookingState;
+    private final SerializedResponseCache responseCache;
     
     @Override
     public Table save(Table table) {
@@ -35,6 +42,8 @@ public class TableRepositoryImpl implements TableRepository {
         
         TableEntity entity = mapper.toEntity(table);
         TableEntity savedEntity = jpaRepository.save(entity);
+        bookingState.recordTableSaved(savedEntity);
+        responseCache.tablesChanged();
         
         log.debug("Table saved successfully: {}", savedEntity.getId());
         return mapper.toDomain(savedEntity);
@@ -94,6 +103,7 @@ public class TableRepositoryImpl implements TableRepository {
         log.debug("Deleting table: {}", table.getId());
         
         jpaRepository.deleteById(table.getId().getValue());
+        responseCache.tablesChanged();
         log.debug("Table deleted successfully: {}", table.getId());
     }
     
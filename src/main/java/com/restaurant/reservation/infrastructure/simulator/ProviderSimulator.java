@@ -0,0 +1,202 @@
+package com.restaurant.reservation.infrastructure.simulator;
+
+import com.restaurant.reservation.application.service.integration.TokenBucket;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Simulador local da API de envio em lote de um provedor (email ou SMS).
+ * 
+ * Cada requisição recebe uma latência sorteada de uma distribuição
+ * log-normal ajustada pela mediana e pelo p99 configurados, acima de um
+ * mínimo fixo. A requisição inteira pode falhar (503) ou ser limitada (429),
+ * seja por sorteio, seja pela cota de mensagens por segundo; mensagens
+ * individuais podem ser recusadas no resultado. As mensagens recebidas
+ * ficam registradas (as mais recentes, até a capacidade) junto com contadores.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+public class ProviderSimulator {
+    
+    /** Quantil 0,99 da normal padrão. */
+    private static final double Z_99 = 2.326;
+    
+    private final String provider;
+    private final Settings settings;
+    private final TokenBucket quota;
+    private final double mu;
+    private final double sigma;
+    private final ArrayDeque<ReceivedMessage> received = new ArrayDeque<>();
+    
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong messages = new AtomicLong();
+    private final AtomicLong failedRequests = new AtomicLong();
+    private final AtomicLong throttledRequests = new AtomicLong();
+    private final AtomicLong rejectedMessages = new AtomicLong();
+    
+    public ProviderSimulator(String provider, Settings settings) {
+        if (settings.getMedianLatencyMs() < settings.getMinLatencyMs()
+                || settings.getP99LatencyMs() < settings.getMedianLatencyMs()) {
+            throw new IllegalArgumentException("Latency settings must satisfy min <= median <= p99");
+        }
+        this.provider = provider;
+        this.settings = settings;
+        this.quota = settings.getMaxMessagesPerSecond() > 0 
+            ? new TokenBucket(settings.getMaxMessagesPerSecond(), Math.max(1, (long) settings.getMaxMessagesPerSecond()))
+            : null;
+        double median = Math.max(1e-3, settings.getMedianLatencyMs() - settings.getMinLatencyMs());
+        double p99 = Math.max(median, settings.getP99LatencyMs() - settings.getMinLatencyMs());
+        this.mu = Math.log(median);
+        this.sigma = (Math.log(p99) - mu) / Z_99;
+    }
+    
+    /**
+     * Processa uma requisição de envio em lote.
+     * 
+     * @param batch mensagens recebidas; cada uma deve ter o campo {@code reference}
+     */
+    public Outcome handle(List<Map<String, Object>> batch) {
+        requests.incrementAndGet();
+        Duration latency = sampleLatency();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        
+        if (random.nextDouble() < settings.getErrorRate()) {
+            failedRequests.incrementAndGet();
+            return new Outcome(503, latency, List.of());
+        }
+        if (random.nextDouble() < settings.getThrottleRate() || !withinQuota(batch.size())) {
+            throttledRequests.incrementAndGet();
+            return new Outcome(429, latency, List.of());
+        }
+        
+        List<Map<String, Object>> results = new ArrayList<>(batch.size());
+        Instant now = Instant.now();
+        for (Map<String, Object> message : batch) {
+            Map<String, Object> result = new HashMap<>(4);
+            result.put("reference", message.get("reference"));
+            if (random.nextDouble() < settings.getRejectRate()) {
+                rejectedMessages.incrementAndGet();
+                result.put("status", "REJECTED");
+                result.put("error", "Simulated rejection");
+            } else {
+                result.put("messageId", UUID.randomUUID().toString());
+                result.put("status", "SENT");
+            }
+            results.add(result);
+            record(new ReceivedMessage(now, String.valueOf(message.get("reference")), 
+                String.valueOf(message.get("to")), batch.size(), message));
+        }
+        messages.addAndGet(batch.size());
+        return new Outcome(200, latency, results);
+    }
+    
+    /**
+     * Mensagens mais recentes, da mais nova para a mais antiga.
+     */
+    public synchronized List<ReceivedMessage> recent(int limit) {
+        List<ReceivedMessage> recent = new ArrayList<>(Math.min(limit, received.size()));
+        var iterator = received.descendingIterator();
+        while (iterator.hasNext() && recent.size() < limit) {
+            recent.add(iterator.next());
+        }
+        return recent;
+    }
+    
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("provider", provider);
+        stats.put("requests", requests.get());
+        stats.put("messages", messages.get());
+        stats.put("failedRequests", failedRequests.get());
+        stats.put("throttledRequests", throttledRequests.get());
+        stats.put("rejectedMessages", rejectedMessages.get());
+        return stats;
+    }
+    
+    /**
+     * Limpa o registro de mensagens e os contadores.
+     */
+    public synchronized void reset() {
+        received.clear();
+        requests.set(0);
+        messages.set(0);
+        failedRequests.set(0);
+        throttledRequests.set(0);
+        rejectedMessages.set(0);
+    }
+    
+    private boolean withinQuota(int batchSize) {
+        if (quota == null) {
+            return true;
+        }
+        for (int i = 0; i < batchSize; i++) {
+            if (quota.tryAcquire() > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Duration sampleLatency() {
+        double gaussian = ThreadLocalRandom.current().nextGaussian();
+        double millis = settings.getMinLatencyMs() + Math.exp(mu + sigma * gaussian);
+        return Duration.ofNanos((long) (millis * 1_000_000));
+    }
+    
+    private synchronized void record(ReceivedMessage message) {
+        if (received.size() >= settings.getRecordCapacity()) {
+            received.pollFirst();
+        }
+        received.addLast(message);
+    }
+    
+    /**
+     * Parâmetros do simulador de um provedor.
+     */
+    @Value
+    @Builder
+    public static class Settings {
+        double minLatencyMs;
+        double medianLatencyMs;
+        double p99LatencyMs;
+        double errorRate;
+        double throttleRate;
+        double rejectRate;
+        double maxMessagesPerSecond;
+        int recordCapacity;
+    }
+    
+    /**
+     * Resultado de uma requisição: status HTTP, latência a aplicar e resultados por mensagem.
+     */
+    @Value
+    public static class Outcome {
+        int status;
+        Duration latency;
+        List<Map<String, Object>> results;
+    }
+    
+    /**
+     * Mensagem registrada pelo simulador.
+     */
+    @Value
+    public static class ReceivedMessage {
+        Instant receivedAt;
+        String reference;
+        String to;
+        int batchSize;
+        Map<String, Object> payload;
+    }
+}
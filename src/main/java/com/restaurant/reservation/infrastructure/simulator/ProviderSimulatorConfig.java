@@ -0,0 +1,60 @@
+package com.restaurant.reservation.infrastructure.simulator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Cria os simuladores de provedor do perfil {@code simulator}.
+ * Com o perfil ativo, EmailService e SmsService apontam para os endpoints
+ * {@code /simulator/{provider}} da própria aplicação (ver application.yml).
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Configuration
+@Profile("simulator")
+public class ProviderSimulatorConfig {
+    
+    @Bean
+    public ProviderSimulators providerSimulators(
+            @Value("${reservation.simulator.email.min-latency-ms:20}") double emailMinLatencyMs,
+            @Value("${reservation.simulator.email.median-latency-ms:80}") double emailMedianLatencyMs,
+            @Value("${reservation.simulator.email.p99-latency-ms:600}") double emailP99LatencyMs,
+            @Value("${reservation.simulator.email.error-rate:0.01}") double emailErrorRate,
+            @Value("${reservation.simulator.email.throttle-rate:0}") double emailThrottleRate,
+            @Value("${reservation.simulator.email.reject-rate:0.005}") double emailRejectRate,
+            @Value("${reservation.simulator.email.max-messages-per-second:0}") double emailMaxPerSecond,
+            @Value("${reservation.simulator.sms.min-latency-ms:30}") double smsMinLatencyMs,
+            @Value("${reservation.simulator.sms.median-latency-ms:120}") double smsMedianLatencyMs,
+            @Value("${reservation.simulator.sms.p99-latency-ms:900}") double smsP99LatencyMs,
+            @Value("${reservation.simulator.sms.error-rate:0.01}") double smsErrorRate,
+            @Value("${reservation.simulator.sms.throttle-rate:0}") double smsThrottleRate,
+            @Value("${reservation.simulator.sms.reject-rate:0.005}") double smsRejectRate,
+            @Value("${reservation.simulator.sms.max-messages-per-second:10}") double smsMaxPerSecond,
+            @Value("${reservation.simulator.record-capacity:10000}") int recordCapacity) {
+        
+        ProviderSimulator email = new ProviderSimulator("email", ProviderSimulator.Settings.builder()
+            .minLatencyMs(emailMinLatencyMs)
+            .medianLatencyMs(emailMedianLatencyMs)
+            .p99LatencyMs(emailP99LatencyMs)
+            .errorRate(emailErrorRate)
+            .throttleRate(emailThrottleRate)
+            .rejectRate(emailRejectRate)
+            .maxMessagesPerSecond(emailMaxPerSecond)
+            .recordCapacity(recordCapacity)
+            .build());
+        ProviderSimulator sms = new ProviderSimulator("sms", ProviderSimulator.Settings.builder()
+            .minLatencyMs(smsMinLatencyMs)
+            .medianLatencyMs(smsMedianLatencyMs)
+            .p99LatencyMs(smsP99LatencyMs)
+            .errorRate(smsErrorRate)
+            .throttleRate(smsThrottleRate)
+            .rejectRate(smsRejectRate)
+            .maxMessagesPerSecond(smsMaxPerSecond)
+            .recordCapacity(recordCapacity)
+            .build());
+        return new ProviderSimulators(email, sms);
+    }
+}
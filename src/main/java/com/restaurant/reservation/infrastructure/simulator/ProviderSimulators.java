@@ -0,0 +1,29 @@
+package com.restaurant.reservation.infrastructure.simulator;
+
+/**
+ * Simuladores disponíveis no perfil {@code simulator}, por nome de provedor.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+public class ProviderSimulators {
+    
+    private final ProviderSimulator email;
+    private final ProviderSimulator sms;
+    
+    public ProviderSimulators(ProviderSimulator email, ProviderSimulator sms) {
+        this.email = email;
+        this.sms = sms;
+    }
+    
+    /**
+     * @throws IllegalArgumentException se o provedor não existir
+     */
+    public ProviderSimulator get(String provider) {
+        return switch (provider) {
+            case "email" -> email;
+            case "sms" -> sms;
+            default -> throw new IllegalArgumentException("Unknown provider: " + provider);
+        };
+    }
+}
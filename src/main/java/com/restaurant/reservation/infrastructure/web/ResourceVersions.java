@@ -0,0 +1,155 @@
+package com.restaurant.reservation.infrastructure.web;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registro das ETags conhecidas das leituras de reservas por ID, usado nos
+ * GETs condicionais (If-None-Match). A lista de mesas, que também guarda o
+ * corpo serializado, fica no SerializedResponseCache.
+ * 
+ * A ETag é o hash do conteúdo da resposta, calculado na primeira leitura e
+ * guardado aqui; enquanto o recurso não muda, uma consulta repetida com a
+ * mesma ETag recebe 304 sem passar pelo serviço nem pelo banco. Os
+ * repositórios invalidam a entrada após o commit de cada gravação, e o
+ * BookingStateLoader invalida o que outras instâncias alteraram, então a
+ * defasagem entre instâncias é limitada pelo intervalo de atualização do
+ * estado de reservas.
+ * 
+ * Uma leitura só guarda a ETag se nenhuma invalidação do recurso aconteceu
+ * desde que ela começou (ver {@link #stamp()}), para que uma leitura lenta
+ * não registre o conteúdo anterior a uma gravação concorrente.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class ResourceVersions {
+    
+    private static final String RESERVATION_PREFIX = "reservation:";
+    
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final int maxEntries;
+    private volatile long clearedAt;
+    
+    public ResourceVersions(@Value("${reservation.http.conditional.max-entries:50000}") int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Max entries must be positive");
+        }
+        this.maxEntries = maxEntries;
+    }
+    
+    /**
+     * Marca o início de uma leitura. O valor é passado depois para
+     * {@link #rememberReservation}.
+     */
+    public long stamp() {
+        return clock.get();
+    }
+    
+    /**
+     * ETag atual de uma reserva, ou null se ainda não for conhecida.
+     */
+    public String reservationTag(String reservationId) {
+        return tagOf(RESERVATION_PREFIX + reservationId);
+    }
+    
+    /**
+     * Guarda a ETag de uma reserva calculada a partir do conteúdo lido.
+     * 
+     * @return a ETag do conteúdo
+     */
+    public String rememberReservation(String reservationId, long stamp, Object content) {
+        return remember(RESERVATION_PREFIX + reservationId, stamp, content);
+    }
+    
+    /**
+     * Invalida uma reserva; dentro de uma transação, após o commit.
+     */
+    public void reservationChanged(String reservationId) {
+        runAfterCommit(() -> invalidate(RESERVATION_PREFIX + reservationId));
+    }
+    
+    /**
+     * ETag de um conteúdo: hash do seu toString (os DTOs de resposta usam o
+     * toString do Lombok, com todos os campos).
+     */
+    static String tagFor(Object content) {
+        return DigestUtils.md5DigestAsHex(String.valueOf(content).getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private String tagOf(String key) {
+        Entry entry = entries.get(key);
+        return entry != null ? entry.tag : null;
+    }
+    
+    private String remember(String key, long stamp, Object content) {
+        String tag = tagFor(content);
+        if (stamp < clearedAt) {
+            return tag;
+        }
+        entries.compute(key, (k, current) ->
+            current == null ? new Entry(tag, 0L)
+                : current.changedAt > stamp ? current : new Entry(tag, current.changedAt));
+        if (stamp < clearedAt) {
+            entries.remove(key); // Esvaziado durante a gravação acima
+        } else if (entries.size() > maxEntries) {
+            clear();
+        }
+        return tag;
+    }
+    
+    private void invalidate(String key) {
+        entries.put(key, new Entry(null, clock.incrementAndGet()));
+        if (entries.size() > maxEntries) {
+            clear();
+        }
+    }
+    
+    /**
+     * Esvazia o registro. Leituras iniciadas antes disso não guardam ETag,
+     * já que as invalidações que as barrariam foram descartadas.
+     */
+    private void clear() {
+        clearedAt = clock.incrementAndGet();
+        entries.clear();
+        log.debug("Resource version registry cleared after exceeding {} entries", maxEntries);
+    }
+    
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    /**
+     * ETag conhecida de um recurso, ou a marca da sua última invalidação.
+     */
+    private static final class Entry {
+        
+        private final String tag;
+        private final long changedAt;
+        
+        private Entry(String tag, long changedAt) {
+            this.tag = tag;
+            this.changedAt = changedAt;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.restaurant.reservation.infrastructure.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache de respostas já serializadas das leituras mais consultadas: a lista
+ * de mesas e as reservas de um dia.
+ * 
+ * Cada entrada guarda os bytes JSON, a versão gzip (para corpos a partir de
+ * gzip-min-bytes) e a ETag; um acerto escreve esses bytes direto na resposta,
+ * sem mapeamento para DTO nem serialização. As entradas são invalidadas após
+ * o commit das gravações, pelos repositórios, e a cada atualização do
+ * BookingStateLoader, pelo que outras instâncias alteraram.
+ * 
+ * Uma reserva invalida o dia em que começa e todos os dias em cache que a
+ * contêm (o dia anterior, quando o horário é alterado). Como em
+ * ResourceVersions, uma leitura só é guardada se nenhuma invalidação da sua
+ * chave aconteceu desde que ela começou.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class SerializedResponseCache {
+    
+    private static final String TABLES = "tables";
+    private static final String RESERVATIONS_BY_DATE = "reservations-by-date:";
+    private static final String METRIC_NAME = "reservation.http.response-cache";
+    
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> keysByReservation = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final int gzipMinBytes;
+    private final Counter hits;
+    private final Counter misses;
+    private volatile long clearedAt;
+    
+    public SerializedResponseCache(ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${reservation.http.response-cache.max-entries:1000}") int maxEntries,
+                                   @Value("${reservation.http.response-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Max entries must be positive");
+        }
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.gzipMinBytes = gzipMinBytes;
+        this.hits = meterRegistry.counter(METRIC_NAME, "result", "hit");
+        this.misses = meterRegistry.counter(METRIC_NAME, "result", "miss");
+    }
+    
+    /**
+     * Chave da lista de mesas ativas.
+     */
+    public static String tablesKey() {
+        return TABLES;
+    }
+    
+    /**
+     * Chave das reservas de um dia.
+     */
+    public static String reservationsByDateKey(LocalDate date) {
+        return RESERVATIONS_BY_DATE + date;
+    }
+    
+    /**
+     * Marca o início de uma leitura; o valor é passado depois para {@link #put}.
+     */
+    public long stamp() {
+        return clock.get();
+    }
+    
+    /**
+     * Resposta em cache para a chave, ou null.
+     */
+    public CachedResponse get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.response == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.response;
+    }
+    
+    /**
+     * Serializa o corpo e o guarda em cache, se nenhuma invalidação da chave
+     * aconteceu desde o stamp.
+     * 
+     * @param reservationIds reservas contidas no corpo, cujas alterações invalidam a entrada
+     * @return a resposta serializada, guardada ou não
+     */
+    public CachedResponse put(String key, long stamp, Object body, Collection<String> reservationIds) {
+        CachedResponse response = serialize(body);
+        if (stamp < clearedAt) {
+            return response;
+        }
+        String[] ids = reservationIds.toArray(new String[0]);
+        for (String id : ids) {
+            keysByReservation.computeIfAbsent(id, reservation -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+        entries.compute(key, (k, current) -> {
+            if (current != null && current.changedAt > stamp) {
+                return current;
+            }
+            return new Entry(response, ids, current != null ? current.changedAt : 0L);
+        });
+        if (stamp < clearedAt) {
+            entries.remove(key); // Esvaziado durante a gravação acima
+        } else if (entries.size() > maxEntries) {
+            clear();
+        }
+        return response;
+    }
+    
+    /**
+     * Invalida a lista de mesas; dentro de uma transação, após o commit.
+     */
+    public void tablesChanged() {
+        runAfterCommit(() -> invalidate(TABLES));
+    }
+    
+    /**
+     * Invalida o dia da reserva e os dias em cache que a contêm;
+     * dentro de uma transação, após o commit.
+     */
+    public void reservationChanged(String reservationId, LocalDate date) {
+        runAfterCommit(() -> {
+            invalidate(reservationsByDateKey(date));
+            Set<String> keys = keysByReservation.remove(reservationId);
+            if (keys != null) {
+                keys.forEach(this::invalidate);
+            }
+        });
+    }
+    
+    private CachedResponse serialize(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            byte[] gzip = json.length >= gzipMinBytes ? gzip(json) : null;
+            return new CachedResponse(json, gzip, DigestUtils.md5DigestAsHex(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cached response", e);
+        }
+    }
+    
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+    
+    private void invalidate(String key) {
+        Entry previous = entries.put(key, new Entry(null, new String[0], clock.incrementAndGet()));
+        if (previous != null) {
+            for (String id : previous.reservationIds) {
+                keysByReservation.computeIfPresent(id, (reservation, keys) -> {
+                    keys.remove(key);
+                    return keys.isEmpty() ? null : keys;
+                });
+            }
+        }
+        if (entries.size() > maxEntries) {
+            clear();
+        }
+    }
+    
+    /**
+     * Esvazia o cache. Leituras iniciadas antes disso não são guardadas,
+     * já que as invalidações que as barrariam foram descartadas.
+     */
+    private void clear() {
+        clearedAt = clock.incrementAndGet();
+        entries.clear();
+        keysByReservation.clear();
+        log.debug("Serialized response cache cleared after exceeding {} entries", maxEntries);
+    }
+    
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    /**
+     * Corpo JSON serializado, com a versão gzip quando compensa.
+     */
+    public static final class CachedResponse {
+        
+        private final byte[] json;
+        private final byte[] gzip;
+        private final String etag;
+        
+        private CachedResponse(byte[] json, byte[] gzip, String etag) {
+            this.json = json;
+            this.gzip = gzip;
+            this.etag = etag;
+        }
+        
+        /**
+         * Monta a resposta com os bytes prontos, em gzip se o cliente aceitar.
+         * A ETag permite que o Spring responda 304 a um If-None-Match igual.
+         */
+        public ResponseEntity<byte[]> toResponseEntity(WebRequest request) {
+            String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+            boolean gzipped = gzip != null && acceptEncoding != null && acceptEncoding.contains("gzip");
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+            if (gzipped) {
+                return builder.eTag(etag + "-gz")
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(gzip.length)
+                    .body(gzip);
+            }
+            return builder.eTag(etag)
+                .contentLength(json.length)
+                .body(json);
+        }
+    }
+    
+    /**
+     * Resposta em cache com as reservas que contém, ou a marca da última
+     * invalidação da chave.
+     */
+    private static final class Entry {
+        
+        private final CachedResponse response;
+        private final String[] reservationIds;
+        private final long changedAt;
+        
+        private Entry(CachedResponse response, String[] reservationIds, long changedAt) {
+            this.response = response;
+            this.reservationIds = reservationIds;
+            this.changedAt = changedAt;
+        }
+    }
+}
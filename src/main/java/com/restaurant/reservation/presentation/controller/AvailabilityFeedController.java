@@ -0,0 +1,96 @@
+package com.restaurant.reservation.presentation.controller;
+
+import com.restaurant.reservation.application.dto.AvailabilityDelta;
+import com.restaurant.reservation.application.service.availability.AvailabilityFeed;
+import com.restaurant.reservation.application.service.availability.AvailabilityFeed.Subscription;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Controller do feed de disponibilidade via Server-Sent Events, para telas
+ * que hoje fazem polling das reservas do dia e da lista de mesas.
+ * 
+ * O cliente carrega a disponibilidade uma vez pelos endpoints de consulta e
+ * aplica os deltas recebidos aqui. Ao ser desconectado (cliente lento, fim
+ * do tempo limite da conexão), o EventSource reconecta e deve recarregar.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/availability")
+@Profile("!reactive") // Substituído pelo controller WebFlux no perfil "reactive"
+@Slf4j
+@Tag(name = "Availability", description = "Feed de mudanças de disponibilidade em tempo real")
+public class AvailabilityFeedController {
+    
+    private final AvailabilityFeed availabilityFeed;
+    private final long timeoutMs;
+    
+    public AvailabilityFeedController(AvailabilityFeed availabilityFeed,
+                                      @Value("${reservation.availability-feed.connection-timeout-ms:1800000}") long timeoutMs) {
+        this.availabilityFeed = availabilityFeed;
+        this.timeoutMs = timeoutMs;
+    }
+    
+    /**
+     * Abre o feed de deltas de disponibilidade, filtrado por data e localização.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Feed de disponibilidade", description = "Envia por SSE cada horário de mesa que passa a ficar ocupado ou livre")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Feed aberto"),
+        @ApiResponse(responseCode = "503", description = "Limite de conexões do feed atingido")
+    })
+    public ResponseEntity<SseEmitter> streamAvailability(
+            @Parameter(description = "Data dos horários (formato: yyyy-MM-dd, opcional)")
+            @RequestParam(name = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "Localização das mesas (opcional)")
+            @RequestParam(name = "location", required = false) String location) {
+        
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscription subscription;
+        try {
+            subscription = availabilityFeed.subscribe(date, location, new AvailabilityFeed.Sink() {
+                @Override
+                public void send(AvailabilityDelta delta) throws IOException {
+                    emitter.send(SseEmitter.event().name("availability").data(delta, MediaType.APPLICATION_JSON));
+                }
+                
+                @Override
+                public void heartbeat() throws IOException {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+                
+                @Override
+                public void close() {
+                    emitter.complete();
+                }
+            });
+        } catch (IllegalStateException e) {
+            log.warn("Rejecting availability feed connection: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+        
+        log.debug("Availability feed opened for date {} and location {}", date, location);
+        return ResponseEntity.ok(emitter);
+    }
+}
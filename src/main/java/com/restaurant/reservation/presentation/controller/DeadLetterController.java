@@ -0,0 +1,131 @@
+package com.restaurant.reservation.presentation.controller;
+
+import com.restaurant.reservation.application.dto.DeadLetterReplayStatus;
+import com.restaurant.reservation.application.dto.DeadLetterResponse;
+import com.restaurant.reservation.application.service.integration.FailedMessage.Channel;
+import com.restaurant.reservation.infrastructure.deadletter.DeadLetterReplayer;
+import com.restaurant.reservation.infrastructure.deadletter.JpaDeadLetterStore;
+import com.restaurant.reservation.infrastructure.persistence.entity.DeadLetterEntity.DeadLetterStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller REST para consultar e reenviar notificações mortas (dead letters).
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/dead-letters")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Dead Letters", description = "API para consultar e reenviar notificações que falharam")
+public class DeadLetterController {
+    
+    private static final int MAX_PAGE_SIZE = 200;
+    
+    private final JpaDeadLetterStore deadLetterStore;
+    private final DeadLetterReplayer replayer;
+    
+    /**
+     * Lista as notificações mortas, paginadas, das mais recentes para as mais antigas.
+     */
+    @GetMapping
+    @Operation(summary = "Listar notificações mortas", description = "Retorna uma página de notificações mortas, com filtros opcionais")
+    public ResponseEntity<Page<DeadLetterResponse>> listDeadLetters(
+            @Parameter(description = "Canal (EMAIL ou SMS)") @RequestParam(name = "channel", required = false) Channel channel,
+            @Parameter(description = "Estado (PENDING, REPLAYING, REPLAYED ou DISCARDED)") 
+            @RequestParam(name = "status", required = false) DeadLetterStatus status,
+            @Parameter(description = "Número da página") @RequestParam(name = "page", defaultValue = "0") int page,
+            @Parameter(description = "Tamanho da página") @RequestParam(name = "size", defaultValue = "50") int size) {
+        
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE), 
+            Sort.by(Sort.Direction.DESC, "id"));
+        return ResponseEntity.ok(deadLetterStore.search(channel, status, pageRequest));
+    }
+    
+    /**
+     * Busca uma notificação morta por ID, com o histórico de tentativas.
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar notificação morta", description = "Retorna a mensagem, o último erro e o histórico de tentativas")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Notificação encontrada"),
+        @ApiResponse(responseCode = "404", description = "Notificação não encontrada")
+    })
+    public ResponseEntity<DeadLetterResponse> getDeadLetter(
+            @Parameter(description = "ID da notificação") @PathVariable("id") Long id) {
+        return deadLetterStore.findById(id)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * Descarta uma notificação pendente, que deixa de ser reenviada.
+     */
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Descartar notificação morta", description = "Marca uma notificação pendente como descartada")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Notificação descartada"),
+        @ApiResponse(responseCode = "404", description = "Notificação não encontrada ou não pendente")
+    })
+    public ResponseEntity<Void> discardDeadLetter(
+            @Parameter(description = "ID da notificação") @PathVariable("id") Long id) {
+        
+        log.info("Discarding dead letter: {}", id);
+        return deadLetterStore.discard(id) 
+            ? ResponseEntity.noContent().build() 
+            : ResponseEntity.notFound().build();
+    }
+    
+    /**
+     * Inicia o reenvio em lote das notificações pendentes.
+     */
+    @PostMapping("/replay")
+    @Operation(summary = "Reenviar notificações", description = "Inicia o reenvio em blocos, com limite de taxa, das notificações pendentes")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Reenvio iniciado"),
+        @ApiResponse(responseCode = "409", description = "Já existe um reenvio em andamento")
+    })
+    public ResponseEntity<DeadLetterReplayStatus> startReplay(
+            @Parameter(description = "Canal (EMAIL ou SMS); todos se omitido") 
+            @RequestParam(name = "channel", required = false) Channel channel,
+            @Parameter(description = "Máximo de notificações a reenviar") 
+            @RequestParam(name = "max", defaultValue = "1000") int maxMessages) {
+        
+        log.info("Starting dead letter replay: channel={}, max={}", channel, maxMessages);
+        return replayer.start(channel, maxMessages)
+            .map(started -> ResponseEntity.status(HttpStatus.ACCEPTED).body(started))
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).body(replayer.getStatus()));
+    }
+    
+    /**
+     * Retorna o andamento do reenvio atual ou do último.
+     */
+    @GetMapping("/replay")
+    @Operation(summary = "Andamento do reenvio", description = "Retorna o andamento do reenvio atual ou do último")
+    public ResponseEntity<DeadLetterReplayStatus> getReplayStatus() {
+        return ResponseEntity.ok(replayer.getStatus());
+    }
+    
+    /**
+     * Interrompe o reenvio em andamento ao fim do bloco atual.
+     */
+    @DeleteMapping("/replay")
+    @Operation(summary = "Interromper reenvio", description = "Interrompe o reenvio em andamento ao fim do bloco atual")
+    public ResponseEntity<DeadLetterReplayStatus> stopReplay() {
+        replayer.stop();
+        return ResponseEntity.ok(replayer.getStatus());
+    }
+}
@@ -0,0 +1,99 @@
+package com.restaurant.reservation.presentation.controller;
+
+import com.restaurant.reservation.infrastructure.simulator.ProviderSimulator;
+import com.restaurant.reservation.infrastructure.simulator.ProviderSimulator.Outcome;
+import com.restaurant.reservation.infrastructure.simulator.ProviderSimulator.ReceivedMessage;
+import com.restaurant.reservation.infrastructure.simulator.ProviderSimulators;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controller REST que simula as APIs de envio em lote dos provedores de
+ * email e SMS, para testes de carga locais. Disponível apenas no perfil
+ * {@code simulator}. A resposta é atrasada de forma assíncrona, sem ocupar
+ * uma thread do servidor durante a latência simulada.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/simulator/{provider}")
+@Profile("simulator")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Provider Simulator", description = "Simulador local das APIs de email e SMS")
+public class ProviderSimulatorController {
+    
+    private final ProviderSimulators simulators;
+    
+    /**
+     * Recebe um lote de mensagens, com latência, falhas e limitação simuladas.
+     */
+    @PostMapping("/send/batch")
+    @Operation(summary = "Enviar lote", description = "Simula o endpoint de envio em lote do provedor")
+    public Mono<ResponseEntity<Map<String, Object>>> sendBatch(
+            @PathVariable("provider") String provider,
+            @RequestBody SimulatedBatchRequest request) {
+        
+        Outcome outcome = simulators.get(provider).handle(request.getMessages());
+        ResponseEntity<Map<String, Object>> response;
+        if (outcome.getStatus() == 200) {
+            response = ResponseEntity.ok(Map.of("results", outcome.getResults()));
+        } else if (outcome.getStatus() == 429) {
+            response = ResponseEntity.status(429).header(HttpHeaders.RETRY_AFTER, "1").build();
+        } else {
+            response = ResponseEntity.status(outcome.getStatus()).build();
+        }
+        return Mono.delay(outcome.getLatency()).thenReturn(response);
+    }
+    
+    /**
+     * Lista as mensagens recebidas mais recentes.
+     */
+    @GetMapping("/messages")
+    @Operation(summary = "Mensagens recebidas", description = "Lista as mensagens mais recentes recebidas pelo simulador")
+    public ResponseEntity<List<ReceivedMessage>> getMessages(
+            @PathVariable("provider") String provider,
+            @RequestParam(name = "limit", defaultValue = "100") int limit) {
+        return ResponseEntity.ok(simulators.get(provider).recent(limit));
+    }
+    
+    /**
+     * Retorna os contadores do simulador.
+     */
+    @GetMapping("/stats")
+    @Operation(summary = "Estatísticas", description = "Contadores de requisições, mensagens, falhas e limitações")
+    public ResponseEntity<Map<String, Object>> getStats(@PathVariable("provider") String provider) {
+        return ResponseEntity.ok(simulators.get(provider).stats());
+    }
+    
+    /**
+     * Limpa o registro de mensagens e os contadores.
+     */
+    @DeleteMapping("/messages")
+    @Operation(summary = "Limpar registro", description = "Limpa as mensagens registradas e os contadores")
+    public ResponseEntity<Void> reset(@PathVariable("provider") String provider) {
+        ProviderSimulator simulator = simulators.get(provider);
+        simulator.reset();
+        log.info("Simulator {} reset", provider);
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * Corpo da requisição de envio em lote, no formato usado por EmailService e SmsService.
+     */
+    @lombok.Data
+    public static class SimulatedBatchRequest {
+        private List<Map<String, Object>> messages = List.of();
+    }
+}
@@ -0,0 +1,97 @@
+package com.restaurant.reservation.presentation.controller;
+
+import com.restaurant.reservation.application.dto.AvailabilityDelta;
+import com.restaurant.reservation.application.service.availability.AvailabilityFeed;
+import com.restaurant.reservation.application.service.availability.AvailabilityFeed.Subscription;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Controller WebFlux do feed de disponibilidade, usado no perfil "reactive"
+ * no lugar do AvailabilityFeedController.
+ * 
+ * Os deltas passam por um sink com fila limitada até a conexão; se ela não
+ * acompanha, o envio falha e o feed desconecta o cliente, como no modo servlet.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/availability")
+@Profile("reactive")
+@Slf4j
+@Tag(name = "Availability", description = "Feed de mudanças de disponibilidade em tempo real")
+public class ReactiveAvailabilityFeedController {
+    
+    private final AvailabilityFeed availabilityFeed;
+    private final int bufferSize;
+    
+    public ReactiveAvailabilityFeedController(AvailabilityFeed availabilityFeed,
+                                              @Value("${reservation.availability-feed.buffer-size:256}") int bufferSize) {
+        this.availabilityFeed = availabilityFeed;
+        this.bufferSize = bufferSize;
+    }
+    
+    /**
+     * Abre o feed de deltas de disponibilidade, filtrado por data e localização.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Feed de disponibilidade", description = "Envia por SSE cada horário de mesa que passa a ficar ocupado ou livre")
+    public ResponseEntity<Flux<ServerSentEvent<AvailabilityDelta>>> streamAvailability(
+            @Parameter(description = "Data dos horários (formato: yyyy-MM-dd, opcional)")
+            @RequestParam(name = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "Localização das mesas (opcional)")
+            @RequestParam(name = "location", required = false) String location) {
+        
+        Sinks.Many<ServerSentEvent<AvailabilityDelta>> events = Sinks.many().unicast()
+            .onBackpressureBuffer(Queues.<ServerSentEvent<AvailabilityDelta>>get(bufferSize).get());
+        Subscription subscription;
+        try {
+            subscription = availabilityFeed.subscribe(date, location, new AvailabilityFeed.Sink() {
+                @Override
+                public void send(AvailabilityDelta delta) throws IOException {
+                    emit(events, ServerSentEvent.builder(delta).event("availability").build());
+                }
+                
+                @Override
+                public void heartbeat() throws IOException {
+                    emit(events, ServerSentEvent.<AvailabilityDelta>builder().comment("heartbeat").build());
+                }
+                
+                @Override
+                public void close() {
+                    events.tryEmitComplete();
+                }
+            });
+        } catch (IllegalStateException e) {
+            log.warn("Rejecting availability feed connection: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        
+        log.debug("Availability feed opened for date {} and location {}", date, location);
+        return ResponseEntity.ok(events.asFlux().doFinally(signal -> subscription.cancel()));
+    }
+    
+    private static void emit(Sinks.Many<ServerSentEvent<AvailabilityDelta>> events,
+                             ServerSentEvent<AvailabilityDelta> event) throws IOException {
+        if (events.tryEmitNext(event).isFailure()) {
+            throw new IOException("Client is not keeping up with the availability feed");
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.restaurant.reservation.presentation.controller;
+
+import com.restaurant.reservation.application.dto.BookedSlotResponse;
+import com.restaurant.reservation.application.dto.CreateReservationRequest;
+import com.restaurant.reservation.application.dto.ReservationBatchRequest;
+import com.restaurant.reservation.application.dto.ReservationLookupResponse;
+import com.restaurant.reservation.application.dto.ReservationResponse;
+import com.restaurant.reservation.application.dto.UpdateReservationRequest;
+import com.restaurant.reservation.application.service.ReactiveReservationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Controller WebFlux de reservas, usado no perfil "reactive" no lugar do
+ * ReservationController, com os mesmos caminhos e respostas.
+ * 
+ * A exportação em massa (GET /export) só existe no modo servlet, que
+ * escreve direto no fluxo de saída da resposta.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/reservations")
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Reservations", description = "API para gerenciar reservas de restaurante")
+public class ReactiveReservationController {
+    
+    private final ReactiveReservationService reservationService;
+    
+    /**
+     * Cria uma nova reserva.
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Criar reserva", description = "Cria uma nova reserva no sistema")
+    public Mono<ReservationResponse> createReservation(@Valid @RequestBody CreateReservationRequest request) {
+        log.info("Creating reservation for customer: {}", request.getCustomerEmail());
+        return reservationService.createReservation(request);
+    }
+    
+    /**
+     * Busca uma reserva por ID.
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar reserva por ID", description = "Retorna uma reserva específica")
+    public Mono<ReservationResponse> getReservation(
+            @Parameter(description = "ID da reserva") @PathVariable("id") String id) {
+        
+        log.debug("Getting reservation: {}", id);
+        return reservationService.getReservation(id);
+    }
+    
+    /**
+     * Busca várias reservas por ID em uma única requisição.
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Buscar reservas por lista de IDs", description = "Retorna as reservas na ordem dos IDs informados, indicando os que não foram encontrados")
+    public Mono<List<ReservationLookupResponse>> getReservations(@Valid @RequestBody ReservationBatchRequest request) {
+        log.debug("Getting {} reservations by ID", request.getIds().size());
+        return reservationService.getReservations(request.getIds());
+    }
+    
+    /**
+     * Confirma uma reserva pendente.
+     */
+    @PutMapping("/{id}/confirm")
+    @Operation(summary = "Confirmar reserva", description = "Confirma uma reserva pendente")
+    public Mono<ReservationResponse> confirmReservation(
+            @Parameter(description = "ID da reserva") @PathVariable("id") String id) {
+        
+        log.info("Confirming reservation: {}", id);
+        return reservationService.confirmReservation(id);
+    }
+    
+    /**
+     * Cancela uma reserva.
+     */
+    @PutMapping("/{id}/cancel")
+    @Operation(summary = "Cancelar reserva", description = "Cancela uma reserva")
+    public Mono<ReservationResponse> cancelReservation(
+            @Parameter(description = "ID da reserva") @PathVariable("id") String id) {
+        
+        log.info("Cancelling reservation: {}", id);
+        return reservationService.cancelReservation(id);
+    }
+    
+    /**
+     * Marca uma reserva como completada.
+     */
+    @PutMapping("/{id}/complete")
+    @Operation(summary = "Completar reserva", description = "Marca uma reserva como completada")
+    public Mono<ReservationResponse> completeReservation(
+            @Parameter(description = "ID da reserva") @PathVariable("id") String id) {
+        
+        log.info("Completing reservation: {}", id);
+        return reservationService.completeReservation(id);
+    }
+    
+    /**
+     * Atualiza uma reserva existente.
+     */
+    @PutMapping("/{id}")
+    @Operation(summary = "Atualizar reserva", description = "Atualiza uma reserva existente")
+    public Mono<ReservationResponse> updateReservation(
+            @Parameter(description = "ID da reserva") @PathVariable("id") String id,
+            @Valid @RequestBody UpdateReservationRequest request) {
+        
+        log.info("Updating reservation: {}", id);
+        return reservationService.updateReservation(id, request);
+    }
+    
+    /**
+     * Busca reservas por email do cliente.
+     */
+    @GetMapping("/customer/{email}")
+    @Operation(summary = "Buscar reservas por cliente", description = "Retorna todas as reservas de um cliente")
+    public Flux<ReservationResponse> getReservationsByCustomer(
+            @Parameter(description = "Email do cliente") @PathVariable("email") String email) {
+        
+        log.debug("Getting reservations for customer: {}", email);
+        return reservationService.getReservationsByCustomer(email);
+    }
+    
+    /**
+     * Busca reservas por data.
+     */
+    @GetMapping("/date/{date}")
+    @Operation(summary = "Buscar reservas por data", description = "Retorna todas as reservas de uma data específica")
+    public Flux<ReservationResponse> getReservationsByDate(
+            @Parameter(description = "Data das reservas (formato: yyyy-MM-dd)")
+            @PathVariable("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        
+        log.debug("Getting reservations for date: {}", date);
+        return reservationService.getReservationsByDate(date);
+    }
+    
+    /**
+     * Busca reservas por status.
+     */
+    @GetMapping("/status/{status}")
+    @Operation(summary = "Buscar reservas por status", description = "Retorna todas as reservas com um status específico")
+    public Flux<ReservationResponse> getReservationsByStatus(
+            @Parameter(description = "Status da reserva") @PathVariable("status") String status) {
+        
+        log.debug("Getting reservations with status: {}", status);
+        return reservationService.getReservationsByStatus(status);
+    }
+    
+    /**
+     * Busca reservas de uma mesa em uma data específica.
+     */
+    @GetMapping("/table/{tableId}/date/{date}")
+    @Operation(summary = "Buscar reservas por mesa e data", description = "Retorna todas as reservas de uma mesa em uma data específica")
+    public Flux<ReservationResponse> getTableReservations(
+            @Parameter(description = "ID da mesa") @PathVariable("tableId") String tableId,
+            @Parameter(description = "Data das reservas (formato: yyyy-MM-dd)")
+            @PathVariable("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        
+        log.debug("Getting reservations for table {} on date {}", tableId, date);
+        return reservationService.getTableReservations(tableId, date);
+    }
+    
+    /**
+     * Reconstrói a agenda de reservas em um instante do passado.
+     */
+    @GetMapping("/book")
+    @Operation(summary = "Agenda em um instante", description = "Reconstrói a agenda de reservas como estava no instante informado, a partir do log de eventos")
+    public Mono<List<BookedSlotResponse>> getBookAt(
+            @Parameter(description = "Instante da consulta (formato: yyyy-MM-ddTHH:mm:ss)")
+            @RequestParam("at") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,
+            @Parameter(description = "ID da mesa (opcional)") @RequestParam(name = "tableId", required = false) String tableId) {
+        
+        log.debug("Getting reservation book at {} for table {}", at, tableId);
+        return reservationService.getBookAt(at, tableId);
+    }
+}
@@ -0,0 +1,80 @@
+package com.restaurant.reservation.presentation.controller;
+
+import com.restaurant.reservation.application.dto.TableResponse;
+import com.restaurant.reservation.application.service.ReactiveTableService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controller WebFlux de mesas, usado no perfil "reactive" no lugar do
+ * TableController, com os mesmos caminhos e respostas.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/tables")
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Tables", description = "API para gerenciar mesas do restaurante")
+public class ReactiveTableController {
+    
+    private final ReactiveTableService tableService;
+    
+    /**
+     * Busca todas as mesas ativas.
+     */
+    @GetMapping
+    @Operation(summary = "Listar mesas", description = "Retorna todas as mesas ativas")
+    public Flux<TableResponse> getAllTables() {
+        log.debug("Getting all active tables");
+        return tableService.getAllActiveTables();
+    }
+    
+    /**
+     * Busca uma mesa por ID.
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar mesa por ID", description = "Retorna uma mesa específica")
+    public Mono<TableResponse> getTable(
+            @Parameter(description = "ID da mesa") @PathVariable("id") String id) {
+        
+        log.debug("Getting table: {}", id);
+        return tableService.getTable(id);
+    }
+    
+    /**
+     * Busca mesas por capacidade.
+     */
+    @GetMapping("/capacity/{capacity}")
+    @Operation(summary = "Buscar mesas por capacidade", description = "Retorna mesas que podem acomodar um número específico de pessoas")
+    public Flux<TableResponse> getTablesByCapacity(
+            @Parameter(description = "Capacidade mínima da mesa") @PathVariable("capacity") int capacity) {
+        
+        log.debug("Getting tables with capacity: {}", capacity);
+        return tableService.getTablesByCapacity(capacity);
+    }
+    
+    /**
+     * Busca mesas disponíveis por capacidade.
+     */
+    @GetMapping("/available/capacity/{capacity}")
+    @Operation(summary = "Buscar mesas disponíveis por capacidade", description = "Retorna mesas disponíveis que podem acomodar um número específico de pessoas")
+    public Flux<TableResponse> getAvailableTablesByCapacity(
+            @Parameter(description = "Capacidade mínima da mesa") @PathVariable("capacity") int capacity) {
+        
+        log.debug("Getting available tables with capacity: {}", capacity);
+        return tableService.getAvailableTablesByCapacity(capacity);
+    }
+}
@@ -1,25 +1,45 @@
 package com.restaurant.reservation.presentation.controller;
 
+import com.restaurant.reservation.application.dto.BookedSlotResponse;
 import com.restaurant.reservation.application.dto.CreateReservationRequest;
+import com.restaurant.reservation.application.dto.ReservationBatchRequest;
+import com.restaurant.reservation.application.dto.ReservationLookupResponse;
 import com.restaurant.reservation.application.dto.ReservationResponse;
 import com.restaurant.reservation.application.dto.UpdateReservationRequest;
+import com.restaurant.reservation.application.service.ReservationExportService;
+import com.restaurant.reservation.application.service.ReservationExportService.ExportFormat;
 import com.restaurant.reservation.application.service.ReservationService;
+import com.restaurant.reservation.infrastructure.web.ResourceVersions;
+import com.restaurant.reservation.infrastructure.web.SerializedResponseCache;
+import com.restaurant.reservation.infrastructure.web.SerializedResponseCache.CachedResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Controller REST para gerenciar reservas.
@@ -30,6 +50,7 @@ import java.util.List;
  */
 @RestController
 @RequestMapping("/api/v1/reservations")
+@Profile("!reactive") // Substituído pelo controller WebFlux no perfil "reactive"
 @RequiredArgsConstructor
 @Slf4j
 @Validated
@@ -37,6 +58,9 @@ import java.util.List;
 public class ReservationController {
     
     private final ReservationService reservationService;
+    private final ReservationExportService exportService;
+    private final ResourceVersions resourceVersions;
+    private final SerializedResponseCache responseCache;
     
     /**
      * Cria uma nova reserva.
@@ -58,19 +82,46 @@ public class ReservationController {
     
     /**
      * Busca uma reserva por ID.
+     * Aceita If-None-Match: se a reserva não mudou, responde 304 sem consultar o serviço.
      */
     @GetMapping("/{id}")
     @Operation(summary = "Buscar reserva por ID", description = "Retorna uma reserva específica")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Reserva encontrada"),
+        @ApiResponse(responseCode = "304", description = "Reserva não alterada"),
         @ApiResponse(responseCode = "404", description = "Reserva não encontrada")
     })
     public ResponseEntity<ReservationResponse> getReservation(
-            @Parameter(description = "ID da reserva") @PathVariable String id) {
+            @Parameter(description = "ID da reserva") @PathVariable String id,
+            WebRequest request) {
+        
+        String knownTag = resourceVersions.reservationTag(id);
+        if (knownTag != null && request.checkNotModified(knownTag)) {
+            return null; // 304 já preparado pelo checkNotModified
+        }
         
         log.info("Getting reservation: {}", id);
+        long stamp = resourceVersions.stamp();
         ReservationResponse response = reservationService.getReservation(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+            .eTag(resourceVersions.rememberReservation(id, stamp, response))
+            .body(response);
+    }
+    
+    /**
+     * Busca várias reservas por ID em uma única requisição.
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Buscar reservas por lista de IDs", description = "Retorna as reservas na ordem dos IDs informados, indicando os que não foram encontrados")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Resultado da busca, na ordem dos IDs"),
+        @ApiResponse(responseCode = "400", description = "Lista vazia ou com mais IDs que o permitido")
+    })
+    public ResponseEntity<List<ReservationLookupResponse>> getReservations(
+            @Valid @RequestBody ReservationBatchRequest request) {
+        
+        log.debug("Getting {} reservations by ID", request.getIds().size());
+        return ResponseEntity.ok(reservationService.getReservations(request.getIds()));
     }
     
     /**
@@ -165,19 +216,66 @@ public class ReservationController {
     
     /**
      * Busca reservas por data.
+     * A resposta vem já serializada do SerializedResponseCache; If-None-Match
+     * com a ETag atual recebe 304.
      */
     @GetMapping("/date/{date}")
     @Operation(summary = "Buscar reservas por data", description = "Retorna todas as reservas de uma data específica")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Reservas encontradas")
+        @ApiResponse(responseCode = "200", description = "Reservas encontradas",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ReservationResponse.class)))),
+        @ApiResponse(responseCode = "304", description = "Reservas do dia não alteradas")
     })
-    public ResponseEntity<List<ReservationResponse>> getReservationsByDate(
+    public ResponseEntity<byte[]> getReservationsByDate(
             @Parameter(description = "Data das reservas (formato: yyyy-MM-dd)")
-            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest request) {
         
-        log.info("Getting reservations for date: {}", date);
-        List<ReservationResponse> response = reservationService.getReservationsByDate(date);
-        return ResponseEntity.ok(response);
+        String key = SerializedResponseCache.reservationsByDateKey(date);
+        CachedResponse cached = responseCache.get(key);
+        if (cached == null) {
+            log.info("Getting reservations for date: {}", date);
+            long stamp = responseCache.stamp();
+            List<ReservationResponse> response = reservationService.getReservationsByDate(date);
+            cached = responseCache.put(key, stamp, response, 
+                response.stream().map(ReservationResponse::getId).collect(Collectors.toList()));
+        }
+        return cached.toResponseEntity(request);
+    }
+    
+    /**
+     * Exporta as reservas de um intervalo de datas, escrevendo as linhas
+     * diretamente na resposta à medida que são lidas do banco.
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Exportar reservas", description = "Exporta as reservas que começam no intervalo [start, end) em NDJSON ou CSV")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportação gerada"),
+        @ApiResponse(responseCode = "400", description = "Intervalo inválido")
+    })
+    public void exportReservations(
+            @Parameter(description = "Data inicial, inclusiva (formato: yyyy-MM-dd)")
+            @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @Parameter(description = "Data final, exclusiva (formato: yyyy-MM-dd)")
+            @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @Parameter(description = "Formato (NDJSON ou CSV)")
+            @RequestParam(name = "format", defaultValue = "NDJSON") ExportFormat format,
+            HttpServletResponse response) throws IOException {
+        
+        log.info("Exporting reservations from {} to {} as {}", start, end, format);
+        try {
+            exportService.validateRange(start, end);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+            return;
+        }
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename("reservations-" + start + "-" + end + "." + format.getExtension())
+            .build()
+            .toString());
+        exportService.export(start, end, format, response.getOutputStream());
     }
     
     /**
@@ -213,4 +311,22 @@ public class ReservationController {
         List<ReservationResponse> response = reservationService.getTableReservations(tableId, date);
         return ResponseEntity.ok(response);
     }
+    
+    /**
+     * Reconstrói a agenda de reservas em um instante do passado.
+     */
+    @GetMapping("/book")
+    @Operation(summary = "Agenda em um instante", description = "Reconstrói a agenda de reservas como estava no instante informado, a partir do log de eventos")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Agenda reconstruída")
+    })
+    public ResponseEntity<List<BookedSlotResponse>> getBookAt(
+            @Parameter(description = "Instante da consulta (formato: yyyy-MM-ddTHH:mm:ss)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,
+            @Parameter(description = "ID da mesa (opcional)") @RequestParam(required = false) String tableId) {
+        
+        log.info("Getting reservation book at {} for table {}", at, tableId);
+        List<BookedSlotResponse> response = reservationService.getBookAt(at, tableId);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -2,16 +2,25 @@ package com.restaurant.reservation.presentation.controller;
 
 import com.restaurant.reservation.application.dto.TableResponse;
 import com.restaurant.reservation.application.service.TableService;
+import com.restaurant.reservation.infrastructure.web.SerializedResponseCache;
+import com.restaurant.reservation.infrastructure.web.SerializedResponseCache.CachedResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -23,25 +32,37 @@ import java.util.List;
  */
 @RestController
 @RequestMapping("/api/v1/tables")
+@Profile("!reactive") // Substituído pelo controller WebFlux no perfil "reactive"
 @RequiredArgsConstructor
 @Slf4j
 @Tag(name = "Tables", description = "API para gerenciar mesas do restaurante")
 public class TableController {
     
     private final TableService tableService;
+    private final SerializedResponseCache responseCache;
     
     /**
      * Busca todas as mesas ativas.
+     * A resposta vem já serializada do SerializedResponseCache; If-None-Match
+     * com a ETag atual recebe 304.
      */
     @GetMapping
     @Operation(summary = "Listar mesas", description = "Retorna todas as mesas ativas")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Mesas encontradas")
+        @ApiResponse(responseCode = "200", description = "Mesas encontradas",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = TableResponse.class)))),
+        @ApiResponse(responseCode = "304", description = "Catálogo não alterado")
     })
-    public ResponseEntity<List<TableResponse>> getAllTables() {
-        log.info("Getting all active tables");
-        List<TableResponse> response = tableService.getAllActiveTables();
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> getAllTables(WebRequest request) {
+        String key = SerializedResponseCache.tablesKey();
+        CachedResponse cached = responseCache.get(key);
+        if (cached == null) {
+            log.info("Getting all active tables");
+            long stamp = responseCache.stamp();
+            List<TableResponse> response = tableService.getAllActiveTables();
+            cached = responseCache.put(key, stamp, response, List.of());
+        }
+        return cached.toResponseEntity(request);
     }
     
     /**
@@ -77,6 +98,25 @@ public class TableController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Busca mesas livres em um horário para um número de pessoas.
+     */
+    @GetMapping("/available")
+    @Operation(summary = "Buscar mesas livres em um horário", description = "Retorna as mesas ativas que acomodam o número de pessoas e não têm reserva ativa no horário, da menor para a maior")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Mesas encontradas"),
+        @ApiResponse(responseCode = "400", description = "Horário inválido")
+    })
+    public ResponseEntity<List<TableResponse>> getAvailableTables(
+            @Parameter(description = "Número de pessoas") @RequestParam("people") int people,
+            @Parameter(description = "Início da reserva (formato: yyyy-MM-ddTHH:mm:ss)")
+            @RequestParam("dateTime") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateTime) {
+        
+        log.info("Getting tables available for {} people at {}", people, dateTime);
+        List<TableResponse> response = tableService.getAvailableTables(people, dateTime);
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * Busca mesas disponíveis por capacidade.
      */
@@ -14,6 +14,12 @@ INSERT INTO tables (id, capacity, is_active, location) VALUES
 ('T012', 2, false, 'Área interna - Manutenção');
 
 -- Inserção de dados de exemplo para reservas (opcional)
--- INSERT INTO reservations (id, table_id, customer_name, customer_email, customer_phone, special_requests, reservation_date_time, duration_minutes, number_of_people, status, created_at, updated_at) VALUES
--- ('R001', 'T001', 'João Silva', 'joao@email.com', '(11) 99999-9999', 'Mesa próxima à janela', '2024-12-25 19:00:00', 120, 2, 'CONFIRMED', NOW(), NOW()),
--- ('R002', 'T003', 'Maria Santos', 'maria@email.com', '(11) 88888-8888', '', '2024-12-25 20:00:00', 120, 4, 'PENDING', NOW(), NOW());
+-- Clientes são deduplicados na tabela customers; status usa códigos numéricos
+-- (1=PENDING, 2=CONFIRMED, 3=COMPLETED, 4=CANCELLED, 5=NO_SHOW) e start_minute
+-- é o horário de início em minutos desde a época.
+-- INSERT INTO customers (id, name, email, phone) VALUES
+-- (1, 'João Silva', 'joao@email.com', '(11) 99999-9999'),
+-- (2, 'Maria Santos', 'maria@email.com', '(11) 88888-8888');
+-- INSERT INTO reservations (id, table_id, customer_id, special_requests, start_minute, duration_minutes, number_of_people, status, updated_at) VALUES
+-- ('R001', 'T001', 1, 'Mesa próxima à janela', 28919220, 120, 2, 2, NOW()),
+-- ('R002', 'T003', 2, '', 28919280, 120, 4, 1, NOW());
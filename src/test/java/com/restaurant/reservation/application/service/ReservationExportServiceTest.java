@@ -0,0 +1,112 @@
+package com.restaurant.reservation.application.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.reservation.application.service.ReservationExportService.ExportFormat;
+import com.restaurant.reservation.domain.entity.Reservation;
+import com.restaurant.reservation.domain.repository.ReservationRepository;
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para a exportação de reservas em NDJSON e CSV.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Reservation Export Service Tests")
+class ReservationExportServiceTest {
+    
+    private static final LocalDate START = LocalDate.now().plusDays(7);
+    private static final LocalDate END = START.plusDays(1);
+    
+    @Mock
+    private ReservationRepository reservationRepository;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ReservationExportService exportService;
+    private Reservation dinner;
+    private Reservation lunch;
+    
+    @BeforeEach
+    void setUp() {
+        exportService = new ReservationExportService(reservationRepository, objectMapper);
+        dinner = Reservation.create(ReservationId.generate(), TableId.of("T001"),
+            CustomerInfo.of("João Silva", "joao@email.com", "(11) 99999-9999"),
+            ReservationTime.of(START.atTime(19, 0)));
+        lunch = Reservation.create(ReservationId.generate(), TableId.of("T002"),
+            CustomerInfo.of("Maria \"Mari\" Souza", "maria@email.com", "(11) 98888-8888"),
+            ReservationTime.of(START.atTime(12, 0), 90));
+    }
+    
+    @Test
+    @DisplayName("Deve escrever um objeto JSON por linha e fechar o stream de reservas")
+    void shouldExportNdjson() throws Exception {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        when(reservationRepository.streamByDateRange(START, END))
+            .thenReturn(Stream.of(dinner, lunch).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        
+        // When
+        long count = exportService.export(START, END, ExportFormat.NDJSON, output);
+        
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(dinner.getId().getValue(), first.get("id").asText());
+        assertEquals("joao@email.com", first.get("customerEmail").asText());
+        assertEquals(START + "T19:00:00", first.get("startTime").asText());
+        assertEquals(120, first.get("durationInMinutes").asInt());
+        assertEquals("PENDING", first.get("status").asText());
+        assertEquals("Maria \"Mari\" Souza", objectMapper.readTree(lines[1]).get("customerName").asText());
+        assertTrue(closed.get());
+    }
+    
+    @Test
+    @DisplayName("Deve escrever CSV com cabeçalho e campos com aspas escapados")
+    void shouldExportCsv() throws Exception {
+        // Given
+        when(reservationRepository.streamByDateRange(START, END)).thenReturn(Stream.of(lunch));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        
+        // When
+        exportService.export(START, END, ExportFormat.CSV, output);
+        
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals("id,tableId,customerName,customerEmail,customerPhone,startTime,endTime,durationInMinutes,status", lines[0]);
+        assertEquals(lunch.getId().getValue() + ",T002,\"Maria \"\"Mari\"\" Souza\",maria@email.com,(11) 98888-8888,"
+            + START + "T12:00:00," + START + "T13:30:00,90,PENDING", lines[1]);
+    }
+    
+    @Test
+    @DisplayName("Deve rejeitar intervalo com fim anterior ou igual ao início")
+    void shouldRejectInvalidRange() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+            () -> exportService.export(END, START, ExportFormat.CSV, new ByteArrayOutputStream()));
+        assertThrows(IllegalArgumentException.class,
+            () -> exportService.export(START, START, ExportFormat.NDJSON, new ByteArrayOutputStream()));
+    }
+}
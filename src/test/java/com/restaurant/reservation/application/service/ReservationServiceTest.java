@@ -1,13 +1,17 @@
 package com.restaurant.reservation.application.service;
 
 import com.restaurant.reservation.application.dto.CreateReservationRequest;
+import com.restaurant.reservation.application.dto.ReservationLookupResponse;
 import com.restaurant.reservation.application.dto.ReservationResponse;
 import com.restaurant.reservation.application.dto.UpdateReservationRequest;
 import com.restaurant.reservation.application.mapper.ReservationMapper;
 import com.restaurant.reservation.application.service.availability.AvailabilityService;
-import com.restaurant.reservation.application.service.notification.NotificationService;
+import com.restaurant.reservation.application.service.availability.CoalescedReservationQueries;
 import com.restaurant.reservation.domain.entity.Reservation;
 import com.restaurant.reservation.domain.entity.Table;
+import com.restaurant.reservation.domain.repository.DomainEventOutbox;
+import com.restaurant.reservation.domain.repository.ReservationReminderSchedule;
+import com.restaurant.reservation.domain.repository.ReservationEventStore;
 import com.restaurant.reservation.domain.repository.ReservationRepository;
 import com.restaurant.reservation.domain.repository.TableRepository;
 import com.restaurant.reservation.domain.valueobject.*;
@@ -20,7 +24,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -39,6 +45,9 @@ class ReservationServiceTest {
     @Mock
     private ReservationRepository reservationRepository;
     
+    @Mock
+    private ReservationEventStore eventStore;
+    
     @Mock
     private TableRepository tableRepository;
     
@@ -46,7 +55,13 @@ class ReservationServiceTest {
     private AvailabilityService availabilityService;
     
     @Mock
-    private NotificationService notificationService;
+    private CoalescedReservationQueries reservationQueries;
+    
+    @Mock
+    private DomainEventOutbox eventOutbox;
+    
+    @Mock
+    private ReservationReminderSchedule reminderSchedule;
     
     @Mock
     private ReservationMapper reservationMapper;
@@ -96,6 +111,27 @@ class ReservationServiceTest {
             .build();
     }
     
+    @Test
+    @DisplayName("Should return batch lookups in request order with not-found markers")
+    void shouldReturnBatchLookupsInRequestOrder() {
+        // Given
+        String reservationId = reservation.getId().toString();
+        List<String> ids = List.of("missing", reservationId, reservationId);
+        when(reservationRepository.findAllById(anyCollection())).thenReturn(List.of(reservation));
+        when(reservationMapper.toResponse(reservation)).thenReturn(reservationResponse);
+        
+        // When
+        List<ReservationLookupResponse> results = reservationService.getReservations(ids);
+        
+        // Then
+        assertEquals(ids, results.stream().map(ReservationLookupResponse::getId).collect(Collectors.toList()));
+        assertFalse(results.get(0).isFound());
+        assertNull(results.get(0).getReservation());
+        assertTrue(results.get(1).isFound());
+        assertSame(reservationResponse, results.get(2).getReservation());
+        verify(reservationRepository, times(1)).findAllById(anyCollection());
+    }
+    
     @Test
     @DisplayName("Should create reservation successfully")
     void shouldCreateReservationSuccessfully() {
@@ -117,7 +153,7 @@ class ReservationServiceTest {
         verify(tableRepository).findById(TableId.of("T001"));
         verify(availabilityService).checkAvailability(any(TableId.class), any(ReservationTime.class));
         verify(reservationRepository).save(any(Reservation.class));
-        verify(notificationService).handleDomainEvent(any());
+        verify(eventOutbox).add(any());
     }
     
     @Test
@@ -191,7 +227,7 @@ class ReservationServiceTest {
         
         verify(reservationRepository).findById(ReservationId.of(reservationId));
         verify(reservationRepository).save(any(Reservation.class));
-        verify(notificationService).handleDomainEvent(any());
+        verify(eventOutbox).add(any());
     }
     
     @Test
@@ -228,7 +264,8 @@ class ReservationServiceTest {
         
         verify(reservationRepository).findById(ReservationId.of(reservationId));
         verify(reservationRepository).save(any(Reservation.class));
-        verify(notificationService).handleDomainEvent(any());
+        verify(eventOutbox).add(any());
+        verify(reservationQueries).reservationChanged(eq("T001"), any());
     }
     
     @Test
@@ -286,6 +323,6 @@ class ReservationServiceTest {
         verify(tableRepository).findById(TableId.of("T002"));
         verify(availabilityService).checkAvailability(any(TableId.class), any(ReservationTime.class));
         verify(reservationRepository).save(any(Reservation.class));
-        verify(notificationService).handleDomainEvent(any());
+        verify(eventOutbox).add(any());
     }
 }
@@ -0,0 +1,233 @@
+package com.restaurant.reservation.application.service.availability;
+
+import com.restaurant.reservation.application.dto.AvailabilityDelta;
+import com.restaurant.reservation.application.dto.AvailabilityDelta.SlotState;
+import com.restaurant.reservation.application.service.event.DomainEventBus;
+import com.restaurant.reservation.domain.entity.Table;
+import com.restaurant.reservation.domain.event.ReservationCancelledEvent;
+import com.restaurant.reservation.domain.event.ReservationConfirmedEvent;
+import com.restaurant.reservation.domain.event.ReservationCreatedEvent;
+import com.restaurant.reservation.domain.event.ReservationModifiedEvent;
+import com.restaurant.reservation.domain.repository.TableRepository;
+import com.restaurant.reservation.domain.valueobject.Capacity;
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o feed de disponibilidade em tempo real.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Availability Feed Tests")
+class AvailabilityFeedTest {
+    
+    private static final LocalDate DAY = LocalDate.now().plusDays(3);
+    
+    private final CustomerInfo customer = CustomerInfo.of("João Silva", "joao@email.com", "11999999999");
+    
+    private TableRepository tableRepository;
+    private AvailabilityFeed feed;
+    private DomainEventBus bus;
+    
+    @BeforeEach
+    void setUp() {
+        tableRepository = mock(TableRepository.class);
+        when(tableRepository.findById(any())).thenAnswer(invocation -> Optional.of(
+            new Table(invocation.getArgument(0), Capacity.of(4), true, "Varanda")));
+        feed = new AvailabilityFeed(tableRepository, new SimpleMeterRegistry(), 2, 10, 2, 100, 60_000);
+        bus = new DomainEventBus(List.of(feed), new MockEnvironment(), new SimpleMeterRegistry(), 1, 1000);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        bus.close();
+        feed.close();
+    }
+    
+    @Test
+    @DisplayName("Should free the previous slot when a reservation moves to another day")
+    void shouldFreePreviousSlotWhenMoved() throws InterruptedException {
+        // Given
+        BlockingQueue<AvailabilityDelta> received = new LinkedBlockingQueue<>();
+        feed.subscribe(DAY, "varanda", recording(received));
+        ReservationId reservationId = ReservationId.generate();
+        ReservationTime dinner = ReservationTime.of(DAY.atTime(19, 0));
+        
+        // When
+        bus.publish(new ReservationConfirmedEvent(reservationId, TableId.of("T001"), customer, dinner));
+        bus.publish(new ReservationModifiedEvent(reservationId, TableId.of("T001"), TableId.of("T001"),
+            customer, ReservationTime.of(DAY.plusDays(1).atTime(19, 0))));
+        
+        // Then
+        AvailabilityDelta busy = received.poll(5, TimeUnit.SECONDS);
+        AvailabilityDelta free = received.poll(5, TimeUnit.SECONDS);
+        assertEquals(SlotState.BUSY, busy.getState());
+        assertEquals(SlotState.FREE, free.getState());
+        assertEquals(dinner.getDateTime(), free.getStartTime());
+        assertNull(received.poll(200, TimeUnit.MILLISECONDS)); // O novo horário é de outro dia
+    }
+    
+    @Test
+    @DisplayName("Should follow a reservation's raw events from creation to cancellation")
+    void shouldFollowRawEventsUntilCancelled() throws InterruptedException {
+        // Given
+        feed.close();
+        feed = new AvailabilityFeed(tableRepository, new SimpleMeterRegistry(), 10, 10, 2, 100, 60_000);
+        bus.close();
+        bus = new DomainEventBus(List.of(feed), new MockEnvironment(), new SimpleMeterRegistry(), 1, 1000);
+        BlockingQueue<AvailabilityDelta> received = new LinkedBlockingQueue<>();
+        feed.subscribe(DAY, null, recording(received));
+        ReservationId reservationId = ReservationId.generate();
+        ReservationTime lunch = ReservationTime.of(DAY.atTime(12, 0));
+        ReservationTime dinner = ReservationTime.of(DAY.atTime(20, 0));
+        
+        // When
+        bus.publish(new ReservationCreatedEvent(reservationId, TableId.of("T001"), customer, lunch));
+        bus.publish(new ReservationModifiedEvent(reservationId, TableId.of("T001"), TableId.of("T002"),
+            customer, dinner));
+        bus.publish(new ReservationCancelledEvent(reservationId, TableId.of("T002"), customer, dinner));
+        
+        // Then
+        assertDelta(received.poll(5, TimeUnit.SECONDS), SlotState.BUSY, "T001", lunch);
+        assertDelta(received.poll(5, TimeUnit.SECONDS), SlotState.FREE, "T001", lunch);
+        assertDelta(received.poll(5, TimeUnit.SECONDS), SlotState.BUSY, "T002", dinner);
+        assertDelta(received.poll(5, TimeUnit.SECONDS), SlotState.FREE, "T002", dinner);
+        assertNull(received.poll(200, TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    @DisplayName("Should keep delivering to other subscribers while a send is stalled")
+    void shouldEvictStalledSend() throws InterruptedException {
+        // Given
+        feed.close();
+        feed = new AvailabilityFeed(tableRepository, new SimpleMeterRegistry(), 10, 10, 1, 100, 50);
+        bus.close();
+        bus = new DomainEventBus(List.of(feed), new MockEnvironment(), new SimpleMeterRegistry(), 1, 1000);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        feed.subscribe(null, null, new AvailabilityFeed.Sink() {
+            @Override
+            public void send(AvailabilityDelta delta) {
+                sending.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            
+            @Override
+            public void heartbeat() {
+            }
+            
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        });
+        bus.publish(new ReservationConfirmedEvent(ReservationId.generate(), TableId.of("T001"), customer,
+            ReservationTime.of(DAY.atTime(12, 0))));
+        assertTrue(sending.await(5, TimeUnit.SECONDS)); // A única thread de envio está presa
+        BlockingQueue<AvailabilityDelta> fast = new LinkedBlockingQueue<>();
+        feed.subscribe(null, null, recording(fast));
+        
+        // When
+        bus.publish(new ReservationConfirmedEvent(ReservationId.generate(), TableId.of("T002"), customer,
+            ReservationTime.of(DAY.atTime(20, 0))));
+        Thread.sleep(100);
+        feed.evictStalledSubscribers();
+        
+        // Then
+        assertNotNull(fast.poll(5, TimeUnit.SECONDS));
+        release.countDown();
+        assertTrue(closed.await(5, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    @DisplayName("Should disconnect a subscriber whose buffer fills up")
+    void shouldEvictSlowSubscriber() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        BlockingQueue<AvailabilityDelta> fast = new LinkedBlockingQueue<>();
+        feed.subscribe(null, null, new AvailabilityFeed.Sink() {
+            @Override
+            public void send(AvailabilityDelta delta) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            
+            @Override
+            public void heartbeat() {
+            }
+            
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        });
+        
+        // When
+        for (int i = 0; i < 5; i++) {
+            bus.publish(new ReservationConfirmedEvent(ReservationId.generate(), TableId.of("T001"), customer,
+                ReservationTime.of(DAY.atTime(12, 0).plusMinutes(30L * i))));
+        }
+        
+        // Then
+        assertTrue(closed.await(5, TimeUnit.SECONDS));
+        release.countDown();
+        feed.subscribe(null, null, recording(fast));
+        bus.publish(new ReservationConfirmedEvent(ReservationId.generate(), TableId.of("T002"), customer,
+            ReservationTime.of(DAY.atTime(20, 0))));
+        assertNotNull(fast.poll(5, TimeUnit.SECONDS));
+    }
+    
+    private static void assertDelta(AvailabilityDelta delta, SlotState state, String tableId, ReservationTime time) {
+        assertNotNull(delta);
+        assertEquals(state, delta.getState());
+        assertEquals(tableId, delta.getTableId());
+        assertEquals(time.getDateTime(), delta.getStartTime());
+    }
+    
+    private static AvailabilityFeed.Sink recording(BlockingQueue<AvailabilityDelta> received) {
+        return new AvailabilityFeed.Sink() {
+            @Override
+            public void send(AvailabilityDelta delta) {
+                received.add(delta);
+            }
+            
+            @Override
+            public void heartbeat() {
+            }
+            
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
@@ -0,0 +1,106 @@
+package com.restaurant.reservation.application.service.availability;
+
+import com.restaurant.reservation.domain.entity.Reservation;
+import com.restaurant.reservation.domain.entity.Table;
+import com.restaurant.reservation.domain.repository.BookingState;
+import com.restaurant.reservation.domain.repository.ReservationRepository;
+import com.restaurant.reservation.domain.repository.TableRepository;
+import com.restaurant.reservation.domain.valueobject.Capacity;
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o AvailabilityService.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Availability Service Tests")
+class AvailabilityServiceTest {
+    
+    @Mock
+    private ReservationRepository reservationRepository;
+    
+    @Mock
+    private TableRepository tableRepository;
+    
+    @Mock
+    private BookingState bookingState;
+    
+    @Mock
+    private CoalescedReservationQueries reservationQueries;
+    
+    @InjectMocks
+    private AvailabilityService availabilityService;
+    
+    @Test
+    @DisplayName("Should check booking conflicts against the repository even when the booking state is loaded")
+    void shouldCheckConflictsAgainstRepository() {
+        // Given
+        TableId tableId = TableId.of("T001");
+        ReservationTime dinner = ReservationTime.of(LocalDate.now().plusDays(2).atTime(19, 0));
+        Reservation committedElsewhere = Reservation.create(ReservationId.generate(), tableId,
+            CustomerInfo.of("João Silva", "joao@email.com", "11999999999"), dinner);
+        when(reservationRepository.findConflictingReservations(tableId, dinner))
+            .thenReturn(List.of(committedElsewhere));
+        
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> availabilityService.checkAvailability(tableId, dinner));
+        verifyNoInteractions(bookingState, reservationQueries);
+    }
+    
+    @Test
+    @DisplayName("Should find available tables in the booking state once it is loaded")
+    void shouldFindAvailableTablesInBookingState() {
+        // Given
+        ReservationTime dinner = ReservationTime.of(LocalDate.now().plusDays(2).atTime(19, 0));
+        when(bookingState.isReady()).thenReturn(true);
+        when(bookingState.findAvailableTables(4, dinner)).thenReturn(List.of(TableId.of("T002")));
+        
+        // When
+        List<TableId> available = availabilityService.findAvailableTables(4, dinner);
+        
+        // Then
+        assertEquals(List.of(TableId.of("T002")), available);
+        verifyNoInteractions(reservationRepository, tableRepository);
+    }
+    
+    @Test
+    @DisplayName("Should check available tables against the repository while the booking state loads")
+    void shouldFindAvailableTablesInRepositoryWhileLoading() {
+        // Given
+        ReservationTime dinner = ReservationTime.of(LocalDate.now().plusDays(2).atTime(19, 0));
+        Table large = new Table(TableId.of("T003"), Capacity.of(6), true, "Varanda");
+        Table busy = new Table(TableId.of("T001"), Capacity.of(4), true, "Salão");
+        Table free = new Table(TableId.of("T002"), Capacity.of(4), true, "Salão");
+        when(bookingState.isReady()).thenReturn(false);
+        when(tableRepository.findAvailableTablesByCapacity(4)).thenReturn(List.of(large, busy, free));
+        when(reservationRepository.findConflictingReservations(any(), eq(dinner))).thenReturn(List.of());
+        when(reservationRepository.findConflictingReservations(TableId.of("T001"), dinner)).thenReturn(List.of(
+            Reservation.create(ReservationId.generate(), TableId.of("T001"),
+                CustomerInfo.of("João Silva", "joao@email.com", "11999999999"), dinner)));
+        
+        // When
+        List<TableId> available = availabilityService.findAvailableTables(4, dinner);
+        
+        // Then
+        assertEquals(List.of(TableId.of("T002"), TableId.of("T003")), available);
+    }
+}
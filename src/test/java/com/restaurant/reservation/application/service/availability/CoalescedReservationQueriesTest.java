@@ -0,0 +1,72 @@
+package com.restaurant.reservation.application.service.availability;
+
+import com.restaurant.reservation.domain.entity.Reservation;
+import com.restaurant.reservation.domain.repository.ReservationRepository;
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationStatus;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para as consultas de reservas com execução única.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Coalesced Reservation Queries Tests")
+class CoalescedReservationQueriesTest {
+    
+    private static final LocalDate DAY = LocalDate.now().plusDays(3);
+    
+    private ReservationRepository reservationRepository;
+    private CoalescedReservationQueries queries;
+    
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        Reservation reservation = Reservation.restore(ReservationId.generate(), TableId.of("T001"),
+            CustomerInfo.of("João Silva", "joao@email.com", "11999999999"),
+            ReservationTime.of(DAY.atTime(19, 0)), ReservationStatus.PENDING);
+        reservation.setVersion(3L);
+        when(reservationRepository.findByDate(DAY)).thenReturn(List.of(reservation));
+        queries = new CoalescedReservationQueries(reservationRepository, new SimpleMeterRegistry(), 60_000, 100);
+    }
+    
+    @Test
+    @DisplayName("Should give each caller its own copies of a shared result")
+    void shouldCopyReservationsForEachCaller() {
+        // Given
+        List<Reservation> first = queries.findByDate(DAY);
+        
+        // When
+        first.get(0).confirm();
+        List<Reservation> second = queries.findByDate(DAY);
+        
+        // Then
+        verify(reservationRepository, times(1)).findByDate(DAY);
+        assertEquals(ReservationStatus.PENDING, second.get(0).getStatus());
+        assertEquals(3L, second.get(0).getVersion());
+        assertNotSame(first.get(0), second.get(0));
+    }
+    
+    @Test
+    @DisplayName("Should return read-only lists")
+    void shouldReturnReadOnlyLists() {
+        // Given
+        List<Reservation> reservations = queries.findByDate(DAY);
+        
+        // When / Then
+        assertThrows(UnsupportedOperationException.class, () -> reservations.remove(0));
+    }
+}
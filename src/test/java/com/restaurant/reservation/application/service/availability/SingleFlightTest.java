@@ -0,0 +1,102 @@
+package com.restaurant.reservation.application.service.availability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a execução única de consultas idênticas.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Single Flight Tests")
+class SingleFlightTest {
+    
+    @Test
+    @DisplayName("Should run identical concurrent queries once")
+    void shouldShareInFlightQuery() throws Exception {
+        // Given
+        SingleFlight<String, Integer> flights = new SingleFlight<>(0, 100);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        
+        try {
+            // When
+            Future<Integer> first = callers.submit(() -> flights.get("T001", () -> {
+                started.countDown();
+                await(release);
+                return executions.incrementAndGet();
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<Integer> second = callers.submit(() -> flights.get("T001", executions::incrementAndGet));
+            Future<Integer> third = callers.submit(() -> flights.get("T001", executions::incrementAndGet));
+            Thread.sleep(100);
+            release.countDown();
+            
+            // Then
+            assertEquals(1, first.get(5, TimeUnit.SECONDS));
+            assertEquals(1, second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, third.get(5, TimeUnit.SECONDS));
+            assertEquals(1, executions.get());
+            assertEquals(0, flights.size()); // Sem TTL, nada fica guardado
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+    
+    @Test
+    @DisplayName("Should reuse a recent result until the key is invalidated")
+    void shouldReuseRecentResultUntilInvalidated() {
+        // Given
+        SingleFlight<String, Integer> flights = new SingleFlight<>(TimeUnit.MINUTES.toNanos(1), 100);
+        AtomicInteger executions = new AtomicInteger();
+        
+        // When
+        int first = flights.get("T001", executions::incrementAndGet);
+        int reused = flights.get("T001", executions::incrementAndGet);
+        int other = flights.get("T002", executions::incrementAndGet);
+        flights.invalidate("T001"::equals);
+        int afterInvalidation = flights.get("T001", executions::incrementAndGet);
+        
+        // Then
+        assertEquals(1, first);
+        assertEquals(1, reused);
+        assertEquals(2, other);
+        assertEquals(3, afterInvalidation);
+    }
+    
+    @Test
+    @DisplayName("Should not reuse a failed query")
+    void shouldNotReuseFailure() {
+        // Given
+        SingleFlight<String, Integer> flights = new SingleFlight<>(TimeUnit.MINUTES.toNanos(1), 100);
+        
+        // When
+        assertThrows(IllegalStateException.class, () -> flights.get("T001", () -> {
+            throw new IllegalStateException("Database unavailable");
+        }));
+        int result = flights.get("T001", () -> 42);
+        
+        // Then
+        assertEquals(42, result);
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.restaurant.reservation.application.service.event;
+
+import com.restaurant.reservation.domain.event.DomainEvent;
+import com.restaurant.reservation.domain.event.ReservationCancelledEvent;
+import com.restaurant.reservation.domain.event.ReservationConfirmedEvent;
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o barramento de eventos de domínio.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Domain Event Bus Tests")
+class DomainEventBusTest {
+    
+    private final CustomerInfo customer = CustomerInfo.of("João Silva", "joao@email.com", "11999999999");
+    private final ReservationTime dinner = ReservationTime.of(LocalDateTime.now().plusDays(3).withHour(19).withMinute(0));
+    
+    private DomainEventBus bus;
+    
+    @AfterEach
+    void tearDown() {
+        if (bus != null) {
+            bus.close();
+        }
+    }
+    
+    @Test
+    @DisplayName("Deve entregar cada evento apenas aos tratadores do seu tipo e dos supertipos")
+    void shouldDispatchByEventType() throws InterruptedException {
+        // Given
+        List<DomainEvent> confirmed = Collections.synchronizedList(new ArrayList<>());
+        List<DomainEvent> all = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(3);
+        bus = newBus(subscriber("audit", handlers -> handlers
+            .on(ReservationConfirmedEvent.class, event -> { confirmed.add(event); done.countDown(); })
+            .on(DomainEvent.class, event -> { all.add(event); done.countDown(); })));
+        ReservationId reservationId = ReservationId.generate();
+        
+        // When
+        bus.publish(new ReservationConfirmedEvent(reservationId, TableId.of("T001"), customer, dinner));
+        bus.publish(new ReservationCancelledEvent(reservationId, TableId.of("T001"), customer, dinner));
+        
+        // Then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(1, confirmed.size());
+        assertEquals(2, all.size());
+    }
+    
+    @Test
+    @DisplayName("Deve preservar a ordem dos eventos de cada reserva")
+    void shouldPreserveOrderPerReservation() throws InterruptedException {
+        // Given
+        Map<ReservationId, List<String>> received = new ConcurrentHashMap<>();
+        List<ReservationId> reservations = List.of(ReservationId.generate(), ReservationId.generate(), ReservationId.generate());
+        int eventsPerReservation = 200;
+        CountDownLatch done = new CountDownLatch(reservations.size() * eventsPerReservation);
+        bus = newBus(subscriber("ordered", handlers -> handlers.on(DomainEvent.class, event -> {
+            received.computeIfAbsent(event.getReservationId(), id -> Collections.synchronizedList(new ArrayList<>()))
+                .add(event.getEventId());
+            done.countDown();
+        })));
+        Map<ReservationId, List<String>> published = new ConcurrentHashMap<>();
+        
+        // When
+        for (int i = 0; i < eventsPerReservation; i++) {
+            for (ReservationId reservationId : reservations) {
+                DomainEvent event = new ReservationConfirmedEvent(reservationId, TableId.of("T001"), customer, dinner);
+                published.computeIfAbsent(reservationId, id -> new ArrayList<>()).add(event.getEventId());
+                bus.publish(event);
+            }
+        }
+        
+        // Then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(published, received);
+    }
+    
+    @Test
+    @DisplayName("Não deve deixar um assinante lento ou com falha atrasar os demais")
+    void shouldIsolateSubscribers() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch fastDone = new CountDownLatch(10);
+        bus = newBus(
+            subscriber("slow", handlers -> handlers.on(DomainEvent.class, event -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            })),
+            subscriber("failing", handlers -> handlers.on(DomainEvent.class, event -> {
+                throw new IllegalStateException("falha simulada");
+            })),
+            subscriber("fast", handlers -> handlers.on(DomainEvent.class, event -> fastDone.countDown())));
+        
+        // When
+        for (int i = 0; i < 10; i++) {
+            bus.publish(new ReservationConfirmedEvent(ReservationId.generate(), TableId.of("T001"), customer, dinner));
+        }
+        
+        // Then
+        assertTrue(fastDone.await(5, TimeUnit.SECONDS));
+        release.countDown();
+    }
+    
+    @Test
+    @DisplayName("Deve informar a quem publica o resultado dos assinantes duráveis, sem esperar os demais")
+    void shouldReportDurableSubscriberOutcome() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        bus = newBus(
+            durableSubscriber("notifications", handlers -> handlers
+                .on(ReservationConfirmedEvent.class, event -> { })
+                .on(ReservationCancelledEvent.class, event -> {
+                    throw new IllegalStateException("falha simulada");
+                })),
+            subscriber("slow", handlers -> handlers.on(DomainEvent.class, event -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            })));
+        ReservationId reservationId = ReservationId.generate();
+        
+        // When
+        CompletableFuture<Void> confirmed = bus.publish(
+            new ReservationConfirmedEvent(reservationId, TableId.of("T001"), customer, dinner));
+        CompletableFuture<Void> cancelled = bus.publish(
+            new ReservationCancelledEvent(reservationId, TableId.of("T001"), customer, dinner));
+        
+        // Then
+        assertNull(confirmed.get(5, TimeUnit.SECONDS));
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> cancelled.get(5, TimeUnit.SECONDS));
+        assertTrue(failure.getCause() instanceof IllegalStateException);
+        release.countDown();
+    }
+    
+    @Test
+    @DisplayName("Deve concluir a publicação só quando o tratador assíncrono de um assinante durável concluir")
+    void shouldAwaitAsyncDurableHandler() throws Exception {
+        // Given
+        CompletableFuture<Void> sent = new CompletableFuture<>();
+        CountDownLatch secondHandled = new CountDownLatch(1);
+        bus = newBus(durableSubscriber("notifications", handlers -> handlers
+            .onAsync(ReservationConfirmedEvent.class, event -> sent)
+            .on(ReservationCancelledEvent.class, event -> secondHandled.countDown())));
+        ReservationId reservationId = ReservationId.generate();
+        
+        // When
+        CompletableFuture<Void> confirmed = bus.publish(
+            new ReservationConfirmedEvent(reservationId, TableId.of("T001"), customer, dinner));
+        bus.publish(new ReservationCancelledEvent(reservationId, TableId.of("T001"), customer, dinner));
+        
+        // Then
+        assertTrue(secondHandled.await(5, TimeUnit.SECONDS)); // A fila não ficou presa no estágio pendente
+        assertFalse(confirmed.isDone());
+        sent.complete(null);
+        assertNull(confirmed.get(5, TimeUnit.SECONDS));
+    }
+    
+    private DomainEventBus newBus(DomainEventSubscriber... subscribers) {
+        return new DomainEventBus(List.of(subscribers), new MockEnvironment(), new SimpleMeterRegistry(), 2, 1000);
+    }
+    
+    private DomainEventSubscriber subscriber(String name, Consumer<DomainEventHandlers> registration) {
+        return new DomainEventSubscriber() {
+            @Override
+            public String getSubscriberName() {
+                return name;
+            }
+            
+            @Override
+            public void registerHandlers(DomainEventHandlers handlers) {
+                registration.accept(handlers);
+            }
+        };
+    }
+    
+    private DomainEventSubscriber durableSubscriber(String name, Consumer<DomainEventHandlers> registration) {
+        return new DomainEventSubscriber() {
+            @Override
+            public String getSubscriberName() {
+                return name;
+            }
+            
+            @Override
+            public void registerHandlers(DomainEventHandlers handlers) {
+                registration.accept(handlers);
+            }
+            
+            @Override
+            public boolean isDurable() {
+                return true;
+            }
+        };
+    }
+}
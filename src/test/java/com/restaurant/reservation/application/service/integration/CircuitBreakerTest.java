@@ -0,0 +1,135 @@
+package com.restaurant.reservation.application.service.integration;
+
+import com.restaurant.reservation.application.service.integration.CircuitBreaker.CircuitOpenException;
+import com.restaurant.reservation.application.service.integration.CircuitBreaker.State;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o disjuntor dos provedores externos.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Circuit Breaker Tests")
+class CircuitBreakerTest {
+    
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private CircuitBreaker breaker;
+    
+    @BeforeEach
+    void setUp() {
+        breaker = new CircuitBreaker("email", 3, 1000, 
+            error -> error instanceof TimeoutException, now::get);
+    }
+    
+    @Test
+    @DisplayName("Deve abrir após falhas consecutivas e recusar chamadas sem executá-las")
+    void shouldOpenAfterConsecutiveFailures() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            assertThrows(RuntimeException.class, () -> breaker.protect(failing()).block());
+        }
+        
+        // When / Then
+        assertEquals(State.OPEN, breaker.getState());
+        assertThrows(CircuitOpenException.class, () -> breaker.protect(succeeding()).block());
+        assertEquals(3, calls.get());
+    }
+    
+    @Test
+    @DisplayName("Deve fechar quando a chamada de teste em meio-aberto tiver sucesso")
+    void shouldCloseAfterSuccessfulTrial() {
+        // Given
+        openBreaker();
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        
+        // When
+        String result = breaker.protect(succeeding()).block();
+        
+        // Then
+        assertEquals("ok", result);
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+    
+    @Test
+    @DisplayName("Deve reabrir quando a chamada de teste falhar")
+    void shouldReopenAfterFailedTrial() {
+        // Given
+        openBreaker();
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        
+        // When
+        assertThrows(RuntimeException.class, () -> breaker.protect(failing()).block());
+        
+        // Then
+        assertEquals(State.OPEN, breaker.getState());
+        assertThrows(CircuitOpenException.class, () -> breaker.protect(succeeding()).block());
+    }
+    
+    @Test
+    @DisplayName("Não deve contar erros que não indicam falha do provedor")
+    void shouldIgnoreNonRecordedErrors() {
+        // Given
+        Mono<String> rejected = Mono.error(new IllegalArgumentException("invalid recipient"));
+        
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertThrows(IllegalArgumentException.class, () -> breaker.protect(rejected).block());
+        }
+        
+        // Then
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+    
+    @Test
+    @DisplayName("Não deve contar chamadas canceladas por quem as assinou")
+    void shouldIgnoreCancelledCalls() {
+        // Given
+        openBreaker();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        
+        // When
+        breaker.protect(Mono.never()).subscribe().dispose();
+        
+        // Then
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        assertEquals("ok", breaker.protect(succeeding()).block());
+        assertEquals(State.CLOSED, breaker.getState());
+        for (int i = 0; i < 5; i++) {
+            breaker.protect(Mono.never()).subscribe().dispose();
+        }
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+    
+    private void openBreaker() {
+        for (int i = 0; i < 3; i++) {
+            assertThrows(RuntimeException.class, () -> breaker.protect(failing()).block());
+        }
+        assertEquals(State.OPEN, breaker.getState());
+    }
+    
+    private Mono<String> failing() {
+        return Mono.defer(() -> {
+            calls.incrementAndGet();
+            return Mono.error(new TimeoutException("provider timeout"));
+        });
+    }
+    
+    private Mono<String> succeeding() {
+        return Mono.fromSupplier(() -> {
+            calls.incrementAndGet();
+            return "ok";
+        });
+    }
+}
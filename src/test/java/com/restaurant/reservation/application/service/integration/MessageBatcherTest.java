@@ -0,0 +1,121 @@
+package com.restaurant.reservation.application.service.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o agrupamento de mensagens em lotes.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Message Batcher Tests")
+class MessageBatcherTest {
+    
+    private final List<List<String>> sentBatches = new CopyOnWriteArrayList<>();
+    
+    private MessageBatcher<String, String> batcher;
+    
+    @AfterEach
+    void tearDown() {
+        batcher.close();
+    }
+    
+    @Test
+    @DisplayName("Deve enviar o lote assim que atingir o tamanho máximo")
+    void shouldFlushWhenBatchIsFull() throws Exception {
+        // Given
+        batcher = new MessageBatcher<>("test", 2, 60_000, Function.identity(), this::echo);
+        
+        // When
+        CompletableFuture<String> first = batcher.submit("m1");
+        CompletableFuture<String> second = batcher.submit("m2");
+        
+        // Then
+        assertEquals("sent:m1", first.get(1, TimeUnit.SECONDS));
+        assertEquals("sent:m2", second.get(1, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of("m1", "m2")), sentBatches);
+    }
+    
+    @Test
+    @DisplayName("Deve enviar um lote incompleto quando a janela de espera terminar")
+    void shouldFlushAfterDelay() throws Exception {
+        // Given
+        batcher = new MessageBatcher<>("test", 10, 50, Function.identity(), this::echo);
+        
+        // When
+        CompletableFuture<String> result = batcher.submit("m1");
+        
+        // Then
+        assertEquals("sent:m1", result.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of("m1")), sentBatches);
+    }
+    
+    @Test
+    @DisplayName("Deve entregar a cada chamador apenas o resultado da sua mensagem")
+    void shouldRouteResultsByReference() throws Exception {
+        // Given
+        batcher = new MessageBatcher<>("test", 3, 60_000, Function.identity(),
+            messages -> Mono.just(Map.of("m2", "sent:m2", "m1", "sent:m1")));
+        
+        // When
+        CompletableFuture<String> first = batcher.submit("m1");
+        CompletableFuture<String> second = batcher.submit("m2");
+        CompletableFuture<String> missing = batcher.submit("m3");
+        
+        // Then
+        assertEquals("sent:m1", first.get(1, TimeUnit.SECONDS));
+        assertEquals("sent:m2", second.get(1, TimeUnit.SECONDS));
+        ExecutionException error = assertThrows(ExecutionException.class, () -> missing.get(1, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof IllegalStateException);
+    }
+    
+    @Test
+    @DisplayName("Deve falhar todas as mensagens do lote quando o envio falhar")
+    void shouldFailWholeBatchOnError() {
+        // Given
+        batcher = new MessageBatcher<>("test", 2, 60_000, Function.identity(),
+            messages -> Mono.error(new IllegalStateException("Provider unavailable")));
+        
+        // When
+        CompletableFuture<String> first = batcher.submit("m1");
+        CompletableFuture<String> second = batcher.submit("m2");
+        
+        // Then
+        assertTrue(first.isCompletedExceptionally());
+        assertTrue(second.isCompletedExceptionally());
+    }
+    
+    @Test
+    @DisplayName("Deve enviar as mensagens pendentes ao ser encerrado")
+    void shouldFlushPendingOnClose() throws Exception {
+        // Given
+        batcher = new MessageBatcher<>("test", 10, 60_000, Function.identity(), this::echo);
+        CompletableFuture<String> result = batcher.submit("m1");
+        
+        // When
+        batcher.close();
+        
+        // Then
+        assertEquals("sent:m1", result.get(1, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of("m1")), sentBatches);
+    }
+    
+    private Mono<Map<String, String>> echo(List<String> messages) {
+        sentBatches.add(List.copyOf(messages));
+        return Mono.just(messages.stream().collect(Collectors.toMap(Function.identity(), message -> "sent:" + message)));
+    }
+}
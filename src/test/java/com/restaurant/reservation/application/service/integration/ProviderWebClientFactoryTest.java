@@ -0,0 +1,60 @@
+package com.restaurant.reservation.application.service.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para o pool de conexões dos provedores.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Provider Web Client Factory Tests")
+class ProviderWebClientFactoryTest {
+    
+    private DisposableServer server;
+    private ProviderWebClientFactory factory;
+    
+    @BeforeEach
+    void setUp() {
+        // Responde com a porta de origem da conexão, que identifica a conexão reaproveitada
+        server = HttpServer.create()
+            .port(0)
+            .handle((request, response) -> response.sendString(
+                Mono.just(String.valueOf(request.remoteAddress().getPort()))))
+            .bindNow();
+        factory = new ProviderWebClientFactory(WebClient.builder(), 1, 10, 1000, 30_000, 300_000, 1000, 
+            100, 100, true, false);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        factory.close();
+        server.disposeNow();
+    }
+    
+    @Test
+    @DisplayName("Should reuse an idle connection after the per-request timeouts have elapsed")
+    void shouldReuseIdleConnection() throws InterruptedException {
+        // Given
+        WebClient client = factory.create("http://localhost:" + server.port());
+        String first = client.get().uri("/").retrieve().bodyToMono(String.class).block(Duration.ofSeconds(5));
+        
+        // When
+        Thread.sleep(400); // Ociosa por mais tempo que os limites de leitura e escrita
+        String second = client.get().uri("/").retrieve().bodyToMono(String.class).block(Duration.ofSeconds(5));
+        
+        // Then
+        assertEquals(first, second);
+    }
+}
@@ -0,0 +1,57 @@
+package com.restaurant.reservation.application.service.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o limitador de taxa dos provedores.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Token Bucket Tests")
+class TokenBucketTest {
+    
+    private final AtomicLong now = new AtomicLong();
+    
+    @Test
+    @DisplayName("Deve permitir a rajada inicial e depois limitar à taxa configurada")
+    void shouldAllowBurstThenLimitRate() {
+        // Given
+        TokenBucket bucket = new TokenBucket(10, 3, now::get);
+        
+        // When
+        long first = bucket.tryAcquire();
+        long second = bucket.tryAcquire();
+        long third = bucket.tryAcquire();
+        long fourth = bucket.tryAcquire();
+        
+        // Then
+        assertEquals(0, first);
+        assertEquals(0, second);
+        assertEquals(0, third);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), fourth);
+    }
+    
+    @Test
+    @DisplayName("Deve reabastecer com o tempo sem ultrapassar a capacidade")
+    void shouldRefillUpToCapacity() {
+        // Given
+        TokenBucket bucket = new TokenBucket(10, 2, now::get);
+        bucket.tryAcquire();
+        bucket.tryAcquire();
+        
+        // When
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        
+        // Then
+        assertEquals(0, bucket.tryAcquire());
+        assertEquals(0, bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire() > 0);
+    }
+}
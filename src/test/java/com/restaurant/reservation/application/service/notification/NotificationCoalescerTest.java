@@ -0,0 +1,79 @@
+package com.restaurant.reservation.application.service.notification;
+
+import com.restaurant.reservation.domain.event.DomainEvent;
+import com.restaurant.reservation.domain.event.ReservationCancelledEvent;
+import com.restaurant.reservation.domain.event.ReservationConfirmedEvent;
+import com.restaurant.reservation.domain.event.ReservationCreatedEvent;
+import com.restaurant.reservation.domain.event.ReservationModifiedEvent;
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o agrupamento de eventos em uma única notificação.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Notification Coalescer Tests")
+class NotificationCoalescerTest {
+    
+    private final ReservationId reservationId = ReservationId.generate();
+    private final CustomerInfo customer = CustomerInfo.of("João Silva", "joao@email.com", "11999999999");
+    private final ReservationTime dinner = ReservationTime.of(LocalDateTime.now().plusDays(3).withHour(19).withMinute(0));
+    private final ReservationTime lunch = ReservationTime.of(LocalDateTime.now().plusDays(4).withHour(12).withMinute(0));
+    
+    @Test
+    @DisplayName("Deve notificar apenas o cancelamento após várias modificações")
+    void shouldKeepOnlyCancellationAfterModifications() {
+        // Given
+        DomainEvent cancelled = new ReservationCancelledEvent(reservationId, TableId.of("T002"), customer, lunch);
+        List<DomainEvent> events = List.of(
+            modified("T001", "T002", lunch), modified("T002", "T001", dinner), modified("T001", "T002", lunch), cancelled);
+        
+        // When
+        DomainEvent result = NotificationCoalescer.coalesce(events);
+        
+        // Then
+        assertSame(cancelled, result);
+    }
+    
+    @Test
+    @DisplayName("Deve transformar confirmação seguida de modificação em confirmação com os novos dados")
+    void shouldMergeModificationIntoPendingConfirmation() {
+        // Given
+        DomainEvent confirmed = new ReservationConfirmedEvent(reservationId, TableId.of("T001"), customer, dinner);
+        DomainEvent modified = modified("T001", "T002", lunch);
+        
+        // When
+        DomainEvent result = NotificationCoalescer.coalesce(List.of(confirmed, modified));
+        
+        // Then
+        ReservationConfirmedEvent merged = assertInstanceOf(ReservationConfirmedEvent.class, result);
+        assertEquals(modified.getEventId(), merged.getEventId());
+        assertEquals(TableId.of("T002"), merged.getTableId());
+        assertEquals(lunch, merged.getReservationTime());
+    }
+    
+    @Test
+    @DisplayName("Não deve gerar notificação apenas para criação")
+    void shouldIgnoreEventsWithoutNotification() {
+        // Given
+        DomainEvent created = new ReservationCreatedEvent(reservationId, TableId.of("T001"), customer, dinner);
+        
+        // When / Then
+        assertNull(NotificationCoalescer.coalesce(List.of(created)));
+    }
+    
+    private ReservationModifiedEvent modified(String from, String to, ReservationTime time) {
+        return new ReservationModifiedEvent(reservationId, TableId.of(from), TableId.of(to), customer, time);
+    }
+}
@@ -0,0 +1,87 @@
+package com.restaurant.reservation.application.service.notification;
+
+import com.restaurant.reservation.application.service.integration.EmailService;
+import com.restaurant.reservation.application.service.integration.MessagePriority;
+import com.restaurant.reservation.application.service.integration.SmsService;
+import com.restaurant.reservation.domain.event.ReservationConfirmedEvent;
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o envio das notificações de cada evento.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Notification Service Tests")
+class NotificationServiceTest {
+    
+    private final CustomerInfo customer = CustomerInfo.of("João Silva", "joao@email.com", "11999999999");
+    private final ReservationTime dinner = ReservationTime.of(LocalDateTime.now().plusDays(2).withHour(19).withMinute(0));
+    
+    private EmailService emailService;
+    private SmsService smsService;
+    private NotificationService notificationService;
+    
+    @BeforeEach
+    void setUp() {
+        emailService = mock(EmailService.class);
+        smsService = mock(SmsService.class);
+        notificationService = new NotificationService(emailService, smsService, new NotificationTemplateRegistry(
+            new DefaultResourceLoader(), "classpath:notification-templates/", "pt-BR", false));
+    }
+    
+    @Test
+    @DisplayName("Deve repetir as referências das mensagens ao notificar o mesmo evento de novo")
+    void shouldRepeatReferencesWhenEventIsRedelivered() {
+        // Given
+        ReservationConfirmedEvent confirmed = new ReservationConfirmedEvent(
+            ReservationId.generate(), TableId.of("T001"), customer, dinner);
+        
+        // When
+        notificationService.notify(confirmed);
+        notificationService.notify(confirmed);
+        
+        // Then
+        ArgumentCaptor<String> emailReferences = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> smsReferences = ArgumentCaptor.forClass(String.class);
+        verify(emailService, times(2)).sendEmail(emailReferences.capture(), eq("joao@email.com"),
+            anyString(), anyString(), eq(MessagePriority.HIGH));
+        verify(smsService, times(2)).sendSms(smsReferences.capture(), eq("11999999999"),
+            anyString(), eq(MessagePriority.HIGH));
+        assertEquals(emailReferences.getAllValues().get(0), emailReferences.getAllValues().get(1));
+        assertEquals(smsReferences.getAllValues().get(0), smsReferences.getAllValues().get(1));
+        assertNotEquals(emailReferences.getValue(), smsReferences.getValue());
+    }
+    
+    @Test
+    @DisplayName("Deve usar referências diferentes para eventos diferentes")
+    void shouldUseNewReferencesForNewEvents() {
+        // Given
+        ReservationId reservationId = ReservationId.generate();
+        
+        // When
+        notificationService.notify(new ReservationConfirmedEvent(reservationId, TableId.of("T001"), customer, dinner));
+        notificationService.notify(new ReservationConfirmedEvent(reservationId, TableId.of("T001"), customer, dinner));
+        
+        // Then
+        ArgumentCaptor<String> references = ArgumentCaptor.forClass(String.class);
+        verify(emailService, times(2)).sendEmail(references.capture(), anyString(), anyString(), anyString(), any());
+        assertNotEquals(references.getAllValues().get(0), references.getAllValues().get(1));
+    }
+}
@@ -0,0 +1,110 @@
+package com.restaurant.reservation.application.service.notification;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o carregamento e a renderização dos templates de notificação.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Notification Template Registry Tests")
+class NotificationTemplateRegistryTest {
+    
+    private static final Map<String, Object> MODEL = Map.of(
+        "customerName", "joão silva",
+        "formattedName", "João Silva",
+        "email", "joao@email.com",
+        "phone", "11999999999",
+        "reservationTime", "10/05/2030 19:00",
+        "tableId", "T001"
+    );
+    
+    @Test
+    @DisplayName("Deve renderizar o mesmo texto do formato anterior")
+    void shouldRenderSameTextAsPreviousFormat() {
+        // Given
+        NotificationTemplateRegistry registry = classpathRegistry();
+        String expected = String.format("""
+            Olá %s,
+            
+            Sua reserva foi cancelada conforme solicitado.
+            
+            Detalhes da reserva cancelada:
+            - Data e hora: %s
+            - Mesa: %s
+            
+            Esperamos poder atendê-lo em uma próxima oportunidade!
+            
+            Atenciosamente,
+            Equipe do Restaurante
+            """, "João Silva", "10/05/2030 19:00", "T001");
+        
+        // When
+        NotificationTemplate template = registry.get("cancellation-email", Locale.forLanguageTag("pt-BR"));
+        
+        // Then
+        assertEquals("Reserva Cancelada - joão silva", template.renderSubject(MODEL));
+        assertEquals(expected, template.renderBody(MODEL));
+    }
+    
+    @Test
+    @DisplayName("Deve usar a variante do idioma e cair no template base quando não houver")
+    void shouldFallBackThroughLocales() {
+        // Given
+        NotificationTemplateRegistry registry = classpathRegistry();
+        
+        // When
+        String english = registry.get("confirmation-sms", Locale.US).renderBody(MODEL);
+        String spanish = registry.get("confirmation-sms", Locale.forLanguageTag("es-ES")).renderBody(MODEL);
+        
+        // Then
+        assertEquals("Your reservation is confirmed for 10/05/2030 19:00 at table T001. Thank you!", english);
+        assertEquals("Sua reserva foi confirmada para 10/05/2030 19:00 na mesa T001. Obrigado!", spanish);
+    }
+    
+    @Test
+    @DisplayName("Deve falhar quando uma variável do template não tiver valor")
+    void shouldRejectMissingVariable() {
+        // Given
+        TemplateText text = TemplateText.compile("Mesa {{tableId}} às {{time}}");
+        
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> text.render(Map.of("tableId", "T001")));
+    }
+    
+    @Test
+    @DisplayName("Deve recompilar o template quando o arquivo mudar com hot reload ativo")
+    void shouldReloadChangedTemplate(@TempDir Path directory) throws Exception {
+        // Given
+        Path file = directory.resolve("confirmation-sms.txt");
+        Files.writeString(file, "Mesa {{tableId}}");
+        NotificationTemplateRegistry registry = new NotificationTemplateRegistry(
+            new DefaultResourceLoader(), directory.toUri().toString(), "pt-BR", true);
+        assertEquals("Mesa T001", registry.get("confirmation-sms", Locale.ROOT).renderBody(MODEL));
+        
+        // When
+        Files.writeString(file, "Table {{tableId}}");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        registry.reloadChanged();
+        
+        // Then
+        assertEquals("Table T001", registry.get("confirmation-sms", Locale.ROOT).renderBody(MODEL));
+    }
+    
+    private NotificationTemplateRegistry classpathRegistry() {
+        return new NotificationTemplateRegistry(
+            new DefaultResourceLoader(), "classpath:notification-templates/", "pt-BR", false);
+    }
+}
@@ -0,0 +1,117 @@
+package com.restaurant.reservation.infrastructure.bookingstate;
+
+import com.restaurant.reservation.application.service.availability.CoalescedReservationQueries;
+import com.restaurant.reservation.infrastructure.persistence.entity.ReservationEntity;
+import com.restaurant.reservation.infrastructure.persistence.entity.TableEntity;
+import com.restaurant.reservation.infrastructure.persistence.mapper.EpochMinutes;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaReservationRepository;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaTableRepository;
+import com.restaurant.reservation.infrastructure.web.ResourceVersions;
+import com.restaurant.reservation.infrastructure.web.SerializedResponseCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a atualização periódica do estado de reservas em memória.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Booking State Loader Tests")
+class BookingStateLoaderTest {
+    
+    private static final LocalDateTime UPDATED = LocalDateTime.now().minusSeconds(1);
+    
+    @Mock
+    private InMemoryBookingState state;
+    
+    @Mock
+    private JpaReservationRepository reservationRepository;
+    
+    @Mock
+    private JpaTableRepository tableRepository;
+    
+    @Mock
+    private ResourceVersions resourceVersions;
+    
+    @Mock
+    private SerializedResponseCache responseCache;
+    
+    @Mock
+    private CoalescedReservationQueries reservationQueries;
+    
+    private BookingStateLoader loader;
+    
+    @BeforeEach
+    void setUp() {
+        loader = new BookingStateLoader(state, reservationRepository, tableRepository, resourceVersions,
+            responseCache, reservationQueries, "unused.snap", 5000, 5000);
+        when(state.getWatermark()).thenReturn(UPDATED);
+    }
+    
+    @Test
+    @DisplayName("Should invalidate a reservation only when its version advances")
+    void shouldInvalidateOnlyAdvancedReservations() {
+        // Given
+        when(reservationRepository.findUpdatedSince(any()))
+            .thenReturn(List.of(reservation(1L)))
+            .thenReturn(List.of(reservation(1L)))
+            .thenReturn(List.of(reservation(2L)));
+        
+        // When
+        loader.catchUp();
+        loader.catchUp(); // Mesma linha relida pela janela de sobreposição
+        loader.catchUp();
+        
+        // Then
+        verify(resourceVersions, times(2)).reservationChanged("R001");
+        verify(responseCache, times(2)).reservationChanged(eq("R001"), any());
+        verify(reservationQueries, times(2)).reservationChanged(eq("T001"), any());
+    }
+    
+    @Test
+    @DisplayName("Should invalidate the table list only when the table rows change")
+    void shouldInvalidateTablesOnlyWhenRowsChange() {
+        // Given
+        when(tableRepository.findAll())
+            .thenReturn(List.of(table(4)))
+            .thenReturn(List.of(table(4)))
+            .thenReturn(List.of(table(6)));
+        
+        // When
+        loader.catchUp();
+        loader.catchUp();
+        loader.catchUp();
+        
+        // Then
+        verify(responseCache, times(2)).tablesChanged();
+        verify(state, times(2)).applyTable(any());
+    }
+    
+    private TableEntity table(int capacity) {
+        return TableEntity.builder().id("T001").capacity(capacity).isActive(true).location("Área interna").build();
+    }
+    
+    private ReservationEntity reservation(long version) {
+        return ReservationEntity.builder()
+            .id("R001")
+            .tableId("T001")
+            .startMinute(EpochMinutes.of(LocalDateTime.now().plusDays(1)))
+            .durationInMinutes(120)
+            .status(ReservationEntity.ReservationStatus.CONFIRMED)
+            .updatedAt(UPDATED)
+            .version(version)
+            .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.restaurant.reservation.infrastructure.bookingstate;
+
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import com.restaurant.reservation.infrastructure.bookingstate.InMemoryBookingState.ActiveSlot;
+import com.restaurant.reservation.infrastructure.bookingstate.InMemoryBookingState.TableInfo;
+import com.restaurant.reservation.infrastructure.persistence.entity.ReservationEntity.ReservationStatus;
+import com.restaurant.reservation.infrastructure.persistence.mapper.EpochMinutes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o estado de reservas em memória e seu snapshot em disco.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("In-Memory Booking State Tests")
+class InMemoryBookingStateTest {
+    
+    private static final LocalDateTime DINNER = LocalDateTime.of(2030, 5, 10, 19, 0);
+    private static final int START = EpochMinutes.of(DINNER);
+    
+    private InMemoryBookingState state;
+    
+    @BeforeEach
+    void setUp() {
+        state = new InMemoryBookingState();
+        state.replace(
+            List.of(new TableInfo("T001", 2, true), new TableInfo("T002", 4, true), new TableInfo("T003", 6, false)),
+            List.of(),
+            DINNER.minusDays(1));
+    }
+    
+    @Test
+    @DisplayName("Should treat only active overlapping reservations as conflicts")
+    void shouldFindOnlyActiveOverlappingReservations() {
+        // Given
+        ReservationTime dinner = ReservationTime.restore(DINNER, 120);
+        state.apply("R002", "T001", START + 120, 60, ReservationStatus.PENDING);
+        state.apply("R003", "T001", START + 30, 60, ReservationStatus.CANCELLED);
+        assertEquals(List.of(TableId.of("T001"), TableId.of("T002")), state.findAvailableTables(2, dinner));
+        
+        // When
+        state.apply("R001", "T001", START - 90, 120, ReservationStatus.CONFIRMED);
+        
+        // Then
+        assertEquals(List.of(TableId.of("T002")), state.findAvailableTables(2, dinner));
+    }
+    
+    @Test
+    @DisplayName("Should move reservation between tables when it is modified")
+    void shouldMoveReservationBetweenTables() {
+        // Given
+        state.apply("R001", "T001", START, 120, ReservationStatus.CONFIRMED);
+        
+        // When
+        state.apply("R001", "T002", START, 120, ReservationStatus.CONFIRMED);
+        
+        // Then
+        ReservationTime dinner = ReservationTime.restore(DINNER, 120);
+        assertEquals(List.of(TableId.of("T001")), state.findAvailableTables(2, dinner));
+    }
+    
+    @Test
+    @DisplayName("Should restore the same state from the snapshot file")
+    void shouldRestoreStateFromSnapshotFile(@TempDir Path directory) {
+        // Given
+        state.apply("R001", "T001", START, 120, ReservationStatus.CONFIRMED);
+        state.apply("R002", "T002", START + 30, 90, ReservationStatus.PENDING);
+        Path file = directory.resolve("booking-state.snap");
+        
+        // When
+        BookingStateSnapshotFile.write(file, DINNER, state.tables(), state.slots());
+        Optional<BookingStateSnapshotFile.Snapshot> snapshot = BookingStateSnapshotFile.read(file);
+        
+        // Then
+        assertTrue(snapshot.isPresent());
+        assertEquals(DINNER, snapshot.get().getWatermark());
+        assertEquals(3, snapshot.get().getTables().size());
+        assertTrue(snapshot.get().getSlots().contains(
+            new ActiveSlot("R002", "T002", START + 30, 90, ReservationStatus.PENDING.getCode())));
+        assertEquals(2, snapshot.get().getSlots().size());
+    }
+    
+    @Test
+    @DisplayName("Should ignore missing snapshot file")
+    void shouldIgnoreMissingSnapshotFile(@TempDir Path directory) {
+        // When & Then
+        assertTrue(BookingStateSnapshotFile.read(directory.resolve("missing.snap")).isEmpty());
+    }
+}
@@ -0,0 +1,118 @@
+package com.restaurant.reservation.infrastructure.deadletter;
+
+import com.restaurant.reservation.application.dto.DeadLetterReplayStatus;
+import com.restaurant.reservation.application.service.integration.EmailService;
+import com.restaurant.reservation.application.service.integration.FailedMessage;
+import com.restaurant.reservation.application.service.integration.FailedMessage.Channel;
+import com.restaurant.reservation.application.service.integration.MessagePriority;
+import com.restaurant.reservation.application.service.integration.SmsService;
+import com.restaurant.reservation.infrastructure.persistence.entity.DeadLetterEntity;
+import com.restaurant.reservation.infrastructure.persistence.entity.DeadLetterEntity.DeadLetterStatus;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaDeadLetterRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o reenvio em lote das notificações mortas.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Dead Letter Replayer Tests")
+class DeadLetterReplayerTest {
+    
+    private JpaDeadLetterRepository repository;
+    private JpaDeadLetterStore store;
+    private EmailService emailService;
+    private DeadLetterReplayer replayer;
+    
+    @BeforeEach
+    void setUp() {
+        repository = mock(JpaDeadLetterRepository.class);
+        store = mock(JpaDeadLetterStore.class);
+        emailService = mock(EmailService.class);
+        replayer = new DeadLetterReplayer(repository, store, emailService, mock(SmsService.class), 10, 1000, 0, 100);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        replayer.close();
+    }
+    
+    @Test
+    @DisplayName("Deve devolver ao estado pendente as mensagens sem resposta quando o bloco esgota o prazo")
+    void shouldReleaseUnfinishedMessagesWhenChunkTimesOut() throws InterruptedException {
+        // Given
+        when(repository.findByStatusAndChannelInAndIdGreaterThanOrderByIdAsc(
+            eq(DeadLetterStatus.PENDING), any(), anyLong(), any()))
+            .thenReturn(List.of(deadLetter(1L), deadLetter(2L)))
+            .thenReturn(List.of());
+        when(repository.markReplaying(List.of(1L, 2L))).thenReturn(2);
+        when(emailService.redeliver(any(FailedMessage.class))).thenAnswer(invocation ->
+            invocation.<FailedMessage>getArgument(0).getDeadLetterId() == 1L
+                ? CompletableFuture.completedFuture(new EmailService.EmailResponse())
+                : new CompletableFuture<>()); // O provedor nunca responde à segunda
+        
+        // When
+        replayer.start(Channel.EMAIL, 10);
+        DeadLetterReplayStatus status = awaitFinished();
+        
+        // Then
+        assertTrue(status.getStopReason().startsWith("chunk did not finish"));
+        verify(store).markReplayed(1L);
+        verify(repository).releaseReplaying(List.of(2L));
+    }
+    
+    @Test
+    @DisplayName("Não deve devolver mensagens quando o bloco termina no prazo")
+    void shouldNotReleaseFinishedChunk() throws InterruptedException {
+        // Given
+        when(repository.findByStatusAndChannelInAndIdGreaterThanOrderByIdAsc(
+            eq(DeadLetterStatus.PENDING), any(), anyLong(), any()))
+            .thenReturn(List.of(deadLetter(1L)))
+            .thenReturn(List.of());
+        when(repository.markReplaying(List.of(1L))).thenReturn(1);
+        when(emailService.redeliver(any(FailedMessage.class)))
+            .thenReturn(CompletableFuture.completedFuture(new EmailService.EmailResponse()));
+        
+        // When
+        replayer.start(Channel.EMAIL, 10);
+        DeadLetterReplayStatus status = awaitFinished();
+        
+        // Then
+        assertEquals("completed", status.getStopReason());
+        verify(repository, never()).releaseReplaying(any());
+    }
+    
+    private DeadLetterReplayStatus awaitFinished() throws InterruptedException {
+        for (int attempt = 0; attempt < 50 && replayer.getStatus().isRunning(); attempt++) {
+            Thread.sleep(100);
+        }
+        assertFalse(replayer.getStatus().isRunning());
+        return replayer.getStatus();
+    }
+    
+    private static DeadLetterEntity deadLetter(Long id) {
+        return DeadLetterEntity.builder()
+            .id(id)
+            .channel(Channel.EMAIL)
+            .recipient("joao@email.com")
+            .subject("Reserva confirmada")
+            .body("Sua reserva foi confirmada")
+            .priority(MessagePriority.HIGH)
+            .status(DeadLetterStatus.PENDING)
+            .attempts(1)
+            .build();
+    }
+}
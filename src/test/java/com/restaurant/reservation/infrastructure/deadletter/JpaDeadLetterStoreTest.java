@@ -0,0 +1,126 @@
+package com.restaurant.reservation.infrastructure.deadletter;
+
+import com.restaurant.reservation.application.dto.DeadLetterResponse;
+import com.restaurant.reservation.application.service.integration.FailedMessage;
+import com.restaurant.reservation.application.service.integration.FailedMessage.Channel;
+import com.restaurant.reservation.application.service.integration.MessagePriority;
+import com.restaurant.reservation.infrastructure.persistence.entity.DeadLetterEntity.DeadLetterStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de persistência do armazenamento de notificações mortas.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DataJpaTest(properties = {
+    "spring.sql.init.mode=never",
+    "reservation.notification.dead-letter.max-history=3"
+})
+@Import({JpaDeadLetterStore.class, JpaDeadLetterStoreTest.MetricsConfig.class})
+@DisplayName("Dead Letter Store Tests")
+class JpaDeadLetterStoreTest {
+    
+    @Autowired
+    private JpaDeadLetterStore store;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Test
+    @DisplayName("Deve gravar a mensagem que falhou com o erro e a primeira tentativa")
+    void shouldRecordFailedMessage() {
+        // Given / When
+        store.record(email("joao@email.com", "503 Service Unavailable"));
+        
+        // Then
+        Page<DeadLetterResponse> page = store.search(null, DeadLetterStatus.PENDING, PageRequest.of(0, 10));
+        assertEquals(1, page.getTotalElements());
+        DeadLetterResponse deadLetter = page.getContent().get(0);
+        assertEquals("joao@email.com", deadLetter.getRecipient());
+        assertEquals("Reserva confirmada", deadLetter.getSubject());
+        assertEquals(MessagePriority.HIGH, deadLetter.getPriority());
+        assertEquals(1, deadLetter.getAttempts());
+        assertEquals("503 Service Unavailable", deadLetter.getLastError());
+        assertEquals(1, deadLetter.getAttemptHistory().size());
+    }
+    
+    @Test
+    @DisplayName("Deve atualizar o registro existente quando o reenvio falha, mantendo só as últimas tentativas")
+    void shouldAppendFailedReplaysToHistory() {
+        // Given
+        store.record(email("joao@email.com", "timeout"));
+        Long id = store.search(null, null, PageRequest.of(0, 10)).getContent().get(0).getId();
+        
+        // When
+        for (int i = 1; i <= 4; i++) {
+            store.record(email("joao@email.com", "erro " + i).toBuilder().deadLetterId(id).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        
+        // Then
+        DeadLetterResponse deadLetter = store.findById(id).orElseThrow();
+        assertEquals(5, deadLetter.getAttempts());
+        assertEquals("erro 4", deadLetter.getLastError());
+        assertEquals(3, deadLetter.getAttemptHistory().size());
+        assertTrue(deadLetter.getAttemptHistory().get(0).endsWith("erro 2"));
+        assertEquals(1, store.search(null, null, PageRequest.of(0, 10)).getTotalElements());
+    }
+    
+    @Test
+    @DisplayName("Deve filtrar por canal e deixar de listar como pendente a mensagem descartada")
+    void shouldFilterByChannelAndDiscard() {
+        // Given
+        store.record(email("joao@email.com", "timeout"));
+        store.record(FailedMessage.builder()
+            .channel(Channel.SMS)
+            .recipient("(11) 99999-9999")
+            .body("Sua reserva foi confirmada")
+            .priority(MessagePriority.HIGH)
+            .error("429 Too Many Requests")
+            .build());
+        Long smsId = store.search(Channel.SMS, null, PageRequest.of(0, 10)).getContent().get(0).getId();
+        
+        // When
+        boolean discarded = store.discard(smsId);
+        entityManager.clear();
+        
+        // Then
+        assertTrue(discarded);
+        assertFalse(store.discard(smsId));
+        assertEquals(1, store.search(Channel.EMAIL, DeadLetterStatus.PENDING, PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(0, store.search(Channel.SMS, DeadLetterStatus.PENDING, PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(1, store.search(Channel.SMS, DeadLetterStatus.DISCARDED, PageRequest.of(0, 10)).getTotalElements());
+    }
+    
+    private FailedMessage email(String recipient, String error) {
+        return FailedMessage.builder()
+            .channel(Channel.EMAIL)
+            .recipient(recipient)
+            .subject("Reserva confirmada")
+            .body("Olá, sua reserva foi confirmada.")
+            .priority(MessagePriority.HIGH)
+            .error(error)
+            .build();
+    }
+    
+    static class MetricsConfig {
+        
+        @Bean
+        SimpleMeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.restaurant.reservation.infrastructure.eventstore;
+
+import com.restaurant.reservation.domain.entity.Reservation;
+import com.restaurant.reservation.domain.valueobject.BookedSlot;
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationStatus;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import com.restaurant.reservation.infrastructure.persistence.entity.StoredEventEntity;
+import com.restaurant.reservation.infrastructure.persistence.entity.StoredEventEntity.EventType;
+import com.restaurant.reservation.infrastructure.persistence.mapper.StoredEventMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o replay da agenda de uma mesa e seus snapshots.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Table Book State Tests")
+class TableBookStateTest {
+    
+    private static final int START = 29_000_000;
+    
+    private TableBookState state;
+    
+    @BeforeEach
+    void setUp() {
+        state = new TableBookState("T001");
+    }
+    
+    @Test
+    @DisplayName("Should apply status transitions in order")
+    void shouldApplyStatusTransitionsInOrder() {
+        // Given
+        state.apply(EventType.CREATED, "R001", START, 120);
+        state.apply(EventType.CONFIRMED, "R001", START, 120);
+        state.apply(EventType.CREATED, "R002", START + 180, 90);
+        state.apply(EventType.CANCELLED, "R002", START + 180, 90);
+        
+        // When
+        List<BookedSlot> slots = state.toSlots();
+        
+        // Then
+        assertEquals(2, slots.size());
+        assertEquals(ReservationStatus.CONFIRMED, findSlot(slots, "R001").getStatus());
+        assertEquals(ReservationStatus.CANCELLED, findSlot(slots, "R002").getStatus());
+    }
+    
+    @Test
+    @DisplayName("Should keep status and update time when reservation is modified")
+    void shouldKeepStatusWhenModified() {
+        // Given
+        state.apply(EventType.CREATED, "R001", START, 120);
+        state.apply(EventType.CONFIRMED, "R001", START, 120);
+        
+        // When
+        state.apply(EventType.MODIFIED, "R001", START + 60, 180);
+        
+        // Then
+        BookedSlot slot = findSlot(state.toSlots(), "R001");
+        assertEquals(ReservationStatus.CONFIRMED, slot.getStatus());
+        assertEquals(180, slot.getDurationInMinutes());
+    }
+    
+    @Test
+    @DisplayName("Should keep the status of a reservation moved in from another table")
+    void shouldKeepStatusWhenMovedFromAnotherTable() {
+        // Given
+        Reservation reservation = Reservation.create(ReservationId.of("R001"), TableId.of("T001"),
+            CustomerInfo.of("João Silva", "joao@email.com", "11999999999"),
+            ReservationTime.of(LocalDateTime.now().plusDays(2).withHour(19).withMinute(0)));
+        reservation.confirm();
+        reservation.clearDomainEvents();
+        reservation.modifyReservation(TableId.of("T002"), reservation.getReservationTime());
+        TableBookState target = new TableBookState("T002");
+        
+        // When
+        for (StoredEventEntity row : StoredEventMapper.INSTANCE.toEntities(reservation.getDomainEvents().get(0))) {
+            if (row.getTableId().equals("T002")) {
+                target.apply(row.getEventType(), row.getReservationId(), row.getStartMinute(),
+                    row.getDurationInMinutes(), row.getStatus() != null ? row.getStatus().getCode() : 0);
+            }
+        }
+        
+        // Then
+        assertEquals(ReservationStatus.CONFIRMED, findSlot(target.toSlots(), "R001").getStatus());
+    }
+    
+    @Test
+    @DisplayName("Should remove reservation released to another table")
+    void shouldRemoveReleasedReservation() {
+        // Given
+        state.apply(EventType.CREATED, "R001", START, 120);
+        
+        // When
+        state.apply(EventType.RELEASED, "R001", START, 120);
+        
+        // Then
+        assertEquals(0, state.size());
+    }
+    
+    @Test
+    @DisplayName("Should restore the same state from a snapshot")
+    void shouldRestoreStateFromSnapshot() {
+        // Given
+        state.apply(EventType.CREATED, "R001", START, 120);
+        state.apply(EventType.CONFIRMED, "R001", START, 120);
+        state.apply(EventType.CREATED, "R002", START + 180, 90);
+        
+        // When
+        TableBookState restored = BookSnapshotCodec.decode("T001", BookSnapshotCodec.encode(state));
+        
+        // Then
+        assertEquals(state.size(), restored.size());
+        assertEquals(findSlot(state.toSlots(), "R001"), findSlot(restored.toSlots(), "R001"));
+        assertEquals(findSlot(state.toSlots(), "R002"), findSlot(restored.toSlots(), "R002"));
+    }
+    
+    private BookedSlot findSlot(List<BookedSlot> slots, String reservationId) {
+        return slots.stream()
+            .filter(slot -> slot.getReservationId().getValue().equals(reservationId))
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,113 @@
+package com.restaurant.reservation.infrastructure.memory;
+
+import com.restaurant.reservation.domain.valueobject.ReservationStatus;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.infrastructure.persistence.mapper.EpochMinutes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o armazenamento em memória e a recuperação pelo log.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("In-Memory Store Tests")
+class InMemoryStoreTest {
+    
+    private static final LocalDateTime DINNER = LocalDateTime.of(2030, 5, 10, 19, 0);
+    private static final int START = EpochMinutes.of(DINNER);
+    
+    @TempDir
+    Path directory;
+    
+    private InMemoryStore store;
+    
+    @AfterEach
+    void tearDown() {
+        if (store != null) {
+            store.close();
+        }
+    }
+    
+    @Test
+    @DisplayName("Should recover reservations and tables after restart")
+    void shouldRecoverAfterRestart() {
+        // Given
+        store = openStore();
+        store.saveTable(new StoredTable("T001", 4, true, "Área interna"));
+        store.saveReservation(reservation("R001", START, ReservationStatus.PENDING));
+        store.saveReservation(reservation("R001", START, ReservationStatus.CONFIRMED));
+        store.saveReservation(reservation("R002", START + 180, ReservationStatus.PENDING));
+        store.removeReservation("R002");
+        store.close();
+        
+        // When
+        store = openStore();
+        
+        // Then
+        assertEquals(ReservationStatus.CONFIRMED, store.findReservation("R001").orElseThrow().getStatus());
+        assertFalse(store.containsReservation("R002"));
+        assertTrue(store.findTable("T001").isPresent());
+        assertTrue(store.findAvailableTables(2, ReservationTime.restore(DINNER.plusHours(1), 60)).isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Should discard a torn record at the end of the log")
+    void shouldDiscardTornTail() throws IOException {
+        // Given
+        store = openStore();
+        store.saveReservation(reservation("R001", START, ReservationStatus.PENDING));
+        store.close();
+        Path wal = directory.resolve("reservations.wal");
+        long validSize = Files.size(wal);
+        Files.write(wal, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+        
+        // When
+        store = openStore();
+        store.saveReservation(reservation("R002", START + 180, ReservationStatus.PENDING));
+        store.close();
+        store = openStore();
+        
+        // Then
+        assertTrue(store.containsReservation("R001"));
+        assertTrue(store.containsReservation("R002"));
+        assertTrue(Files.size(wal) > validSize);
+    }
+    
+    @Test
+    @DisplayName("Should reject writes after close instead of waiting for the flusher")
+    void shouldRejectWritesAfterClose() {
+        // Given
+        store = openStore();
+        store.saveReservation(reservation("R001", START, ReservationStatus.PENDING));
+        store.close();
+        
+        // When / Then
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertThrows(IllegalStateException.class,
+            () -> store.saveReservation(reservation("R002", START + 180, ReservationStatus.PENDING))));
+        assertFalse(store.containsReservation("R002"));
+    }
+    
+    private InMemoryStore openStore() {
+        InMemoryStore opened = new InMemoryStore(directory.resolve("reservations.wal").toString(), 16);
+        opened.recover();
+        return opened;
+    }
+    
+    private StoredReservation reservation(String id, int startMinute, ReservationStatus status) {
+        return new StoredReservation(id, "T001", "João Silva", "joao@email.com", "11999999999", 
+            null, startMinute, 120, status);
+    }
+}
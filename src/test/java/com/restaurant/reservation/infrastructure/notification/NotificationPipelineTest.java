@@ -0,0 +1,182 @@
+package com.restaurant.reservation.infrastructure.notification;
+
+import com.restaurant.reservation.application.service.event.DomainEventBus;
+import com.restaurant.reservation.application.service.notification.NotificationService;
+import com.restaurant.reservation.domain.event.DomainEvent;
+import com.restaurant.reservation.domain.event.ReservationCancelledEvent;
+import com.restaurant.reservation.domain.event.ReservationConfirmedEvent;
+import com.restaurant.reservation.domain.event.ReservationModifiedEvent;
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o pipeline assíncrono de notificações.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Notification Pipeline Tests")
+class NotificationPipelineTest {
+    
+    private final CustomerInfo customer = CustomerInfo.of("João Silva", "joao@email.com", "11999999999");
+    private final ReservationTime dinner = ReservationTime.of(LocalDateTime.now().plusDays(2).withHour(19).withMinute(0));
+    
+    private NotificationService notificationService;
+    private NotificationPipeline pipeline;
+    private DomainEventBus bus;
+    
+    @BeforeEach
+    void setUp() {
+        notificationService = mock(NotificationService.class);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            bus.close();
+            pipeline.shutdown();
+        }
+    }
+    
+    @Test
+    @DisplayName("Should send one notification for a reservation's burst and confirm every event")
+    void shouldCoalesceBurstAndConfirmEachEvent() throws Exception {
+        // Given
+        start(1, 10, 200, 1000);
+        
+        // When
+        CompletableFuture<Void> modified = bus.publish(modified("R001", LocalDateTime.now()));
+        CompletableFuture<Void> cancelled = bus.publish(cancelled("R001", LocalDateTime.now()));
+        
+        // Then
+        assertNull(modified.get(5, TimeUnit.SECONDS));
+        assertNull(cancelled.get(5, TimeUnit.SECONDS));
+        verify(notificationService, times(1)).notify(any());
+        verify(notificationService).notify(any(ReservationCancelledEvent.class));
+    }
+    
+    @Test
+    @DisplayName("Should skip events that were already notified")
+    void shouldSkipNotifiedEvents() throws Exception {
+        // Given
+        start(1, 10, 0, 0);
+        DomainEvent confirmed = confirmed("R001", LocalDateTime.now());
+        bus.publish(confirmed).get(5, TimeUnit.SECONDS);
+        
+        // When
+        bus.publish(confirmed).get(5, TimeUnit.SECONDS);
+        
+        // Then
+        verify(notificationService, times(1)).notify(confirmed);
+    }
+    
+    @Test
+    @DisplayName("Should fail the burst when sending fails so the outbox delivers it again")
+    void shouldFailBurstWhenSendingFails() throws Exception {
+        // Given
+        start(1, 10, 0, 0);
+        DomainEvent confirmed = confirmed("R001", LocalDateTime.now());
+        doThrow(new IllegalStateException("Send queue full")).doNothing().when(notificationService).notify(any());
+        
+        // When
+        ExecutionException failure = assertThrows(ExecutionException.class,
+            () -> bus.publish(confirmed).get(5, TimeUnit.SECONDS));
+        bus.publish(confirmed).get(5, TimeUnit.SECONDS);
+        
+        // Then
+        assertTrue(failure.getCause() instanceof IllegalStateException);
+        verify(notificationService, times(2)).notify(confirmed);
+    }
+    
+    @Test
+    @DisplayName("Should not hold back events that already outlived the maximum window")
+    void shouldNotDelayOldEvents() throws Exception {
+        // Given
+        start(1, 10, 60_000, 60_000);
+        
+        // When
+        CompletableFuture<Void> redelivered = bus.publish(confirmed("R001", LocalDateTime.now().minusMinutes(5)));
+        
+        // Then
+        assertNull(redelivered.get(5, TimeUnit.SECONDS));
+        verify(notificationService).notify(any(ReservationConfirmedEvent.class));
+    }
+    
+    @Test
+    @DisplayName("Should refuse a maximum window that outlasts the wait for confirmation")
+    void shouldRejectWindowLongerThanHandlerTimeout() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+            () -> new NotificationPipeline(notificationService, registry, 1, 10, 5000, 30_000, 100, 30_000));
+    }
+    
+    @Test
+    @DisplayName("Should reject events when the lane is full instead of blocking")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        // Given
+        start(1, 1, 0, 0);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(notificationService).notify(any());
+        
+        // When
+        CompletableFuture<Void> first = bus.publish(confirmed("R001", LocalDateTime.now()));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Void> queued = bus.publish(confirmed("R002", LocalDateTime.now())); // Ocupa a única posição
+        CompletableFuture<Void> rejected = bus.publish(confirmed("R003", LocalDateTime.now()));
+        
+        // Then
+        assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+        release.countDown();
+        assertNull(first.get(5, TimeUnit.SECONDS));
+        assertNull(queued.get(5, TimeUnit.SECONDS));
+    }
+    
+    private void start(int workers, int queueCapacity, long windowMs, long maxWindowMs) {
+        pipeline = new NotificationPipeline(notificationService, new SimpleMeterRegistry(),
+            workers, queueCapacity, windowMs, maxWindowMs, 100, 120_000);
+        bus = new DomainEventBus(List.of(pipeline), new MockEnvironment(), new SimpleMeterRegistry(), 1, 1000);
+    }
+    
+    private DomainEvent confirmed(String reservationId, LocalDateTime occurredAt) {
+        return new ReservationConfirmedEvent(UUID.randomUUID().toString(), occurredAt,
+            ReservationId.of(reservationId), TableId.of("T001"), customer, dinner);
+    }
+    
+    private DomainEvent modified(String reservationId, LocalDateTime occurredAt) {
+        return new ReservationModifiedEvent(UUID.randomUUID().toString(), occurredAt, ReservationId.of(reservationId),
+            TableId.of("T001"), TableId.of("T002"), customer, dinner, null);
+    }
+    
+    private DomainEvent cancelled(String reservationId, LocalDateTime occurredAt) {
+        return new ReservationCancelledEvent(UUID.randomUUID().toString(), occurredAt,
+            ReservationId.of(reservationId), TableId.of("T002"), customer, dinner);
+    }
+}
@@ -0,0 +1,213 @@
+package com.restaurant.reservation.infrastructure.outbox;
+
+import com.restaurant.reservation.application.service.event.DomainEventBus;
+import com.restaurant.reservation.domain.event.DomainEvent;
+import com.restaurant.reservation.domain.event.ReservationConfirmedEvent;
+import com.restaurant.reservation.domain.event.ReservationCreatedEvent;
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import com.restaurant.reservation.infrastructure.persistence.entity.OutboxEventEntity;
+import com.restaurant.reservation.infrastructure.persistence.entity.OutboxEventEntity.OutboxStatus;
+import com.restaurant.reservation.infrastructure.persistence.mapper.OutboxEventMapper;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaOutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes do relay da caixa de saída: ordem de publicação, novas tentativas,
+ * estacionamento de eventos que sempre falham, reservas de publicação e a
+ * passagem da publicação imediata para o ciclo periódico.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@DisplayName("Outbox Relay Tests")
+class OutboxRelayTest {
+    
+    private static final LocalDateTime OCCURRED = LocalDateTime.now().minusMinutes(5);
+    
+    private final CustomerInfo customer = CustomerInfo.of("João Silva", "joao@email.com", "11999999999");
+    private final ReservationTime dinner = ReservationTime.of(LocalDateTime.now().plusDays(2).withHour(19).withMinute(0));
+    
+    @Autowired
+    private JpaOutboxEventRepository outboxRepository;
+    
+    private DomainEventBus eventBus;
+    private OutboxRelay relay;
+    
+    @BeforeEach
+    void setUp() {
+        eventBus = mock(DomainEventBus.class);
+        when(eventBus.publish(any())).thenReturn(CompletableFuture.completedFuture(null));
+        relay = relay(10);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        relay.shutdown();
+    }
+    
+    @Test
+    @DisplayName("Should publish every event on its own in recording order")
+    void shouldPublishInRecordingOrder() {
+        // Given
+        add(created("R001", 0));
+        add(created("R002", 1));
+        add(confirmed("R001", 2));
+        
+        // When
+        relay.relay();
+        
+        // Then
+        ArgumentCaptor<DomainEvent> published = ArgumentCaptor.forClass(DomainEvent.class);
+        verify(eventBus, times(3)).publish(published.capture());
+        assertEquals(List.of("R001:ReservationCreated", "R001:ReservationConfirmed", "R002:ReservationCreated"),
+            published.getAllValues().stream()
+                .map(event -> event.getReservationId().getValue() + ":" + event.getEventType())
+                .collect(Collectors.toList()));
+        assertEquals(0, outboxRepository.count());
+    }
+    
+    @Test
+    @DisplayName("Should keep failed events for the next cycle and publish them once subscribers recover")
+    void shouldRetryFailedEvents() {
+        // Given
+        add(created("R001", 0));
+        when(eventBus.publish(any()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Provider unavailable")))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        
+        // When
+        relay.publishBatch();
+        OutboxEventEntity kept = outboxRepository.findAll().get(0);
+        relay.publishBatch();
+        
+        // Then
+        assertEquals(1, kept.getAttempts());
+        assertTrue(kept.getLastError().contains("Provider unavailable"));
+        assertEquals(OutboxStatus.PENDING, kept.getStatus());
+        assertEquals(0, outboxRepository.count());
+        verify(eventBus, times(2)).publish(any());
+    }
+    
+    @Test
+    @DisplayName("Should park events that keep failing so they stop blocking the queue")
+    void shouldParkPoisonEvents() {
+        // Given
+        add(created("R001", 0));
+        add(confirmed("R001", 1));
+        add(created("R002", 2));
+        OutboxRelay smallBatches = relay(2); // O lote só comporta os eventos de R001
+        when(eventBus.publish(argThat(event -> event.getReservationId().getValue().equals("R001"))))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Malformed event")));
+        
+        // When
+        for (int cycle = 0; cycle < 3; cycle++) {
+            assertEquals(0, smallBatches.publishBatch());
+        }
+        smallBatches.relay();
+        smallBatches.shutdown();
+        
+        // Then
+        List<OutboxEventEntity> remaining = outboxRepository.findAll();
+        assertEquals(2, remaining.size());
+        assertTrue(remaining.stream().allMatch(entry -> entry.getStatus() == OutboxStatus.PARKED));
+        assertTrue(remaining.stream().allMatch(entry -> entry.getAttempts() == 3));
+        verify(eventBus, times(6)).publish(argThat(event -> event.getReservationId().getValue().equals("R001")));
+        verify(eventBus).publish(argThat(event -> event.getReservationId().getValue().equals("R002")));
+    }
+    
+    @Test
+    @DisplayName("Should not publish events claimed by another publication until the claim expires")
+    void shouldSkipClaimedEvents() {
+        // Given
+        OutboxEventEntity inFlight = OutboxEventMapper.INSTANCE.toEntity(created("R001", 0));
+        inFlight.setClaimedUntil(relay.claimExpiry());
+        outboxRepository.save(inFlight);
+        OutboxEventEntity abandoned = OutboxEventMapper.INSTANCE.toEntity(created("R002", 1));
+        abandoned.setClaimedUntil(System.currentTimeMillis() - 1);
+        outboxRepository.save(abandoned);
+        
+        // When
+        int published = relay.publishBatch();
+        
+        // Then
+        assertEquals(1, published);
+        verify(eventBus).publish(argThat(event -> event.getReservationId().getValue().equals("R002")));
+        verify(eventBus, never()).publish(argThat(event -> event.getReservationId().getValue().equals("R001")));
+        assertEquals(List.of(inFlight.getId()), 
+            outboxRepository.findAll().stream().map(OutboxEventEntity::getId).collect(Collectors.toList()));
+    }
+    
+    @Test
+    @DisplayName("Should leave a reservation to the periodic cycle after a failed immediate publication")
+    void shouldSpillAfterFailedPublication() throws InterruptedException {
+        // Given
+        DomainEvent confirmed = confirmed("R001", 0);
+        OutboxEventEntity entry = outboxRepository.save(OutboxEventMapper.INSTANCE.toEntity(confirmed));
+        when(eventBus.publish(any()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Send queue full")));
+        
+        // When
+        relay.publishCommitted(entry.getId(), "R001", confirmed);
+        awaitSpilled("R001");
+        relay.publishCommitted(entry.getId(), "R001", confirmed);
+        
+        // Then
+        verify(eventBus, times(1)).publish(any());
+        assertEquals(1, outboxRepository.count());
+        
+        when(eventBus.publish(any())).thenReturn(CompletableFuture.completedFuture(null));
+        relay.relay();
+        assertFalse(relay.isSpilled("R001"));
+        assertEquals(0, outboxRepository.count());
+    }
+    
+    private OutboxRelay relay(int batchSize) {
+        return new OutboxRelay(outboxRepository, OutboxEventMapper.INSTANCE, eventBus,
+            new SimpleMeterRegistry(), batchSize, 2000, 3, 1000);
+    }
+    
+    private void awaitSpilled(String reservationId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!relay.isSpilled(reservationId) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(relay.isSpilled(reservationId));
+    }
+    
+    private void add(DomainEvent event) {
+        outboxRepository.save(OutboxEventMapper.INSTANCE.toEntity(event));
+    }
+    
+    private DomainEvent created(String reservationId, int order) {
+        return new ReservationCreatedEvent(UUID.randomUUID().toString(), OCCURRED.plusSeconds(order),
+            ReservationId.of(reservationId), TableId.of("T001"), customer, dinner);
+    }
+    
+    private DomainEvent confirmed(String reservationId, int order) {
+        return new ReservationConfirmedEvent(UUID.randomUUID().toString(), OCCURRED.plusSeconds(order),
+            ReservationId.of(reservationId), TableId.of("T001"), customer, dinner);
+    }
+}
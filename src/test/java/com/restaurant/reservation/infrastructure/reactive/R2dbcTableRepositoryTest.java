@@ -0,0 +1,64 @@
+package com.restaurant.reservation.infrastructure.reactive;
+
+import com.restaurant.reservation.domain.entity.Table;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import com.restaurant.reservation.infrastructure.persistence.mapper.TablePersistenceMapperImpl;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes das consultas não bloqueantes de mesas sobre um H2 em memória.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("R2DBC Table Repository Tests")
+class R2dbcTableRepositoryTest {
+    
+    private R2dbcTableRepository repository;
+    
+    @BeforeEach
+    void setUp() {
+        DatabaseClient databaseClient = DatabaseClient.create(
+            ConnectionFactories.get("r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1"));
+        databaseClient.sql("CREATE TABLE tables (id VARCHAR(10) PRIMARY KEY, capacity INT NOT NULL, "
+            + "is_active BOOLEAN NOT NULL, location VARCHAR(100))").then().block();
+        databaseClient.sql("INSERT INTO tables VALUES ('T001', 2, TRUE, 'Janela'), ('T002', 6, TRUE, 'Salão'), "
+            + "('T003', 8, FALSE, 'Varanda')").then().block();
+        repository = new R2dbcTableRepository(databaseClient, new TablePersistenceMapperImpl());
+    }
+    
+    @Test
+    @DisplayName("Should find a table by ID")
+    void shouldFindTableById() {
+        // When
+        Table table = repository.findById(TableId.of("T002")).block();
+        
+        // Then
+        assertNotNull(table);
+        assertEquals(6, table.getCapacity().getValue());
+        assertEquals("Salão", table.getLocation());
+        assertNull(repository.findById(TableId.of("T999")).block());
+    }
+    
+    @Test
+    @DisplayName("Should find only active tables with enough capacity")
+    void shouldFindAvailableTablesByCapacity() {
+        // When
+        List<Table> tables = repository.findAvailableTablesByCapacity(4).collectList().block();
+        
+        // Then
+        assertEquals(List.of("T002"), tables.stream()
+            .map(table -> table.getId().getValue())
+            .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,162 @@
+package com.restaurant.reservation.infrastructure.reminder;
+
+import com.restaurant.reservation.application.service.notification.NotificationService;
+import com.restaurant.reservation.infrastructure.notification.NotificationPipeline;
+import com.restaurant.reservation.infrastructure.persistence.entity.ReminderEntity;
+import com.restaurant.reservation.infrastructure.persistence.entity.ReminderEntity.ReminderKind;
+import com.restaurant.reservation.infrastructure.persistence.entity.ReminderEntity.ReminderStatus;
+import com.restaurant.reservation.infrastructure.persistence.mapper.EpochMinutes;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaReminderRepository;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaSchedulerLeaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o disparo dos lembretes de reserva.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Reminder Scheduler Tests")
+class ReminderSchedulerTest {
+    
+    private JpaReminderRepository reminderRepository;
+    private NotificationService notificationService;
+    private NotificationPipeline pipeline;
+    private ReminderScheduler scheduler;
+    private ReminderEntity reminder;
+    
+    @BeforeEach
+    void setUp() {
+        reminderRepository = mock(JpaReminderRepository.class);
+        notificationService = mock(NotificationService.class);
+        pipeline = mock(NotificationPipeline.class);
+        JpaSchedulerLeaseRepository leaseRepository = mock(JpaSchedulerLeaseRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(leaseRepository.acquire(anyString(), anyString(), anyLong(), anyLong())).thenReturn(1);
+        
+        int now = EpochMinutes.of(LocalDateTime.now());
+        reminder = ReminderEntity.builder()
+            .id(1L)
+            .reservationId("R001")
+            .kind(ReminderKind.DAY_BEFORE)
+            .dueMinute(now - 1)
+            .startMinute(now + 24 * 60)
+            .durationInMinutes(120)
+            .tableId("T001")
+            .customerName("João Silva")
+            .customerEmail("joao@email.com")
+            .customerPhone("11999999999")
+            .status(ReminderStatus.PENDING)
+            .build();
+        when(reminderRepository.findByStatusAndDueMinuteLessThanEqualAndIdGreaterThanOrderByIdAsc(
+            eq(ReminderStatus.PENDING), anyInt(), anyLong(), any())).thenReturn(List.of(reminder));
+        when(reminderRepository.existsByIdAndStatus(1L, ReminderStatus.PENDING)).thenReturn(true);
+        
+        scheduler = new ReminderScheduler(reminderRepository, leaseRepository, notificationService, pipeline,
+            transactionTemplate, true, 60, 30_000);
+    }
+    
+    @Test
+    @DisplayName("Deve enviar o lembrete no worker do pipeline e só depois marcá-lo como enviado")
+    void shouldSendOnPipelineAndThenMarkSent() throws InterruptedException {
+        // Given
+        when(pipeline.submit(eq("R001"), any())).thenReturn(true);
+        scheduler.maintainLeadership();
+        
+        // When
+        Runnable send = tickUntilSubmitted();
+        
+        // Then
+        verifyNoInteractions(notificationService); // Nada é enviado na thread do tique
+        verify(reminderRepository, never()).markSent(any());
+        send.run();
+        InOrder inOrder = inOrder(notificationService, reminderRepository);
+        inOrder.verify(notificationService).sendDayBeforeReminder(anyString(), any(), any(), any());
+        inOrder.verify(reminderRepository).markSent(1L);
+    }
+    
+    @Test
+    @DisplayName("Deve manter o lembrete pendente e repetir a mesma referência quando o envio falha")
+    void shouldKeepReminderPendingWhenSendFails() throws InterruptedException {
+        // Given
+        when(pipeline.submit(eq("R001"), any())).thenReturn(true);
+        doThrow(new IllegalStateException("Template indisponível")).doNothing()
+            .when(notificationService).sendDayBeforeReminder(anyString(), any(), any(), any());
+        scheduler.maintainLeadership();
+        tickUntilSubmitted().run();
+        
+        // When
+        scheduler.loadPending();
+        tickUntilSubmitted().run();
+        
+        // Then
+        ArgumentCaptor<String> references = ArgumentCaptor.forClass(String.class);
+        verify(notificationService, times(2)).sendDayBeforeReminder(references.capture(), any(), any(), any());
+        assertEquals(references.getAllValues().get(0), references.getAllValues().get(1));
+        verify(reminderRepository, times(1)).markSent(1L);
+    }
+    
+    @Test
+    @DisplayName("Deve manter o lembrete pendente quando a fila do pipeline está cheia")
+    void shouldKeepReminderPendingWhenPipelineIsFull() throws InterruptedException {
+        // Given
+        when(pipeline.submit(eq("R001"), any())).thenReturn(false);
+        scheduler.maintainLeadership();
+        tickUntilSubmitted();
+        
+        // When
+        scheduler.loadPending();
+        
+        // Then
+        verify(reminderRepository, never()).markSent(any());
+        assertEquals(1, scheduler.size());
+    }
+    
+    @Test
+    @DisplayName("Não deve recolocar na roda um lembrete que ainda está em envio")
+    void shouldNotRescheduleReminderInFlight() throws InterruptedException {
+        // Given
+        when(pipeline.submit(eq("R001"), any())).thenReturn(true);
+        scheduler.maintainLeadership();
+        tickUntilSubmitted();
+        
+        // When
+        scheduler.loadPending();
+        
+        // Then
+        assertEquals(0, scheduler.size());
+    }
+    
+    /**
+     * Avança a roda até o lembrete vencido ser entregue ao pipeline; prazos
+     * vencidos disparam no tique seguinte ao agendamento.
+     */
+    private Runnable tickUntilSubmitted() throws InterruptedException {
+        ArgumentCaptor<Runnable> send = ArgumentCaptor.forClass(Runnable.class);
+        for (int attempt = 0; attempt < 30 && scheduler.size() > 0; attempt++) {
+            Thread.sleep(100);
+            scheduler.tick();
+        }
+        verify(pipeline, atLeastOnce()).submit(eq("R001"), send.capture());
+        return send.getValue();
+    }
+}
@@ -0,0 +1,95 @@
+package com.restaurant.reservation.infrastructure.reminder;
+
+import com.restaurant.reservation.infrastructure.reminder.TimingWheel.Timeout;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a roda de temporização hierárquica.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Timing Wheel Tests")
+class TimingWheelTest {
+    
+    private static final long START = 1_000_003L;
+    
+    @Test
+    @DisplayName("Deve disparar cada temporizador exatamente no seu tique, inclusive após cascatas")
+    void shouldFireEachTimeoutAtItsDeadline() {
+        // Given
+        TimingWheel<Long> wheel = new TimingWheel<>(4, START);
+        Random random = new Random(42);
+        int count = 2_000;
+        for (int i = 0; i < count; i++) {
+            long deadline = START + 1 + random.nextInt(2 * 24 * 3600);
+            wheel.schedule(deadline, deadline);
+        }
+        
+        // When
+        List<String> late = new ArrayList<>();
+        int[] fired = {0};
+        for (long tick = START + 1; tick <= START + 2 * 24 * 3600; tick++) {
+            long now = tick;
+            wheel.advanceTo(tick, deadline -> {
+                fired[0]++;
+                if (deadline != now) {
+                    late.add(deadline + "@" + now);
+                }
+            });
+        }
+        
+        // Then
+        assertEquals(count, fired[0]);
+        assertTrue(late.isEmpty(), () -> "Fired at the wrong tick: " + late);
+        assertEquals(0, wheel.size());
+    }
+    
+    @Test
+    @DisplayName("Não deve disparar temporizador cancelado")
+    void shouldNotFireCancelledTimeout() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(4, START);
+        Timeout<String> cancelled = wheel.schedule("cancelled", START + 7_200);
+        wheel.schedule("kept", START + 7_200);
+        
+        // When
+        boolean result = wheel.cancel(cancelled);
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(START + 7_200, fired::add);
+        
+        // Then
+        assertTrue(result);
+        assertFalse(wheel.cancel(cancelled));
+        assertEquals(List.of("kept"), fired);
+    }
+    
+    @Test
+    @DisplayName("Deve disparar no próximo tique prazos já vencidos e no tempo certo prazos além do alcance")
+    void shouldHandleOverdueAndOutOfRangeDeadlines() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(2, START);
+        wheel.schedule("overdue", START - 10);
+        wheel.schedule("far", START + 10_000);
+        
+        // When
+        List<String> first = new ArrayList<>();
+        wheel.advanceTo(START + 1, first::add);
+        List<String> beforeFar = new ArrayList<>();
+        wheel.advanceTo(START + 9_999, beforeFar::add);
+        List<String> atFar = new ArrayList<>();
+        wheel.advanceTo(START + 10_000, atFar::add);
+        
+        // Then
+        assertEquals(List.of("overdue"), first);
+        assertTrue(beforeFar.isEmpty());
+        assertEquals(List.of("far"), atFar);
+    }
+}
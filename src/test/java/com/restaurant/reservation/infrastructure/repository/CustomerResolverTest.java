@@ -0,0 +1,67 @@
+package com.restaurant.reservation.infrastructure.repository;
+
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.infrastructure.persistence.entity.CustomerEntity;
+import com.restaurant.reservation.infrastructure.persistence.repository.JpaCustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o cadastro de clientes das reservas.
+ *
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Customer Resolver Tests")
+class CustomerResolverTest {
+
+    private final CustomerInfo customerInfo = CustomerInfo.of("João Silva", "joao@email.com", "(11) 99999-9999");
+
+    private JpaCustomerRepository customerRepository;
+    private CustomerResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        customerRepository = mock(JpaCustomerRepository.class);
+        resolver = new CustomerResolver(customerRepository);
+    }
+
+    @Test
+    @DisplayName("Should register a new customer with a merge and read it back")
+    void shouldRegisterNewCustomer() {
+        // Given
+        CustomerEntity registered = CustomerEntity.builder().id(7L).email("joao@email.com").build();
+        when(customerRepository.findByEmailAndNameAndPhone(any(), any(), any()))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(registered));
+
+        // When
+        CustomerEntity customer = resolver.resolve(customerInfo);
+
+        // Then
+        assertSame(registered, customer);
+        verify(customerRepository).mergeCustomer("João Silva", "joao@email.com", "(11) 99999-9999");
+    }
+
+    @Test
+    @DisplayName("Should reuse an existing customer without writing")
+    void shouldReuseExistingCustomer() {
+        // Given
+        CustomerEntity existing = CustomerEntity.builder().id(3L).email("joao@email.com").build();
+        when(customerRepository.findByEmailAndNameAndPhone(any(), any(), any())).thenReturn(Optional.of(existing));
+
+        // When
+        CustomerEntity customer = resolver.resolve(customerInfo);
+
+        // Then
+        assertSame(existing, customer);
+        verify(customerRepository, never()).mergeCustomer(any(), any(), any());
+    }
+}
@@ -0,0 +1,177 @@
+package com.restaurant.reservation.infrastructure.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.reservation.domain.entity.Reservation;
+import com.restaurant.reservation.domain.valueobject.CustomerInfo;
+import com.restaurant.reservation.domain.valueobject.ReservationId;
+import com.restaurant.reservation.domain.valueobject.ReservationTime;
+import com.restaurant.reservation.domain.valueobject.TableId;
+import com.restaurant.reservation.infrastructure.bookingstate.InMemoryBookingState;
+import com.restaurant.reservation.infrastructure.persistence.entity.ReservationEntity;
+import com.restaurant.reservation.infrastructure.persistence.mapper.ReservationPersistenceMapperImpl;
+import com.restaurant.reservation.infrastructure.web.ResourceVersions;
+import com.restaurant.reservation.infrastructure.web.SerializedResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de persistência do repositório de reservas.
+ * Contam os comandos SQL emitidos pelo Hibernate em cada gravação.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.sql.init.mode=never"
+})
+@Import({ReservationRepositoryImpl.class, CustomerResolver.class, ReservationPersistenceMapperImpl.class,
+    InMemoryBookingState.class, ResourceVersions.class, SerializedResponseCache.class,
+    ReservationRepositoryImplTest.WebConfig.class})
+@DisplayName("Reservation Repository Persistence Tests")
+class ReservationRepositoryImplTest {
+    
+    private static final LocalDateTime DINNER = LocalDate.now().plusDays(7).atTime(19, 0);
+    
+    @Autowired
+    private ReservationRepositoryImpl repository;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    private Statistics statistics;
+    private CustomerInfo customerInfo;
+    
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        customerInfo = CustomerInfo.of("João Silva", "joao@email.com", "(11) 99999-9999");
+        
+        // O cliente já existe: a gravação seguinte só precisa localizá-lo
+        repository.save(newReservation(DINNER.minusDays(1)));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+    
+    @Test
+    @DisplayName("Should insert a new reservation without selecting it first")
+    void shouldInsertNewReservationWithoutSelect() {
+        // Given
+        Reservation reservation = newReservation(DINNER);
+        
+        // When
+        Reservation saved = repository.save(reservation);
+        entityManager.flush();
+        
+        // Then
+        assertSame(reservation, saved);
+        assertEquals(0L, saved.getVersion());
+        assertEquals(1, statistics.getEntityStatistics(ReservationEntity.class.getName()).getInsertCount());
+        assertEquals(0, statistics.getEntityStatistics(ReservationEntity.class.getName()).getLoadCount());
+        assertEquals(2, statistics.getPrepareStatementCount()); // busca do cliente + INSERT da reserva
+    }
+    
+    @Test
+    @DisplayName("Should update an existing reservation and increment its version")
+    void shouldUpdateExistingReservation() {
+        // Given
+        Reservation reservation = repository.save(newReservation(DINNER));
+        entityManager.flush();
+        entityManager.clear();
+        Reservation loaded = repository.findById(reservation.getId()).orElseThrow();
+        
+        // When
+        loaded.confirm();
+        Reservation saved = repository.save(loaded);
+        entityManager.flush();
+        
+        // Then
+        assertEquals(1L, saved.getVersion());
+        assertEquals(1, statistics.getEntityStatistics(ReservationEntity.class.getName()).getInsertCount());
+        assertEquals(1, statistics.getEntityStatistics(ReservationEntity.class.getName()).getUpdateCount());
+        assertEquals(1L, entityManager.find(ReservationEntity.class, reservation.getId().getValue()).getVersion());
+    }
+    
+    @Test
+    @DisplayName("Should find reservations by ID with one IN query per table")
+    void shouldFindReservationsByIdWithInQueries() {
+        // Given
+        Reservation first = repository.save(newReservation(DINNER));
+        Reservation second = repository.save(newReservation(DINNER.plusHours(2)));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        
+        // When
+        List<Reservation> found = repository.findAllById(
+            List.of(first.getId(), ReservationId.of("missing"), second.getId(), first.getId()));
+        
+        // Then
+        assertEquals(Set.of(first.getId(), second.getId()), 
+            found.stream().map(Reservation::getId).collect(Collectors.toSet()));
+        assertEquals(2, found.size());
+        assertEquals(2, statistics.getPrepareStatementCount()); // reservas + arquivo, para o ID ausente
+    }
+    
+    @Test
+    @DisplayName("Should stream reservations in the date range in start order without keeping them managed")
+    void shouldStreamDateRangeWithoutGrowingPersistenceContext() {
+        // Given
+        Reservation later = repository.save(newReservation(DINNER.plusHours(1)));
+        Reservation earlier = repository.save(newReservation(DINNER));
+        repository.save(newReservation(DINNER.plusDays(2)));
+        entityManager.flush();
+        entityManager.clear();
+        
+        // When
+        List<Reservation> streamed;
+        try (Stream<Reservation> reservations = repository.streamByDateRange(
+                DINNER.toLocalDate(), DINNER.toLocalDate().plusDays(1))) {
+            streamed = reservations.collect(Collectors.toList());
+        }
+        
+        // Then
+        assertEquals(List.of(earlier.getId(), later.getId()), 
+            streamed.stream().map(Reservation::getId).collect(Collectors.toList()));
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+    }
+    
+    private Reservation newReservation(LocalDateTime dateTime) {
+        return Reservation.create(ReservationId.generate(), TableId.of("T001"), customerInfo, 
+            ReservationTime.of(dateTime));
+    }
+    
+    static class WebConfig {
+        
+        @Bean
+        SimpleMeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+        
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.restaurant.reservation.infrastructure.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o registro de ETags das leituras condicionais.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Resource Versions Tests")
+class ResourceVersionsTest {
+    
+    private ResourceVersions versions;
+    
+    @BeforeEach
+    void setUp() {
+        versions = new ResourceVersions(100);
+    }
+    
+    @Test
+    @DisplayName("Should remember the content tag until the resource changes")
+    void shouldRememberTagUntilChanged() {
+        // Given
+        String tag = versions.rememberReservation("R001", versions.stamp(), "reservation v1");
+        
+        // When
+        String known = versions.reservationTag("R001");
+        versions.reservationChanged("R001");
+        
+        // Then
+        assertEquals(tag, known);
+        assertNull(versions.reservationTag("R001"));
+        assertNull(versions.reservationTag("R002"));
+    }
+    
+    @Test
+    @DisplayName("Should derive the same tag from the same content")
+    void shouldDeriveSameTagFromSameContent() {
+        // Given
+        String before = versions.rememberReservation("R001", versions.stamp(), List.of("T001", "19:00"));
+        versions.reservationChanged("R001");
+        
+        // When
+        String after = versions.rememberReservation("R001", versions.stamp(), List.of("T001", "19:00"));
+        
+        // Then
+        assertEquals(before, after);
+        assertNotEquals(after, versions.rememberReservation("R001", versions.stamp(), List.of("T002", "19:00")));
+    }
+    
+    @Test
+    @DisplayName("Should not remember a read that started before a concurrent change")
+    void shouldIgnoreReadStartedBeforeChange() {
+        // Given
+        long staleStamp = versions.stamp();
+        versions.reservationChanged("R001");
+        String fresh = versions.rememberReservation("R001", versions.stamp(), "reservation v2");
+        
+        // When
+        versions.rememberReservation("R001", staleStamp, "reservation v1");
+        
+        // Then
+        assertEquals(fresh, versions.reservationTag("R001"));
+    }
+    
+    @Test
+    @DisplayName("Should drop all tags when the registry exceeds its capacity")
+    void shouldClearWhenFull() {
+        // Given
+        ResourceVersions small = new ResourceVersions(2);
+        long stamp = small.stamp();
+        small.rememberReservation("R001", stamp, "a");
+        small.rememberReservation("R002", stamp, "b");
+        
+        // When
+        small.rememberReservation("R003", stamp, "c");
+        small.rememberReservation("R004", stamp, "d");
+        
+        // Then
+        assertNull(small.reservationTag("R001"));
+        assertNull(small.reservationTag("R004")); // Leitura anterior à limpeza
+    }
+}
@@ -0,0 +1,117 @@
+package com.restaurant.reservation.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.reservation.infrastructure.web.SerializedResponseCache.CachedResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o cache de respostas serializadas.
+ *
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Serialized Response Cache Tests")
+class SerializedResponseCacheTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 5, 13);
+    private static final LocalDate TUESDAY = MONDAY.plusDays(1);
+
+    private SerializedResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SerializedResponseCache(new ObjectMapper(), new SimpleMeterRegistry(), 100, 64);
+    }
+
+    @Test
+    @DisplayName("Should serve the serialized bytes until the day changes")
+    void shouldServeBytesUntilDayChanges() {
+        // Given
+        String key = SerializedResponseCache.reservationsByDateKey(MONDAY);
+        cache.put(key, cache.stamp(), List.of("R001", "R002"), List.of("R001", "R002"));
+
+        // When
+        ResponseEntity<byte[]> response = cache.get(key).toResponseEntity(request(null));
+        cache.reservationChanged("R003", MONDAY);
+
+        // Then
+        assertEquals("[\"R001\",\"R002\"]", new String(response.getBody(), StandardCharsets.UTF_8));
+        assertNotNull(response.getHeaders().getETag());
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    @DisplayName("Should invalidate the previous day of a rescheduled reservation")
+    void shouldInvalidatePreviousDayOfMovedReservation() {
+        // Given
+        String monday = SerializedResponseCache.reservationsByDateKey(MONDAY);
+        String tuesday = SerializedResponseCache.reservationsByDateKey(TUESDAY);
+        cache.put(monday, cache.stamp(), List.of("R001"), List.of("R001"));
+        cache.put(tuesday, cache.stamp(), List.of("R002"), List.of("R002"));
+
+        // When
+        cache.reservationChanged("R002", MONDAY);
+
+        // Then
+        assertNull(cache.get(monday));
+        assertNull(cache.get(tuesday));
+    }
+
+    @Test
+    @DisplayName("Should not cache a read that started before a concurrent change")
+    void shouldIgnoreReadStartedBeforeChange() {
+        // Given
+        long staleStamp = cache.stamp();
+        cache.tablesChanged();
+
+        // When
+        cache.put(SerializedResponseCache.tablesKey(), staleStamp, List.of("T001"), List.of());
+
+        // Then
+        assertNull(cache.get(SerializedResponseCache.tablesKey()));
+    }
+
+    @Test
+    @DisplayName("Should send the pre-compressed body only to clients that accept gzip")
+    void shouldSendGzipToClientsThatAcceptIt() throws IOException {
+        // Given
+        List<String> tables = List.of("T001", "T002", "T003", "T004", "T005", "T006", "T007", "T008", "T009", "T010");
+        CachedResponse cached = cache.put(SerializedResponseCache.tablesKey(), cache.stamp(), tables, List.of());
+
+        // When
+        ResponseEntity<byte[]> gzipped = cached.toResponseEntity(request("gzip, deflate"));
+        ResponseEntity<byte[]> plain = cached.toResponseEntity(request(null));
+
+        // Then
+        assertEquals("gzip", gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertNull(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertNotEquals(plain.getHeaders().getETag(), gzipped.getHeaders().getETag());
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+            assertArrayEquals(plain.getBody(), input.readAllBytes());
+        }
+    }
+
+    private static ServletWebRequest request(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tables");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return new ServletWebRequest(request);
+    }
+}
@@ -0,0 +1,84 @@
+package com.restaurant.reservation.presentation.controller;
+
+import com.restaurant.reservation.application.dto.AvailabilityDelta;
+import com.restaurant.reservation.application.dto.AvailabilityDelta.SlotState;
+import com.restaurant.reservation.application.service.availability.AvailabilityFeed;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes dos caminhos HTTP do controller WebFlux do feed de disponibilidade.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Reactive Availability Feed Controller Tests")
+class ReactiveAvailabilityFeedControllerTest {
+    
+    private final LocalDate date = LocalDate.now().plusDays(1);
+    
+    private AvailabilityFeed availabilityFeed;
+    private WebTestClient client;
+    
+    @BeforeEach
+    void setUp() {
+        availabilityFeed = mock(AvailabilityFeed.class);
+        client = WebTestClient.bindToController(new ReactiveAvailabilityFeedController(availabilityFeed, 16)).build();
+    }
+    
+    @Test
+    @DisplayName("Should stream availability deltas at the documented path")
+    void shouldStreamDeltas() {
+        // Given
+        when(availabilityFeed.subscribe(eq(date), eq("Salão"), any())).thenAnswer(invocation -> {
+            AvailabilityFeed.Sink sink = invocation.getArgument(2);
+            sink.send(AvailabilityDelta.builder()
+                .reservationId("R001")
+                .tableId("T001")
+                .startTime(date.atTime(19, 0))
+                .endTime(date.atTime(21, 0))
+                .state(SlotState.BUSY)
+                .build());
+            sink.close();
+            return mock(AvailabilityFeed.Subscription.class);
+        });
+        
+        // When
+        String body = client.get().uri("/api/v1/availability/stream?date={date}&location={location}", date, "Salão")
+            .accept(MediaType.TEXT_EVENT_STREAM)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(String.class)
+            .returnResult()
+            .getResponseBody();
+        
+        // Then
+        assertNotNull(body);
+        assertTrue(body.contains("event:availability"));
+        assertTrue(body.contains("\"state\":\"BUSY\""));
+    }
+    
+    @Test
+    @DisplayName("Should reject the connection when the feed is full")
+    void shouldRejectWhenFeedIsFull() {
+        // Given
+        when(availabilityFeed.subscribe(any(), any(), any()))
+            .thenThrow(new IllegalStateException("Too many availability feed subscribers"));
+        
+        // When / Then
+        client.get().uri("/api/v1/availability/stream")
+            .accept(MediaType.TEXT_EVENT_STREAM)
+            .exchange()
+            .expectStatus().isEqualTo(503);
+    }
+}
@@ -0,0 +1,90 @@
+package com.restaurant.reservation.presentation.controller;
+
+import com.restaurant.reservation.application.dto.ReservationResponse;
+import com.restaurant.reservation.application.service.ReactiveReservationService;
+import com.restaurant.reservation.domain.valueobject.ReservationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes dos caminhos HTTP do controller WebFlux de reservas.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Reactive Reservation Controller Tests")
+class ReactiveReservationControllerTest {
+    
+    private ReactiveReservationService reservationService;
+    private WebTestClient client;
+    
+    @BeforeEach
+    void setUp() {
+        reservationService = mock(ReactiveReservationService.class);
+        client = WebTestClient.bindToController(new ReactiveReservationController(reservationService)).build();
+    }
+    
+    @Test
+    @DisplayName("Should find a reservation by ID at the documented path")
+    void shouldGetReservationById() {
+        // Given
+        when(reservationService.getReservation("R001")).thenReturn(Mono.just(reservation(ReservationStatus.PENDING)));
+        
+        // When / Then
+        client.get().uri("/api/v1/reservations/{id}", "R001")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.id").isEqualTo("R001")
+            .jsonPath("$.tableId").isEqualTo("T001");
+    }
+    
+    @Test
+    @DisplayName("Should confirm a reservation at the documented path")
+    void shouldConfirmReservation() {
+        // Given
+        when(reservationService.confirmReservation("R001")).thenReturn(Mono.just(reservation(ReservationStatus.CONFIRMED)));
+        
+        // When / Then
+        client.put().uri("/api/v1/reservations/{id}/confirm", "R001")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.status").isEqualTo("CONFIRMED");
+    }
+    
+    @Test
+    @DisplayName("Should list reservations of a date at the documented path")
+    void shouldListReservationsByDate() {
+        // Given
+        LocalDate date = LocalDate.now().plusDays(1);
+        when(reservationService.getReservationsByDate(date)).thenReturn(Flux.just(reservation(ReservationStatus.PENDING)));
+        
+        // When / Then
+        client.get().uri("/api/v1/reservations/date/{date}", date)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$[0].id").isEqualTo("R001");
+    }
+    
+    private ReservationResponse reservation(ReservationStatus status) {
+        return ReservationResponse.builder()
+            .id("R001")
+            .tableId("T001")
+            .customerName("João Silva")
+            .customerEmail("joao@email.com")
+            .reservationDateTime(LocalDate.now().plusDays(1).atTime(19, 0))
+            .durationInMinutes(120)
+            .status(status)
+            .build();
+    }
+}
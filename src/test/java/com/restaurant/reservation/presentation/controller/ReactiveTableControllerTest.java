@@ -0,0 +1,64 @@
+package com.restaurant.reservation.presentation.controller;
+
+import com.restaurant.reservation.application.dto.TableResponse;
+import com.restaurant.reservation.application.service.ReactiveTableService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes dos caminhos HTTP do controller WebFlux de mesas.
+ * 
+ * @author Sistema de Reservas
+ * @version 1.0.0
+ */
+@DisplayName("Reactive Table Controller Tests")
+class ReactiveTableControllerTest {
+    
+    private ReactiveTableService tableService;
+    private WebTestClient client;
+    
+    @BeforeEach
+    void setUp() {
+        tableService = mock(ReactiveTableService.class);
+        client = WebTestClient.bindToController(new ReactiveTableController(tableService)).build();
+    }
+    
+    @Test
+    @DisplayName("Should list active tables at the documented path")
+    void shouldListTables() {
+        // Given
+        when(tableService.getAllActiveTables()).thenReturn(Flux.just(table("T001", 4), table("T002", 6)));
+        
+        // When / Then
+        client.get().uri("/api/v1/tables")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.length()").isEqualTo(2)
+            .jsonPath("$[1].id").isEqualTo("T002");
+    }
+    
+    @Test
+    @DisplayName("Should find a table by ID at the documented path")
+    void shouldGetTableById() {
+        // Given
+        when(tableService.getTable("T001")).thenReturn(Mono.just(table("T001", 4)));
+        
+        // When / Then
+        client.get().uri("/api/v1/tables/{id}", "T001")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.capacity").isEqualTo(4);
+    }
+    
+    private TableResponse table(String id, int capacity) {
+        return TableResponse.builder().id(id).capacity(capacity).active(true).location("Salão").build();
+    }
+}